@@ -16,6 +16,10 @@
 
 package org.springframework.batch.core.job;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.NullUnmarked;
@@ -26,10 +30,18 @@ import org.springframework.batch.core.launch.JobRestartException;
 import org.springframework.batch.core.step.NoSuchStepException;
 import org.springframework.batch.core.step.Step;
 import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.core.step.StepExecutionSummary;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
 
 /**
  * Implementation of {@link StepHandler} that manages repository and restart concerns.
+ * <p>
+ * The last execution and the execution count of every step of the job instance are
+ * retrieved at once when the first step of a job execution is handled, and kept up to
+ * date as steps are started. This history is kept for the most recent job executions
+ * handled concurrently, so that concurrent executions of the same job do not evict each
+ * other's history. The execution context of the last execution of a step is only
+ * retrieved when that step is restarted.
  *
  * @author Dave Syer
  *
@@ -43,6 +55,18 @@ public class SimpleStepHandler implements StepHandler {
 
 	private ExecutionContext executionContext;
 
+	private static final int MAX_HISTORIES = 16;
+
+	/*
+	 * Execution histories by job execution id, least recently used first
+	 */
+	private final Map<Long, StepExecutionHistory> histories = new LinkedHashMap<>(MAX_HISTORIES, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, StepExecutionHistory> eldest) {
+			return size() > MAX_HISTORIES;
+		}
+	};
+
 	/**
 	 * @param jobRepository a
 	 * {@link org.springframework.batch.core.repository.JobRepository}
@@ -73,6 +97,9 @@ public class SimpleStepHandler implements StepHandler {
 	 */
 	public void setJobRepository(JobRepository jobRepository) {
 		this.jobRepository = jobRepository;
+		synchronized (this.histories) {
+			this.histories.clear();
+		}
 	}
 
 	/**
@@ -92,7 +119,9 @@ public class SimpleStepHandler implements StepHandler {
 
 		JobInstance jobInstance = execution.getJobInstance();
 
-		StepExecution lastStepExecution = jobRepository.getLastStepExecution(jobInstance, step.getName());
+		StepExecutionHistory history = getStepExecutionHistory(execution);
+		StepExecutionSummary summary = history.get(step.getName());
+		StepExecution lastStepExecution = summary != null ? summary.lastStepExecution() : null;
 		if (stepExecutionPartOfExistingJobExecution(execution, lastStepExecution)) {
 			// If the last execution of this step was in the same job, it's
 			// probably intentional so we want to run it again...
@@ -108,15 +137,17 @@ public class SimpleStepHandler implements StepHandler {
 
 		if (shouldStart(lastStepExecution, execution, step)) {
 
-			currentStepExecution = jobRepository.createStepExecution(step.getName(), execution);
-
 			boolean isRestart = (lastStepExecution != null
 					&& !lastStepExecution.getStatus().equals(BatchStatus.COMPLETED));
+			ExecutionContext restartExecutionContext = isRestart ? getExecutionContext(lastStepExecution) : null;
+
+			currentStepExecution = jobRepository.createStepExecution(step.getName(), execution);
+			history.started(currentStepExecution);
 
 			if (isRestart) {
-				currentStepExecution.setExecutionContext(lastStepExecution.getExecutionContext());
+				currentStepExecution.setExecutionContext(restartExecutionContext);
 
-				if (lastStepExecution.getExecutionContext().containsKey("batch.executed")) {
+				if (restartExecutionContext.containsKey("batch.executed")) {
 					currentStepExecution.getExecutionContext().remove("batch.executed");
 				}
 			}
@@ -150,6 +181,42 @@ public class SimpleStepHandler implements StepHandler {
 		return currentStepExecution;
 	}
 
+	/**
+	 * Retrieve the execution history of the steps of the job instance, once per job
+	 * execution.
+	 * @param jobExecution the current job execution
+	 * @return the execution history of the steps of the job instance
+	 */
+	private StepExecutionHistory getStepExecutionHistory(JobExecution jobExecution) {
+		StepExecutionHistory history = findStepExecutionHistory(jobExecution);
+		if (history != null) {
+			return history;
+		}
+		// retrieved without locking, so that other job executions are not blocked
+		StepExecutionHistory loaded = new StepExecutionHistory(
+				jobRepository.getStepExecutionSummaries(jobExecution.getJobInstance()));
+		synchronized (this.histories) {
+			history = this.histories.putIfAbsent(jobExecution.getId(), loaded);
+		}
+		return history != null ? history : loaded;
+	}
+
+	private StepExecutionHistory findStepExecutionHistory(JobExecution jobExecution) {
+		synchronized (this.histories) {
+			return this.histories.get(jobExecution.getId());
+		}
+	}
+
+	/**
+	 * Retrieve the execution context of the last execution of a step, which is not part
+	 * of its summary.
+	 * @param lastStepExecution the last execution of the step
+	 * @return the execution context of the last execution of the step
+	 */
+	private ExecutionContext getExecutionContext(StepExecution lastStepExecution) {
+		return jobRepository.getExecutionContext(lastStepExecution);
+	}
+
 	/**
 	 * Detect whether a step execution belongs to this job execution.
 	 * @param jobExecution the current job execution
@@ -202,7 +269,9 @@ public class SimpleStepHandler implements StepHandler {
 		JobInstance jobInstance = jobExecution.getJobInstance();
 		long stepExecutionCount = 0;
 		try {
-			stepExecutionCount = jobRepository.getStepExecutionCount(jobInstance, step.getName());
+			StepExecutionHistory history = findStepExecutionHistory(jobExecution);
+			stepExecutionCount = history != null ? history.getExecutionCount(step.getName())
+					: jobRepository.getStepExecutionCount(jobInstance, step.getName());
 		}
 		catch (NoSuchStepException e) {
 			throw new JobRestartException("Unable to count step executions for job instance " + jobInstance.getId(), e);
@@ -218,4 +287,31 @@ public class SimpleStepHandler implements StepHandler {
 		}
 	}
 
+	/**
+	 * Execution history of the steps of a job instance, as seen by a job execution.
+	 */
+	private static final class StepExecutionHistory {
+
+		private final Map<String, StepExecutionSummary> summaries;
+
+		private StepExecutionHistory(Map<String, StepExecutionSummary> summaries) {
+			this.summaries = new ConcurrentHashMap<>(summaries);
+		}
+
+		private StepExecutionSummary get(String stepName) {
+			return this.summaries.get(stepName);
+		}
+
+		private long getExecutionCount(String stepName) {
+			StepExecutionSummary summary = this.summaries.get(stepName);
+			return summary != null ? summary.executionCount() : 0;
+		}
+
+		private void started(StepExecution stepExecution) {
+			this.summaries.merge(stepExecution.getStepName(), new StepExecutionSummary(stepExecution, 1),
+					(summary, started) -> new StepExecutionSummary(stepExecution, summary.executionCount() + 1));
+		}
+
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,6 +31,7 @@ import org.springframework.batch.core.job.parameters.InvalidJobParametersExcepti
 import org.springframework.batch.core.step.StepExecution;
 import org.springframework.batch.core.job.UnexpectedJobExecutionException;
 import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.batch.core.repository.JobRetentionPolicy;
 
 /**
  * High level interface for operating batch jobs.
@@ -236,6 +237,23 @@ public interface JobOperator extends JobLauncher {
 	 */
 	JobExecution recover(JobExecution jobExecution);
 
+	/**
+	 * Purge the job repository from the expired job instances of the given job, along
+	 * with their executions. Job instances are deleted in batches of {@code batchSize},
+	 * each batch in its own transaction, so that the purge of a large job repository
+	 * neither holds locks nor grows the transaction log for too long.
+	 * @param jobName the name of the job
+	 * @param retentionPolicy the policy deciding which job instances have expired
+	 * @param batchSize the maximum number of job instances deleted per transaction
+	 * @return the number of deleted job instances
+	 * @since 6.1
+	 * @see org.springframework.batch.core.repository.JobRepository#deleteJobInstances(String,
+	 * JobRetentionPolicy, int)
+	 */
+	default long deleteJobInstances(String jobName, JobRetentionPolicy retentionPolicy, int batchSize) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * List the {@link JobExecution JobExecutions} associated with a particular
 	 * {@link JobInstance}, in reverse order of creation (and therefore usually of
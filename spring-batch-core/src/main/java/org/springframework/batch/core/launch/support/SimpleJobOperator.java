@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -53,6 +53,7 @@ import org.springframework.batch.core.launch.NoSuchJobInstanceException;
 import org.springframework.batch.core.launch.JobExecutionAlreadyRunningException;
 import org.springframework.batch.core.launch.JobInstanceAlreadyCompleteException;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.JobRetentionPolicy;
 import org.springframework.batch.core.launch.JobRestartException;
 import org.springframework.batch.core.scope.context.StepSynchronizationManager;
 import org.springframework.batch.core.step.StepLocator;
@@ -456,6 +457,24 @@ public class SimpleJobOperator extends TaskExecutorJobLauncher implements JobOpe
 		return jobExecution;
 	}
 
+	@Override
+	public long deleteJobInstances(String jobName, JobRetentionPolicy retentionPolicy, int batchSize) {
+		Assert.hasLength(jobName, "jobName must not be null or empty");
+		Assert.notNull(retentionPolicy, "retentionPolicy must not be null");
+		Assert.isTrue(batchSize > 0, "batchSize must be positive");
+		long deletedJobInstances = 0;
+		int deleted;
+		do {
+			deleted = jobRepository.deleteJobInstances(jobName, retentionPolicy, batchSize);
+			deletedJobInstances += deleted;
+		}
+		while (deleted == batchSize);
+		if (logger.isInfoEnabled()) {
+			logger.info("Deleted " + deletedJobInstances + " expired job instances of job: " + jobName);
+		}
+		return deletedJobInstances;
+	}
+
 	@Override
 	@Deprecated(since = "6.0", forRemoval = true)
 	public Set<String> getJobNames() {
@@ -16,12 +16,13 @@
 package org.springframework.batch.core.launch.support;
 
 import java.time.Duration;
-import java.util.List;
+import java.util.Map;
 
 import io.micrometer.observation.ObservationRegistry;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.NullUnmarked;
+import org.jspecify.annotations.Nullable;
 
 import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.ExitStatus;
@@ -114,37 +115,37 @@ public class TaskExecutorJobLauncher implements JobLauncher, InitializingBean {
 	private JobExecution createJobExecution(Job job, JobParameters jobParameters)
 			throws JobExecutionAlreadyRunningException, JobRestartException, JobInstanceAlreadyCompleteException,
 			InvalidJobParametersException {
-		JobInstance jobInstance = jobRepository.getJobInstance(job.getName(), jobParameters);
+		JobInstance jobInstance = createJobInstance(job, jobParameters);
 		ExecutionContext executionContext;
-		if (jobInstance == null) { // fresh start
-			logger.debug(
-					"Creating a new job instance for job = " + job.getName() + " with parameters = " + jobParameters);
-			jobInstance = jobRepository.createJobInstance(job.getName(), jobParameters);
+		if (jobInstance != null) { // fresh start
 			executionContext = new ExecutionContext();
 		}
 		else { // restart
+			jobInstance = jobRepository.getJobInstance(job.getName(), jobParameters);
+			if (jobInstance == null) {
+				throw new IllegalStateException("Cannot find existing job instance for job = " + job.getName()
+						+ " with parameters = " + jobParameters);
+			}
 			logger.debug(
 					"Found existing job instance for job = " + job.getName() + " with parameters = " + jobParameters);
-			List<JobExecution> executions = jobRepository.getJobExecutions(jobInstance);
-			if (executions.isEmpty()) {
+			// only the statuses are needed to check the executions
+			Map<Long, BatchStatus> statuses = jobRepository.getJobExecutionStatuses(jobInstance);
+			if (statuses.isEmpty()) {
 				throw new IllegalStateException("Cannot find any job execution for job instance: " + jobInstance);
 			}
 			else {
-				// check for running executions and find the last started
-				for (JobExecution execution : executions) {
-					if (execution.isRunning()) {
+				// the identifying parameters of all executions are those of the instance
+				JobParameters identifyingJobParameters = new JobParameters(jobParameters.getIdentifyingParameters());
+				for (BatchStatus status : statuses.values()) {
+					if (status.isRunning()) {
 						throw new JobExecutionAlreadyRunningException(
 								"A job execution for this job is already running: " + jobInstance);
 					}
-					BatchStatus status = execution.getStatus();
 					if (status == BatchStatus.UNKNOWN) {
 						throw new JobRestartException("Cannot restart job from UNKNOWN status. "
 								+ "The last execution ended with a failure that could not be rolled back, "
 								+ "so it may be dangerous to proceed. Manual intervention is probably necessary.");
 					}
-					JobParameters allJobParameters = execution.getJobParameters();
-					JobParameters identifyingJobParameters = new JobParameters(
-							allJobParameters.getIdentifyingParameters());
 					if (status == BatchStatus.COMPLETED || status == BatchStatus.ABANDONED) {
 						throw new JobInstanceAlreadyCompleteException(
 								"A job instance already exists and is complete for identifying parameters="
@@ -199,6 +200,25 @@ public class TaskExecutorJobLauncher implements JobLauncher, InitializingBean {
 		return jobRepository.createJobExecution(jobInstance, jobParameters, executionContext);
 	}
 
+	/*
+	 * Create the job instance without looking it up first, as most launches are for new
+	 * instances. Return null if the instance already exists.
+	 */
+	@Nullable private JobInstance createJobInstance(Job job, JobParameters jobParameters) {
+		try {
+			JobInstance jobInstance = jobRepository.createJobInstance(job.getName(), jobParameters);
+			logger
+				.debug("Created a new job instance for job = " + job.getName() + " with parameters = " + jobParameters);
+			return jobInstance;
+		}
+		catch (IllegalStateException e) {
+			if (jobRepository.getJobInstance(job.getName(), jobParameters) == null) {
+				throw e;
+			}
+			return null;
+		}
+	}
+
 	/**
 	 * Launch the job execution using the task executor.
 	 * @param job the job to be executed.
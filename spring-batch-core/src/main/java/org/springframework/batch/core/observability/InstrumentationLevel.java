@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.observability;
+
+/**
+ * Level of instrumentation (Micrometer observations and JFR events) applied to the items
+ * and chunks of a chunk-oriented step.
+ *
+ * @since 6.1
+ */
+public enum InstrumentationLevel {
+
+	/**
+	 * No item or chunk level instrumentation. Step level instrumentation is not affected.
+	 */
+	OFF,
+
+	/**
+	 * Chunk level instrumentation only. Item read and process timings are aggregated per
+	 * chunk into timers and distribution summaries registered once per step execution.
+	 */
+	CHUNK,
+
+	/**
+	 * Same as {@link #FULL}, except that only one item out of N is instrumented.
+	 */
+	SAMPLED,
+
+	/**
+	 * An observation and a JFR event for every item read and processed, and for every
+	 * chunk written. This is the default.
+	 */
+	FULL
+
+}
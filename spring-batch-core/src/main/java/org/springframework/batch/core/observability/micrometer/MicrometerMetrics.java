@@ -16,8 +16,11 @@
 package org.springframework.batch.core.observability.micrometer;
 
 import java.util.Arrays;
+import java.util.function.ToDoubleFunction;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.LongTaskTimer;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
@@ -82,6 +85,45 @@ public final class MicrometerMetrics {
 			.register(meterRegistry);
 	}
 
+	/**
+	 * Create a {@link DistributionSummary}.
+	 * @param meterRegistry the meter registry to use
+	 * @param name of the distribution summary. Will be prefixed with
+	 * {@link BatchMetrics#METRICS_PREFIX}.
+	 * @param description of the distribution summary
+	 * @param tags of the distribution summary
+	 * @return a new distribution summary instance
+	 * @since 6.1
+	 */
+	public static DistributionSummary createDistributionSummary(MeterRegistry meterRegistry, String name,
+			String description, Tag... tags) {
+		return DistributionSummary.builder(BatchMetrics.METRICS_PREFIX + name)
+			.description(description)
+			.tags(Arrays.asList(tags))
+			.register(meterRegistry);
+	}
+
+	/**
+	 * Create a {@link Gauge}.
+	 * @param meterRegistry the meter registry to use
+	 * @param name of the gauge. Will be prefixed with
+	 * {@link BatchMetrics#METRICS_PREFIX}.
+	 * @param description of the gauge
+	 * @param object the object the gauge value is computed from
+	 * @param function the function computing the gauge value
+	 * @param tags of the gauge
+	 * @param <T> the type of the object
+	 * @return a new gauge instance
+	 * @since 6.1
+	 */
+	public static <T> Gauge createGauge(MeterRegistry meterRegistry, String name, String description, T object,
+			ToDoubleFunction<T> function, Tag... tags) {
+		return Gauge.builder(BatchMetrics.METRICS_PREFIX + name, object, function)
+			.description(description)
+			.tags(Arrays.asList(tags))
+			.register(meterRegistry);
+	}
+
 	/**
 	 * Create a new {@link Timer.Sample}.
 	 * @param meterRegistry the meter registry to use
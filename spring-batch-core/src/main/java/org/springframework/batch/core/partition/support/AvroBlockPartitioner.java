@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.partition.support;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.avro.file.DataFileConstants;
+import org.apache.avro.file.DataFileReader;
+import org.apache.avro.file.SeekableFileInput;
+import org.apache.avro.generic.GenericDatumReader;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.core.partition.Partitioner;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Implementation of {@link Partitioner} that splits a single Avro container file into
+ * byte ranges of roughly equal size, aligned to the sync markers separating its blocks.
+ * Creates an {@link ExecutionContext} per range holding the file name and the start
+ * (inclusive) and end (exclusive) offsets of the range, and labels them as
+ * <code>{partition0, partition1, ..., partitionN}</code>. The offsets are meant to be
+ * passed to a step scoped
+ * {@link org.springframework.batch.infrastructure.item.avro.AvroItemReader} (see
+ * {@code setStartOffset} and {@code setEndOffset}), which reads the blocks following the
+ * sync markers of its range.
+ * <p>
+ * Only the file header and the bytes between each split point and the next sync marker
+ * are read. The grid size is the maximum number of partitions: small files and files with
+ * large blocks might result in fewer partitions.
+ *
+ * @since 6.1
+ */
+public class AvroBlockPartitioner implements Partitioner {
+
+	private static final String DEFAULT_KEY_NAME = "fileName";
+
+	private static final String DEFAULT_START_OFFSET_KEY_NAME = "startOffset";
+
+	private static final String DEFAULT_END_OFFSET_KEY_NAME = "endOffset";
+
+	private static final String PARTITION_KEY = "partition";
+
+	private @Nullable Resource resource;
+
+	private String keyName = DEFAULT_KEY_NAME;
+
+	private String startOffsetKeyName = DEFAULT_START_OFFSET_KEY_NAME;
+
+	private String endOffsetKeyName = DEFAULT_END_OFFSET_KEY_NAME;
+
+	/**
+	 * The Avro file to split. Must be resolvable as a {@link java.io.File}.
+	 * @param resource the resource to split
+	 */
+	public void setResource(Resource resource) {
+		this.resource = resource;
+	}
+
+	/**
+	 * The name of the key for the file name in each {@link ExecutionContext}. Defaults to
+	 * "fileName".
+	 * @param keyName the value of the key
+	 */
+	public void setKeyName(String keyName) {
+		this.keyName = keyName;
+	}
+
+	/**
+	 * The name of the key for the start offset in each {@link ExecutionContext}. Defaults
+	 * to "startOffset".
+	 * @param startOffsetKeyName the value of the key
+	 */
+	public void setStartOffsetKeyName(String startOffsetKeyName) {
+		this.startOffsetKeyName = startOffsetKeyName;
+	}
+
+	/**
+	 * The name of the key for the end offset in each {@link ExecutionContext}. Defaults
+	 * to "endOffset".
+	 * @param endOffsetKeyName the value of the key
+	 */
+	public void setEndOffsetKeyName(String endOffsetKeyName) {
+		this.endOffsetKeyName = endOffsetKeyName;
+	}
+
+	/**
+	 * Split the file into at most {@code gridSize} byte ranges aligned to sync markers.
+	 *
+	 * @see Partitioner#partition(int)
+	 */
+	@Override
+	public Map<String, ExecutionContext> partition(int gridSize) {
+		Assert.state(this.resource != null, "A resource is required");
+		Assert.state(this.resource.exists(), "Resource does not exist: " + this.resource);
+		int partitions = Math.max(gridSize, 1);
+		Map<String, ExecutionContext> map = CollectionUtils.newHashMap(partitions);
+		try {
+			File file = this.resource.getFile();
+			long size = file.length();
+			List<Long> boundaries = findBoundaries(file, size, partitions);
+			String fileName = this.resource.getURL().toExternalForm();
+			for (int i = 0; i < boundaries.size(); i++) {
+				ExecutionContext context = new ExecutionContext();
+				context.putString(this.keyName, fileName);
+				context.putLong(this.startOffsetKeyName, boundaries.get(i));
+				context.putLong(this.endOffsetKeyName, i + 1 < boundaries.size() ? boundaries.get(i + 1) : size);
+				map.put(PARTITION_KEY + i, context);
+			}
+		}
+		catch (IOException e) {
+			throw new IllegalArgumentException("File could not be split: " + this.resource, e);
+		}
+		return map;
+	}
+
+	/*
+	 * Each boundary is the offset of the first sync marker following a split point, so
+	 * that the block following that marker belongs to the range starting at the boundary.
+	 */
+	private List<Long> findBoundaries(File file, long size, int partitions) throws IOException {
+		List<Long> boundaries = new ArrayList<>(partitions);
+		boundaries.add(0L);
+		long splitSize = size / partitions;
+		if (splitSize == 0) {
+			return boundaries;
+		}
+		try (DataFileReader<Object> reader = new DataFileReader<>(new SeekableFileInput(file),
+				new GenericDatumReader<>())) {
+			long firstBlock = reader.previousSync();
+			for (int i = 1; i < partitions; i++) {
+				long position = Math.max(i * splitSize, boundaries.get(boundaries.size() - 1) + 1);
+				reader.sync(position);
+				long block = reader.previousSync();
+				if (block >= size) {
+					// no block left after the split point
+					break;
+				}
+				if (block > firstBlock) {
+					boundaries.add(block - DataFileConstants.SYNC_SIZE);
+				}
+			}
+		}
+		return boundaries;
+	}
+
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.partition.support;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.core.partition.Partitioner;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Implementation of {@link Partitioner} that splits a single flat file into byte ranges
+ * of roughly equal size, aligned to record boundaries. Creates an
+ * {@link ExecutionContext} per range holding the file name and the start (inclusive) and
+ * end (exclusive) offsets of the range, and labels them as
+ * <code>{partition0, partition1, ..., partitionN}</code>. The offsets are meant to be
+ * passed to a step scoped
+ * {@link org.springframework.batch.infrastructure.item.file.FlatFileItemReader} (see
+ * {@code setStartOffset} and {@code setEndOffset}).
+ * <p>
+ * Records are assumed to be separated by line feeds. By default, line feeds within quoted
+ * fields are not considered as record boundaries, which requires scanning the whole file
+ * once. If the file has no multi-line records, this can be disabled with
+ * {@link #setHonorQuotes(boolean)} so that only the bytes around each split point are
+ * read. The encoding of the file must represent line feeds and the quote character as
+ * single ASCII bytes (which is the case of UTF-8 and ISO-8859 encodings).
+ * <p>
+ * The grid size is the maximum number of partitions: small files and files with long
+ * records might result in fewer partitions.
+ *
+ * @since 6.1
+ */
+public class ByteRangePartitioner implements Partitioner {
+
+	private static final String DEFAULT_KEY_NAME = "fileName";
+
+	private static final String DEFAULT_START_OFFSET_KEY_NAME = "startOffset";
+
+	private static final String DEFAULT_END_OFFSET_KEY_NAME = "endOffset";
+
+	private static final String PARTITION_KEY = "partition";
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private static final byte LF = '\n';
+
+	private @Nullable Resource resource;
+
+	private String keyName = DEFAULT_KEY_NAME;
+
+	private String startOffsetKeyName = DEFAULT_START_OFFSET_KEY_NAME;
+
+	private String endOffsetKeyName = DEFAULT_END_OFFSET_KEY_NAME;
+
+	private char quoteCharacter = '"';
+
+	private boolean honorQuotes = true;
+
+	/**
+	 * The file to split. Must be resolvable as a {@link java.io.File}.
+	 * @param resource the resource to split
+	 */
+	public void setResource(Resource resource) {
+		this.resource = resource;
+	}
+
+	/**
+	 * The name of the key for the file name in each {@link ExecutionContext}. Defaults to
+	 * "fileName".
+	 * @param keyName the value of the key
+	 */
+	public void setKeyName(String keyName) {
+		this.keyName = keyName;
+	}
+
+	/**
+	 * The name of the key for the start offset in each {@link ExecutionContext}. Defaults
+	 * to "startOffset".
+	 * @param startOffsetKeyName the value of the key
+	 */
+	public void setStartOffsetKeyName(String startOffsetKeyName) {
+		this.startOffsetKeyName = startOffsetKeyName;
+	}
+
+	/**
+	 * The name of the key for the end offset in each {@link ExecutionContext}. Defaults
+	 * to "endOffset".
+	 * @param endOffsetKeyName the value of the key
+	 */
+	public void setEndOffsetKeyName(String endOffsetKeyName) {
+		this.endOffsetKeyName = endOffsetKeyName;
+	}
+
+	/**
+	 * The character used to quote fields that may contain line feeds. Must be an ASCII
+	 * character. Defaults to {@code "}.
+	 * @param quoteCharacter the quote character
+	 */
+	public void setQuoteCharacter(char quoteCharacter) {
+		Assert.isTrue(quoteCharacter < 128, "The quote character must be an ASCII character");
+		this.quoteCharacter = quoteCharacter;
+	}
+
+	/**
+	 * Whether line feeds within quoted fields should be ignored when looking for record
+	 * boundaries. Defaults to {@code true}.
+	 * @param honorQuotes false if the file has no multi-line records
+	 */
+	public void setHonorQuotes(boolean honorQuotes) {
+		this.honorQuotes = honorQuotes;
+	}
+
+	/**
+	 * Split the file into at most {@code gridSize} byte ranges aligned to record
+	 * boundaries.
+	 *
+	 * @see Partitioner#partition(int)
+	 */
+	@Override
+	public Map<String, ExecutionContext> partition(int gridSize) {
+		Assert.state(this.resource != null, "A resource is required");
+		Assert.state(this.resource.exists(), "Resource does not exist: " + this.resource);
+		int partitions = Math.max(gridSize, 1);
+		Map<String, ExecutionContext> map = CollectionUtils.newHashMap(partitions);
+		try (FileChannel channel = FileChannel.open(this.resource.getFile().toPath(), StandardOpenOption.READ)) {
+			long size = channel.size();
+			List<Long> boundaries = this.honorQuotes ? scanBoundaries(channel, size, partitions)
+					: seekBoundaries(channel, size, partitions);
+			String fileName = this.resource.getURL().toExternalForm();
+			for (int i = 0; i < boundaries.size(); i++) {
+				ExecutionContext context = new ExecutionContext();
+				context.putString(this.keyName, fileName);
+				context.putLong(this.startOffsetKeyName, boundaries.get(i));
+				context.putLong(this.endOffsetKeyName, i + 1 < boundaries.size() ? boundaries.get(i + 1) : size);
+				map.put(PARTITION_KEY + i, context);
+			}
+		}
+		catch (IOException e) {
+			throw new IllegalArgumentException("File could not be split: " + this.resource, e);
+		}
+		return map;
+	}
+
+	/*
+	 * Scan the whole file, tracking whether the current position is within a quoted
+	 * field, and cut at the first record boundary after each split point.
+	 */
+	private List<Long> scanBoundaries(FileChannel channel, long size, int partitions) throws IOException {
+		List<Long> boundaries = new ArrayList<>(partitions);
+		boundaries.add(0L);
+		long splitSize = size / partitions;
+		if (splitSize == 0) {
+			return boundaries;
+		}
+		long nextSplit = splitSize;
+		byte quote = (byte) this.quoteCharacter;
+		boolean inQuotes = false;
+		long position = 0;
+		ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		while (boundaries.size() < partitions && channel.read(buffer) > 0) {
+			buffer.flip();
+			while (buffer.hasRemaining()) {
+				byte b = buffer.get();
+				position++;
+				if (b == quote) {
+					inQuotes = !inQuotes;
+				}
+				else if (b == LF && !inQuotes && position >= nextSplit && position < size) {
+					boundaries.add(position);
+					if (boundaries.size() == partitions) {
+						break;
+					}
+					nextSplit = Math.max(nextSplit + splitSize, position);
+				}
+			}
+			buffer.clear();
+		}
+		return boundaries;
+	}
+
+	/*
+	 * Only read the bytes following each split point, up to the next line feed.
+	 */
+	private List<Long> seekBoundaries(FileChannel channel, long size, int partitions) throws IOException {
+		List<Long> boundaries = new ArrayList<>(partitions);
+		boundaries.add(0L);
+		long splitSize = size / partitions;
+		if (splitSize == 0) {
+			return boundaries;
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		for (int i = 1; i < partitions; i++) {
+			long position = Math.max(i * splitSize, boundaries.get(boundaries.size() - 1)) - 1;
+			long boundary = -1;
+			channel.position(position);
+			buffer.clear();
+			while (boundary < 0 && channel.read(buffer) > 0) {
+				buffer.flip();
+				while (buffer.hasRemaining()) {
+					position++;
+					if (buffer.get() == LF) {
+						boundary = position;
+						break;
+					}
+				}
+				buffer.clear();
+			}
+			if (boundary < 0 || boundary >= size) {
+				break;
+			}
+			if (boundary > boundaries.get(boundaries.size() - 1)) {
+				boundaries.add(boundary);
+			}
+		}
+		return boundaries;
+	}
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.partition.support;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+
+import org.springframework.batch.core.partition.Partitioner;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Implementation of {@link Partitioner} that splits a Kafka topic by topic-partitions.
+ * The beginning and end offsets of each topic-partition are looked up when the step is
+ * partitioned, and the topic-partitions are distributed over at most {@code gridSize}
+ * groups holding roughly the same number of records. Creates an {@link ExecutionContext}
+ * per group holding the start (inclusive) and end (exclusive) offsets of each of its
+ * topic-partitions, as maps keyed by partition number, and labels them as
+ * <code>{partition0, partition1, ..., partitionN}</code>. The offsets are meant to be
+ * passed to a step scoped
+ * {@link org.springframework.batch.infrastructure.item.kafka.KafkaItemReader} (see
+ * {@code offsetRange} on its builder), so that each worker reads a well-defined snapshot
+ * of its topic-partitions and terminates.
+ * <p>
+ * The grid size is the maximum number of partitions: topics with fewer topic-partitions
+ * result in one partition per topic-partition.
+ *
+ * @since 6.1
+ */
+public class KafkaTopicPartitioner implements Partitioner {
+
+	private static final String DEFAULT_START_OFFSETS_KEY_NAME = "startOffsets";
+
+	private static final String DEFAULT_END_OFFSETS_KEY_NAME = "endOffsets";
+
+	private static final String PARTITION_KEY = "partition";
+
+	private final Properties consumerProperties;
+
+	private final String topicName;
+
+	private String startOffsetsKeyName = DEFAULT_START_OFFSETS_KEY_NAME;
+
+	private String endOffsetsKeyName = DEFAULT_END_OFFSETS_KEY_NAME;
+
+	/**
+	 * Create a new {@link KafkaTopicPartitioner}.
+	 * @param consumerProperties properties of the consumer used to look up the
+	 * topic-partitions and their offsets
+	 * @param topicName name of the topic to split
+	 */
+	public KafkaTopicPartitioner(Properties consumerProperties, String topicName) {
+		Assert.notNull(consumerProperties, "Consumer properties must not be null");
+		Assert.hasLength(topicName, "Topic name must not be null or empty");
+		this.consumerProperties = consumerProperties;
+		this.topicName = topicName;
+	}
+
+	/**
+	 * The name of the key for the start offsets in each {@link ExecutionContext}.
+	 * Defaults to "startOffsets".
+	 * @param startOffsetsKeyName the value of the key
+	 */
+	public void setStartOffsetsKeyName(String startOffsetsKeyName) {
+		this.startOffsetsKeyName = startOffsetsKeyName;
+	}
+
+	/**
+	 * The name of the key for the end offsets in each {@link ExecutionContext}. Defaults
+	 * to "endOffsets".
+	 * @param endOffsetsKeyName the value of the key
+	 */
+	public void setEndOffsetsKeyName(String endOffsetsKeyName) {
+		this.endOffsetsKeyName = endOffsetsKeyName;
+	}
+
+	/**
+	 * Create the consumer used to look up the topic-partitions and their offsets. Can be
+	 * overridden to customize the consumer.
+	 * @param consumerProperties properties of the consumer
+	 * @return a new consumer
+	 */
+	protected Consumer<?, ?> createConsumer(Properties consumerProperties) {
+		return new KafkaConsumer<>(consumerProperties);
+	}
+
+	/**
+	 * Split the topic into at most {@code gridSize} groups of topic-partitions.
+	 *
+	 * @see Partitioner#partition(int)
+	 */
+	@Override
+	public Map<String, ExecutionContext> partition(int gridSize) {
+		try (Consumer<?, ?> consumer = createConsumer(this.consumerProperties)) {
+			List<PartitionInfo> partitionInfos = consumer.partitionsFor(this.topicName);
+			Assert.state(!CollectionUtils.isEmpty(partitionInfos), "No partition found for topic " + this.topicName);
+			List<TopicPartition> topicPartitions = partitionInfos.stream()
+				.map(partitionInfo -> new TopicPartition(partitionInfo.topic(), partitionInfo.partition()))
+				.toList();
+			Map<TopicPartition, Long> beginningOffsets = consumer.beginningOffsets(topicPartitions);
+			Map<TopicPartition, Long> endOffsets = consumer.endOffsets(topicPartitions);
+
+			int partitions = Math.min(Math.max(gridSize, 1), topicPartitions.size());
+			List<Map<String, Long>> groupStartOffsets = new ArrayList<>(partitions);
+			List<Map<String, Long>> groupEndOffsets = new ArrayList<>(partitions);
+			long[] groupRecordCounts = new long[partitions];
+			for (int i = 0; i < partitions; i++) {
+				groupStartOffsets.add(new HashMap<>());
+				groupEndOffsets.add(new HashMap<>());
+			}
+			// assign the largest topic-partitions first, each to the least loaded group
+			Comparator<TopicPartition> largestFirst = Comparator
+				.comparingLong((TopicPartition topicPartition) -> endOffsets.getOrDefault(topicPartition, 0L)
+						- beginningOffsets.getOrDefault(topicPartition, 0L))
+				.reversed()
+				.thenComparingInt(TopicPartition::partition);
+			for (TopicPartition topicPartition : topicPartitions.stream().sorted(largestFirst).toList()) {
+				int group = 0;
+				for (int i = 1; i < partitions; i++) {
+					if (groupRecordCounts[i] < groupRecordCounts[group]) {
+						group = i;
+					}
+				}
+				long beginningOffset = beginningOffsets.getOrDefault(topicPartition, 0L);
+				long endOffset = endOffsets.getOrDefault(topicPartition, beginningOffset);
+				groupRecordCounts[group] += endOffset - beginningOffset;
+				groupStartOffsets.get(group).put(String.valueOf(topicPartition.partition()), beginningOffset);
+				groupEndOffsets.get(group).put(String.valueOf(topicPartition.partition()), endOffset);
+			}
+			Map<String, ExecutionContext> map = CollectionUtils.newHashMap(partitions);
+			for (int i = 0; i < partitions; i++) {
+				ExecutionContext context = new ExecutionContext();
+				context.put(this.startOffsetsKeyName, groupStartOffsets.get(i));
+				context.put(this.endOffsetsKeyName, groupEndOffsets.get(i));
+				map.put(PARTITION_KEY + i, context);
+			}
+			return map;
+		}
+	}
+
+}
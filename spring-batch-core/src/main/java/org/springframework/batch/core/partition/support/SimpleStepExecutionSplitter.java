@@ -128,32 +128,32 @@ public class SimpleStepExecutionSplitter implements StepExecutionSplitter {
 		JobExecution jobExecution = stepExecution.getJobExecution();
 
 		Map<String, ExecutionContext> contexts = getContexts(stepExecution, gridSize);
-		Set<StepExecution> set = CollectionUtils.newHashSet(contexts.size());
 
+		// Make the step execution names unique and repeatable
+		Map<String, ExecutionContext> namedContexts = CollectionUtils.newLinkedHashMap(contexts.size());
 		for (Entry<String, ExecutionContext> context : contexts.entrySet()) {
+			namedContexts.put(this.stepName + STEP_NAME_SEPARATOR + context.getKey(), context.getValue());
+		}
+
+		// Look up the previous executions of all partitions at once
+		Map<String, StepExecution> lastStepExecutions = jobRepository
+			.getLastStepExecutions(jobExecution.getJobInstance(), namedContexts.keySet());
 
-			// Make the step execution name unique and repeatable
-			String stepName = this.stepName + STEP_NAME_SEPARATOR + context.getKey();
-			StepExecution lastStepExecution = jobRepository.getLastStepExecution(jobExecution.getJobInstance(),
-					stepName);
+		Map<String, ExecutionContext> contextsToStart = CollectionUtils.newLinkedHashMap(namedContexts.size());
+		for (Entry<String, ExecutionContext> context : namedContexts.entrySet()) {
+			StepExecution lastStepExecution = lastStepExecutions.get(context.getKey());
 			if (lastStepExecution == null) { // fresh start
-				StepExecution currentStepExecution = jobRepository.createStepExecution(stepName, jobExecution);
-				currentStepExecution.setExecutionContext(context.getValue());
-				jobRepository.updateExecutionContext(currentStepExecution);
-				set.add(currentStepExecution);
+				contextsToStart.put(context.getKey(), context.getValue());
 			}
 			else { // restart
 				if (shouldStart(allowStartIfComplete, stepExecution, lastStepExecution)) {
-					StepExecution currentStepExecution = jobRepository.createStepExecution(stepName, jobExecution);
-					currentStepExecution.setExecutionContext(lastStepExecution.getExecutionContext());
-					jobRepository.updateExecutionContext(currentStepExecution);
-					set.add(currentStepExecution);
+					contextsToStart.put(context.getKey(), lastStepExecution.getExecutionContext());
 				}
 			}
 		}
 
-		Set<StepExecution> executions = CollectionUtils.newHashSet(set.size());
-		executions.addAll(set);
+		Set<StepExecution> executions = CollectionUtils.newHashSet(contextsToStart.size());
+		executions.addAll(jobRepository.createStepExecutions(contextsToStart, jobExecution));
 
 		return executions;
 
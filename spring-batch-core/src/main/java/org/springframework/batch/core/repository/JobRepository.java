@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,19 +16,28 @@
 
 package org.springframework.batch.core.repository;
 
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.launch.NoSuchJobException;
 import org.springframework.batch.core.step.NoSuchStepException;
 import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.core.step.StepExecutionSummary;
 import org.springframework.batch.core.repository.explore.JobExplorer;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.jspecify.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.BinaryOperator;
 
 /**
  * <p>
@@ -172,6 +181,25 @@ public interface JobRepository extends JobExplorer {
 		return Collections.emptyList();
 	}
 
+	/**
+	 * Retrieve the status of each execution of the given job instance, sorted backwards
+	 * by creation order (so the first entry is the most recent). This is meant to check
+	 * whether a job instance can be launched again without loading its executions. The
+	 * default implementation retrieves the executions with
+	 * {@link #getJobExecutions(JobInstance)}, implementations can override it to use a
+	 * status only query.
+	 * @param jobInstance The {@link JobInstance} to query.
+	 * @return the status of each job execution keyed by id
+	 * @since 6.1
+	 */
+	default Map<Long, BatchStatus> getJobExecutionStatuses(JobInstance jobInstance) {
+		Map<Long, BatchStatus> statuses = new LinkedHashMap<>();
+		for (JobExecution jobExecution : getJobExecutions(jobInstance)) {
+			statuses.put(jobExecution.getId(), jobExecution.getStatus());
+		}
+		return statuses;
+	}
+
 	/**
 	 * Find the last {@link JobExecution} that has been created for a given
 	 * {@link JobInstance}.
@@ -241,6 +269,28 @@ public interface JobRepository extends JobExplorer {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Retrieve the current status of each of the given step executions. This is meant to
+	 * be used to monitor the progress of step executions (for example the partitions of a
+	 * step) without loading their execution contexts. The default implementation
+	 * retrieves each step execution with {@link #getStepExecution(long)}, implementations
+	 * can override it to use a status only query.
+	 * @param stepExecutionIds the ids of the step executions
+	 * @return the status of each step execution keyed by id. Unknown ids are not present
+	 * in the map.
+	 * @since 6.1
+	 */
+	default Map<Long, BatchStatus> getStepExecutionStatuses(Collection<Long> stepExecutionIds) {
+		Map<Long, BatchStatus> statuses = new HashMap<>();
+		for (Long stepExecutionId : stepExecutionIds) {
+			StepExecution stepExecution = getStepExecution(stepExecutionId);
+			if (stepExecution != null) {
+				statuses.put(stepExecutionId, stepExecution.getStatus());
+			}
+		}
+		return statuses;
+	}
+
 	/**
 	 * @param jobInstance {@link JobInstance} instance containing the step executions.
 	 * @param stepName the name of the step execution that might have run.
@@ -250,6 +300,28 @@ public interface JobRepository extends JobExplorer {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Retrieve the last execution of each of the given steps for the given job instance,
+	 * as returned by {@link #getLastStepExecution(JobInstance, String)}. The default
+	 * implementation looks up each step separately, implementations can override it to
+	 * reduce the number of round trips to the underlying store.
+	 * @param jobInstance {@link JobInstance} instance containing the step executions.
+	 * @param stepNames the names of the step executions that might have run.
+	 * @return the last execution of each step keyed by step name. Steps that never ran
+	 * are not present in the map.
+	 * @since 6.1
+	 */
+	default Map<String, StepExecution> getLastStepExecutions(JobInstance jobInstance, Collection<String> stepNames) {
+		Map<String, StepExecution> stepExecutions = new HashMap<>();
+		for (String stepName : stepNames) {
+			StepExecution stepExecution = getLastStepExecution(jobInstance, stepName);
+			if (stepExecution != null) {
+				stepExecutions.put(stepName, stepExecution);
+			}
+		}
+		return stepExecutions;
+	}
+
 	/**
 	 * @param jobInstance {@link JobInstance} instance containing the step executions.
 	 * @param stepName the name of the step execution that might have run.
@@ -259,6 +331,54 @@ public interface JobRepository extends JobExplorer {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Retrieve the last execution and the execution count of every step executed within
+	 * the given job instance. This is meant to decide whether steps should be started
+	 * without looking them up one by one, so the execution contexts might not be loaded:
+	 * use {@link #getExecutionContext(StepExecution)} to retrieve them when needed. The
+	 * default implementation retrieves the executions with
+	 * {@link #getJobExecutions(JobInstance)}, implementations can override it to use a
+	 * single query.
+	 * @param jobInstance {@link JobInstance} instance containing the step executions.
+	 * @return the execution history of each step keyed by step name. Steps that never ran
+	 * are not present in the map.
+	 * @since 6.1
+	 */
+	default Map<String, StepExecutionSummary> getStepExecutionSummaries(JobInstance jobInstance) {
+		Map<String, StepExecution> lastStepExecutions = new HashMap<>();
+		Map<String, Long> executionCounts = new HashMap<>();
+		Comparator<StepExecution> creationOrder = Comparator
+			.comparing(StepExecution::getCreateTime, Comparator.nullsFirst(Comparator.naturalOrder()))
+			.thenComparingLong(StepExecution::getId);
+		for (JobExecution jobExecution : getJobExecutions(jobInstance)) {
+			for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+				String stepName = stepExecution.getStepName();
+				executionCounts.merge(stepName, 1L, Long::sum);
+				lastStepExecutions.merge(stepName, stepExecution, BinaryOperator.maxBy(creationOrder));
+			}
+		}
+		Map<String, StepExecutionSummary> summaries = new HashMap<>();
+		lastStepExecutions.forEach((stepName, stepExecution) -> summaries.put(stepName,
+				new StepExecutionSummary(stepExecution, executionCounts.get(stepName))));
+		return summaries;
+	}
+
+	/**
+	 * Retrieve the persisted execution context of the given step execution, without its
+	 * job execution. The default implementation retrieves the whole step execution with
+	 * {@link #getStepExecution(long)}, implementations can override it to only look up
+	 * the execution context.
+	 * @param stepExecution the step execution whose execution context to retrieve
+	 * @return the persisted execution context of the step execution, or its current one
+	 * if the step execution is not found
+	 * @since 6.1
+	 */
+	default ExecutionContext getExecutionContext(StepExecution stepExecution) {
+		StepExecution storedStepExecution = getStepExecution(stepExecution.getId());
+		return storedStepExecution != null ? storedStepExecution.getExecutionContext()
+				: stepExecution.getExecutionContext();
+	}
+
 	/*
 	 * ===================================================================================
 	 * Write operations
@@ -270,6 +390,8 @@ public interface JobRepository extends JobExplorer {
 	 * @param jobName logical name of the job
 	 * @param jobParameters parameters used to execute the job
 	 * @return the new {@link JobInstance}
+	 * @throws IllegalStateException if a job instance already exists for the given job
+	 * name and identifying parameters
 	 */
 	JobInstance createJobInstance(String jobName, JobParameters jobParameters);
 
@@ -284,6 +406,39 @@ public interface JobRepository extends JobExplorer {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Delete expired job instances of the given job, along with their object graphs as
+	 * specified in {@link #deleteJobInstance(JobInstance)}. At most {@code count} job
+	 * instances are deleted, so that the job repository can be purged in bounded batches
+	 * by calling this method until it returns less than {@code count}. The default
+	 * implementation looks up the job instances and their executions and deletes them one
+	 * by one, implementations can override it to use set-based deletes.
+	 * @param jobName the name of the job
+	 * @param retentionPolicy the policy deciding which job instances have expired
+	 * @param count the maximum number of job instances to delete
+	 * @return the number of deleted job instances
+	 * @since 6.1
+	 */
+	default int deleteJobInstances(String jobName, JobRetentionPolicy retentionPolicy, int count) {
+		List<JobInstance> expiredJobInstances = new ArrayList<>();
+		int start = retentionPolicy.retainedInstances();
+		List<JobInstance> jobInstances;
+		do {
+			jobInstances = getJobInstances(jobName, start, count);
+			for (JobInstance jobInstance : jobInstances) {
+				if (expiredJobInstances.size() < count && retentionPolicy.isExpired(getJobExecutions(jobInstance))) {
+					expiredJobInstances.add(jobInstance);
+				}
+			}
+			start += jobInstances.size();
+		}
+		while (expiredJobInstances.size() < count && jobInstances.size() == count);
+		for (JobInstance jobInstance : expiredJobInstances) {
+			deleteJobInstance(jobInstance);
+		}
+		return expiredJobInstances.size();
+	}
+
 	/**
 	 * Create a {@link JobExecution} for a given {@link JobInstance},
 	 * {@link JobParameters} and {@link ExecutionContext}. The {@link JobInstance} must
@@ -341,6 +496,31 @@ public interface JobRepository extends JobExplorer {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Create a {@link StepExecution} with the given {@link ExecutionContext} for each
+	 * entry of the given map, keyed by step name. This is typically used to create the
+	 * step executions of the partitions of a step. The default implementation is
+	 * equivalent to calling {@link #createStepExecution(String, JobExecution)} followed
+	 * by {@link #updateExecutionContext(StepExecution)} for each entry. Implementations
+	 * can override it to persist all step executions and their contexts in bulk.
+	 * @param executionContexts the execution contexts of the step executions to create
+	 * keyed by step name
+	 * @param jobExecution the job execution to which the step executions belong
+	 * @return the new step executions, in the iteration order of the given map
+	 * @since 6.1
+	 */
+	default List<StepExecution> createStepExecutions(Map<String, ExecutionContext> executionContexts,
+			JobExecution jobExecution) {
+		List<StepExecution> stepExecutions = new ArrayList<>(executionContexts.size());
+		for (Map.Entry<String, ExecutionContext> entry : executionContexts.entrySet()) {
+			StepExecution stepExecution = createStepExecution(entry.getKey(), jobExecution);
+			stepExecution.setExecutionContext(entry.getValue());
+			updateExecutionContext(stepExecution);
+			stepExecutions.add(stepExecution);
+		}
+		return stepExecutions;
+	}
+
 	/**
 	 * Update the {@link StepExecution} (but not its {@link ExecutionContext}).
 	 * <p>
@@ -356,6 +536,22 @@ public interface JobRepository extends JobExplorer {
 	 */
 	void updateExecutionContext(StepExecution stepExecution);
 
+	/**
+	 * Persist the updated {@link ExecutionContext} of the given {@link StepExecution}
+	 * along with the {@link StepExecution} itself. This is typically called at each chunk
+	 * commit and is equivalent to calling {@link #updateExecutionContext(StepExecution)}
+	 * followed by {@link #update(StepExecution)}, which is what the default
+	 * implementation does. Implementations can override it to reduce the number of round
+	 * trips to the underlying store.
+	 * @param stepExecution {@link StepExecution} instance to be updated along with its
+	 * execution context.
+	 * @since 6.1
+	 */
+	default void updateWithExecutionContext(StepExecution stepExecution) {
+		updateExecutionContext(stepExecution);
+		update(stepExecution);
+	}
+
 	/**
 	 * Delete the step execution along with its execution context.
 	 * @param stepExecution the step execution to delete
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.util.Assert;
+
+/**
+ * Policy deciding which job instances of a job have expired and can be removed from the
+ * job repository.
+ * <p>
+ * A job instance has expired when it is not among the {@code retainedInstances} most
+ * recent instances of its job and, if a cutoff is set, all its executions were created
+ * before the cutoff. Job instances with a running execution never expire. When a cutoff
+ * is set, job instances without any execution never expire either, since their age is
+ * unknown.
+ *
+ * @param cutoff the creation time before which the executions of a job instance must have
+ * been created for it to expire, or {@code null} to only retain the most recent instances
+ * @param retainedInstances the number of most recent instances of the job that never
+ * expire
+ * @since 6.1
+ * @see JobRepository#deleteJobInstances(String, JobRetentionPolicy, int)
+ */
+public record JobRetentionPolicy(@Nullable LocalDateTime cutoff, int retainedInstances) {
+
+	/**
+	 * Create a new {@link JobRetentionPolicy}.
+	 * @param cutoff the creation time before which the executions of a job instance must
+	 * have been created for it to expire, or {@code null}
+	 * @param retainedInstances the number of most recent instances of the job that never
+	 * expire. Must not be negative, and must be positive if no cutoff is set.
+	 */
+	public JobRetentionPolicy {
+		Assert.isTrue(retainedInstances >= 0, "retainedInstances must not be negative");
+		Assert.isTrue(cutoff != null || retainedInstances > 0,
+				"Either a cutoff or a positive number of retained instances is required");
+	}
+
+	/**
+	 * Create a policy expiring the job instances whose executions were all created before
+	 * the given cutoff.
+	 * @param cutoff the cutoff. Must not be {@code null}.
+	 * @return a new {@link JobRetentionPolicy}
+	 */
+	public static JobRetentionPolicy olderThan(LocalDateTime cutoff) {
+		Assert.notNull(cutoff, "cutoff must not be null");
+		return new JobRetentionPolicy(cutoff, 0);
+	}
+
+	/**
+	 * Create a policy expiring all job instances of a job but the most recent ones.
+	 * @param retainedInstances the number of most recent instances to retain. Must be
+	 * positive.
+	 * @return a new {@link JobRetentionPolicy}
+	 */
+	public static JobRetentionPolicy keepLatest(int retainedInstances) {
+		return new JobRetentionPolicy(null, retainedInstances);
+	}
+
+	/**
+	 * Whether a job instance that is not among the retained instances of its job has
+	 * expired, given its executions.
+	 * @param jobExecutions the executions of the job instance
+	 * @return true if the job instance has expired
+	 */
+	public boolean isExpired(Collection<JobExecution> jobExecutions) {
+		if (this.cutoff != null && jobExecutions.isEmpty()) {
+			return false;
+		}
+		for (JobExecution jobExecution : jobExecutions) {
+			if (jobExecution.isRunning()) {
+				return false;
+			}
+			if (this.cutoff != null
+					&& (jobExecution.getCreateTime() == null || !jobExecution.getCreateTime().isBefore(this.cutoff))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,10 @@
 package org.springframework.batch.core.repository.dao;
 
 import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 import org.jspecify.annotations.Nullable;
 
@@ -69,8 +73,16 @@ public abstract class AbstractJdbcBatchMetadataDao implements InitializingBean {
 
 	public static final int DEFAULT_SHORT_CONTEXT_LENGTH = 2500;
 
+	/**
+	 * Maximum number of values in the IN clause of a single statement, to stay within the
+	 * limits of all supported databases.
+	 */
+	protected static final int MAX_IN_CLAUSE_SIZE = 500;
+
 	private String tablePrefix = DEFAULT_TABLE_PREFIX;
 
+	private @Nullable String archiveTablePrefix;
+
 	private int clobTypeToUse = Types.CLOB;
 
 	private @Nullable JdbcOperations jdbcTemplate;
@@ -94,6 +106,44 @@ public abstract class AbstractJdbcBatchMetadataDao implements InitializingBean {
 		this.tablePrefix = tablePrefix;
 	}
 
+	@Nullable protected String getArchiveTablePrefix() {
+		return archiveTablePrefix;
+	}
+
+	/**
+	 * Public setter for the archive table prefix property. When set, the metadata removed
+	 * in bulk is first copied to the tables with this prefix, which should be created
+	 * with the same columns as the batch metadata tables. Defaults to {@code null} (no
+	 * archiving).
+	 * @param archiveTablePrefix the archiveTablePrefix to set
+	 * @since 6.1
+	 */
+	public void setArchiveTablePrefix(@Nullable String archiveTablePrefix) {
+		this.archiveTablePrefix = archiveTablePrefix;
+	}
+
+	/**
+	 * Execute the given statement for the given ids, with one execution per
+	 * {@value #MAX_IN_CLAUSE_SIZE} ids. The {@code %IDS%} placeholder of the statement is
+	 * replaced with as many parameter markers as there are ids in each execution, and the
+	 * {@code %ARCHIVE_PREFIX%} placeholder with the archive table prefix.
+	 * @param statement the statement to execute
+	 * @param ids the ids to pass to the statement
+	 * @return the number of affected rows
+	 * @since 6.1
+	 */
+	protected int updateByIds(String statement, Collection<Long> ids) {
+		String query = getQuery(StringUtils.replace(statement, "%ARCHIVE_PREFIX%", String.valueOf(archiveTablePrefix)));
+		List<Long> idList = new ArrayList<>(ids);
+		int count = 0;
+		for (int from = 0; from < idList.size(); from += MAX_IN_CLAUSE_SIZE) {
+			List<Long> batch = idList.subList(from, Math.min(from + MAX_IN_CLAUSE_SIZE, idList.size()));
+			String placeholders = String.join(", ", Collections.nCopies(batch.size(), "?"));
+			count += getJdbcTemplate().update(StringUtils.replace(query, "%IDS%", placeholders), batch.toArray());
+		}
+		return count;
+	}
+
 	public void setJdbcTemplate(JdbcOperations jdbcTemplate) {
 		this.jdbcTemplate = jdbcTemplate;
 	}
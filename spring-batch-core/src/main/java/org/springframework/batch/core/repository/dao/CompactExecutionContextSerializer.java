@@ -0,0 +1,287 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.dao;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+import org.springframework.util.Assert;
+
+/**
+ * An implementation of the {@link ExecutionContextSerializer} that encodes the values
+ * commonly found in an execution context (strings, numbers, booleans and maps of offsets)
+ * in a compact tagged binary format, and falls back to Java serialization for any other
+ * type. The binary content is Base64 encoded so that it can be stored in the same
+ * character columns as the content produced by the
+ * {@link DefaultExecutionContextSerializer}.
+ * <p>
+ * A typical reader or writer context (a few counters and offsets) is encoded in a few
+ * dozen characters, which usually keeps it under the short context length of the
+ * execution context tables. Content produced by this serializer can only be read back by
+ * this serializer.
+ *
+ * @since 6.1
+ */
+public class CompactExecutionContextSerializer implements ExecutionContextSerializer {
+
+	private static final int FORMAT_VERSION = 1;
+
+	private static final byte STRING = 1;
+
+	private static final byte LONG = 2;
+
+	private static final byte INTEGER = 3;
+
+	private static final byte DOUBLE = 4;
+
+	private static final byte BOOLEAN = 5;
+
+	private static final byte HASH_MAP_OF_LONGS = 6;
+
+	private static final byte LINKED_HASH_MAP_OF_LONGS = 7;
+
+	private static final byte SERIALIZED_OBJECT = 8;
+
+	/**
+	 * Serializes an execution context to the provided {@link OutputStream}. The stream is
+	 * not closed prior to it's return.
+	 * @param context {@link Map} contents of the {@code ExecutionContext}.
+	 * @param out {@link OutputStream} where the serialized context information will be
+	 * written.
+	 */
+	@Override
+	public void serialize(Map<String, Object> context, OutputStream out) throws IOException {
+		Assert.notNull(context, "context is required");
+		Assert.notNull(out, "OutputStream is required");
+
+		var byteArrayOutputStream = new ByteArrayOutputStream(256);
+		var dataOutputStream = new DataOutputStream(byteArrayOutputStream);
+		dataOutputStream.writeByte(FORMAT_VERSION);
+		writeVarInt(dataOutputStream, context.size());
+		for (Map.Entry<String, Object> entry : context.entrySet()) {
+			Object value = entry.getValue();
+			Assert.notNull(value, "A null value was found");
+			writeString(dataOutputStream, entry.getKey());
+			writeValue(dataOutputStream, value);
+		}
+		dataOutputStream.flush();
+		out.write(Base64.getEncoder().encode(byteArrayOutputStream.toByteArray()));
+	}
+
+	/**
+	 * Deserializes an execution context from the provided {@link InputStream}.
+	 * @param inputStream {@link InputStream} containing the information to be
+	 * deserialized.
+	 * @return the object serialized in the provided {@link InputStream}
+	 */
+	@Override
+	public Map<String, Object> deserialize(InputStream inputStream) throws IOException {
+		try {
+			byte[] content = Base64.getDecoder().decode(inputStream.readAllBytes());
+			var dataInputStream = new DataInputStream(new ByteArrayInputStream(content));
+			int version = dataInputStream.readUnsignedByte();
+			if (version != FORMAT_VERSION) {
+				throw new IllegalArgumentException("Unsupported execution context format version: " + version);
+			}
+			int size = readLength(dataInputStream);
+			Map<String, Object> context = new HashMap<>(Math.max(16, size * 2));
+			for (int i = 0; i < size; i++) {
+				String key = readString(dataInputStream);
+				context.put(key, readValue(dataInputStream));
+			}
+			return context;
+		}
+		catch (IOException ex) {
+			throw new IllegalArgumentException("Failed to deserialize object", ex);
+		}
+		catch (ClassNotFoundException ex) {
+			throw new IllegalStateException("Failed to deserialize object type", ex);
+		}
+	}
+
+	private void writeValue(DataOutputStream out, Object value) throws IOException {
+		if (value instanceof String string) {
+			out.writeByte(STRING);
+			writeString(out, string);
+		}
+		else if (value instanceof Long number) {
+			out.writeByte(LONG);
+			writeVarLong(out, number);
+		}
+		else if (value instanceof Integer number) {
+			out.writeByte(INTEGER);
+			writeVarLong(out, number);
+		}
+		else if (value instanceof Double number) {
+			out.writeByte(DOUBLE);
+			out.writeDouble(number);
+		}
+		else if (value instanceof Boolean bool) {
+			out.writeByte(BOOLEAN);
+			out.writeBoolean(bool);
+		}
+		else if (isMapOfLongs(value)) {
+			Map<?, ?> map = (Map<?, ?>) value;
+			out.writeByte(value.getClass() == LinkedHashMap.class ? LINKED_HASH_MAP_OF_LONGS : HASH_MAP_OF_LONGS);
+			writeVarInt(out, map.size());
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				writeString(out, (String) entry.getKey());
+				writeVarLong(out, (Long) entry.getValue());
+			}
+		}
+		else if (value instanceof Serializable) {
+			out.writeByte(SERIALIZED_OBJECT);
+			var byteArrayOutputStream = new ByteArrayOutputStream(256);
+			try (var objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+				objectOutputStream.writeObject(value);
+			}
+			writeVarInt(out, byteArrayOutputStream.size());
+			byteArrayOutputStream.writeTo(out);
+		}
+		else {
+			throw new IllegalArgumentException("Value: [" + value + "] must be serializable. " + "Object of class: ["
+					+ value.getClass().getName() + "] must be an instance of " + Serializable.class);
+		}
+	}
+
+	private Object readValue(DataInputStream in) throws IOException, ClassNotFoundException {
+		byte tag = in.readByte();
+		return switch (tag) {
+			case STRING -> readString(in);
+			case LONG -> readVarLong(in);
+			case INTEGER -> (int) readVarLong(in);
+			case DOUBLE -> in.readDouble();
+			case BOOLEAN -> in.readBoolean();
+			case HASH_MAP_OF_LONGS, LINKED_HASH_MAP_OF_LONGS -> {
+				int size = readLength(in);
+				Map<String, Long> map = tag == LINKED_HASH_MAP_OF_LONGS ? new LinkedHashMap<>() : new HashMap<>();
+				for (int i = 0; i < size; i++) {
+					String key = readString(in);
+					map.put(key, readVarLong(in));
+				}
+				yield map;
+			}
+			case SERIALIZED_OBJECT -> {
+				byte[] bytes = new byte[readLength(in)];
+				in.readFully(bytes);
+				try (var objectInputStream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+					yield objectInputStream.readObject();
+				}
+			}
+			default -> throw new IOException("Unknown value tag: " + tag);
+		};
+	}
+
+	/*
+	 * Only plain hash maps are encoded natively, so that the type of the map is preserved
+	 * on deserialization. Any other map implementation is serialized as is.
+	 */
+	private static boolean isMapOfLongs(Object value) {
+		if (value.getClass() != HashMap.class && value.getClass() != LinkedHashMap.class) {
+			return false;
+		}
+		for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+			if (!(entry.getKey() instanceof String) || !(entry.getValue() instanceof Long)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarInt(out, bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[readLength(in)];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/*
+	 * A length (or a number of entries, each taking at least one byte) cannot exceed the
+	 * remaining content, so that corrupted content does not cause a huge allocation.
+	 */
+	private static int readLength(DataInputStream in) throws IOException {
+		int length = readVarInt(in);
+		if (length < 0 || length > in.available()) {
+			throw new IllegalArgumentException("Invalid length in execution context content: " + length);
+		}
+		return length;
+	}
+
+	private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+		while ((value & ~0x7F) != 0) {
+			out.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.writeByte(value);
+	}
+
+	private static int readVarInt(DataInputStream in) throws IOException {
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			int b = in.readUnsignedByte();
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IOException("Malformed variable length integer");
+	}
+
+	/*
+	 * Longs are zig-zag encoded so that small negative values are as compact as small
+	 * positive ones.
+	 */
+	private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+		long zigZag = (value << 1) ^ (value >> 63);
+		while ((zigZag & ~0x7FL) != 0) {
+			out.writeByte((int) ((zigZag & 0x7F) | 0x80));
+			zigZag >>>= 7;
+		}
+		out.writeByte((int) zigZag);
+	}
+
+	private static long readVarLong(DataInputStream in) throws IOException {
+		long zigZag = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int b = in.readUnsignedByte();
+			zigZag |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return (zigZag >>> 1) ^ -(zigZag & 1);
+			}
+		}
+		throw new IOException("Malformed variable length long");
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2022 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,8 @@
 package org.springframework.batch.core.repository.dao;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.step.StepExecution;
@@ -43,6 +45,22 @@ public interface ExecutionContextDao {
 	 */
 	ExecutionContext getExecutionContext(StepExecution stepExecution);
 
+	/**
+	 * Retrieve the execution contexts of the given step executions. The default
+	 * implementation retrieves them one by one, implementations are encouraged to
+	 * override it to retrieve them in bulk.
+	 * @param stepExecutions the {@link StepExecution}s that contain the contexts
+	 * @return the execution contexts keyed by step execution id
+	 * @since 6.1
+	 */
+	default Map<Long, ExecutionContext> getExecutionContexts(Collection<StepExecution> stepExecutions) {
+		Map<Long, ExecutionContext> executionContexts = new HashMap<>();
+		for (StepExecution stepExecution : stepExecutions) {
+			executionContexts.put(stepExecution.getId(), getExecutionContext(stepExecution));
+		}
+		return executionContexts;
+	}
+
 	/**
 	 * Persist the execution context associated with the given jobExecution, persistent
 	 * entry for the context should not exist yet.
@@ -97,4 +115,27 @@ public interface ExecutionContextDao {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Archive the execution contexts of the job and step executions of the given job
+	 * instances before they are deleted with
+	 * {@link #deleteExecutionContexts(Collection)}. The default implementation does
+	 * nothing, implementations can copy them to an archive store.
+	 * @param jobInstanceIds the ids of the job instances whose execution contexts should
+	 * be archived
+	 * @since 6.1
+	 */
+	default void archiveExecutionContexts(Collection<Long> jobInstanceIds) {
+	}
+
+	/**
+	 * Delete the execution contexts of the job and step executions of the given job
+	 * instances.
+	 * @param jobInstanceIds the ids of the job instances whose execution contexts should
+	 * be deleted
+	 * @since 6.1
+	 */
+	default void deleteExecutionContexts(Collection<Long> jobInstanceIds) {
+		throw new UnsupportedOperationException();
+	}
+
 }
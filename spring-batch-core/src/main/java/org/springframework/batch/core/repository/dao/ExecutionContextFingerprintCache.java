@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.dao;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded cache of the fingerprints of the execution contexts last persisted by an
+ * {@link ExecutionContextDao}, keyed by execution id. It is used by DAOs to detect that
+ * an execution context has the same content as the one already stored, in which case the
+ * update can be skipped.
+ * <p>
+ * When a transaction is active, fingerprints are only recorded after it commits, so that
+ * a rolled back update is never mistaken for a persisted one. Entries are evicted in
+ * least recently used order once the capacity is reached, which only causes the next
+ * update of the evicted execution to be written unconditionally.
+ *
+ * @since 6.1
+ */
+public class ExecutionContextFingerprintCache {
+
+	/**
+	 * Default number of executions for which a fingerprint is retained.
+	 */
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	private final Map<Long, Object> fingerprints;
+
+	/**
+	 * Create a new cache with the {@link #DEFAULT_CAPACITY default capacity}.
+	 */
+	public ExecutionContextFingerprintCache() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Create a new cache with the given capacity.
+	 * @param capacity the maximum number of executions to retain a fingerprint for. Must
+	 * be greater than zero.
+	 */
+	public ExecutionContextFingerprintCache(int capacity) {
+		Assert.isTrue(capacity > 0, "capacity must be greater than zero");
+		this.fingerprints = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, Object> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+
+	/**
+	 * Check whether the given fingerprint matches the last one recorded for the given
+	 * execution.
+	 * @param executionId the id of the job or step execution
+	 * @param fingerprint the fingerprint of the execution context about to be persisted
+	 * @return true if the execution context is known to be already persisted
+	 */
+	public boolean isPersisted(long executionId, Object fingerprint) {
+		synchronized (this.fingerprints) {
+			return Objects.equals(this.fingerprints.get(executionId), fingerprint);
+		}
+	}
+
+	/**
+	 * Record the fingerprint of an execution context that has been written. If a
+	 * transaction is active, the fingerprint is recorded once it commits and the current
+	 * one is discarded immediately.
+	 * @param executionId the id of the job or step execution
+	 * @param fingerprint the fingerprint of the persisted execution context
+	 */
+	public void persisted(long executionId, Object fingerprint) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			evict(executionId);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					put(executionId, fingerprint);
+				}
+			});
+		}
+		else {
+			put(executionId, fingerprint);
+		}
+	}
+
+	/**
+	 * Forget the fingerprint recorded for the given execution.
+	 * @param executionId the id of the job or step execution
+	 */
+	public void evict(long executionId) {
+		synchronized (this.fingerprints) {
+			this.fingerprints.remove(executionId);
+		}
+	}
+
+	private void put(long executionId, Object fingerprint) {
+		synchronized (this.fingerprints) {
+			this.fingerprints.put(executionId, fingerprint);
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2023 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,9 +16,13 @@
 
 package org.springframework.batch.core.repository.dao;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
@@ -63,6 +67,24 @@ public interface JobExecutionDao {
 	 */
 	List<JobExecution> findJobExecutions(JobInstance jobInstance);
 
+	/**
+	 * Retrieve the status of each {@link JobExecution} of the given {@link JobInstance},
+	 * without loading the job executions themselves, sorted backwards by creation order
+	 * (so the first entry is the most recent). The default implementation uses
+	 * {@link #findJobExecutions(JobInstance)}, implementations are encouraged to override
+	 * it with a status only query.
+	 * @param jobInstance parent {@link JobInstance} of the {@link JobExecution}s to find.
+	 * @return the status of each job execution keyed by id
+	 * @since 6.1
+	 */
+	default Map<Long, BatchStatus> getJobExecutionStatuses(JobInstance jobInstance) {
+		Map<Long, BatchStatus> statuses = new LinkedHashMap<>();
+		for (JobExecution jobExecution : findJobExecutions(jobInstance)) {
+			statuses.put(jobExecution.getId(), jobExecution.getStatus());
+		}
+		return statuses;
+	}
+
 	/**
 	 * Find the last {@link JobExecution} to have been created for a given
 	 * {@link JobInstance}.
@@ -110,4 +132,25 @@ public interface JobExecutionDao {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Archive the job executions of the given job instances, along with their parameters,
+	 * before they are deleted with {@link #deleteJobExecutions(Collection)}. The default
+	 * implementation does nothing, implementations can copy them to an archive store.
+	 * @param jobInstanceIds the ids of the job instances whose executions should be
+	 * archived
+	 * @since 6.1
+	 */
+	default void archiveJobExecutions(Collection<Long> jobInstanceIds) {
+	}
+
+	/**
+	 * Delete the job executions of the given job instances, along with their parameters.
+	 * @param jobInstanceIds the ids of the job instances whose executions should be
+	 * deleted
+	 * @since 6.1
+	 */
+	default void deleteJobExecutions(Collection<Long> jobInstanceIds) {
+		throw new UnsupportedOperationException();
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,12 +16,14 @@
 
 package org.springframework.batch.core.repository.dao;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.launch.NoSuchJobException;
+import org.springframework.batch.core.repository.JobRetentionPolicy;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -162,4 +164,36 @@ public interface JobInstanceDao {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Retrieve the ids of the oldest expired job instances of the given job.
+	 * @param jobName the name of the job
+	 * @param retentionPolicy the policy deciding which job instances have expired
+	 * @param count the maximum number of ids to retrieve
+	 * @return the ids of expired job instances, in creation order
+	 * @since 6.1
+	 */
+	default List<Long> getExpiredJobInstanceIds(String jobName, JobRetentionPolicy retentionPolicy, int count) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Archive the given job instances before they are deleted with
+	 * {@link #deleteJobInstances(Collection)}. The default implementation does nothing,
+	 * implementations can copy them to an archive store.
+	 * @param jobInstanceIds the ids of the job instances to archive
+	 * @since 6.1
+	 */
+	default void archiveJobInstances(Collection<Long> jobInstanceIds) {
+	}
+
+	/**
+	 * Delete the given job instances. As for {@link #deleteJobInstance(JobInstance)},
+	 * this method is not expected to delete the associated job executions.
+	 * @param jobInstanceIds the ids of the job instances to delete
+	 * @since 6.1
+	 */
+	default void deleteJobInstances(Collection<Long> jobInstanceIds) {
+		throw new UnsupportedOperationException();
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2023 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,12 +16,18 @@
 
 package org.springframework.batch.core.repository.dao;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.core.step.StepExecutionSummary;
 import org.jspecify.annotations.Nullable;
 
 public interface StepExecutionDao {
@@ -39,6 +45,26 @@ public interface StepExecutionDao {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Create a new step execution with an assigned id for each of the given step names.
+	 * Like {@link #createStepExecution(String, JobExecution)}, this method should not add
+	 * the step executions to the job execution. The default implementation creates the
+	 * step executions one by one, implementations are encouraged to override it to insert
+	 * them in bulk.
+	 * @param stepNames the names of the steps
+	 * @param jobExecution the job execution the step executions belong to
+	 * @return the new {@link StepExecution} instances with an assigned id, in the order
+	 * of the given step names
+	 * @since 6.1
+	 */
+	default List<StepExecution> createStepExecutions(Collection<String> stepNames, JobExecution jobExecution) {
+		List<StepExecution> stepExecutions = new ArrayList<>(stepNames.size());
+		for (String stepName : stepNames) {
+			stepExecutions.add(createStepExecution(stepName, jobExecution));
+		}
+		return stepExecutions;
+	}
+
 	/**
 	 * Update the given StepExecution
 	 * <p>
@@ -47,6 +73,22 @@ public interface StepExecutionDao {
 	 */
 	void updateStepExecution(StepExecution stepExecution);
 
+	/**
+	 * Update the given StepExecution only if neither its version nor the version of its
+	 * job execution have changed in the meantime. Implementations are expected to check
+	 * both versions and update the step execution in a single round trip. If the update
+	 * is not performed, callers should fall back to synchronizing the status of the job
+	 * execution and calling {@link #updateStepExecution(StepExecution)}.
+	 * <p>
+	 * Preconditions: Id must not be null.
+	 * @param stepExecution {@link StepExecution} instance to be updated.
+	 * @return true if the step execution was updated, false otherwise. Defaults to false.
+	 * @since 6.1
+	 */
+	default boolean updateStepExecutionIfJobExecutionUnchanged(StepExecution stepExecution) {
+		return false;
+	}
+
 	/**
 	 * Retrieve a {@link StepExecution} from its id. The execution context will not be
 	 * loaded. If you need the execution context, use the job repository which coordinates
@@ -78,6 +120,26 @@ public interface StepExecutionDao {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Retrieve the status of each of the given step executions, without loading the step
+	 * executions themselves. The default implementation retrieves the step executions one
+	 * by one, implementations are encouraged to override it with a status only query.
+	 * @param stepExecutionIds the ids of the step executions
+	 * @return the status of each step execution keyed by id. Unknown ids are not present
+	 * in the map.
+	 * @since 6.1
+	 */
+	default Map<Long, BatchStatus> getStepExecutionStatuses(Collection<Long> stepExecutionIds) {
+		Map<Long, BatchStatus> statuses = new HashMap<>();
+		for (Long stepExecutionId : stepExecutionIds) {
+			StepExecution stepExecution = getStepExecution(stepExecutionId);
+			if (stepExecution != null) {
+				statuses.put(stepExecutionId, stepExecution.getStatus());
+			}
+		}
+		return statuses;
+	}
+
 	/**
 	 * Retrieve the last {@link StepExecution} for a given {@link JobInstance} ordered by
 	 * creation time and then id.
@@ -89,6 +151,29 @@ public interface StepExecutionDao {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Retrieve the last {@link StepExecution} of each of the given steps for a given
+	 * {@link JobInstance}, as defined by
+	 * {@link #getLastStepExecution(JobInstance, String)}. The default implementation
+	 * looks up each step separately, implementations are encouraged to override it to
+	 * retrieve the step executions in bulk.
+	 * @param jobInstance the parent {@link JobInstance}
+	 * @param stepNames the names of the steps
+	 * @return the last {@link StepExecution} of each step keyed by step name. Steps that
+	 * were never executed are not present in the map.
+	 * @since 6.1
+	 */
+	default Map<String, StepExecution> getLastStepExecutions(JobInstance jobInstance, Collection<String> stepNames) {
+		Map<String, StepExecution> stepExecutions = new HashMap<>();
+		for (String stepName : stepNames) {
+			StepExecution stepExecution = getLastStepExecution(jobInstance, stepName);
+			if (stepExecution != null) {
+				stepExecutions.put(stepName, stepExecution);
+			}
+		}
+		return stepExecutions;
+	}
+
 	/**
 	 * Retrieve all {@link StepExecution}s for a given {@link JobExecution}. The execution
 	 * context will not be loaded. If you need the execution context, use the job
@@ -112,6 +197,22 @@ public interface StepExecutionDao {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Retrieve the last {@link StepExecution} and the execution count of every step
+	 * executed within a given {@link JobInstance}. The execution contexts will not be
+	 * loaded. The default implementation throws an {@link UnsupportedOperationException},
+	 * in which case
+	 * {@link org.springframework.batch.core.repository.support.SimpleJobRepository}
+	 * retrieves them from the job executions of the instance.
+	 * @param jobInstance the parent {@link JobInstance}
+	 * @return the execution history of each step keyed by step name. Steps that were
+	 * never executed are not present in the map.
+	 * @since 6.1
+	 */
+	default Map<String, StepExecutionSummary> getStepExecutionSummaries(JobInstance jobInstance) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * Delete the given step execution.
 	 * @param stepExecution the step execution to delete
@@ -121,4 +222,25 @@ public interface StepExecutionDao {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Archive the step executions of the given job instances before they are deleted with
+	 * {@link #deleteStepExecutions(Collection)}. The default implementation does nothing,
+	 * implementations can copy them to an archive store.
+	 * @param jobInstanceIds the ids of the job instances whose step executions should be
+	 * archived
+	 * @since 6.1
+	 */
+	default void archiveStepExecutions(Collection<Long> jobInstanceIds) {
+	}
+
+	/**
+	 * Delete the step executions of the given job instances.
+	 * @param jobInstanceIds the ids of the job instances whose step executions should be
+	 * deleted
+	 * @since 6.1
+	 */
+	default void deleteStepExecutions(Collection<Long> jobInstanceIds) {
+		throw new UnsupportedOperationException();
+	}
+
 }
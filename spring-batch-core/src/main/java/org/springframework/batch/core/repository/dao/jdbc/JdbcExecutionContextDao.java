@@ -21,11 +21,16 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -40,6 +45,7 @@ import org.springframework.batch.core.repository.ExecutionContextSerializer;
 import org.springframework.batch.core.repository.dao.AbstractJdbcBatchMetadataDao;
 import org.springframework.batch.core.repository.dao.DefaultExecutionContextSerializer;
 import org.springframework.batch.core.repository.dao.ExecutionContextDao;
+import org.springframework.batch.core.repository.dao.ExecutionContextFingerprintCache;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.core.serializer.Serializer;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
@@ -85,6 +91,12 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 			WHERE STEP_EXECUTION_ID = ?
 			""";
 
+	private static final String FIND_STEP_EXECUTION_CONTEXTS = """
+			SELECT STEP_EXECUTION_ID, SHORT_CONTEXT, SERIALIZED_CONTEXT
+			FROM %PREFIX%STEP_EXECUTION_CONTEXT
+			WHERE STEP_EXECUTION_ID IN (%STEP_EXECUTION_IDS%)
+			""";
+
 	private static final String INSERT_STEP_EXECUTION_CONTEXT = """
 			INSERT INTO %PREFIX%STEP_EXECUTION_CONTEXT (SHORT_CONTEXT, SERIALIZED_CONTEXT, STEP_EXECUTION_ID)
 				VALUES(?, ?, ?)
@@ -106,16 +118,60 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 			WHERE JOB_EXECUTION_ID = ?
 			""";
 
+	private static final String ARCHIVE_JOB_EXECUTION_CONTEXTS = """
+			INSERT INTO %ARCHIVE_PREFIX%JOB_EXECUTION_CONTEXT (JOB_EXECUTION_ID, SHORT_CONTEXT, SERIALIZED_CONTEXT)
+			SELECT JOB_EXECUTION_ID, SHORT_CONTEXT, SERIALIZED_CONTEXT
+			FROM %PREFIX%JOB_EXECUTION_CONTEXT
+			WHERE JOB_EXECUTION_ID IN (SELECT JOB_EXECUTION_ID FROM %PREFIX%JOB_EXECUTION WHERE JOB_INSTANCE_ID IN (%IDS%))
+			""";
+
+	private static final String ARCHIVE_STEP_EXECUTION_CONTEXTS = """
+			INSERT INTO %ARCHIVE_PREFIX%STEP_EXECUTION_CONTEXT (STEP_EXECUTION_ID, SHORT_CONTEXT, SERIALIZED_CONTEXT)
+			SELECT STEP_EXECUTION_ID, SHORT_CONTEXT, SERIALIZED_CONTEXT
+			FROM %PREFIX%STEP_EXECUTION_CONTEXT
+			WHERE STEP_EXECUTION_ID IN (
+				SELECT SE.STEP_EXECUTION_ID
+				FROM %PREFIX%STEP_EXECUTION SE JOIN %PREFIX%JOB_EXECUTION JE ON SE.JOB_EXECUTION_ID = JE.JOB_EXECUTION_ID
+				WHERE JE.JOB_INSTANCE_ID IN (%IDS%))
+			""";
+
+	private static final String DELETE_JOB_EXECUTION_CONTEXTS = """
+			DELETE FROM %PREFIX%JOB_EXECUTION_CONTEXT
+			WHERE JOB_EXECUTION_ID IN (SELECT JOB_EXECUTION_ID FROM %PREFIX%JOB_EXECUTION WHERE JOB_INSTANCE_ID IN (%IDS%))
+			""";
+
+	private static final String DELETE_STEP_EXECUTION_CONTEXTS = """
+			DELETE FROM %PREFIX%STEP_EXECUTION_CONTEXT
+			WHERE STEP_EXECUTION_ID IN (
+				SELECT SE.STEP_EXECUTION_ID
+				FROM %PREFIX%STEP_EXECUTION SE JOIN %PREFIX%JOB_EXECUTION JE ON SE.JOB_EXECUTION_ID = JE.JOB_EXECUTION_ID
+				WHERE JE.JOB_INSTANCE_ID IN (%IDS%))
+			""";
+
 	private Charset charset = StandardCharsets.UTF_8;
 
 	private static final int DEFAULT_MAX_VARCHAR_LENGTH = 2500;
 
+	/**
+	 * Maximum number of ids in the IN clause of a single query, to stay within the limits
+	 * of all supported databases.
+	 */
+	private static final int MAX_EXECUTION_IDS_PER_QUERY = 500;
+
 	private int shortContextLength = DEFAULT_MAX_VARCHAR_LENGTH;
 
 	private ExecutionContextSerializer serializer = new DefaultExecutionContextSerializer();
 
 	private final Lock lock = new ReentrantLock();
 
+	private boolean skipCleanContextUpdates = false;
+
+	private boolean skipIdenticalContextUpdates = false;
+
+	private final ExecutionContextFingerprintCache jobExecutionContextFingerprints = new ExecutionContextFingerprintCache();
+
+	private final ExecutionContextFingerprintCache stepExecutionContextFingerprints = new ExecutionContextFingerprintCache();
+
 	/**
 	 * Setter for {@link Serializer} implementation
 	 * @param serializer {@link ExecutionContextSerializer} instance to use.
@@ -149,6 +205,31 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 		this.charset = charset;
 	}
 
+	/**
+	 * Whether updates of execution contexts that are not
+	 * {@link ExecutionContext#isDirty() dirty} should be skipped. Only enable this if the
+	 * values of the execution contexts are never mutated in place, as such changes are
+	 * not tracked by the dirty flag. Defaults to {@code false}.
+	 * @param skipCleanContextUpdates true to skip updates of clean execution contexts
+	 * @since 6.1
+	 */
+	public void setSkipCleanContextUpdates(boolean skipCleanContextUpdates) {
+		this.skipCleanContextUpdates = skipCleanContextUpdates;
+	}
+
+	/**
+	 * Whether updates of execution contexts whose serialized content is identical to the
+	 * one last written by this DAO should be skipped. The comparison is based on a digest
+	 * of the serialized content, which is still computed on each update, but the write of
+	 * the context columns is avoided. Defaults to {@code false}.
+	 * @param skipIdenticalContextUpdates true to skip updates of unchanged execution
+	 * contexts
+	 * @since 6.1
+	 */
+	public void setSkipIdenticalContextUpdates(boolean skipIdenticalContextUpdates) {
+		this.skipIdenticalContextUpdates = skipIdenticalContextUpdates;
+	}
+
 	@Override
 	public ExecutionContext getExecutionContext(JobExecution jobExecution) {
 		long executionId = jobExecution.getId();
@@ -182,10 +263,14 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 		long executionId = jobExecution.getId();
 		ExecutionContext executionContext = jobExecution.getExecutionContext();
 		Assert.notNull(executionContext, "The ExecutionContext must not be null.");
+		if (this.skipCleanContextUpdates && !executionContext.isDirty()) {
+			return;
+		}
 
 		String serializedContext = serializeContext(executionContext);
 
-		persistSerializedContext(executionId, serializedContext, UPDATE_JOB_EXECUTION_CONTEXT);
+		persistSerializedContextIfChanged(executionId, serializedContext, UPDATE_JOB_EXECUTION_CONTEXT,
+				this.jobExecutionContextFingerprints);
 	}
 
 	@Override
@@ -197,16 +282,49 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 			long executionId = stepExecution.getId();
 			ExecutionContext executionContext = stepExecution.getExecutionContext();
 			Assert.notNull(executionContext, "The ExecutionContext must not be null.");
+			if (this.skipCleanContextUpdates && !executionContext.isDirty()) {
+				return;
+			}
 
 			String serializedContext = serializeContext(executionContext);
 
-			persistSerializedContext(executionId, serializedContext, UPDATE_STEP_EXECUTION_CONTEXT);
+			persistSerializedContextIfChanged(executionId, serializedContext, UPDATE_STEP_EXECUTION_CONTEXT,
+					this.stepExecutionContextFingerprints);
 		}
 		finally {
 			this.lock.unlock();
 		}
 	}
 
+	/**
+	 * Retrieve the execution contexts with one query per
+	 * {@value #MAX_EXECUTION_IDS_PER_QUERY} step executions. Step executions without a
+	 * persisted context are mapped to an empty context.
+	 * @since 6.1
+	 */
+	@Override
+	public Map<Long, ExecutionContext> getExecutionContexts(Collection<StepExecution> stepExecutions) {
+		Map<Long, ExecutionContext> executionContexts = CollectionUtils.newHashMap(stepExecutions.size());
+		List<Long> executionIds = new ArrayList<>(stepExecutions.size());
+		for (StepExecution stepExecution : stepExecutions) {
+			executionIds.add(stepExecution.getId());
+		}
+		ExecutionContextRowMapper rowMapper = new ExecutionContextRowMapper();
+		for (int from = 0; from < executionIds.size(); from += MAX_EXECUTION_IDS_PER_QUERY) {
+			List<Long> batch = executionIds.subList(from,
+					Math.min(from + MAX_EXECUTION_IDS_PER_QUERY, executionIds.size()));
+			String placeholders = String.join(", ", Collections.nCopies(batch.size(), "?"));
+			getJdbcTemplate()
+				.query(getQuery(FIND_STEP_EXECUTION_CONTEXTS.replace("%STEP_EXECUTION_IDS%", placeholders)), rs -> {
+					executionContexts.put(rs.getLong("STEP_EXECUTION_ID"), rowMapper.mapRow(rs, 0));
+				}, batch.toArray());
+		}
+		for (Long executionId : executionIds) {
+			executionContexts.computeIfAbsent(executionId, id -> new ExecutionContext());
+		}
+		return executionContexts;
+	}
+
 	@Override
 	public void saveExecutionContext(JobExecution jobExecution) {
 
@@ -217,6 +335,9 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 		String serializedContext = serializeContext(executionContext);
 
 		persistSerializedContext(executionId, serializedContext, INSERT_JOB_EXECUTION_CONTEXT);
+		if (this.skipIdenticalContextUpdates) {
+			this.jobExecutionContextFingerprints.persisted(executionId, fingerprint(serializedContext));
+		}
 	}
 
 	@Override
@@ -228,6 +349,9 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 		String serializedContext = serializeContext(executionContext);
 
 		persistSerializedContext(executionId, serializedContext, INSERT_STEP_EXECUTION_CONTEXT);
+		if (this.skipIdenticalContextUpdates) {
+			this.stepExecutionContextFingerprints.persisted(executionId, fingerprint(serializedContext));
+		}
 	}
 
 	@Override
@@ -241,6 +365,10 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 			serializedContexts.put(executionId, serializeContext(executionContext));
 		}
 		persistSerializedContexts(serializedContexts, INSERT_STEP_EXECUTION_CONTEXT);
+		if (this.skipIdenticalContextUpdates) {
+			serializedContexts.forEach((executionId, serializedContext) -> this.stepExecutionContextFingerprints
+				.persisted(executionId, fingerprint(serializedContext)));
+		}
 	}
 
 	/**
@@ -250,6 +378,7 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 	@Override
 	public void deleteExecutionContext(JobExecution jobExecution) {
 		getJdbcTemplate().update(getQuery(DELETE_JOB_EXECUTION_CONTEXT), jobExecution.getId());
+		this.jobExecutionContextFingerprints.evict(jobExecution.getId());
 	}
 
 	/**
@@ -259,6 +388,31 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 	@Override
 	public void deleteExecutionContext(StepExecution stepExecution) {
 		getJdbcTemplate().update(getQuery(DELETE_STEP_EXECUTION_CONTEXT), stepExecution.getId());
+		this.stepExecutionContextFingerprints.evict(stepExecution.getId());
+	}
+
+	/**
+	 * Copy the job and step execution contexts to the tables with the archive table
+	 * prefix, if any.
+	 * @since 6.1
+	 */
+	@Override
+	public void archiveExecutionContexts(Collection<Long> jobInstanceIds) {
+		if (getArchiveTablePrefix() != null) {
+			updateByIds(ARCHIVE_JOB_EXECUTION_CONTEXTS, jobInstanceIds);
+			updateByIds(ARCHIVE_STEP_EXECUTION_CONTEXTS, jobInstanceIds);
+		}
+	}
+
+	/**
+	 * Delete the step and job execution contexts with one statement per table and
+	 * {@value #MAX_IN_CLAUSE_SIZE} job instances.
+	 * @since 6.1
+	 */
+	@Override
+	public void deleteExecutionContexts(Collection<Long> jobInstanceIds) {
+		updateByIds(DELETE_STEP_EXECUTION_CONTEXTS, jobInstanceIds);
+		updateByIds(DELETE_JOB_EXECUTION_CONTEXTS, jobInstanceIds);
 	}
 
 	@Override
@@ -267,6 +421,26 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 		Assert.state(serializer != null, "ExecutionContextSerializer is required");
 	}
 
+	/**
+	 * @param executionId the job or step execution id
+	 * @param serializedContext the serialized context to persist
+	 * @param sql with parameters (shortContext, longContext, executionId)
+	 * @param fingerprints the fingerprints of the contexts already persisted
+	 */
+	private void persistSerializedContextIfChanged(long executionId, String serializedContext, String sql,
+			ExecutionContextFingerprintCache fingerprints) {
+		if (!this.skipIdenticalContextUpdates) {
+			persistSerializedContext(executionId, serializedContext, sql);
+			return;
+		}
+		String fingerprint = fingerprint(serializedContext);
+		if (fingerprints.isPersisted(executionId, fingerprint)) {
+			return;
+		}
+		persistSerializedContext(executionId, serializedContext, sql);
+		fingerprints.persisted(executionId, fingerprint);
+	}
+
 	/**
 	 * @param executionId the job or step execution id
 	 * @param serializedContext the serialized context to persist
@@ -362,6 +536,16 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 		return results;
 	}
 
+	private String fingerprint(String serializedContext) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(serializedContext.getBytes(this.charset)));
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("Could not compute the execution context fingerprint", ex);
+		}
+	}
+
 	private class ExecutionContextRowMapper implements RowMapper<ExecutionContext> {
 
 		@Override
@@ -21,8 +21,11 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -148,6 +151,35 @@ public class JdbcJobExecutionDao extends AbstractJdbcBatchMetadataDao implements
 			ORDER BY JOB_EXECUTION_ID DESC
 			""";
 
+	private static final String GET_JOB_EXECUTION_STATUSES_BY_INSTANCE_ID = """
+			SELECT JOB_EXECUTION_ID, STATUS FROM %PREFIX%JOB_EXECUTION WHERE JOB_INSTANCE_ID = ?
+			ORDER BY JOB_EXECUTION_ID DESC
+			""";
+
+	private static final String ARCHIVE_JOB_EXECUTIONS = """
+			INSERT INTO %ARCHIVE_PREFIX%JOB_EXECUTION (JOB_EXECUTION_ID, VERSION, JOB_INSTANCE_ID, CREATE_TIME, START_TIME, END_TIME, STATUS, EXIT_CODE, EXIT_MESSAGE, LAST_UPDATED)
+			SELECT JOB_EXECUTION_ID, VERSION, JOB_INSTANCE_ID, CREATE_TIME, START_TIME, END_TIME, STATUS, EXIT_CODE, EXIT_MESSAGE, LAST_UPDATED
+			FROM %PREFIX%JOB_EXECUTION
+			WHERE JOB_INSTANCE_ID IN (%IDS%)
+			""";
+
+	private static final String ARCHIVE_JOB_EXECUTION_PARAMETERS = """
+			INSERT INTO %ARCHIVE_PREFIX%JOB_EXECUTION_PARAMS (JOB_EXECUTION_ID, PARAMETER_NAME, PARAMETER_TYPE, PARAMETER_VALUE, IDENTIFYING)
+			SELECT JOB_EXECUTION_ID, PARAMETER_NAME, PARAMETER_TYPE, PARAMETER_VALUE, IDENTIFYING
+			FROM %PREFIX%JOB_EXECUTION_PARAMS
+			WHERE JOB_EXECUTION_ID IN (SELECT JOB_EXECUTION_ID FROM %PREFIX%JOB_EXECUTION WHERE JOB_INSTANCE_ID IN (%IDS%))
+			""";
+
+	private static final String DELETE_JOB_EXECUTIONS = """
+			DELETE FROM %PREFIX%JOB_EXECUTION
+			WHERE JOB_INSTANCE_ID IN (%IDS%)
+			""";
+
+	private static final String DELETE_JOB_EXECUTIONS_PARAMETERS = """
+			DELETE FROM %PREFIX%JOB_EXECUTION_PARAMS
+			WHERE JOB_EXECUTION_ID IN (SELECT JOB_EXECUTION_ID FROM %PREFIX%JOB_EXECUTION WHERE JOB_INSTANCE_ID IN (%IDS%))
+			""";
+
 	JdbcJobInstanceDao jobInstanceDao;
 
 	private int exitMessageLength = DEFAULT_EXIT_MESSAGE_LENGTH;
@@ -228,6 +260,20 @@ public class JdbcJobExecutionDao extends AbstractJdbcBatchMetadataDao implements
 		return jobExecutions;
 	}
 
+	/**
+	 * Retrieve the statuses with a single query on the job execution table.
+	 * @since 6.1
+	 */
+	@Override
+	public Map<Long, BatchStatus> getJobExecutionStatuses(JobInstance jobInstance) {
+		Assert.notNull(jobInstance, "Job instance cannot be null.");
+		Map<Long, BatchStatus> statuses = new LinkedHashMap<>();
+		getJdbcTemplate().query(getQuery(GET_JOB_EXECUTION_STATUSES_BY_INSTANCE_ID), rs -> {
+			statuses.put(rs.getLong(1), BatchStatus.valueOf(rs.getString(2)));
+		}, jobInstance.getId());
+		return statuses;
+	}
+
 	/**
 	 * Validate JobExecution. At a minimum, Status, CreateTime cannot be null.
 	 * @param jobExecution the job execution to validate
@@ -385,6 +431,30 @@ public class JdbcJobExecutionDao extends AbstractJdbcBatchMetadataDao implements
 		getJdbcTemplate().update(getQuery(DELETE_JOB_EXECUTION_PARAMETERS), jobExecution.getId());
 	}
 
+	/**
+	 * Copy the job executions and their parameters to the tables with the archive table
+	 * prefix, if any.
+	 * @since 6.1
+	 */
+	@Override
+	public void archiveJobExecutions(Collection<Long> jobInstanceIds) {
+		if (getArchiveTablePrefix() != null) {
+			updateByIds(ARCHIVE_JOB_EXECUTIONS, jobInstanceIds);
+			updateByIds(ARCHIVE_JOB_EXECUTION_PARAMETERS, jobInstanceIds);
+		}
+	}
+
+	/**
+	 * Delete the job executions and their parameters with two statements per
+	 * {@value #MAX_IN_CLAUSE_SIZE} job instances.
+	 * @since 6.1
+	 */
+	@Override
+	public void deleteJobExecutions(Collection<Long> jobInstanceIds) {
+		updateByIds(DELETE_JOB_EXECUTIONS_PARAMETERS, jobInstanceIds);
+		updateByIds(DELETE_JOB_EXECUTIONS, jobInstanceIds);
+	}
+
 	/**
 	 * Convenience method that inserts all parameters from the provided JobParameters.
 	 *
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,8 +18,11 @@ package org.springframework.batch.core.repository.dao.jdbc;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.sql.Types;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.batch.core.job.DefaultJobKeyGenerator;
@@ -28,12 +31,15 @@ import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.JobKeyGenerator;
 import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.launch.NoSuchJobException;
+import org.springframework.batch.core.repository.JobRetentionPolicy;
 import org.springframework.batch.core.repository.dao.AbstractJdbcBatchMetadataDao;
 import org.springframework.batch.core.repository.dao.JobInstanceDao;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.PreparedStatementCallback;
 import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
@@ -134,6 +140,40 @@ public class JdbcJobInstanceDao extends AbstractJdbcBatchMetadataDao implements
 			SELECT JOB_INSTANCE_ID FROM %PREFIX%JOB_INSTANCE WHERE JOB_NAME = ?
 			""";
 
+	private static final String GET_LAST_JOB_INSTANCE_IDS_BY_JOB_NAME = GET_JOB_INSTANCE_IDS_BY_JOB_NAME
+			+ " ORDER BY JOB_INSTANCE_ID DESC";
+
+	private static final String GET_EXPIRED_JOB_INSTANCE_IDS = """
+			SELECT JI.JOB_INSTANCE_ID
+			FROM %PREFIX%JOB_INSTANCE JI
+			WHERE JI.JOB_NAME = ? AND JI.JOB_INSTANCE_ID < ?
+				AND NOT EXISTS (SELECT 1 FROM %PREFIX%JOB_EXECUTION JE WHERE JE.JOB_INSTANCE_ID = JI.JOB_INSTANCE_ID
+					AND JE.STATUS IN ('STARTING', 'STARTED', 'STOPPING'))
+			ORDER BY JI.JOB_INSTANCE_ID
+			""";
+
+	private static final String GET_EXPIRED_JOB_INSTANCE_IDS_BEFORE_CUTOFF = """
+			SELECT JI.JOB_INSTANCE_ID
+			FROM %PREFIX%JOB_INSTANCE JI
+			WHERE JI.JOB_NAME = ? AND JI.JOB_INSTANCE_ID < ?
+				AND EXISTS (SELECT 1 FROM %PREFIX%JOB_EXECUTION JE WHERE JE.JOB_INSTANCE_ID = JI.JOB_INSTANCE_ID)
+				AND NOT EXISTS (SELECT 1 FROM %PREFIX%JOB_EXECUTION JE WHERE JE.JOB_INSTANCE_ID = JI.JOB_INSTANCE_ID
+					AND (JE.STATUS IN ('STARTING', 'STARTED', 'STOPPING') OR JE.CREATE_TIME >= ?))
+			ORDER BY JI.JOB_INSTANCE_ID
+			""";
+
+	private static final String ARCHIVE_JOB_INSTANCES = """
+			INSERT INTO %ARCHIVE_PREFIX%JOB_INSTANCE (JOB_INSTANCE_ID, VERSION, JOB_NAME, JOB_KEY)
+			SELECT JOB_INSTANCE_ID, VERSION, JOB_NAME, JOB_KEY
+			FROM %PREFIX%JOB_INSTANCE
+			WHERE JOB_INSTANCE_ID IN (%IDS%)
+			""";
+
+	private static final String DELETE_JOB_INSTANCES = """
+			DELETE FROM %PREFIX%JOB_INSTANCE
+			WHERE JOB_INSTANCE_ID IN (%IDS%)
+			""";
+
 	private DataFieldMaxValueIncrementer jobInstanceIncrementer;
 
 	private JobKeyGenerator jobKeyGenerator = new DefaultJobKeyGenerator();
@@ -141,7 +181,9 @@ public class JdbcJobInstanceDao extends AbstractJdbcBatchMetadataDao implements
 	/**
 	 * In this JDBC implementation a job instance id is obtained by asking the
 	 * jobInstanceIncrementer (which is likely a sequence) for the next long value, and
-	 * then passing the Id and parameter values into an INSERT statement.
+	 * then passing the Id and parameter values into an INSERT statement. The instance is
+	 * inserted without being looked up first (unless its key is empty), relying on the
+	 * unique constraint on the job name and key to detect existing instances.
 	 *
 	 * @see JobInstanceDao#createJobInstance(String, JobParameters)
 	 * @throws IllegalArgumentException if any {@link JobParameters} fields are null.
@@ -152,17 +194,26 @@ public class JdbcJobInstanceDao extends AbstractJdbcBatchMetadataDao implements
 		Assert.notNull(jobName, "Job name must not be null.");
 		Assert.notNull(jobParameters, "JobParameters must not be null.");
 
-		Assert.state(getJobInstance(jobName, jobParameters) == null, "JobInstance must not already exist");
+		String jobKey = jobKeyGenerator.generateKey(jobParameters);
+		// an empty key might be stored as null, which is not covered by the unique
+		// constraint on the job name and key, so it is checked before inserting
+		if (!StringUtils.hasLength(jobKey)) {
+			Assert.state(getJobInstance(jobName, jobParameters) == null, "JobInstance must not already exist");
+		}
 
 		long jobInstanceId = jobInstanceIncrementer.nextLongValue();
 
 		JobInstance jobInstance = new JobInstance(jobInstanceId, jobName);
 		jobInstance.incrementVersion();
 
-		Object[] parameters = new Object[] { jobInstanceId, jobName, jobKeyGenerator.generateKey(jobParameters),
-				jobInstance.getVersion() };
-		getJdbcTemplate().update(getQuery(CREATE_JOB_INSTANCE), parameters,
-				new int[] { Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.INTEGER });
+		Object[] parameters = new Object[] { jobInstanceId, jobName, jobKey, jobInstance.getVersion() };
+		try {
+			getJdbcTemplate().update(getQuery(CREATE_JOB_INSTANCE), parameters,
+					new int[] { Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.INTEGER });
+		}
+		catch (DuplicateKeyException e) {
+			throw new IllegalStateException("JobInstance must not already exist", e);
+		}
 
 		return jobInstance;
 	}
@@ -314,6 +365,72 @@ public class JdbcJobInstanceDao extends AbstractJdbcBatchMetadataDao implements
 		}
 	}
 
+	/**
+	 * Retrieve the ids of the oldest expired job instances with a single query, after
+	 * looking up the oldest of the retained instances if any.
+	 * @since 6.1
+	 */
+	@Override
+	public List<Long> getExpiredJobInstanceIds(String jobName, JobRetentionPolicy retentionPolicy, int count) {
+		long retainedJobInstanceId = Long.MAX_VALUE;
+		int retainedInstances = retentionPolicy.retainedInstances();
+		if (retainedInstances > 0) {
+			List<Long> lastJobInstanceIds = getJdbcTemplate().execute(getQuery(GET_LAST_JOB_INSTANCE_IDS_BY_JOB_NAME),
+					(PreparedStatementCallback<List<Long>>) statement -> {
+						statement.setMaxRows(retainedInstances);
+						statement.setString(1, jobName);
+						return getIds(statement.executeQuery());
+					});
+			if (lastJobInstanceIds.size() < retainedInstances) {
+				return new ArrayList<>();
+			}
+			retainedJobInstanceId = lastJobInstanceIds.get(lastJobInstanceIds.size() - 1);
+		}
+		LocalDateTime cutoff = retentionPolicy.cutoff();
+		String query = cutoff != null ? GET_EXPIRED_JOB_INSTANCE_IDS_BEFORE_CUTOFF : GET_EXPIRED_JOB_INSTANCE_IDS;
+		long maxJobInstanceId = retainedJobInstanceId;
+		return getJdbcTemplate().execute(getQuery(query), (PreparedStatementCallback<List<Long>>) statement -> {
+			statement.setMaxRows(count);
+			statement.setString(1, jobName);
+			statement.setLong(2, maxJobInstanceId);
+			if (cutoff != null) {
+				statement.setTimestamp(3, Timestamp.valueOf(cutoff));
+			}
+			return getIds(statement.executeQuery());
+		});
+	}
+
+	/**
+	 * Copy the job instances to the tables with the archive table prefix, if any.
+	 * @since 6.1
+	 */
+	@Override
+	public void archiveJobInstances(Collection<Long> jobInstanceIds) {
+		if (getArchiveTablePrefix() != null) {
+			updateByIds(ARCHIVE_JOB_INSTANCES, jobInstanceIds);
+		}
+	}
+
+	/**
+	 * Delete the job instances with one statement per {@value #MAX_IN_CLAUSE_SIZE} job
+	 * instances.
+	 * @since 6.1
+	 */
+	@Override
+	public void deleteJobInstances(Collection<Long> jobInstanceIds) {
+		updateByIds(DELETE_JOB_INSTANCES, jobInstanceIds);
+	}
+
+	private static List<Long> getIds(ResultSet resultSet) throws SQLException {
+		try (resultSet) {
+			List<Long> ids = new ArrayList<>();
+			while (resultSet.next()) {
+				ids.add(resultSet.getLong(1));
+			}
+			return ids;
+		}
+	}
+
 	/**
 	 * Setter for {@link DataFieldMaxValueIncrementer} to be used when generating primary
 	 * keys for {@link JobInstance} instances.
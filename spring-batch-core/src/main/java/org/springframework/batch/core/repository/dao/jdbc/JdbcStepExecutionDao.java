@@ -17,6 +17,7 @@
 package org.springframework.batch.core.repository.dao.jdbc;
 
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.*;
@@ -31,6 +32,7 @@ import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.core.step.StepExecutionSummary;
 import org.springframework.batch.core.repository.dao.AbstractJdbcBatchMetadataDao;
 import org.springframework.batch.core.repository.dao.StepExecutionDao;
 import org.springframework.beans.factory.InitializingBean;
@@ -39,6 +41,7 @@ import org.springframework.jdbc.core.PreparedStatementCallback;
 import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
 import org.jspecify.annotations.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
 
 /**
  * JDBC implementation of {@link StepExecutionDao}.<br>
@@ -78,6 +81,13 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 			WHERE STEP_EXECUTION_ID = ? AND VERSION = ?
 			""";
 
+	private static final String UPDATE_STEP_EXECUTION_IF_JOB_EXECUTION_UNCHANGED = """
+			UPDATE %PREFIX%STEP_EXECUTION
+			SET START_TIME = ?, END_TIME = ?, STATUS = ?, COMMIT_COUNT = ?, READ_COUNT = ?, FILTER_COUNT = ?, WRITE_COUNT = ?, EXIT_CODE = ?, EXIT_MESSAGE = ?, VERSION = VERSION + 1, READ_SKIP_COUNT = ?, PROCESS_SKIP_COUNT = ?, WRITE_SKIP_COUNT = ?, ROLLBACK_COUNT = ?, LAST_UPDATED = ?
+			WHERE STEP_EXECUTION_ID = ? AND VERSION = ?
+				AND (SELECT JE.VERSION FROM %PREFIX%JOB_EXECUTION JE WHERE JE.JOB_EXECUTION_ID = ?) = ?
+			""";
+
 	private static final String GET_RAW_STEP_EXECUTIONS = """
 			SELECT STEP_EXECUTION_ID, STEP_NAME, START_TIME, END_TIME, STATUS, COMMIT_COUNT, READ_COUNT, FILTER_COUNT, WRITE_COUNT, EXIT_CODE, EXIT_MESSAGE, READ_SKIP_COUNT, WRITE_SKIP_COUNT, PROCESS_SKIP_COUNT, ROLLBACK_COUNT, LAST_UPDATED, VERSION, CREATE_TIME
 			FROM %PREFIX%STEP_EXECUTION
@@ -94,6 +104,12 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 			WHERE STEP_EXECUTION_ID = ?
 			""";
 
+	private static final String GET_STATUSES = """
+			SELECT STEP_EXECUTION_ID, STATUS
+			FROM %PREFIX%STEP_EXECUTION
+			WHERE STEP_EXECUTION_ID IN (%STEP_EXECUTION_IDS%)
+			""";
+
 	private static final String GET_LAST_STEP_EXECUTION = """
 			SELECT SE.STEP_EXECUTION_ID, SE.STEP_NAME, SE.START_TIME, SE.END_TIME, SE.STATUS, SE.COMMIT_COUNT, SE.READ_COUNT, SE.FILTER_COUNT, SE.WRITE_COUNT, SE.EXIT_CODE, SE.EXIT_MESSAGE, SE.READ_SKIP_COUNT, SE.WRITE_SKIP_COUNT, SE.PROCESS_SKIP_COUNT, SE.ROLLBACK_COUNT, SE.LAST_UPDATED, SE.VERSION, SE.CREATE_TIME, JE.JOB_EXECUTION_ID, JE.START_TIME, JE.END_TIME, JE.STATUS, JE.EXIT_CODE, JE.EXIT_MESSAGE, JE.CREATE_TIME, JE.LAST_UPDATED, JE.VERSION
 			FROM %PREFIX%JOB_EXECUTION JE
@@ -102,6 +118,22 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 			ORDER BY SE.CREATE_TIME DESC, SE.STEP_EXECUTION_ID DESC
 			""";
 
+	private static final String GET_LAST_STEP_EXECUTIONS = """
+			SELECT SE.STEP_EXECUTION_ID, SE.STEP_NAME, SE.START_TIME, SE.END_TIME, SE.STATUS, SE.COMMIT_COUNT, SE.READ_COUNT, SE.FILTER_COUNT, SE.WRITE_COUNT, SE.EXIT_CODE, SE.EXIT_MESSAGE, SE.READ_SKIP_COUNT, SE.WRITE_SKIP_COUNT, SE.PROCESS_SKIP_COUNT, SE.ROLLBACK_COUNT, SE.LAST_UPDATED, SE.VERSION, SE.CREATE_TIME, JE.JOB_EXECUTION_ID, JE.START_TIME, JE.END_TIME, JE.STATUS, JE.EXIT_CODE, JE.EXIT_MESSAGE, JE.CREATE_TIME, JE.LAST_UPDATED, JE.VERSION
+			FROM %PREFIX%JOB_EXECUTION JE
+				JOIN %PREFIX%STEP_EXECUTION SE ON SE.JOB_EXECUTION_ID = JE.JOB_EXECUTION_ID
+			WHERE JE.JOB_INSTANCE_ID = ? AND SE.STEP_NAME IN (%STEP_NAMES%)
+			ORDER BY SE.CREATE_TIME DESC, SE.STEP_EXECUTION_ID DESC
+			""";
+
+	private static final String GET_STEP_EXECUTIONS_BY_JOB_INSTANCE = """
+			SELECT SE.STEP_EXECUTION_ID, SE.STEP_NAME, SE.START_TIME, SE.END_TIME, SE.STATUS, SE.COMMIT_COUNT, SE.READ_COUNT, SE.FILTER_COUNT, SE.WRITE_COUNT, SE.EXIT_CODE, SE.EXIT_MESSAGE, SE.READ_SKIP_COUNT, SE.WRITE_SKIP_COUNT, SE.PROCESS_SKIP_COUNT, SE.ROLLBACK_COUNT, SE.LAST_UPDATED, SE.VERSION, SE.CREATE_TIME, JE.JOB_EXECUTION_ID, JE.START_TIME, JE.END_TIME, JE.STATUS, JE.EXIT_CODE, JE.EXIT_MESSAGE, JE.CREATE_TIME, JE.LAST_UPDATED, JE.VERSION
+			FROM %PREFIX%JOB_EXECUTION JE
+				JOIN %PREFIX%STEP_EXECUTION SE ON SE.JOB_EXECUTION_ID = JE.JOB_EXECUTION_ID
+			WHERE JE.JOB_INSTANCE_ID = ?
+			ORDER BY SE.CREATE_TIME DESC, SE.STEP_EXECUTION_ID DESC
+			""";
+
 	private static final String CURRENT_VERSION_STEP_EXECUTION = """
 			SELECT VERSION FROM %PREFIX%STEP_EXECUTION
 			WHERE STEP_EXECUTION_ID=?
@@ -125,6 +157,18 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 			WHERE SE.STEP_EXECUTION_ID = ? AND JE.JOB_EXECUTION_ID = SE.JOB_EXECUTION_ID
 			""";
 
+	private static final String ARCHIVE_STEP_EXECUTIONS = """
+			INSERT INTO %ARCHIVE_PREFIX%STEP_EXECUTION (STEP_EXECUTION_ID, VERSION, STEP_NAME, JOB_EXECUTION_ID, CREATE_TIME, START_TIME, END_TIME, STATUS, COMMIT_COUNT, READ_COUNT, FILTER_COUNT, WRITE_COUNT, READ_SKIP_COUNT, WRITE_SKIP_COUNT, PROCESS_SKIP_COUNT, ROLLBACK_COUNT, EXIT_CODE, EXIT_MESSAGE, LAST_UPDATED)
+			SELECT STEP_EXECUTION_ID, VERSION, STEP_NAME, JOB_EXECUTION_ID, CREATE_TIME, START_TIME, END_TIME, STATUS, COMMIT_COUNT, READ_COUNT, FILTER_COUNT, WRITE_COUNT, READ_SKIP_COUNT, WRITE_SKIP_COUNT, PROCESS_SKIP_COUNT, ROLLBACK_COUNT, EXIT_CODE, EXIT_MESSAGE, LAST_UPDATED
+			FROM %PREFIX%STEP_EXECUTION
+			WHERE JOB_EXECUTION_ID IN (SELECT JOB_EXECUTION_ID FROM %PREFIX%JOB_EXECUTION WHERE JOB_INSTANCE_ID IN (%IDS%))
+			""";
+
+	private static final String DELETE_STEP_EXECUTIONS = """
+			DELETE FROM %PREFIX%STEP_EXECUTION
+			WHERE JOB_EXECUTION_ID IN (SELECT JOB_EXECUTION_ID FROM %PREFIX%JOB_EXECUTION WHERE JOB_INSTANCE_ID IN (%IDS%))
+			""";
+
 	private int exitMessageLength = DEFAULT_EXIT_MESSAGE_LENGTH;
 
 	private DataFieldMaxValueIncrementer stepExecutionIncrementer;
@@ -176,6 +220,38 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 		return stepExecution;
 	}
 
+	/**
+	 * Create the step executions and insert them in a single batch.
+	 * @since 6.1
+	 */
+	@Override
+	public List<StepExecution> createStepExecutions(Collection<String> stepNames, JobExecution jobExecution) {
+		List<StepExecution> stepExecutions = new ArrayList<>(stepNames.size());
+		if (stepNames.isEmpty()) {
+			return stepExecutions;
+		}
+		List<Object[]> batchParameterValues = new ArrayList<>(stepNames.size());
+		int[] parameterTypes = null;
+		for (String stepName : stepNames) {
+			long id = this.stepExecutionIncrementer.nextLongValue();
+			StepExecution stepExecution = new StepExecution(id, stepName, jobExecution);
+			stepExecution.incrementVersion();
+			List<Object[]> parameters = buildStepExecutionParameters(stepExecution);
+			batchParameterValues.add(parameters.get(0));
+			if (parameterTypes == null) {
+				parameterTypes = new int[parameters.get(1).length];
+				for (int i = 0; i < parameterTypes.length; i++) {
+					parameterTypes[i] = (Integer) parameters.get(1)[i];
+				}
+			}
+			stepExecutions.add(stepExecution);
+		}
+
+		getJdbcTemplate().batchUpdate(getQuery(SAVE_STEP_EXECUTION), batchParameterValues, parameterTypes);
+
+		return stepExecutions;
+	}
+
 	private List<Object[]> buildStepExecutionParameters(StepExecution stepExecution) {
 		validateStepExecution(stepExecution);
 		List<Object[]> parameters = new ArrayList<>();
@@ -264,6 +340,50 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 		}
 	}
 
+	@Override
+	public boolean updateStepExecutionIfJobExecutionUnchanged(StepExecution stepExecution) {
+
+		validateStepExecution(stepExecution);
+
+		String exitDescription = truncateExitDescription(stepExecution.getExitStatus().getExitDescription());
+		JobExecution jobExecution = stepExecution.getJobExecution();
+
+		this.lock.lock();
+		try {
+
+			Timestamp startTime = stepExecution.getStartTime() == null ? null
+					: Timestamp.valueOf(stepExecution.getStartTime());
+			Timestamp endTime = stepExecution.getEndTime() == null ? null
+					: Timestamp.valueOf(stepExecution.getEndTime());
+			Timestamp lastUpdated = stepExecution.getLastUpdated() == null ? null
+					: Timestamp.valueOf(stepExecution.getLastUpdated());
+			Object[] parameters = new Object[] { startTime, endTime, stepExecution.getStatus().toString(),
+					stepExecution.getCommitCount(), stepExecution.getReadCount(), stepExecution.getFilterCount(),
+					stepExecution.getWriteCount(), stepExecution.getExitStatus().getExitCode(), exitDescription,
+					stepExecution.getReadSkipCount(), stepExecution.getProcessSkipCount(),
+					stepExecution.getWriteSkipCount(), stepExecution.getRollbackCount(), lastUpdated,
+					stepExecution.getId(), stepExecution.getVersion(), jobExecution.getId(),
+					jobExecution.getVersion() };
+			int count = getJdbcTemplate().update(getQuery(UPDATE_STEP_EXECUTION_IF_JOB_EXECUTION_UNCHANGED), parameters,
+					new int[] { Types.TIMESTAMP, Types.TIMESTAMP, Types.VARCHAR, Types.BIGINT, Types.BIGINT,
+							Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.BIGINT, Types.BIGINT,
+							Types.BIGINT, Types.BIGINT, Types.TIMESTAMP, Types.BIGINT, Types.INTEGER, Types.BIGINT,
+							Types.INTEGER });
+
+			// the version of the step execution or of its job execution has changed
+			if (count == 0) {
+				return false;
+			}
+
+			stepExecution.incrementVersion();
+			return true;
+
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
 	/**
 	 * Truncate the exit description if the length exceeds
 	 * {@link #DEFAULT_EXIT_MESSAGE_LENGTH}.
@@ -326,6 +446,25 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 		}, stepExecution.getId());
 	}
 
+	/**
+	 * Retrieve the statuses with one query per {@value #MAX_IN_CLAUSE_SIZE} step
+	 * executions.
+	 * @since 6.1
+	 */
+	@Override
+	public Map<Long, BatchStatus> getStepExecutionStatuses(Collection<Long> stepExecutionIds) {
+		Map<Long, BatchStatus> statuses = CollectionUtils.newHashMap(stepExecutionIds.size());
+		List<Long> ids = new ArrayList<>(stepExecutionIds);
+		for (int from = 0; from < ids.size(); from += MAX_IN_CLAUSE_SIZE) {
+			List<Long> batch = ids.subList(from, Math.min(from + MAX_IN_CLAUSE_SIZE, ids.size()));
+			String placeholders = String.join(", ", Collections.nCopies(batch.size(), "?"));
+			getJdbcTemplate().query(getQuery(GET_STATUSES.replace("%STEP_EXECUTION_IDS%", placeholders)), rs -> {
+				statuses.put(rs.getLong(1), BatchStatus.valueOf(rs.getString(2)));
+			}, batch.toArray());
+		}
+		return statuses;
+	}
+
 	@Nullable
 	@Override
 	public StepExecution getLastStepExecution(JobInstance jobInstance, String stepName) {
@@ -357,6 +496,85 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 				});
 	}
 
+	/**
+	 * Retrieve the last step executions with one query per {@value #MAX_IN_CLAUSE_SIZE}
+	 * step names. The job parameters of each distinct job execution are retrieved once.
+	 * @since 6.1
+	 */
+	@Override
+	public Map<String, StepExecution> getLastStepExecutions(JobInstance jobInstance, Collection<String> stepNames) {
+		Map<String, StepExecution> stepExecutions = new HashMap<>();
+		Map<Long, JobExecution> jobExecutions = new HashMap<>();
+		List<String> names = new ArrayList<>(new LinkedHashSet<>(stepNames));
+		for (int from = 0; from < names.size(); from += MAX_IN_CLAUSE_SIZE) {
+			List<String> batch = names.subList(from, Math.min(from + MAX_IN_CLAUSE_SIZE, names.size()));
+			String placeholders = String.join(", ", Collections.nCopies(batch.size(), "?"));
+			Object[] parameters = new Object[batch.size() + 1];
+			parameters[0] = jobInstance.getInstanceId();
+			for (int i = 0; i < batch.size(); i++) {
+				parameters[i + 1] = batch.get(i);
+			}
+			getJdbcTemplate().query(getQuery(GET_LAST_STEP_EXECUTIONS.replace("%STEP_NAMES%", placeholders)), rs -> {
+				// rows are sorted from the most recent, keep the first one of each step
+				String stepName = rs.getString(2);
+				if (stepExecutions.containsKey(stepName)) {
+					return;
+				}
+				JobExecution jobExecution = getJobExecution(rs, jobInstance, jobExecutions);
+				stepExecutions.put(stepName, new StepExecutionRowMapper(jobExecution).mapRow(rs, 0));
+			}, parameters);
+		}
+		return stepExecutions;
+	}
+
+	/**
+	 * Retrieve the step executions of the job instance with a single query, sorted from
+	 * the most recent, and keep the first one of each step while counting the others. The
+	 * job parameters of each distinct job execution are retrieved once.
+	 * @since 6.1
+	 */
+	@Override
+	public Map<String, StepExecutionSummary> getStepExecutionSummaries(JobInstance jobInstance) {
+		Map<String, StepExecution> lastStepExecutions = new HashMap<>();
+		Map<String, Long> executionCounts = new HashMap<>();
+		Map<Long, JobExecution> jobExecutions = new HashMap<>();
+		getJdbcTemplate().query(getQuery(GET_STEP_EXECUTIONS_BY_JOB_INSTANCE), rs -> {
+			String stepName = rs.getString(2);
+			executionCounts.merge(stepName, 1L, Long::sum);
+			if (!lastStepExecutions.containsKey(stepName)) {
+				JobExecution jobExecution = getJobExecution(rs, jobInstance, jobExecutions);
+				lastStepExecutions.put(stepName, new StepExecutionRowMapper(jobExecution).mapRow(rs, 0));
+			}
+		}, jobInstance.getInstanceId());
+		Map<String, StepExecutionSummary> summaries = CollectionUtils.newHashMap(lastStepExecutions.size());
+		lastStepExecutions.forEach((stepName, stepExecution) -> summaries.put(stepName,
+				new StepExecutionSummary(stepExecution, executionCounts.get(stepName))));
+		return summaries;
+	}
+
+	/*
+	 * Map the job execution columns of a step execution row, or reuse the job execution
+	 * already mapped from a previous row.
+	 */
+	private JobExecution getJobExecution(ResultSet rs, JobInstance jobInstance, Map<Long, JobExecution> jobExecutions)
+			throws SQLException {
+		long jobExecutionId = rs.getLong(19);
+		JobExecution jobExecution = jobExecutions.get(jobExecutionId);
+		if (jobExecution == null) {
+			jobExecution = new JobExecution(jobExecutionId, jobInstance,
+					jobExecutionDao.getJobParameters(jobExecutionId));
+			jobExecution.setStartTime(rs.getTimestamp(20) == null ? null : rs.getTimestamp(20).toLocalDateTime());
+			jobExecution.setEndTime(rs.getTimestamp(21) == null ? null : rs.getTimestamp(21).toLocalDateTime());
+			jobExecution.setStatus(BatchStatus.valueOf(rs.getString(22)));
+			jobExecution.setExitStatus(new ExitStatus(rs.getString(23), rs.getString(24)));
+			jobExecution.setCreateTime(rs.getTimestamp(25) == null ? null : rs.getTimestamp(25).toLocalDateTime());
+			jobExecution.setLastUpdated(rs.getTimestamp(26) == null ? null : rs.getTimestamp(26).toLocalDateTime());
+			jobExecution.setVersion(rs.getInt(27));
+			jobExecutions.put(jobExecutionId, jobExecution);
+		}
+		return jobExecution;
+	}
+
 	/**
 	 * Retrieve all {@link StepExecution}s for a given {@link JobExecution}. The execution
 	 * context will not be loaded. If you need the execution context, use the job
@@ -392,4 +610,25 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 		}
 	}
 
+	/**
+	 * Copy the step executions to the table with the archive table prefix, if any.
+	 * @since 6.1
+	 */
+	@Override
+	public void archiveStepExecutions(Collection<Long> jobInstanceIds) {
+		if (getArchiveTablePrefix() != null) {
+			updateByIds(ARCHIVE_STEP_EXECUTIONS, jobInstanceIds);
+		}
+	}
+
+	/**
+	 * Delete the step executions with one statement per {@value #MAX_IN_CLAUSE_SIZE} job
+	 * instances.
+	 * @since 6.1
+	 */
+	@Override
+	public void deleteStepExecutions(Collection<Long> jobInstanceIds) {
+		updateByIds(DELETE_STEP_EXECUTIONS, jobInstanceIds);
+	}
+
 }
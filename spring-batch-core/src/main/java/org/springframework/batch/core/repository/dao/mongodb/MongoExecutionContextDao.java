@@ -1,5 +1,5 @@
 /*
- * Copyright 2024-2025 the original author or authors.
+ * Copyright 2024-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,7 +21,9 @@ import java.util.Collections;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.step.StepExecution;
 import org.springframework.batch.core.repository.dao.ExecutionContextDao;
+import org.springframework.batch.core.repository.dao.ExecutionContextFingerprintCache;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
@@ -41,10 +43,41 @@ public class MongoExecutionContextDao implements ExecutionContextDao {
 
 	private final MongoOperations mongoOperations;
 
+	private boolean skipCleanContextUpdates = false;
+
+	private boolean skipIdenticalContextUpdates = false;
+
+	private final ExecutionContextFingerprintCache jobExecutionContextFingerprints = new ExecutionContextFingerprintCache();
+
+	private final ExecutionContextFingerprintCache stepExecutionContextFingerprints = new ExecutionContextFingerprintCache();
+
 	public MongoExecutionContextDao(MongoOperations mongoOperations) {
 		this.mongoOperations = mongoOperations;
 	}
 
+	/**
+	 * Whether updates of execution contexts that are not
+	 * {@link ExecutionContext#isDirty() dirty} should be skipped. Only enable this if the
+	 * values of the execution contexts are never mutated in place, as such changes are
+	 * not tracked by the dirty flag. Defaults to {@code false}.
+	 * @param skipCleanContextUpdates true to skip updates of clean execution contexts
+	 * @since 6.1
+	 */
+	public void setSkipCleanContextUpdates(boolean skipCleanContextUpdates) {
+		this.skipCleanContextUpdates = skipCleanContextUpdates;
+	}
+
+	/**
+	 * Whether updates of execution contexts whose converted content is identical to the
+	 * one last written by this DAO should be skipped. Defaults to {@code false}.
+	 * @param skipIdenticalContextUpdates true to skip updates of unchanged execution
+	 * contexts
+	 * @since 6.1
+	 */
+	public void setSkipIdenticalContextUpdates(boolean skipIdenticalContextUpdates) {
+		this.skipIdenticalContextUpdates = skipIdenticalContextUpdates;
+	}
+
 	@Override
 	public ExecutionContext getExecutionContext(JobExecution jobExecution) {
 		Query query = query(where("jobExecutionId").is(jobExecution.getId()));
@@ -98,19 +131,57 @@ public class MongoExecutionContextDao implements ExecutionContextDao {
 
 	@Override
 	public void saveExecutionContexts(Collection<StepExecution> stepExecutions) {
+		if (stepExecutions.isEmpty()) {
+			return;
+		}
+		BulkOperations bulkOperations = this.mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED,
+				org.springframework.batch.core.repository.persistence.StepExecution.class,
+				STEP_EXECUTIONS_COLLECTION_NAME);
 		for (StepExecution stepExecution : stepExecutions) {
-			saveExecutionContext(stepExecution);
+			ExecutionContext executionContext = stepExecution.getExecutionContext();
+			Query query = query(where("stepExecutionId").is(stepExecution.getId()));
+			Update update = Update.update("executionContext",
+					new org.springframework.batch.core.repository.persistence.ExecutionContext(executionContext.toMap(),
+							executionContext.isDirty()));
+			bulkOperations.updateOne(query, update);
 		}
+		bulkOperations.execute();
 	}
 
 	@Override
 	public void updateExecutionContext(JobExecution jobExecution) {
+		ExecutionContext executionContext = jobExecution.getExecutionContext();
+		if (this.skipCleanContextUpdates && !executionContext.isDirty()) {
+			return;
+		}
+		if (!this.skipIdenticalContextUpdates) {
+			saveExecutionContext(jobExecution);
+			return;
+		}
+		Object fingerprint = fingerprint(executionContext);
+		if (this.jobExecutionContextFingerprints.isPersisted(jobExecution.getId(), fingerprint)) {
+			return;
+		}
 		saveExecutionContext(jobExecution);
+		this.jobExecutionContextFingerprints.persisted(jobExecution.getId(), fingerprint);
 	}
 
 	@Override
 	public void updateExecutionContext(StepExecution stepExecution) {
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		if (this.skipCleanContextUpdates && !executionContext.isDirty()) {
+			return;
+		}
+		if (!this.skipIdenticalContextUpdates) {
+			saveExecutionContext(stepExecution);
+			return;
+		}
+		Object fingerprint = fingerprint(executionContext);
+		if (this.stepExecutionContextFingerprints.isPersisted(stepExecution.getId(), fingerprint)) {
+			return;
+		}
 		saveExecutionContext(stepExecution);
+		this.stepExecutionContextFingerprints.persisted(stepExecution.getId(), fingerprint);
 	}
 
 	@Override
@@ -120,6 +191,7 @@ public class MongoExecutionContextDao implements ExecutionContextDao {
 				Collections.emptyMap(), false);
 		Update executionContextRemovalUpdate = new Update().set("executionContext", executionContext);
 		this.mongoOperations.updateFirst(query, executionContextRemovalUpdate, JOB_EXECUTIONS_COLLECTION_NAME);
+		this.jobExecutionContextFingerprints.evict(jobExecution.getId());
 	}
 
 	@Override
@@ -129,6 +201,25 @@ public class MongoExecutionContextDao implements ExecutionContextDao {
 				Collections.emptyMap(), false);
 		Update executionContextRemovalUpdate = new Update().set("executionContext", executionContext);
 		this.mongoOperations.updateFirst(query, executionContextRemovalUpdate, STEP_EXECUTIONS_COLLECTION_NAME);
+		this.stepExecutionContextFingerprints.evict(stepExecution.getId());
+	}
+
+	/**
+	 * Execution contexts are embedded in the job and step execution documents, so they
+	 * are deleted with them.
+	 * @since 6.1
+	 */
+	@Override
+	public void deleteExecutionContexts(Collection<Long> jobInstanceIds) {
+	}
+
+	/*
+	 * The converted form of the context is a deep copy, so values mutated in place after
+	 * an update are not mistaken for already persisted ones.
+	 */
+	private Object fingerprint(ExecutionContext executionContext) {
+		Object fingerprint = this.mongoOperations.getConverter().convertToMongoType(executionContext.toMap());
+		return fingerprint != null ? fingerprint : executionContext.toMap();
 	}
 
 }
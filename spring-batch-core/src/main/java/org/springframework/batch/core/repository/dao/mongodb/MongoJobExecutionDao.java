@@ -19,15 +19,20 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.bson.Document;
+
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
@@ -105,6 +110,19 @@ public class MongoJobExecutionDao implements JobExecutionDao {
 		return jobExecutions.stream().map(jobExecution -> convert(jobExecution, jobInstance)).toList();
 	}
 
+	@Override
+	public Map<Long, BatchStatus> getJobExecutionStatuses(JobInstance jobInstance) {
+		Query query = query(where("jobInstanceId").is(jobInstance.getId()))
+			.with(Sort.by(Sort.Direction.DESC, "jobExecutionId"));
+		query.fields().include("jobExecutionId", "status");
+		Map<Long, BatchStatus> statuses = new LinkedHashMap<>();
+		for (Document document : this.mongoOperations.find(query, Document.class, JOB_EXECUTIONS_COLLECTION_NAME)) {
+			statuses.put(((Number) document.get("jobExecutionId")).longValue(),
+					BatchStatus.valueOf(document.getString("status")));
+		}
+		return statuses;
+	}
+
 	@Override
 	public JobExecution getLastJobExecution(JobInstance jobInstance) {
 		Query query = query(where("jobInstanceId").is(jobInstance.getId()));
@@ -166,6 +184,11 @@ public class MongoJobExecutionDao implements JobExecutionDao {
 
 	}
 
+	@Override
+	public void deleteJobExecutions(Collection<Long> jobInstanceIds) {
+		this.mongoOperations.remove(query(where("jobInstanceId").in(jobInstanceIds)), JOB_EXECUTIONS_COLLECTION_NAME);
+	}
+
 	@Override
 	public void deleteJobExecutionParameters(JobExecution jobExecution) {
 		Query query = new Query(where("jobExecutionId").is(jobExecution.getId()));
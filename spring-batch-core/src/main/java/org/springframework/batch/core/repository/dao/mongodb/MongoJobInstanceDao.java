@@ -15,8 +15,12 @@
  */
 package org.springframework.batch.core.repository.dao.mongodb;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.springframework.batch.core.job.DefaultJobKeyGenerator;
 import org.springframework.batch.core.job.JobExecution;
@@ -24,6 +28,7 @@ import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.JobKeyGenerator;
 import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.launch.NoSuchJobException;
+import org.springframework.batch.core.repository.JobRetentionPolicy;
 import org.springframework.batch.core.repository.dao.JobInstanceDao;
 import org.springframework.batch.core.repository.persistence.converter.JobInstanceConverter;
 import org.springframework.data.domain.Sort;
@@ -46,6 +51,8 @@ public class MongoJobInstanceDao implements JobInstanceDao {
 
 	private static final String SEQUENCE_NAME = "BATCH_JOB_INSTANCE_SEQ";
 
+	private static final String JOB_EXECUTIONS_COLLECTION_NAME = "BATCH_JOB_EXECUTION";
+
 	private final MongoOperations mongoOperations;
 
 	private DataFieldMaxValueIncrementer jobInstanceIncrementer;
@@ -201,4 +208,86 @@ public class MongoJobInstanceDao implements JobInstanceDao {
 		this.mongoOperations.remove(query(where("jobInstanceId").is(jobInstance.getId())), COLLECTION_NAME);
 	}
 
+	@Override
+	public List<Long> getExpiredJobInstanceIds(String jobName, JobRetentionPolicy retentionPolicy, int count) {
+		Query candidatesQuery = query(where("jobName").is(jobName));
+		if (retentionPolicy.retainedInstances() > 0) {
+			Query retainedQuery = query(where("jobName").is(jobName)).with(Sort.by(Sort.Order.desc("jobInstanceId")))
+				.skip(retentionPolicy.retainedInstances() - 1);
+			org.springframework.batch.core.repository.persistence.JobInstance oldestRetainedInstance = this.mongoOperations
+				.findOne(retainedQuery, org.springframework.batch.core.repository.persistence.JobInstance.class,
+						COLLECTION_NAME);
+			if (oldestRetainedInstance == null) {
+				return Collections.emptyList();
+			}
+			candidatesQuery = query(
+					where("jobName").is(jobName).and("jobInstanceId").lt(oldestRetainedInstance.getJobInstanceId()));
+		}
+		candidatesQuery.with(Sort.by(Sort.Order.asc("jobInstanceId")));
+		candidatesQuery.fields().include("jobInstanceId");
+
+		List<Long> expiredJobInstanceIds = new ArrayList<>();
+		int start = 0;
+		while (expiredJobInstanceIds.size() < count) {
+			List<Long> jobInstanceIds = this.mongoOperations
+				.find(Query.of(candidatesQuery).skip(start).limit(count),
+						org.springframework.batch.core.repository.persistence.JobInstance.class, COLLECTION_NAME)
+				.stream()
+				.map(org.springframework.batch.core.repository.persistence.JobInstance::getJobInstanceId)
+				.toList();
+			if (jobInstanceIds.isEmpty()) {
+				break;
+			}
+			Map<Long, List<org.springframework.batch.core.repository.persistence.JobExecution>> jobExecutions = getJobExecutions(
+					jobInstanceIds);
+			for (Long jobInstanceId : jobInstanceIds) {
+				if (expiredJobInstanceIds.size() < count && isExpired(
+						jobExecutions.getOrDefault(jobInstanceId, Collections.emptyList()), retentionPolicy)) {
+					expiredJobInstanceIds.add(jobInstanceId);
+				}
+			}
+			start += jobInstanceIds.size();
+		}
+		return expiredJobInstanceIds;
+	}
+
+	@Override
+	public void deleteJobInstances(Collection<Long> jobInstanceIds) {
+		this.mongoOperations.remove(query(where("jobInstanceId").in(jobInstanceIds)), COLLECTION_NAME);
+	}
+
+	private Map<Long, List<org.springframework.batch.core.repository.persistence.JobExecution>> getJobExecutions(
+			Collection<Long> jobInstanceIds) {
+		Query query = query(where("jobInstanceId").in(jobInstanceIds));
+		query.fields().include("jobInstanceId", "status", "createTime");
+		return this.mongoOperations
+			.find(query, org.springframework.batch.core.repository.persistence.JobExecution.class,
+					JOB_EXECUTIONS_COLLECTION_NAME)
+			.stream()
+			.collect(Collectors
+				.groupingBy(org.springframework.batch.core.repository.persistence.JobExecution::getJobInstanceId));
+	}
+
+	/*
+	 * Same rules as JobRetentionPolicy#isExpired, applied to the persisted form of the
+	 * job executions.
+	 */
+	private static boolean isExpired(
+			List<org.springframework.batch.core.repository.persistence.JobExecution> jobExecutions,
+			JobRetentionPolicy retentionPolicy) {
+		if (retentionPolicy.cutoff() != null && jobExecutions.isEmpty()) {
+			return false;
+		}
+		for (org.springframework.batch.core.repository.persistence.JobExecution jobExecution : jobExecutions) {
+			if (jobExecution.getStatus() != null && jobExecution.getStatus().isRunning()) {
+				return false;
+			}
+			if (retentionPolicy.cutoff() != null && (jobExecution.getCreateTime() == null
+					|| !jobExecution.getCreateTime().isBefore(retentionPolicy.cutoff()))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 }
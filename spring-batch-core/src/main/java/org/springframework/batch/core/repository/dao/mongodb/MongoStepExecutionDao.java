@@ -15,13 +15,20 @@
  */
 package org.springframework.batch.core.repository.dao.mongodb;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.bson.Document;
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.core.step.StepExecutionSummary;
 import org.springframework.batch.core.repository.dao.StepExecutionDao;
 import org.springframework.batch.core.repository.persistence.converter.JobExecutionConverter;
 import org.springframework.batch.core.repository.persistence.converter.StepExecutionConverter;
@@ -80,6 +87,24 @@ public class MongoStepExecutionDao implements StepExecutionDao {
 		return stepExecution;
 	}
 
+	@Override
+	public List<StepExecution> createStepExecutions(Collection<String> stepNames, JobExecution jobExecution) {
+		List<StepExecution> stepExecutions = new ArrayList<>(stepNames.size());
+		List<org.springframework.batch.core.repository.persistence.StepExecution> stepExecutionsToSave = new ArrayList<>(
+				stepNames.size());
+		for (String stepName : stepNames) {
+			long id = stepExecutionIncrementer.nextLongValue();
+			StepExecution stepExecution = new StepExecution(id, stepName, jobExecution);
+			stepExecutions.add(stepExecution);
+			stepExecutionsToSave.add(this.stepExecutionConverter.fromStepExecution(stepExecution));
+		}
+		if (!stepExecutionsToSave.isEmpty()) {
+			this.mongoOperations.insert(stepExecutionsToSave, STEP_EXECUTIONS_COLLECTION_NAME);
+		}
+
+		return stepExecutions;
+	}
+
 	@Override
 	public void updateStepExecution(StepExecution stepExecution) {
 		Query query = query(where("stepExecutionId").is(stepExecution.getId()));
@@ -151,6 +176,56 @@ public class MongoStepExecutionDao implements StepExecutionDao {
 		return this.stepExecutionConverter.toStepExecution(lastStepExecution, jobExecution);
 	}
 
+	@Override
+	public Map<Long, BatchStatus> getStepExecutionStatuses(Collection<Long> stepExecutionIds) {
+		Map<Long, BatchStatus> statuses = new HashMap<>();
+		if (stepExecutionIds.isEmpty()) {
+			return statuses;
+		}
+		Query query = query(where("stepExecutionId").in(stepExecutionIds));
+		query.fields().include("stepExecutionId", "status");
+		for (Document document : this.mongoOperations.find(query, Document.class, STEP_EXECUTIONS_COLLECTION_NAME)) {
+			statuses.put(((Number) document.get("stepExecutionId")).longValue(),
+					BatchStatus.valueOf(document.getString("status")));
+		}
+		return statuses;
+	}
+
+	@Override
+	public Map<String, StepExecution> getLastStepExecutions(JobInstance jobInstance, Collection<String> stepNames) {
+		Map<String, StepExecution> stepExecutions = new HashMap<>();
+		Query jobExecutionsQuery = query(where("jobInstanceId").is(jobInstance.getId()));
+		List<org.springframework.batch.core.repository.persistence.JobExecution> jobExecutions = this.mongoOperations
+			.find(jobExecutionsQuery, org.springframework.batch.core.repository.persistence.JobExecution.class,
+					JOB_EXECUTIONS_COLLECTION_NAME);
+		if (jobExecutions.isEmpty() || stepNames.isEmpty()) {
+			return stepExecutions;
+		}
+		List<Long> jobExecutionIds = jobExecutions.stream()
+			.map(org.springframework.batch.core.repository.persistence.JobExecution::getJobExecutionId)
+			.toList();
+		// sorted from the most recent (see contract), keep the first one of each step
+		Query stepExecutionsQuery = query(where("jobExecutionId").in(jobExecutionIds).and("name").in(stepNames))
+			.with(Sort.by(Sort.Direction.DESC, "createTime", "stepExecutionId"));
+		List<org.springframework.batch.core.repository.persistence.StepExecution> lastStepExecutions = this.mongoOperations
+			.find(stepExecutionsQuery, org.springframework.batch.core.repository.persistence.StepExecution.class,
+					STEP_EXECUTIONS_COLLECTION_NAME);
+		Map<Long, JobExecution> convertedJobExecutions = new HashMap<>();
+		for (org.springframework.batch.core.repository.persistence.StepExecution lastStepExecution : lastStepExecutions) {
+			if (stepExecutions.containsKey(lastStepExecution.getName())) {
+				continue;
+			}
+			JobExecution jobExecution = convertedJobExecutions.computeIfAbsent(lastStepExecution.getJobExecutionId(),
+					jobExecutionId -> this.jobExecutionConverter.toJobExecution(jobExecutions.stream()
+						.filter(execution -> execution.getJobExecutionId() == jobExecutionId)
+						.findFirst()
+						.get(), jobInstance));
+			stepExecutions.put(lastStepExecution.getName(),
+					this.stepExecutionConverter.toStepExecution(lastStepExecution, jobExecution));
+		}
+		return stepExecutions;
+	}
+
 	/**
 	 * Retrieve all {@link StepExecution}s for a given {@link JobExecution}.
 	 * @param jobExecution the parent {@link JobExecution}
@@ -185,10 +260,67 @@ public class MongoStepExecutionDao implements StepExecutionDao {
 				STEP_EXECUTIONS_COLLECTION_NAME);
 	}
 
+	@Override
+	public Map<String, StepExecutionSummary> getStepExecutionSummaries(JobInstance jobInstance) {
+		Map<String, StepExecutionSummary> summaries = new HashMap<>();
+		Query jobExecutionsQuery = query(where("jobInstanceId").is(jobInstance.getId()));
+		List<org.springframework.batch.core.repository.persistence.JobExecution> jobExecutions = this.mongoOperations
+			.find(jobExecutionsQuery, org.springframework.batch.core.repository.persistence.JobExecution.class,
+					JOB_EXECUTIONS_COLLECTION_NAME);
+		if (jobExecutions.isEmpty()) {
+			return summaries;
+		}
+		List<Long> jobExecutionIds = jobExecutions.stream()
+			.map(org.springframework.batch.core.repository.persistence.JobExecution::getJobExecutionId)
+			.toList();
+		// sorted from the most recent, keep the first one of each step and count the
+		// others
+		Query stepExecutionsQuery = query(where("jobExecutionId").in(jobExecutionIds))
+			.with(Sort.by(Sort.Direction.DESC, "createTime", "stepExecutionId"));
+		List<org.springframework.batch.core.repository.persistence.StepExecution> stepExecutions = this.mongoOperations
+			.find(stepExecutionsQuery, org.springframework.batch.core.repository.persistence.StepExecution.class,
+					STEP_EXECUTIONS_COLLECTION_NAME);
+		Map<String, org.springframework.batch.core.repository.persistence.StepExecution> lastStepExecutions = new HashMap<>();
+		Map<String, Long> executionCounts = new HashMap<>();
+		for (org.springframework.batch.core.repository.persistence.StepExecution stepExecution : stepExecutions) {
+			lastStepExecutions.putIfAbsent(stepExecution.getName(), stepExecution);
+			executionCounts.merge(stepExecution.getName(), 1L, Long::sum);
+		}
+		Map<Long, JobExecution> convertedJobExecutions = new HashMap<>();
+		lastStepExecutions.forEach((stepName, lastStepExecution) -> {
+			JobExecution jobExecution = convertedJobExecutions.computeIfAbsent(lastStepExecution.getJobExecutionId(),
+					jobExecutionId -> this.jobExecutionConverter.toJobExecution(jobExecutions.stream()
+						.filter(execution -> execution.getJobExecutionId() == jobExecutionId)
+						.findFirst()
+						.get(), jobInstance));
+			summaries.put(stepName,
+					new StepExecutionSummary(
+							this.stepExecutionConverter.toStepExecution(lastStepExecution, jobExecution),
+							executionCounts.get(stepName)));
+		});
+		return summaries;
+	}
+
 	@Override
 	public void deleteStepExecution(StepExecution stepExecution) {
 		this.mongoOperations.remove(query(where("stepExecutionId").is(stepExecution.getId())),
 				STEP_EXECUTIONS_COLLECTION_NAME);
 	}
 
+	@Override
+	public void deleteStepExecutions(Collection<Long> jobInstanceIds) {
+		Query jobExecutionsQuery = query(where("jobInstanceId").in(jobInstanceIds));
+		jobExecutionsQuery.fields().include("jobExecutionId");
+		List<Long> jobExecutionIds = this.mongoOperations
+			.find(jobExecutionsQuery, org.springframework.batch.core.repository.persistence.JobExecution.class,
+					JOB_EXECUTIONS_COLLECTION_NAME)
+			.stream()
+			.map(org.springframework.batch.core.repository.persistence.JobExecution::getJobExecutionId)
+			.toList();
+		if (!jobExecutionIds.isEmpty()) {
+			this.mongoOperations.remove(query(where("jobExecutionId").in(jobExecutionIds)),
+					STEP_EXECUTIONS_COLLECTION_NAME);
+		}
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2025 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 package org.springframework.batch.core.repository.support;
 
 import org.springframework.batch.core.repository.ExecutionContextSerializer;
+import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.repository.dao.AbstractJdbcBatchMetadataDao;
 import org.springframework.batch.core.repository.dao.DefaultExecutionContextSerializer;
 import org.springframework.batch.core.repository.dao.jdbc.JdbcExecutionContextDao;
@@ -152,6 +153,18 @@ public class JdbcJobRepositoryFactoryBean extends JobRepositoryFactoryBean {
 		super.setTablePrefix(tablePrefix);
 	}
 
+	/**
+	 * Sets the table prefix of the tables to which job instances are copied before being
+	 * deleted by {@link JobRepository#deleteJobInstances}. Defaults to {@code null}, in
+	 * which case job instances are not archived.
+	 * @param archiveTablePrefix prefix prepended to the archive tables
+	 * @since 6.1
+	 */
+	@Override
+	public void setArchiveTablePrefix(String archiveTablePrefix) {
+		super.setArchiveTablePrefix(archiveTablePrefix);
+	}
+
 	/**
 	 * Sets the job instance incrementer name.
 	 * @param jobInstanceIncrementerName job instance incrementer name
@@ -207,6 +220,32 @@ public class JdbcJobRepositoryFactoryBean extends JobRepositoryFactoryBean {
 		super.setConversionService(conversionService);
 	}
 
+	/**
+	 * Whether updates of execution contexts that are not dirty should be skipped. Only
+	 * enable this if the values of the execution contexts are never mutated in place.
+	 * Defaults to {@code false}.
+	 * @param skipCleanContextUpdates true to skip updates of clean execution contexts
+	 * @see JdbcExecutionContextDao#setSkipCleanContextUpdates(boolean)
+	 * @since 6.1
+	 */
+	@Override
+	public void setSkipCleanContextUpdates(boolean skipCleanContextUpdates) {
+		super.setSkipCleanContextUpdates(skipCleanContextUpdates);
+	}
+
+	/**
+	 * Whether updates of execution contexts whose content is identical to the one last
+	 * written should be skipped. Defaults to {@code false}.
+	 * @param skipIdenticalContextUpdates true to skip updates of unchanged execution
+	 * contexts
+	 * @see JdbcExecutionContextDao#setSkipIdenticalContextUpdates(boolean)
+	 * @since 6.1
+	 */
+	@Override
+	public void setSkipIdenticalContextUpdates(boolean skipIdenticalContextUpdates) {
+		super.setSkipIdenticalContextUpdates(skipIdenticalContextUpdates);
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		super.afterPropertiesSet();
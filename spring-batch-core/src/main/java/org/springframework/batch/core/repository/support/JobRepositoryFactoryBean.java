@@ -29,6 +29,7 @@ import org.springframework.batch.core.converter.StringToLocalDateConverter;
 import org.springframework.batch.core.converter.StringToLocalDateTimeConverter;
 import org.springframework.batch.core.converter.StringToLocalTimeConverter;
 import org.springframework.batch.core.repository.ExecutionContextSerializer;
+import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.repository.dao.AbstractJdbcBatchMetadataDao;
 import org.springframework.batch.core.repository.dao.DefaultExecutionContextSerializer;
 import org.springframework.batch.core.repository.dao.jdbc.JdbcExecutionContextDao;
@@ -100,6 +101,8 @@ public class JobRepositoryFactoryBean extends AbstractJobRepositoryFactoryBean i
 
 	protected String tablePrefix = AbstractJdbcBatchMetadataDao.DEFAULT_TABLE_PREFIX;
 
+	protected String archiveTablePrefix;
+
 	protected String jobInstanceIncrementerName = AbstractJdbcBatchMetadataDao.DEFAULT_JOB_INSTANCE_INCREMENTER_NAME;
 
 	protected String jobExecutionIncrementerName = AbstractJdbcBatchMetadataDao.DEFAULT_JOB_EXECUTION_INCREMENTER_NAME;
@@ -120,6 +123,10 @@ public class JobRepositoryFactoryBean extends AbstractJobRepositoryFactoryBean i
 
 	protected ConfigurableConversionService conversionService;
 
+	protected boolean skipCleanContextUpdates = false;
+
+	protected boolean skipIdenticalContextUpdates = false;
+
 	protected Object getTarget() throws Exception {
 		JdbcJobInstanceDao jobInstanceDao = createJobInstanceDao();
 		JdbcJobExecutionDao jobExecutionDao = createJobExecutionDao();
@@ -226,6 +233,17 @@ public class JobRepositoryFactoryBean extends AbstractJobRepositoryFactoryBean i
 		this.tablePrefix = tablePrefix;
 	}
 
+	/**
+	 * Sets the table prefix of the tables to which job instances are copied before being
+	 * deleted by {@link JobRepository#deleteJobInstances}. Defaults to {@code null}, in
+	 * which case job instances are not archived.
+	 * @param archiveTablePrefix prefix prepended to the archive tables
+	 * @since 6.1
+	 */
+	public void setArchiveTablePrefix(String archiveTablePrefix) {
+		this.archiveTablePrefix = archiveTablePrefix;
+	}
+
 	/**
 	 * Sets the job instance incrementer name.
 	 * @param jobInstanceIncrementerName job instance incrementer name
@@ -277,6 +295,30 @@ public class JobRepositoryFactoryBean extends AbstractJobRepositoryFactoryBean i
 		this.conversionService = conversionService;
 	}
 
+	/**
+	 * Whether updates of execution contexts that are not dirty should be skipped. Only
+	 * enable this if the values of the execution contexts are never mutated in place.
+	 * Defaults to {@code false}.
+	 * @param skipCleanContextUpdates true to skip updates of clean execution contexts
+	 * @see JdbcExecutionContextDao#setSkipCleanContextUpdates(boolean)
+	 * @since 6.1
+	 */
+	public void setSkipCleanContextUpdates(boolean skipCleanContextUpdates) {
+		this.skipCleanContextUpdates = skipCleanContextUpdates;
+	}
+
+	/**
+	 * Whether updates of execution contexts whose content is identical to the one last
+	 * written should be skipped. Defaults to {@code false}.
+	 * @param skipIdenticalContextUpdates true to skip updates of unchanged execution
+	 * contexts
+	 * @see JdbcExecutionContextDao#setSkipIdenticalContextUpdates(boolean)
+	 * @since 6.1
+	 */
+	public void setSkipIdenticalContextUpdates(boolean skipIdenticalContextUpdates) {
+		this.skipIdenticalContextUpdates = skipIdenticalContextUpdates;
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 
@@ -344,6 +386,7 @@ public class JobRepositoryFactoryBean extends AbstractJobRepositoryFactoryBean i
 				incrementerFactory.getIncrementer(databaseType, tablePrefix + jobInstanceIncrementerName));
 		dao.setJobKeyGenerator(jobKeyGenerator);
 		dao.setTablePrefix(tablePrefix);
+		dao.setArchiveTablePrefix(archiveTablePrefix);
 		return dao;
 	}
 
@@ -354,6 +397,7 @@ public class JobRepositoryFactoryBean extends AbstractJobRepositoryFactoryBean i
 		dao.setJobExecutionIncrementer(
 				incrementerFactory.getIncrementer(databaseType, tablePrefix + jobExecutionIncrementerName));
 		dao.setTablePrefix(tablePrefix);
+		dao.setArchiveTablePrefix(archiveTablePrefix);
 		dao.setClobTypeToUse(determineClobTypeToUse(this.databaseType));
 		dao.setExitMessageLength(this.maxVarCharLengthForExitMessage);
 		dao.setConversionService(this.conversionService);
@@ -367,6 +411,7 @@ public class JobRepositoryFactoryBean extends AbstractJobRepositoryFactoryBean i
 		dao.setStepExecutionIncrementer(
 				incrementerFactory.getIncrementer(databaseType, tablePrefix + stepExecutionIncrementerName));
 		dao.setTablePrefix(tablePrefix);
+		dao.setArchiveTablePrefix(archiveTablePrefix);
 		dao.setClobTypeToUse(determineClobTypeToUse(this.databaseType));
 		dao.setExitMessageLength(this.maxVarCharLengthForExitMessage);
 		return dao;
@@ -377,10 +422,13 @@ public class JobRepositoryFactoryBean extends AbstractJobRepositoryFactoryBean i
 		JdbcExecutionContextDao dao = new JdbcExecutionContextDao();
 		dao.setJdbcTemplate(jdbcOperations);
 		dao.setTablePrefix(tablePrefix);
+		dao.setArchiveTablePrefix(archiveTablePrefix);
 		dao.setClobTypeToUse(determineClobTypeToUse(this.databaseType));
 		dao.setSerializer(serializer);
 		dao.setCharset(charset);
 		dao.setShortContextLength(this.maxVarCharLengthForShortContext);
+		dao.setSkipCleanContextUpdates(this.skipCleanContextUpdates);
+		dao.setSkipIdenticalContextUpdates(this.skipIdenticalContextUpdates);
 		return dao;
 	}
 
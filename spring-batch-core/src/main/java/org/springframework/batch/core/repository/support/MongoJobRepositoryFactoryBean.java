@@ -49,6 +49,10 @@ public class MongoJobRepositoryFactoryBean extends AbstractJobRepositoryFactoryB
 
 	private @Nullable DataFieldMaxValueIncrementer stepExecutionIncrementer;
 
+	private boolean skipCleanContextUpdates = false;
+
+	private boolean skipIdenticalContextUpdates = false;
+
 	public void setMongoOperations(MongoOperations mongoOperations) {
 		this.mongoOperations = mongoOperations;
 	}
@@ -65,6 +69,30 @@ public class MongoJobRepositoryFactoryBean extends AbstractJobRepositoryFactoryB
 		this.stepExecutionIncrementer = stepExecutionIncrementer;
 	}
 
+	/**
+	 * Whether updates of execution contexts that are not dirty should be skipped. Only
+	 * enable this if the values of the execution contexts are never mutated in place.
+	 * Defaults to {@code false}.
+	 * @param skipCleanContextUpdates true to skip updates of clean execution contexts
+	 * @see MongoExecutionContextDao#setSkipCleanContextUpdates(boolean)
+	 * @since 6.1
+	 */
+	public void setSkipCleanContextUpdates(boolean skipCleanContextUpdates) {
+		this.skipCleanContextUpdates = skipCleanContextUpdates;
+	}
+
+	/**
+	 * Whether updates of execution contexts whose content is identical to the one last
+	 * written should be skipped. Defaults to {@code false}.
+	 * @param skipIdenticalContextUpdates true to skip updates of unchanged execution
+	 * contexts
+	 * @see MongoExecutionContextDao#setSkipIdenticalContextUpdates(boolean)
+	 * @since 6.1
+	 */
+	public void setSkipIdenticalContextUpdates(boolean skipIdenticalContextUpdates) {
+		this.skipIdenticalContextUpdates = skipIdenticalContextUpdates;
+	}
+
 	@Override
 	protected Object getTarget() throws Exception {
 		MongoJobInstanceDao jobInstanceDao = createJobInstanceDao();
@@ -100,7 +128,10 @@ public class MongoJobRepositoryFactoryBean extends AbstractJobRepositoryFactoryB
 
 	@Override
 	protected MongoExecutionContextDao createExecutionContextDao() {
-		return new MongoExecutionContextDao(this.mongoOperations);
+		MongoExecutionContextDao mongoExecutionContextDao = new MongoExecutionContextDao(this.mongoOperations);
+		mongoExecutionContextDao.setSkipCleanContextUpdates(this.skipCleanContextUpdates);
+		mongoExecutionContextDao.setSkipIdenticalContextUpdates(this.skipIdenticalContextUpdates);
+		return mongoExecutionContextDao;
 	}
 
 	@Override
@@ -32,6 +32,7 @@ import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.batch.core.step.StepExecution;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.infrastructure.support.transaction.ResourcelessTransactionManager;
+import org.springframework.util.Assert;
 
 /**
  * A {@link JobRepository} implementation that does not use or store batch meta-data. It
@@ -172,6 +173,7 @@ public class ResourcelessJobRepository implements JobRepository {
 
 	@Override
 	public JobInstance createJobInstance(String jobName, JobParameters jobParameters) {
+		Assert.state(getJobInstance(jobName, jobParameters) == null, "JobInstance must not already exist");
 		this.jobInstance = new JobInstance(1L, jobName);
 		return this.jobInstance;
 	}
@@ -25,8 +25,10 @@ import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.core.step.StepExecutionSummary;
 import org.springframework.batch.core.repository.explore.support.SimpleJobExplorer;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.JobRetentionPolicy;
 import org.springframework.batch.core.repository.dao.ExecutionContextDao;
 import org.springframework.batch.core.repository.dao.JobExecutionDao;
 import org.springframework.batch.core.repository.dao.JobInstanceDao;
@@ -35,7 +37,11 @@ import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.util.Assert;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  *
@@ -93,6 +99,65 @@ public class SimpleJobRepository extends SimpleJobExplorer implements JobReposit
 		return stepExecution;
 	}
 
+	@Override
+	public Map<Long, BatchStatus> getJobExecutionStatuses(JobInstance jobInstance) {
+		return this.jobExecutionDao.getJobExecutionStatuses(jobInstance);
+	}
+
+	@Override
+	public Map<Long, BatchStatus> getStepExecutionStatuses(Collection<Long> stepExecutionIds) {
+		return this.stepExecutionDao.getStepExecutionStatuses(stepExecutionIds);
+	}
+
+	/**
+	 * Retrieve the step execution summaries from the step execution DAO, or from the job
+	 * executions of the instance if the DAO does not support it.
+	 * @since 6.1
+	 */
+	@Override
+	public Map<String, StepExecutionSummary> getStepExecutionSummaries(JobInstance jobInstance) {
+		try {
+			return this.stepExecutionDao.getStepExecutionSummaries(jobInstance);
+		}
+		catch (UnsupportedOperationException e) {
+			return JobRepository.super.getStepExecutionSummaries(jobInstance);
+		}
+	}
+
+	/**
+	 * Retrieve the execution context of the step execution only, without its job
+	 * execution.
+	 * @since 6.1
+	 */
+	@Override
+	public ExecutionContext getExecutionContext(StepExecution stepExecution) {
+		return this.ecDao.getExecutionContext(stepExecution);
+	}
+
+	/**
+	 * Retrieve the last step executions with a single lookup for the step executions and
+	 * one for their execution contexts. The execution context of each distinct job
+	 * execution is retrieved once.
+	 * @since 6.1
+	 */
+	@Override
+	public Map<String, StepExecution> getLastStepExecutions(JobInstance jobInstance, Collection<String> stepNames) {
+		Map<String, StepExecution> stepExecutions = this.stepExecutionDao.getLastStepExecutions(jobInstance, stepNames);
+		if (stepExecutions.isEmpty()) {
+			return stepExecutions;
+		}
+		Map<Long, ExecutionContext> executionContexts = this.ecDao.getExecutionContexts(stepExecutions.values());
+		Map<Long, ExecutionContext> jobExecutionContexts = new HashMap<>();
+		for (StepExecution stepExecution : stepExecutions.values()) {
+			ExecutionContext executionContext = executionContexts.get(stepExecution.getId());
+			stepExecution.setExecutionContext(executionContext != null ? executionContext : new ExecutionContext());
+			JobExecution jobExecution = stepExecution.getJobExecution();
+			jobExecution.setExecutionContext(jobExecutionContexts.computeIfAbsent(jobExecution.getId(),
+					id -> this.ecDao.getExecutionContext(jobExecution)));
+		}
+		return stepExecutions;
+	}
+
 	/**
 	 * Create a new {@link JobExecution} for the given {@link JobInstance} and
 	 * {@link JobParameters}, and associate the provided {@link ExecutionContext} with the
@@ -136,6 +201,34 @@ public class SimpleJobRepository extends SimpleJobExplorer implements JobReposit
 		return stepExecution;
 	}
 
+	/**
+	 * Create the step executions in bulk and persist their execution contexts in a single
+	 * batch, then add them to the {@link JobExecution}.
+	 * @param executionContexts the execution contexts of the step executions to create
+	 * keyed by step name
+	 * @param jobExecution the job execution to which the step executions belong
+	 * @return the new step executions
+	 * @since 6.1
+	 */
+	@Override
+	public List<StepExecution> createStepExecutions(Map<String, ExecutionContext> executionContexts,
+			JobExecution jobExecution) {
+		Assert.notNull(jobExecution, "JobExecution must not be null.");
+		Assert.notNull(executionContexts, "Execution contexts must not be null.");
+
+		List<String> stepNames = new ArrayList<>(executionContexts.keySet());
+		List<StepExecution> stepExecutions = this.stepExecutionDao.createStepExecutions(stepNames, jobExecution);
+		for (StepExecution stepExecution : stepExecutions) {
+			stepExecution.setExecutionContext(executionContexts.get(stepExecution.getStepName()));
+		}
+		this.ecDao.saveExecutionContexts(stepExecutions);
+		for (StepExecution stepExecution : stepExecutions) {
+			jobExecution.addStepExecution(stepExecution);
+		}
+
+		return stepExecutions;
+	}
+
 	@Override
 	public void update(JobExecution jobExecution) {
 
@@ -185,6 +278,22 @@ public class SimpleJobRepository extends SimpleJobExplorer implements JobReposit
 		stepExecution.getExecutionContext().clearDirtyFlag();
 	}
 
+	@Override
+	public void updateWithExecutionContext(StepExecution stepExecution) {
+		validateStepExecution(stepExecution);
+		Assert.notNull(stepExecution.getId(), "StepExecution must already be saved (have an id assigned)");
+		this.ecDao.updateExecutionContext(stepExecution);
+		stepExecution.getExecutionContext().clearDirtyFlag();
+
+		stepExecution.setLastUpdated(LocalDateTime.now());
+		// Fast path: the version checks of the step execution and its job execution are
+		// done with the update itself. If one of them changed (for example, the job
+		// execution is being stopped), fall back to the regular update.
+		if (!this.stepExecutionDao.updateStepExecutionIfJobExecutionUnchanged(stepExecution)) {
+			update(stepExecution);
+		}
+	}
+
 	@Override
 	public void updateExecutionContext(JobExecution jobExecution) {
 		ecDao.updateExecutionContext(jobExecution);
@@ -216,6 +325,31 @@ public class SimpleJobRepository extends SimpleJobExplorer implements JobReposit
 		this.jobInstanceDao.deleteJobInstance(jobInstance);
 	}
 
+	/**
+	 * Delete expired job instances with one set-based statement per table, child tables
+	 * first. Job instances are archived before being deleted, parent tables first, if the
+	 * DAOs are configured to do so.
+	 */
+	@Override
+	public int deleteJobInstances(String jobName, JobRetentionPolicy retentionPolicy, int count) {
+		Assert.hasLength(jobName, "jobName must not be null or empty");
+		Assert.notNull(retentionPolicy, "retentionPolicy must not be null");
+		Assert.isTrue(count > 0, "count must be positive");
+		List<Long> jobInstanceIds = this.jobInstanceDao.getExpiredJobInstanceIds(jobName, retentionPolicy, count);
+		if (jobInstanceIds.isEmpty()) {
+			return 0;
+		}
+		this.jobInstanceDao.archiveJobInstances(jobInstanceIds);
+		this.jobExecutionDao.archiveJobExecutions(jobInstanceIds);
+		this.stepExecutionDao.archiveStepExecutions(jobInstanceIds);
+		this.ecDao.archiveExecutionContexts(jobInstanceIds);
+		this.ecDao.deleteExecutionContexts(jobInstanceIds);
+		this.stepExecutionDao.deleteStepExecutions(jobInstanceIds);
+		this.jobExecutionDao.deleteJobExecutions(jobInstanceIds);
+		this.jobInstanceDao.deleteJobInstances(jobInstanceIds);
+		return jobInstanceIds.size();
+	}
+
 	@Override
 	public JobInstance createJobInstance(String jobName, JobParameters jobParameters) {
 		Assert.notNull(jobName, "A job name is required to create a JobInstance");
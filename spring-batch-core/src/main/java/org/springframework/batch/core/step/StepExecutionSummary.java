@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.step;
+
+import org.springframework.util.Assert;
+
+/**
+ * Execution history of a step within a job instance: its last execution and the number of
+ * times it was executed. This is what is needed to decide whether a step should be
+ * started, so the last execution might not hold its execution context, nor the execution
+ * context of its job execution.
+ *
+ * @param lastStepExecution the last execution of the step, ordered by creation time and
+ * then id
+ * @param executionCount the number of executions of the step
+ * @since 6.1
+ */
+public record StepExecutionSummary(StepExecution lastStepExecution, long executionCount) {
+
+	/**
+	 * Create a new {@link StepExecutionSummary}.
+	 * @param lastStepExecution the last execution of the step. Must not be {@code null}.
+	 * @param executionCount the number of executions of the step. Must be positive.
+	 */
+	public StepExecutionSummary {
+		Assert.notNull(lastStepExecution, "lastStepExecution must not be null");
+		Assert.isTrue(executionCount > 0, "executionCount must be positive");
+	}
+
+}
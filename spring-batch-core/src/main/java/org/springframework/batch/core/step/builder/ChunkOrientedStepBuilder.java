@@ -21,6 +21,7 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.observation.ObservationRegistry;
 import org.jspecify.annotations.Nullable;
 
@@ -44,6 +45,7 @@ import org.springframework.batch.core.listener.SkipListener;
 import org.springframework.batch.core.listener.StepExecutionListener;
 import org.springframework.batch.core.listener.StepListener;
 import org.springframework.batch.core.listener.StepListenerFactoryBean;
+import org.springframework.batch.core.observability.InstrumentationLevel;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.StepInterruptionPolicy;
 import org.springframework.batch.core.step.ThreadStepInterruptionPolicy;
@@ -61,6 +63,7 @@ import org.springframework.batch.infrastructure.support.transaction.Resourceless
 import org.springframework.core.retry.RetryListener;
 import org.springframework.core.retry.RetryPolicy;
 import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.interceptor.DefaultTransactionAttribute;
 import org.springframework.transaction.interceptor.TransactionAttribute;
@@ -115,8 +118,18 @@ public class ChunkOrientedStepBuilder<I, O> extends StepBuilderHelper<ChunkOrien
 
 	private @Nullable AsyncTaskExecutor asyncTaskExecutor;
 
+	private int pipelineDepth = 0;
+
+	private @Nullable TaskExecutor pipelineTaskExecutor;
+
 	private @Nullable ObservationRegistry observationRegistry;
 
+	private InstrumentationLevel instrumentationLevel = InstrumentationLevel.FULL;
+
+	private @Nullable Integer instrumentationSamplingRate;
+
+	private @Nullable MeterRegistry meterRegistry;
+
 	ChunkOrientedStepBuilder(StepBuilderHelper<?> parent, int chunkSize) {
 		super(parent);
 		this.chunkSize = chunkSize;
@@ -385,6 +398,36 @@ public class ChunkOrientedStepBuilder<I, O> extends StepBuilderHelper<ChunkOrien
 		return self();
 	}
 
+	/**
+	 * Enable pipelined chunk processing, where the next chunks are read and processed on
+	 * a separate thread while the current chunk is being written and committed. Since
+	 * items are read outside the chunk transaction, this mode should only be used with
+	 * non-transactional item readers.
+	 * @param pipelineDepth the maximum number of read and processed chunks waiting to be
+	 * written, must be positive
+	 * @return this for fluent chaining
+	 * @since 6.1
+	 * @see ChunkOrientedStep#setPipelineDepth(int)
+	 */
+	public ChunkOrientedStepBuilder<I, O> pipelineDepth(int pipelineDepth) {
+		Assert.isTrue(pipelineDepth > 0, "pipelineDepth must be positive");
+		this.pipelineDepth = pipelineDepth;
+		return self();
+	}
+
+	/**
+	 * Set the task executor used to run the read and process stage in pipelined mode. If
+	 * not set, a {@link org.springframework.core.task.SimpleAsyncTaskExecutor} is used.
+	 * @param pipelineTaskExecutor the task executor to use
+	 * @return this for fluent chaining
+	 * @since 6.1
+	 * @see #pipelineDepth(int)
+	 */
+	public ChunkOrientedStepBuilder<I, O> pipelineTaskExecutor(TaskExecutor pipelineTaskExecutor) {
+		this.pipelineTaskExecutor = pipelineTaskExecutor;
+		return self();
+	}
+
 	/**
 	 * Set the observation registry to be used for collecting metrics during step
 	 * execution. This allows for monitoring and analyzing the performance of the step. If
@@ -397,6 +440,46 @@ public class ChunkOrientedStepBuilder<I, O> extends StepBuilderHelper<ChunkOrien
 		return self();
 	}
 
+	/**
+	 * Set the level of instrumentation applied to items and chunks. Defaults to
+	 * {@link InstrumentationLevel#FULL}, which creates an observation and a JFR event for
+	 * every item. For steps processing a large number of items, consider using
+	 * {@link InstrumentationLevel#SAMPLED} or {@link InstrumentationLevel#CHUNK}.
+	 * @param instrumentationLevel the instrumentation level to use
+	 * @return this for fluent chaining
+	 * @since 6.1
+	 */
+	public ChunkOrientedStepBuilder<I, O> instrumentationLevel(InstrumentationLevel instrumentationLevel) {
+		this.instrumentationLevel = instrumentationLevel;
+		return self();
+	}
+
+	/**
+	 * Set the sampling rate used with {@link InstrumentationLevel#SAMPLED}: one item out
+	 * of {@code instrumentationSamplingRate} is instrumented. Defaults to 100.
+	 * @param instrumentationSamplingRate the sampling rate to use, must be positive
+	 * @return this for fluent chaining
+	 * @since 6.1
+	 */
+	public ChunkOrientedStepBuilder<I, O> instrumentationSamplingRate(int instrumentationSamplingRate) {
+		Assert.isTrue(instrumentationSamplingRate > 0, "instrumentationSamplingRate must be positive");
+		this.instrumentationSamplingRate = instrumentationSamplingRate;
+		return self();
+	}
+
+	/**
+	 * Set the meter registry in which chunk level meters are registered when using
+	 * {@link InstrumentationLevel#CHUNK}. If not set, it will default to
+	 * {@link io.micrometer.core.instrument.Metrics#globalRegistry}.
+	 * @param meterRegistry the meter registry to use
+	 * @return this for fluent chaining
+	 * @since 6.1
+	 */
+	public ChunkOrientedStepBuilder<I, O> meterRegistry(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+		return self();
+	}
+
 	public ChunkOrientedStep<I, O> build() {
 		Assert.notNull(this.reader, "Item reader must not be null");
 		Assert.notNull(this.writer, "Item writer must not be null");
@@ -440,6 +523,10 @@ public class ChunkOrientedStepBuilder<I, O> extends StepBuilderHelper<ChunkOrien
 		if (this.asyncTaskExecutor != null) {
 			chunkOrientedStep.setTaskExecutor(this.asyncTaskExecutor);
 		}
+		chunkOrientedStep.setPipelineDepth(this.pipelineDepth);
+		if (this.pipelineTaskExecutor != null) {
+			chunkOrientedStep.setPipelineTaskExecutor(this.pipelineTaskExecutor);
+		}
 		streams.forEach(chunkOrientedStep::registerItemStream);
 		stepListeners.forEach(stepListener -> registerTypedListener(stepListener, chunkOrientedStep));
 		properties.getStepExecutionListeners()
@@ -449,6 +536,13 @@ public class ChunkOrientedStepBuilder<I, O> extends StepBuilderHelper<ChunkOrien
 		if (this.observationRegistry != null) {
 			chunkOrientedStep.setObservationRegistry(this.observationRegistry);
 		}
+		chunkOrientedStep.setInstrumentationLevel(this.instrumentationLevel);
+		if (this.instrumentationSamplingRate != null) {
+			chunkOrientedStep.setInstrumentationSamplingRate(this.instrumentationSamplingRate);
+		}
+		if (this.meterRegistry != null) {
+			chunkOrientedStep.setMeterRegistry(this.meterRegistry);
+		}
 		try {
 			chunkOrientedStep.afterPropertiesSet();
 		}
@@ -15,10 +15,22 @@
  */
 package org.springframework.batch.core.step.item;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Future;
-
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.observation.Observation;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -36,11 +48,13 @@ import org.springframework.batch.core.listener.ItemReadListener;
 import org.springframework.batch.core.listener.ItemWriteListener;
 import org.springframework.batch.core.listener.SkipListener;
 import org.springframework.batch.core.observability.BatchMetrics;
+import org.springframework.batch.core.observability.InstrumentationLevel;
 import org.springframework.batch.core.observability.jfr.events.step.chunk.ChunkScanEvent;
 import org.springframework.batch.core.observability.jfr.events.step.chunk.ChunkTransactionEvent;
 import org.springframework.batch.core.observability.jfr.events.step.chunk.ChunkWriteEvent;
 import org.springframework.batch.core.observability.jfr.events.step.chunk.ItemProcessEvent;
 import org.springframework.batch.core.observability.jfr.events.step.chunk.ItemReadEvent;
+import org.springframework.batch.core.observability.micrometer.MicrometerMetrics;
 import org.springframework.batch.core.scope.context.StepContext;
 import org.springframework.batch.core.scope.context.StepSynchronizationManager;
 import org.springframework.batch.core.step.StepContribution;
@@ -71,6 +85,9 @@ import org.springframework.core.retry.RetryTemplate;
 import org.springframework.core.retry.Retryable;
 import org.springframework.core.retry.support.CompositeRetryListener;
 import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.interceptor.DefaultTransactionAttribute;
@@ -84,6 +101,16 @@ import static org.springframework.batch.core.observability.BatchMetrics.METRICS_
  * Step implementation for the chunk-oriented processing model. This class also supports
  * faut-tolerance features (retry and skip) as well as concurrent item processing when a
  * {@link AsyncTaskExecutor} is provided.
+ * <p>
+ * When a pipeline depth is set (see {@link #setPipelineDepth(int)}), chunks are read and
+ * processed on a separate thread and handed off to the step thread through a bounded
+ * queue, so that chunk K+1 is read and processed while chunk K is being written and
+ * committed. The state of the item reader (and item processor) is captured at each chunk
+ * boundary and saved with the chunk it belongs to, so restart semantics are the same as
+ * in the sequential mode. Chunk listeners are still notified on the step thread, in the
+ * chunk transaction. Since items are read outside the chunk transaction, this mode is not
+ * suitable for transactional readers (like JMS or AMQP readers) or readers that share the
+ * chunk transaction's resources.
  *
  * @param <I> type of input items
  * @param <O> type of output items
@@ -99,6 +126,30 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 
 	private static final Log logger = LogFactory.getLog(ChunkOrientedStep.class.getName());
 
+	private static final String ITEM_READ_METRIC = METRICS_PREFIX + "item.read";
+
+	private static final String ITEM_READ_JOB_NAME_TAG = ITEM_READ_METRIC + ".job.name";
+
+	private static final String ITEM_READ_STEP_NAME_TAG = ITEM_READ_METRIC + ".step.name";
+
+	private static final String ITEM_READ_STATUS_TAG = ITEM_READ_METRIC + ".status";
+
+	private static final String ITEM_PROCESS_METRIC = METRICS_PREFIX + "item.process";
+
+	private static final String ITEM_PROCESS_JOB_NAME_TAG = ITEM_PROCESS_METRIC + ".job.name";
+
+	private static final String ITEM_PROCESS_STEP_NAME_TAG = ITEM_PROCESS_METRIC + ".step.name";
+
+	private static final String ITEM_PROCESS_STATUS_TAG = ITEM_PROCESS_METRIC + ".status";
+
+	private static final String CHUNK_WRITE_METRIC = METRICS_PREFIX + "chunk.write";
+
+	private static final String CHUNK_WRITE_JOB_NAME_TAG = CHUNK_WRITE_METRIC + ".job.name";
+
+	private static final String CHUNK_WRITE_STEP_NAME_TAG = CHUNK_WRITE_METRIC + ".step.name";
+
+	private static final String CHUNK_WRITE_STATUS_TAG = CHUNK_WRITE_METRIC + ".status";
+
 	/*
 	 * Step Input / Output parameters
 	 */
@@ -120,6 +171,8 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 	 */
 	private final CompositeItemStream compositeItemStream = new CompositeItemStream();
 
+	private final List<ItemStream> registeredItemStreams = new ArrayList<>();
+
 	private StepInterruptionPolicy interruptionPolicy = new ThreadStepInterruptionPolicy();
 
 	/*
@@ -162,6 +215,30 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 	@SuppressWarnings("NullAway.Init")
 	private AsyncTaskExecutor taskExecutor;
 
+	/*
+	 * Pipelining parameters
+	 */
+	private int pipelineDepth = 0;
+
+	private TaskExecutor pipelineTaskExecutor = new SimpleAsyncTaskExecutor("chunk-pipeline-");
+
+	private final CompositeItemStream readSideItemStream = new CompositeItemStream();
+
+	private final CompositeItemStream writeSideItemStream = new CompositeItemStream();
+
+	/*
+	 * Instrumentation parameters
+	 */
+	private InstrumentationLevel instrumentationLevel = InstrumentationLevel.FULL;
+
+	private int instrumentationSamplingRate = 100;
+
+	private final AtomicLong itemReadCount = new AtomicLong();
+
+	private final AtomicLong itemProcessCount = new AtomicLong();
+
+	private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
 	/**
 	 * Create a new {@link ChunkOrientedStep}.
 	 * @param name the name of the step
@@ -206,6 +283,7 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 	public void registerItemStream(ItemStream stream) {
 		Assert.notNull(stream, "Item stream must not be null");
 		this.compositeItemStream.register(stream);
+		this.registeredItemStreams.add(stream);
 	}
 
 	/**
@@ -283,6 +361,72 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 		this.taskExecutor = asyncTaskExecutor;
 	}
 
+	/**
+	 * Set the maximum number of read and processed chunks that can wait to be written.
+	 * When greater than 0, chunks are read and processed on a separate thread while the
+	 * previous chunks are being written and committed. Defaults to 0 (no pipelining).
+	 * Pipelining cannot be combined with item streams registered in addition to the item
+	 * reader, processor and writer (see {@link #registerItemStream(ItemStream)}).
+	 * @param pipelineDepth the number of chunks that can be buffered between the read and
+	 * write stages, must not be negative
+	 * @since 6.1
+	 */
+	public void setPipelineDepth(int pipelineDepth) {
+		Assert.isTrue(pipelineDepth >= 0, "Pipeline depth must not be negative");
+		this.pipelineDepth = pipelineDepth;
+	}
+
+	/**
+	 * Set the {@link TaskExecutor} used to run the read and process stage of the
+	 * pipeline. The executor must be able to run a task per concurrent execution of this
+	 * step asynchronously: a synchronous executor would run the read stage on the step
+	 * thread, which would block as soon as the pipeline is full, so such executors are
+	 * rejected and the step fails if the read stage is run on the step thread. Defaults
+	 * to a {@link SimpleAsyncTaskExecutor}.
+	 * @param pipelineTaskExecutor the pipeline task executor to set
+	 * @since 6.1
+	 */
+	public void setPipelineTaskExecutor(TaskExecutor pipelineTaskExecutor) {
+		Assert.notNull(pipelineTaskExecutor, "Pipeline task executor must not be null");
+		Assert.isTrue(!(pipelineTaskExecutor instanceof SyncTaskExecutor),
+				"Pipeline task executor must be asynchronous");
+		this.pipelineTaskExecutor = pipelineTaskExecutor;
+	}
+
+	/**
+	 * Set the level of instrumentation (observations and JFR events) applied to items and
+	 * chunks. Defaults to {@link InstrumentationLevel#FULL}.
+	 * @param instrumentationLevel the instrumentation level to set
+	 * @since 6.1
+	 */
+	public void setInstrumentationLevel(InstrumentationLevel instrumentationLevel) {
+		Assert.notNull(instrumentationLevel, "Instrumentation level must not be null");
+		this.instrumentationLevel = instrumentationLevel;
+	}
+
+	/**
+	 * Set the sampling rate used with {@link InstrumentationLevel#SAMPLED}: one item out
+	 * of {@code instrumentationSamplingRate} is instrumented. Defaults to 100.
+	 * @param instrumentationSamplingRate the sampling rate to set, must be positive
+	 * @since 6.1
+	 */
+	public void setInstrumentationSamplingRate(int instrumentationSamplingRate) {
+		Assert.isTrue(instrumentationSamplingRate > 0, "Instrumentation sampling rate must be greater than 0");
+		this.instrumentationSamplingRate = instrumentationSamplingRate;
+	}
+
+	/**
+	 * Set the {@link MeterRegistry} in which chunk level meters are registered when the
+	 * instrumentation level is {@link InstrumentationLevel#CHUNK}. Defaults to
+	 * {@link Metrics#globalRegistry}.
+	 * @param meterRegistry the meter registry to set
+	 * @since 6.1
+	 */
+	public void setMeterRegistry(MeterRegistry meterRegistry) {
+		Assert.notNull(meterRegistry, "Meter registry must not be null");
+		this.meterRegistry = meterRegistry;
+	}
+
 	/**
 	 * Set the {@link RetryPolicy} for this step.
 	 * @param retryPolicy the retry policy to set
@@ -345,6 +489,26 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 		if (this.itemProcessor instanceof ItemStream itemStream) {
 			this.compositeItemStream.register(itemStream);
 		}
+		if (isPipelined()) {
+			// reader and processor state is captured at chunk boundaries on the read side
+			if (this.itemReader instanceof ItemStream itemStream) {
+				this.readSideItemStream.register(itemStream);
+			}
+			if (this.itemProcessor instanceof ItemStream itemStream) {
+				this.readSideItemStream.register(itemStream);
+			}
+			if (this.itemWriter instanceof ItemStream itemStream) {
+				this.writeSideItemStream.register(itemStream);
+			}
+			// the step cannot tell whether other streams back the reader or the writer,
+			// so their state could be neither updated safely nor captured consistently
+			for (ItemStream itemStream : this.registeredItemStreams) {
+				Assert.state(
+						itemStream == this.itemReader || itemStream == this.itemProcessor
+								|| itemStream == this.itemWriter,
+						"Pipelined mode does not support item streams other than the item reader, processor and writer");
+			}
+		}
 		this.transactionTemplate = new TransactionTemplate(this.transactionManager, this.transactionAttribute);
 		if (this.faultTolerant) {
 			this.retryTemplate.setRetryPolicy(this.retryPolicy);
@@ -367,6 +531,11 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 	@Override
 	protected void doExecute(StepExecution stepExecution) throws Exception {
 		stepExecution.getExecutionContext().put(STEP_TYPE_KEY, this.getClass().getName());
+		this.chunkTracker.get().chunkMeters = createChunkMeters(stepExecution);
+		if (isPipelined()) {
+			doExecutePipelined(stepExecution);
+			return;
+		}
 		while (this.chunkTracker.get().moreItems() && !interrupted(stepExecution)) {
 			// process next chunk in its own transaction
 			this.transactionTemplate.executeWithoutResult(transactionStatus -> {
@@ -389,8 +558,7 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 				}
 
 				this.compositeItemStream.update(stepExecution.getExecutionContext());
-				getJobRepository().updateExecutionContext(stepExecution);
-				getJobRepository().update(stepExecution);
+				getJobRepository().updateWithExecutionContext(stepExecution);
 				chunkTransactionEvent.transactionStatus = BatchMetrics.STATUS_COMMITTED;
 				chunkTransactionEvent.commit();
 			});
@@ -415,32 +583,12 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 
 		try {
 			if (tracker.isScanMode()) {
-				logger.info("Executing scan in new transaction after rollback");
-				O item = tracker.pollNextScanItem();
-				if (item != null) {
-					Chunk<O> singleItemChunk = new Chunk<>(item);
-					ChunkScanEvent chunkScanEvent = new ChunkScanEvent(stepExecution.getStepName(),
-							stepExecution.getId());
-					chunkScanEvent.begin();
-					compositeChunkListener.beforeChunk(singleItemChunk);
-					scan(singleItemChunk, contribution, status);
-					if (!status.isRollbackOnly()) {
-						compositeChunkListener.afterChunk(singleItemChunk);
-					}
-					chunkScanEvent.skipCount = contribution.getSkipCount();
-					chunkScanEvent.commit();
-				}
-				if (!tracker.hasPendingScanItems()) {
-					logger.info("Chunk scan completed");
-					tracker.exitScanMode();
-					if (!status.isRollbackOnly()) {
-						stepExecution.incrementCommitCount();
-					}
-				}
+				scanNextItem(status, contribution, stepExecution, tracker);
 				return;
 			}
 
 			// read items and submit concurrent item processing tasks
+			long readStartTime = System.nanoTime();
 			for (int i = 0; i < this.chunkSize && this.chunkTracker.get().moreItems(); i++) {
 				I item = readItem(contribution);
 				if (item != null) {
@@ -456,18 +604,21 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 					itemProcessingTasks.add(itemProcessingFuture);
 				}
 			}
+			tracker.recordRead(itemProcessingTasks.size(), readStartTime);
 			// exclude empty chunks (when the total items is a multiple of the chunk size)
 			if (itemProcessingTasks.isEmpty()) {
 				return;
 			}
 
 			// collect processed items
+			long processStartTime = System.nanoTime();
 			for (Future<O> future : itemProcessingTasks) {
 				O processedItem = future.get();
 				if (processedItem != null) {
 					processedChunk.add(processedItem);
 				}
 			}
+			tracker.recordProcess(processStartTime);
 
 			// write processed items
 			writeChunk(processedChunk, contribution);
@@ -502,28 +653,7 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 
 		try {
 			if (tracker.isScanMode()) {
-				logger.info("Executing scan in new transaction after rollback");
-				O item = tracker.pollNextScanItem();
-				if (item != null) {
-					Chunk<O> singleItemChunk = new Chunk<>(item);
-					ChunkScanEvent chunkScanEvent = new ChunkScanEvent(stepExecution.getStepName(),
-							stepExecution.getId());
-					chunkScanEvent.begin();
-					compositeChunkListener.beforeChunk(singleItemChunk);
-					scan(singleItemChunk, contribution, status);
-					if (!status.isRollbackOnly()) {
-						compositeChunkListener.afterChunk(singleItemChunk);
-					}
-					chunkScanEvent.skipCount = contribution.getSkipCount();
-					chunkScanEvent.commit();
-				}
-				if (!tracker.hasPendingScanItems()) {
-					logger.info("Chunk scan completed");
-					tracker.exitScanMode();
-					if (!status.isRollbackOnly()) {
-						stepExecution.incrementCommitCount();
-					}
-				}
+				scanNextItem(status, contribution, stepExecution, tracker);
 				return;
 			}
 
@@ -560,6 +690,220 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 		}
 	}
 
+	private void scanNextItem(TransactionStatus status, StepContribution contribution, StepExecution stepExecution,
+			ChunkTracker<O> tracker) {
+		logger.info("Executing scan in new transaction after rollback");
+		O item = tracker.pollNextScanItem();
+		if (item != null) {
+			Chunk<O> singleItemChunk = new Chunk<>(item);
+			ChunkScanEvent chunkScanEvent = new ChunkScanEvent(stepExecution.getStepName(), stepExecution.getId());
+			chunkScanEvent.begin();
+			compositeChunkListener.beforeChunk(singleItemChunk);
+			scan(singleItemChunk, contribution, status);
+			if (!status.isRollbackOnly()) {
+				compositeChunkListener.afterChunk(singleItemChunk);
+			}
+			chunkScanEvent.skipCount = contribution.getSkipCount();
+			chunkScanEvent.commit();
+		}
+		if (!tracker.hasPendingScanItems()) {
+			logger.info("Chunk scan completed");
+			tracker.exitScanMode();
+			if (!status.isRollbackOnly()) {
+				stepExecution.incrementCommitCount();
+			}
+		}
+	}
+
+	/*
+	 * Pipelined mode: the read and process stage runs on a separate thread and hands off
+	 * chunks to the step thread, which writes and commits them in order.
+	 */
+	private void doExecutePipelined(StepExecution stepExecution) throws Exception {
+		ChunkPipeline<I, O> pipeline = new ChunkPipeline<>(this.pipelineDepth);
+		ChunkTracker<O> tracker = this.chunkTracker.get();
+		Thread stepThread = Thread.currentThread();
+		this.pipelineTaskExecutor.execute(() -> readAheadChunks(pipeline, stepExecution, stepThread));
+		try {
+			while (tracker.moreItems() && !interrupted(stepExecution)) {
+				// in scan mode, the items of the current chunk are written one by one
+				PipelinedChunk<I, O> pipelinedChunk = tracker.isScanMode() ? pipeline.current() : pipeline.take();
+				if (pipelinedChunk.isEndOfInput()) {
+					tracker.reset();
+					break;
+				}
+				// write next chunk in its own transaction
+				this.transactionTemplate.executeWithoutResult(transactionStatus -> {
+					ChunkTransactionEvent chunkTransactionEvent = new ChunkTransactionEvent(stepExecution.getStepName(),
+							stepExecution.getId());
+					chunkTransactionEvent.begin();
+					StepContribution contribution = tracker.isScanMode() ? stepExecution.createStepContribution()
+							: pipelinedChunk.contribution;
+					writePipelinedChunk(transactionStatus, contribution, stepExecution, pipelinedChunk);
+
+					// Skip update during rollback to avoid
+					// OptimisticLockingFailureException
+					if (transactionStatus.isRollbackOnly()) {
+						// see doExecute for why the status is explicitly marked as
+						// rollback-only
+						transactionStatus.setRollbackOnly();
+						chunkTransactionEvent.transactionStatus = BatchMetrics.STATUS_ROLLED_BACK;
+						chunkTransactionEvent.commit();
+						return;
+					}
+
+					ExecutionContext executionContext = stepExecution.getExecutionContext();
+					this.writeSideItemStream.update(executionContext);
+					// reader state as of the end of this chunk, not of the read-ahead
+					// chunks
+					for (Map.Entry<String, Object> entry : pipelinedChunk.readSideState.entrySet()) {
+						executionContext.put(entry.getKey(), entry.getValue());
+					}
+					getJobRepository().updateWithExecutionContext(stepExecution);
+					chunkTransactionEvent.transactionStatus = BatchMetrics.STATUS_COMMITTED;
+					chunkTransactionEvent.commit();
+				});
+			}
+		}
+		finally {
+			pipeline.stop();
+		}
+	}
+
+	private void writePipelinedChunk(TransactionStatus status, StepContribution contribution,
+			StepExecution stepExecution, PipelinedChunk<I, O> pipelinedChunk) {
+		Chunk<O> processedChunk = pipelinedChunk.processedChunk;
+		ChunkTracker<O> tracker = this.chunkTracker.get();
+
+		try {
+			if (tracker.isScanMode()) {
+				scanNextItem(status, contribution, stepExecution, tracker);
+				return;
+			}
+
+			if (pipelinedChunk.inputChunk.isEmpty()) {
+				if (pipelinedChunk.failure != null) {
+					throw pipelinedChunk.failure;
+				}
+				return;
+			}
+			// notified in the chunk transaction, after the previous chunk is completed
+			compositeChunkListener.beforeChunk(pipelinedChunk.inputChunk);
+			if (pipelinedChunk.failure != null) {
+				throw pipelinedChunk.failure;
+			}
+			writeChunk(processedChunk, contribution);
+			compositeChunkListener.afterChunk(processedChunk);
+			stepExecution.incrementCommitCount();
+		}
+		catch (Exception e) {
+			logger.error("Rolling back chunk transaction", e);
+			status.setRollbackOnly();
+			stepExecution.incrementRollbackCount();
+
+			if (tracker.isScanMode()) {
+				if (e instanceof SkipLimitExceededException || e instanceof NonSkippableWriteException) {
+					tracker.exitScanMode();
+					compositeChunkListener.onChunkError(e, processedChunk);
+					throw new FatalStepExecutionException("Unable to process chunk during scan", e);
+				}
+				logger.info("Rollback complete, scan will execute in next transaction");
+				return;
+			}
+
+			compositeChunkListener.onChunkError(e, processedChunk);
+			throw new FatalStepExecutionException("Unable to process chunk", e);
+		}
+		finally {
+			stepExecution.apply(contribution);
+		}
+	}
+
+	/*
+	 * Read and process chunks ahead of the write stage until the end of input, a failure
+	 * or the pipeline is stopped. Runs on a thread of the pipeline task executor. Any
+	 * failure that is not reported with a chunk is handed to the pipeline, so that the
+	 * write stage fails with it.
+	 */
+	private void readAheadChunks(ChunkPipeline<I, O> pipeline, StepExecution stepExecution, Thread stepThread) {
+		if (Thread.currentThread() == stepThread) {
+			// blocking in put() would never let the write stage take the chunks
+			pipeline.readStageFailed(new IllegalStateException(
+					"The pipeline task executor must run the read stage asynchronously, not on the step thread"));
+			pipeline.readStageTerminated();
+			return;
+		}
+		ChunkTracker<O> tracker = this.chunkTracker.get();
+		tracker.init();
+		tracker.chunkMeters = createChunkMeters(stepExecution);
+		StepSynchronizationManager.register(stepExecution);
+		try {
+			boolean accepted = true;
+			while (accepted && tracker.moreItems()) {
+				StepContribution contribution = stepExecution.createStepContribution();
+				Chunk<I> inputChunk = new Chunk<>();
+				Chunk<O> processedChunk = new Chunk<>();
+				try {
+					inputChunk = readChunk(contribution);
+					if (!inputChunk.isEmpty()) {
+						processedChunk = isConcurrent()
+								? processItemsConcurrently(inputChunk, contribution, stepExecution)
+								: processChunk(inputChunk, contribution);
+					}
+				}
+				catch (Exception e) {
+					pipeline
+						.put(new PipelinedChunk<>(inputChunk, processedChunk, contribution, new ExecutionContext(), e));
+					return;
+				}
+				ExecutionContext readSideState = new ExecutionContext();
+				this.readSideItemStream.update(readSideState);
+				accepted = pipeline
+					.put(new PipelinedChunk<>(inputChunk, processedChunk, contribution, readSideState, null));
+			}
+			if (accepted) {
+				pipeline.put(PipelinedChunk.endOfInput(stepExecution.createStepContribution()));
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		catch (Throwable t) {
+			pipeline.readStageFailed(t);
+		}
+		finally {
+			tracker.reset();
+			StepSynchronizationManager.close();
+			pipeline.readStageTerminated();
+		}
+	}
+
+	private Chunk<O> processItemsConcurrently(Chunk<I> chunk, StepContribution contribution,
+			StepExecution stepExecution) throws Exception {
+		List<Future<O>> itemProcessingTasks = new LinkedList<>();
+		for (I item : chunk) {
+			itemProcessingTasks.add(this.taskExecutor.submit(() -> {
+				try {
+					StepSynchronizationManager.register(stepExecution);
+					return processItem(item, contribution);
+				}
+				finally {
+					StepSynchronizationManager.close();
+				}
+			}));
+		}
+		long processStartTime = System.nanoTime();
+		Chunk<O> processedChunk = new Chunk<>();
+		for (Future<O> future : itemProcessingTasks) {
+			O processedItem = future.get();
+			if (processedItem != null) {
+				processedChunk.add(processedItem);
+			}
+		}
+		this.chunkTracker.get().recordProcess(processStartTime);
+		return processedChunk;
+	}
+
 	/*
 	 * Check if the step has been interrupted either internally via user defined policy or
 	 * externally via job operator. This will be checked at chunk boundaries.
@@ -580,6 +924,7 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 	}
 
 	private Chunk<I> readChunk(StepContribution contribution) throws Exception {
+		long startTime = System.nanoTime();
 		Chunk<I> chunk = new Chunk<>();
 		for (int i = 0; i < chunkSize && this.chunkTracker.get().moreItems(); i++) {
 			I item = readItem(contribution);
@@ -587,20 +932,23 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 				chunk.add(item);
 			}
 		}
+		this.chunkTracker.get().recordRead(chunk.size(), startTime);
 		return chunk;
 	}
 
 	private @Nullable I readItem(StepContribution contribution) throws Exception {
-		ItemReadEvent itemReadEvent = new ItemReadEvent(contribution.getStepExecution().getStepName(),
-				contribution.getStepExecution().getId());
-		String fullyQualifiedMetricName = BatchMetrics.METRICS_PREFIX + "item.read";
-		Observation observation = Observation.createNotStarted(fullyQualifiedMetricName, this.observationRegistry)
-			.lowCardinalityKeyValue(fullyQualifiedMetricName + ".job.name",
-					contribution.getStepExecution().getJobExecution().getJobInstance().getJobName())
-			.lowCardinalityKeyValue(fullyQualifiedMetricName + ".step.name",
-					contribution.getStepExecution().getStepName())
-			.start();
-		itemReadEvent.begin();
+		StepExecution stepExecution = contribution.getStepExecution();
+		ItemReadEvent itemReadEvent = null;
+		Observation observation = Observation.NOOP;
+		if (isItemInstrumented(this.itemReadCount)) {
+			itemReadEvent = new ItemReadEvent(stepExecution.getStepName(), stepExecution.getId());
+			observation = Observation.createNotStarted(ITEM_READ_METRIC, this.observationRegistry)
+				.lowCardinalityKeyValue(ITEM_READ_JOB_NAME_TAG,
+						stepExecution.getJobExecution().getJobInstance().getJobName())
+				.lowCardinalityKeyValue(ITEM_READ_STEP_NAME_TAG, stepExecution.getStepName())
+				.start();
+			itemReadEvent.begin();
+		}
 		I item = null;
 		try (var scope = observation.openScope()) {
 			this.compositeItemReadListener.beforeRead();
@@ -612,8 +960,10 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 				contribution.incrementReadCount();
 				this.compositeItemReadListener.afterRead(item);
 			}
-			itemReadEvent.itemReadStatus = BatchMetrics.STATUS_SUCCESS;
-			observation.lowCardinalityKeyValue(fullyQualifiedMetricName + ".status", BatchMetrics.STATUS_SUCCESS);
+			if (itemReadEvent != null) {
+				itemReadEvent.itemReadStatus = BatchMetrics.STATUS_SUCCESS;
+			}
+			observation.lowCardinalityKeyValue(ITEM_READ_STATUS_TAG, BatchMetrics.STATUS_SUCCESS);
 		}
 		catch (Exception exception) {
 			this.compositeItemReadListener.onReadError(exception);
@@ -623,12 +973,16 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 			else {
 				throw exception;
 			}
-			itemReadEvent.itemReadStatus = BatchMetrics.STATUS_FAILURE;
-			observation.lowCardinalityKeyValue(fullyQualifiedMetricName + ".status", BatchMetrics.STATUS_FAILURE);
+			if (itemReadEvent != null) {
+				itemReadEvent.itemReadStatus = BatchMetrics.STATUS_FAILURE;
+			}
+			observation.lowCardinalityKeyValue(ITEM_READ_STATUS_TAG, BatchMetrics.STATUS_FAILURE);
 			observation.error(exception);
 		}
 		finally {
-			itemReadEvent.commit();
+			if (itemReadEvent != null) {
+				itemReadEvent.commit();
+			}
 			observation.stop();
 		}
 		return item;
@@ -667,6 +1021,7 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 	}
 
 	private Chunk<O> processChunk(Chunk<I> chunk, StepContribution contribution) throws Exception {
+		long startTime = System.nanoTime();
 		Chunk<O> processedChunk = new Chunk<>();
 		for (I item : chunk) {
 			O processedItem = processItem(item, contribution);
@@ -674,20 +1029,23 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 				processedChunk.add(processedItem);
 			}
 		}
+		this.chunkTracker.get().recordProcess(startTime);
 		return processedChunk;
 	}
 
 	private @Nullable O processItem(I item, StepContribution contribution) throws Exception {
-		ItemProcessEvent itemProcessEvent = new ItemProcessEvent(contribution.getStepExecution().getStepName(),
-				contribution.getStepExecution().getId());
-		String fullyQualifiedMetricName = METRICS_PREFIX + "item.process";
-		Observation observation = Observation.createNotStarted(fullyQualifiedMetricName, this.observationRegistry)
-			.lowCardinalityKeyValue(fullyQualifiedMetricName + ".job.name",
-					contribution.getStepExecution().getJobExecution().getJobInstance().getJobName())
-			.lowCardinalityKeyValue(fullyQualifiedMetricName + ".step.name",
-					contribution.getStepExecution().getStepName())
-			.start();
-		itemProcessEvent.begin();
+		StepExecution stepExecution = contribution.getStepExecution();
+		ItemProcessEvent itemProcessEvent = null;
+		Observation observation = Observation.NOOP;
+		if (isItemInstrumented(this.itemProcessCount)) {
+			itemProcessEvent = new ItemProcessEvent(stepExecution.getStepName(), stepExecution.getId());
+			observation = Observation.createNotStarted(ITEM_PROCESS_METRIC, this.observationRegistry)
+				.lowCardinalityKeyValue(ITEM_PROCESS_JOB_NAME_TAG,
+						stepExecution.getJobExecution().getJobInstance().getJobName())
+				.lowCardinalityKeyValue(ITEM_PROCESS_STEP_NAME_TAG, stepExecution.getStepName())
+				.start();
+			itemProcessEvent.begin();
+		}
 		O processedItem = null;
 		try (var scope = observation.openScope()) {
 			this.compositeItemProcessListener.beforeProcess(item);
@@ -696,8 +1054,10 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 				contribution.incrementFilterCount();
 			}
 			this.compositeItemProcessListener.afterProcess(item, processedItem);
-			itemProcessEvent.itemProcessStatus = BatchMetrics.STATUS_SUCCESS;
-			observation.lowCardinalityKeyValue(fullyQualifiedMetricName + ".status", BatchMetrics.STATUS_SUCCESS);
+			if (itemProcessEvent != null) {
+				itemProcessEvent.itemProcessStatus = BatchMetrics.STATUS_SUCCESS;
+			}
+			observation.lowCardinalityKeyValue(ITEM_PROCESS_STATUS_TAG, BatchMetrics.STATUS_SUCCESS);
 		}
 		catch (Exception exception) {
 			this.compositeItemProcessListener.onProcessError(item, exception);
@@ -707,12 +1067,16 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 			else {
 				throw exception;
 			}
-			itemProcessEvent.itemProcessStatus = BatchMetrics.STATUS_FAILURE;
-			observation.lowCardinalityKeyValue(fullyQualifiedMetricName + ".status", BatchMetrics.STATUS_FAILURE);
+			if (itemProcessEvent != null) {
+				itemProcessEvent.itemProcessStatus = BatchMetrics.STATUS_FAILURE;
+			}
+			observation.lowCardinalityKeyValue(ITEM_PROCESS_STATUS_TAG, BatchMetrics.STATUS_FAILURE);
 			observation.error(exception);
 		}
 		finally {
-			itemProcessEvent.commit();
+			if (itemProcessEvent != null) {
+				itemProcessEvent.commit();
+			}
 			observation.stop();
 		}
 		return processedItem;
@@ -763,28 +1127,34 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 	}
 
 	private void writeChunk(Chunk<O> chunk, StepContribution contribution) throws Exception {
-		ChunkWriteEvent chunkWriteEvent = new ChunkWriteEvent(contribution.getStepExecution().getStepName(),
-				contribution.getStepExecution().getId(), chunk.size());
-		String fullyQualifiedMetricName = METRICS_PREFIX + "chunk.write";
-		Observation observation = Observation.createNotStarted(fullyQualifiedMetricName, this.observationRegistry)
-			.lowCardinalityKeyValue(fullyQualifiedMetricName + ".job.name",
-					contribution.getStepExecution().getJobExecution().getJobInstance().getJobName())
-			.lowCardinalityKeyValue(fullyQualifiedMetricName + ".step.name",
-					contribution.getStepExecution().getStepName())
-			.start();
-		chunkWriteEvent.begin();
+		StepExecution stepExecution = contribution.getStepExecution();
+		ChunkWriteEvent chunkWriteEvent = null;
+		Observation observation = Observation.NOOP;
+		if (this.instrumentationLevel != InstrumentationLevel.OFF) {
+			chunkWriteEvent = new ChunkWriteEvent(stepExecution.getStepName(), stepExecution.getId(), chunk.size());
+			observation = Observation.createNotStarted(CHUNK_WRITE_METRIC, this.observationRegistry)
+				.lowCardinalityKeyValue(CHUNK_WRITE_JOB_NAME_TAG,
+						stepExecution.getJobExecution().getJobInstance().getJobName())
+				.lowCardinalityKeyValue(CHUNK_WRITE_STEP_NAME_TAG, stepExecution.getStepName())
+				.start();
+			chunkWriteEvent.begin();
+		}
 		try (var scope = observation.openScope()) {
 			this.compositeItemWriteListener.beforeWrite(chunk);
 			doWrite(chunk);
 			contribution.incrementWriteCount(chunk.size());
 			this.compositeItemWriteListener.afterWrite(chunk);
-			chunkWriteEvent.chunkWriteStatus = BatchMetrics.STATUS_SUCCESS;
-			observation.lowCardinalityKeyValue(fullyQualifiedMetricName + ".status", BatchMetrics.STATUS_SUCCESS);
+			if (chunkWriteEvent != null) {
+				chunkWriteEvent.chunkWriteStatus = BatchMetrics.STATUS_SUCCESS;
+			}
+			observation.lowCardinalityKeyValue(CHUNK_WRITE_STATUS_TAG, BatchMetrics.STATUS_SUCCESS);
 		}
 		catch (Exception exception) {
 			this.compositeItemWriteListener.onWriteError(exception, chunk);
-			chunkWriteEvent.chunkWriteStatus = BatchMetrics.STATUS_FAILURE;
-			observation.lowCardinalityKeyValue(fullyQualifiedMetricName + ".status", BatchMetrics.STATUS_FAILURE);
+			if (chunkWriteEvent != null) {
+				chunkWriteEvent.chunkWriteStatus = BatchMetrics.STATUS_FAILURE;
+			}
+			observation.lowCardinalityKeyValue(CHUNK_WRITE_STATUS_TAG, BatchMetrics.STATUS_FAILURE);
 			observation.error(exception);
 
 			if (this.faultTolerant && exception instanceof RetryException retryException
@@ -798,7 +1168,9 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 			throw exception;
 		}
 		finally {
-			chunkWriteEvent.commit();
+			if (chunkWriteEvent != null) {
+				chunkWriteEvent.commit();
+			}
 			observation.stop();
 		}
 	}
@@ -853,6 +1225,160 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 		return this.taskExecutor != null;
 	}
 
+	private boolean isPipelined() {
+		return this.pipelineDepth > 0;
+	}
+
+	private boolean isItemInstrumented(AtomicLong itemCount) {
+		return switch (this.instrumentationLevel) {
+			case FULL -> true;
+			case SAMPLED -> itemCount.getAndIncrement() % this.instrumentationSamplingRate == 0;
+			case CHUNK, OFF -> false;
+		};
+	}
+
+	private @Nullable ChunkMeters createChunkMeters(StepExecution stepExecution) {
+		if (this.instrumentationLevel != InstrumentationLevel.CHUNK) {
+			return null;
+		}
+		String jobName = stepExecution.getJobExecution().getJobInstance().getJobName();
+		String stepName = stepExecution.getStepName();
+		return new ChunkMeters(MicrometerMetrics.createTimer(this.meterRegistry, "chunk.read",
+				"Time spent reading the items of a chunk", Tag.of(METRICS_PREFIX + "chunk.read.job.name", jobName),
+				Tag.of(METRICS_PREFIX + "chunk.read.step.name", stepName)),
+				MicrometerMetrics.createTimer(this.meterRegistry, "chunk.process",
+						"Time spent processing the items of a chunk",
+						Tag.of(METRICS_PREFIX + "chunk.process.job.name", jobName),
+						Tag.of(METRICS_PREFIX + "chunk.process.step.name", stepName)),
+				MicrometerMetrics.createDistributionSummary(this.meterRegistry, "chunk.items",
+						"Number of items read per chunk", Tag.of(METRICS_PREFIX + "chunk.items.job.name", jobName),
+						Tag.of(METRICS_PREFIX + "chunk.items.step.name", stepName)));
+	}
+
+	/**
+	 * Chunk level meters registered once per step execution.
+	 */
+	private record ChunkMeters(Timer readTimer, Timer processTimer, DistributionSummary itemCount) {
+	}
+
+	/**
+	 * A chunk read and processed ahead of the write stage, along with the state of the
+	 * read side streams at the end of the chunk.
+	 */
+	private static class PipelinedChunk<I, O> {
+
+		private final Chunk<I> inputChunk;
+
+		private final Chunk<O> processedChunk;
+
+		private final StepContribution contribution;
+
+		private final ExecutionContext readSideState;
+
+		private final @Nullable Exception failure;
+
+		private final boolean endOfInput;
+
+		PipelinedChunk(Chunk<I> inputChunk, Chunk<O> processedChunk, StepContribution contribution,
+				ExecutionContext readSideState, @Nullable Exception failure) {
+			this(inputChunk, processedChunk, contribution, readSideState, failure, false);
+		}
+
+		private PipelinedChunk(Chunk<I> inputChunk, Chunk<O> processedChunk, StepContribution contribution,
+				ExecutionContext readSideState, @Nullable Exception failure, boolean endOfInput) {
+			this.inputChunk = inputChunk;
+			this.processedChunk = processedChunk;
+			this.contribution = contribution;
+			this.readSideState = readSideState;
+			this.failure = failure;
+			this.endOfInput = endOfInput;
+		}
+
+		static <I, O> PipelinedChunk<I, O> endOfInput(StepContribution contribution) {
+			return new PipelinedChunk<>(new Chunk<>(), new Chunk<>(), contribution, new ExecutionContext(), null, true);
+		}
+
+		boolean isEndOfInput() {
+			return this.endOfInput;
+		}
+
+	}
+
+	/**
+	 * Bounded hand-off between the read/process stage and the write stage.
+	 */
+	private static class ChunkPipeline<I, O> {
+
+		private static final long POLL_TIMEOUT_MILLIS = 100;
+
+		private final BlockingQueue<PipelinedChunk<I, O>> queue;
+
+		private final CountDownLatch readStageTerminated = new CountDownLatch(1);
+
+		private volatile boolean running = true;
+
+		private volatile @Nullable Throwable readStageFailure;
+
+		private @Nullable PipelinedChunk<I, O> current;
+
+		ChunkPipeline(int depth) {
+			this.queue = new ArrayBlockingQueue<>(depth);
+		}
+
+		/*
+		 * Returns false if the pipeline has been stopped before the chunk was accepted.
+		 */
+		boolean put(PipelinedChunk<I, O> chunk) throws InterruptedException {
+			while (this.running) {
+				if (this.queue.offer(chunk, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		PipelinedChunk<I, O> take() throws InterruptedException {
+			PipelinedChunk<I, O> chunk;
+			while ((chunk = this.queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) == null) {
+				if (this.readStageTerminated.getCount() == 0 && this.queue.isEmpty()) {
+					Throwable failure = this.readStageFailure;
+					if (failure instanceof Error error) {
+						throw error;
+					}
+					if (failure != null) {
+						throw new FatalStepExecutionException("The read stage of the chunk pipeline failed", failure);
+					}
+					throw new IllegalStateException("The read stage of the chunk pipeline terminated unexpectedly");
+				}
+			}
+			this.current = chunk;
+			return chunk;
+		}
+
+		PipelinedChunk<I, O> current() {
+			Assert.state(this.current != null, "No chunk has been taken from the pipeline");
+			return this.current;
+		}
+
+		/*
+		 * Must be called before readStageTerminated() to be seen by take().
+		 */
+		void readStageFailed(Throwable failure) {
+			this.readStageFailure = failure;
+		}
+
+		void readStageTerminated() {
+			this.readStageTerminated.countDown();
+		}
+
+		void stop() throws InterruptedException {
+			this.running = false;
+			this.queue.clear();
+			this.readStageTerminated.await();
+		}
+
+	}
+
 	private static class ChunkTracker<O> {
 
 		static <T> ChunkTracker<T> create() {
@@ -865,10 +1391,26 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 
 		@Nullable private LinkedList<O> pendingScanItems;
 
+		@Nullable private ChunkMeters chunkMeters;
+
 		void init() {
 			this.moreItems = true;
 			this.scanMode = false;
 			this.pendingScanItems = null;
+			this.chunkMeters = null;
+		}
+
+		void recordRead(int itemCount, long startTime) {
+			if (this.chunkMeters != null && itemCount > 0) {
+				this.chunkMeters.readTimer().record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+				this.chunkMeters.itemCount().record(itemCount);
+			}
+		}
+
+		void recordProcess(long startTime) {
+			if (this.chunkMeters != null) {
+				this.chunkMeters.processTimer().record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+			}
 		}
 
 		void reset() {
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.step.tasklet;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.JobRetentionPolicy;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.StepContribution;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.repeat.RepeatStatus;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Tasklet} purging the job repository from expired job instances, along with their
+ * executions. Job instances expire when they are older than a maximum age, when they are
+ * beyond a number of retained instances of their job, or both (see
+ * {@link JobRetentionPolicy}).
+ * <p>
+ * Each call deletes at most {@code batchSize} job instances, so that each batch is
+ * deleted in its own chunk transaction. The number of deleted job instances is reported
+ * as the write count of the step. The age of job instances is measured from the start
+ * time of the step execution, so that it does not change while the step is running.
+ *
+ * @since 6.1
+ * @see JobRepository#deleteJobInstances(String, JobRetentionPolicy, int)
+ */
+public class JobInstanceRetentionTasklet implements Tasklet, InitializingBean {
+
+	private static final int DEFAULT_BATCH_SIZE = 100;
+
+	private final JobRepository jobRepository;
+
+	private @Nullable Duration maxAge;
+
+	private int retainedInstances;
+
+	private @Nullable List<String> jobNames;
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	/**
+	 * Create a new {@link JobInstanceRetentionTasklet}.
+	 * @param jobRepository the job repository to purge
+	 */
+	public JobInstanceRetentionTasklet(JobRepository jobRepository) {
+		Assert.notNull(jobRepository, "JobRepository must not be null");
+		this.jobRepository = jobRepository;
+	}
+
+	/**
+	 * The maximum age of job instances: those whose executions were all created earlier
+	 * expire. Defaults to {@code null}, in which case job instances only expire beyond
+	 * the retained instances.
+	 * @param maxAge the maximum age of job instances
+	 */
+	public void setMaxAge(@Nullable Duration maxAge) {
+		this.maxAge = maxAge;
+	}
+
+	/**
+	 * The number of most recent instances of each job that never expire. Defaults to 0.
+	 * @param retainedInstances the number of retained instances per job
+	 */
+	public void setRetainedInstances(int retainedInstances) {
+		this.retainedInstances = retainedInstances;
+	}
+
+	/**
+	 * The names of the jobs to purge. Defaults to all the jobs of the job repository.
+	 * @param jobNames the names of the jobs to purge
+	 */
+	public void setJobNames(List<String> jobNames) {
+		this.jobNames = jobNames;
+	}
+
+	/**
+	 * The maximum number of job instances deleted per call. Defaults to 100.
+	 * @param batchSize the maximum number of job instances deleted per transaction
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "batchSize must be positive");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Check that a maximum age or a number of retained instances is set.
+	 * @see InitializingBean#afterPropertiesSet()
+	 */
+	@Override
+	public void afterPropertiesSet() throws Exception {
+		Assert.state(this.maxAge != null || this.retainedInstances > 0,
+				"Either maxAge or a positive number of retainedInstances must be set");
+	}
+
+	/**
+	 * Delete a batch of expired job instances of the first job that has some.
+	 * @return {@link RepeatStatus#CONTINUABLE} if job instances were deleted,
+	 * {@link RepeatStatus#FINISHED} otherwise
+	 * @see Tasklet#execute(StepContribution, ChunkContext)
+	 */
+	@Override
+	public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+		JobRetentionPolicy retentionPolicy = getRetentionPolicy(chunkContext.getStepContext().getStepExecution());
+		List<String> jobNames = this.jobNames != null ? this.jobNames : this.jobRepository.getJobNames();
+		for (String jobName : jobNames) {
+			int deleted = this.jobRepository.deleteJobInstances(jobName, retentionPolicy, this.batchSize);
+			if (deleted > 0) {
+				contribution.incrementWriteCount(deleted);
+				return RepeatStatus.CONTINUABLE;
+			}
+		}
+		return RepeatStatus.FINISHED;
+	}
+
+	private JobRetentionPolicy getRetentionPolicy(StepExecution stepExecution) {
+		if (this.maxAge == null) {
+			return JobRetentionPolicy.keepLatest(this.retainedInstances);
+		}
+		LocalDateTime now = stepExecution.getStartTime() != null ? stepExecution.getStartTime() : LocalDateTime.now();
+		return new JobRetentionPolicy(now.minus(this.maxAge), this.retainedInstances);
+	}
+
+}
@@ -454,14 +454,16 @@ public class TaskletStep extends AbstractStep {
 				try {
 					// Going to attempt a commit. If it fails this flag will
 					// stay false and we can use that later.
-					if (stepExecution.getExecutionContext().isDirty()) {
-						getJobRepository().updateExecutionContext(stepExecution);
-					}
 					stepExecution.incrementCommitCount();
 					if (logger.isDebugEnabled()) {
 						logger.debug("Saving step execution before commit: " + stepExecution);
 					}
-					getJobRepository().update(stepExecution);
+					if (stepExecution.getExecutionContext().isDirty()) {
+						getJobRepository().updateWithExecutionContext(stepExecution);
+					}
+					else {
+						getJobRepository().update(stepExecution);
+					}
 				}
 				catch (Exception e) {
 					// If we get to here there was a problem saving the step
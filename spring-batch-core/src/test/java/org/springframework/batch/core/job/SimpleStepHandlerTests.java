@@ -18,14 +18,24 @@ package org.springframework.batch.core.job;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
 import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.job.parameters.JobParametersBuilder;
 import org.springframework.batch.core.step.StepExecution;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.dao.jdbc.JdbcStepExecutionDao;
 import org.springframework.batch.core.repository.support.JdbcJobRepositoryFactoryBean;
 import org.springframework.batch.core.step.StepSupport;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
@@ -48,12 +58,15 @@ class SimpleStepHandlerTests {
 
 	@BeforeEach
 	void setUp() throws Exception {
+		setUp(new JdbcJobRepositoryFactoryBean());
+	}
+
+	private void setUp(JdbcJobRepositoryFactoryBean factory) throws Exception {
 		EmbeddedDatabase embeddedDatabase = new EmbeddedDatabaseBuilder()
 			.addScript("/org/springframework/batch/core/schema-drop-hsqldb.sql")
 			.addScript("/org/springframework/batch/core/schema-hsqldb.sql")
 			.generateUniqueName(true)
 			.build();
-		JdbcJobRepositoryFactoryBean factory = new JdbcJobRepositoryFactoryBean();
 		factory.setDataSource(embeddedDatabase);
 		factory.setTransactionManager(new JdbcTransactionManager(embeddedDatabase));
 		factory.afterPropertiesSet();
@@ -70,17 +83,101 @@ class SimpleStepHandlerTests {
 		assertEquals(BatchStatus.COMPLETED, stepExecution.getStatus());
 	}
 
+	@Test
+	void testRestartWithExecutionContext() throws Exception {
+		// given
+		StubStep step = new StubStep("step");
+		step.status = BatchStatus.FAILED;
+		stepHandler.handleStep(step, jobExecution);
+		jobExecution.setStatus(BatchStatus.FAILED);
+		jobExecution.setEndTime(LocalDateTime.now());
+		jobRepository.update(jobExecution);
+		JobExecution restartExecution = jobRepository.createJobExecution(jobExecution.getJobInstance(),
+				new JobParameters(), new ExecutionContext());
+		step.status = BatchStatus.COMPLETED;
+
+		// when
+		StepExecution stepExecution = stepHandler.handleStep(step, restartExecution);
+
+		// then
+		assertEquals(BatchStatus.COMPLETED, stepExecution.getStatus());
+		assertEquals(2, stepExecution.getExecutionContext().getInt("count"));
+		assertEquals(2, jobRepository.getStepExecutionCount(jobExecution.getJobInstance(), "step"));
+	}
+
+	@Test
+	void testRestartWithStepExecutionDaoWithoutSummaries() throws Exception {
+		// given
+		setUp(new JdbcJobRepositoryFactoryBean() {
+			@Override
+			protected JdbcStepExecutionDao createStepExecutionDao() {
+				JdbcStepExecutionDao stepExecutionDao = spy(super.createStepExecutionDao());
+				doThrow(UnsupportedOperationException.class).when(stepExecutionDao).getStepExecutionSummaries(any());
+				return stepExecutionDao;
+			}
+		});
+
+		// when
+		testRestartWithExecutionContext();
+	}
+
+	@Test
+	void testStepExecutionHistoryPerJobExecution() throws Exception {
+		// given
+		JdbcStepExecutionDao[] stepExecutionDao = new JdbcStepExecutionDao[1];
+		setUp(new JdbcJobRepositoryFactoryBean() {
+			@Override
+			protected JdbcStepExecutionDao createStepExecutionDao() {
+				stepExecutionDao[0] = spy(super.createStepExecutionDao());
+				return stepExecutionDao[0];
+			}
+		});
+		JobParameters otherJobParameters = new JobParametersBuilder().addString("name", "other").toJobParameters();
+		JobInstance otherJobInstance = jobRepository.createJobInstance("job", otherJobParameters);
+		JobExecution otherJobExecution = jobRepository.createJobExecution(otherJobInstance, otherJobParameters,
+				new ExecutionContext());
+
+		// when
+		stepHandler.handleStep(new StubStep("step1"), jobExecution);
+		stepHandler.handleStep(new StubStep("step1"), otherJobExecution);
+		stepHandler.handleStep(new StubStep("step2"), jobExecution);
+		stepHandler.handleStep(new StubStep("step2"), otherJobExecution);
+
+		// then
+		verify(stepExecutionDao[0], times(2)).getStepExecutionSummaries(any());
+	}
+
+	@Test
+	void testStartLimitWithDuplicateStep() throws Exception {
+		// given
+		StubStep step = new StubStep("step");
+		step.setStartLimit(2);
+		stepHandler.handleStep(step, jobExecution);
+		stepHandler.handleStep(step, jobExecution);
+
+		// when
+		Executable thirdStart = () -> stepHandler.handleStep(step, jobExecution);
+
+		// then
+		assertThrows(StartLimitExceededException.class, thirdStart);
+	}
+
 	private class StubStep extends StepSupport {
 
+		private BatchStatus status = BatchStatus.COMPLETED;
+
 		private StubStep(String name) {
 			super(name);
 		}
 
 		@Override
 		public void execute(StepExecution stepExecution) throws JobInterruptedException {
-			stepExecution.setStatus(BatchStatus.COMPLETED);
-			stepExecution.setExitStatus(ExitStatus.COMPLETED);
+			ExecutionContext executionContext = stepExecution.getExecutionContext();
+			executionContext.putInt("count", executionContext.getInt("count", 0) + 1);
+			stepExecution.setStatus(status);
+			stepExecution.setExitStatus(new ExitStatus(status.name()));
 			jobRepository.update(stepExecution);
+			jobRepository.updateExecutionContext(stepExecution);
 		}
 
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,13 +26,16 @@ import org.springframework.batch.core.job.Job;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.job.parameters.JobParametersBuilder;
 import org.springframework.batch.core.job.parameters.InvalidJobParametersException;
 import org.springframework.batch.core.launch.NoSuchJobException;
 import org.springframework.batch.core.launch.JobExecutionAlreadyRunningException;
 import org.springframework.batch.core.launch.JobInstanceAlreadyCompleteException;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.JobRetentionPolicy;
 import org.springframework.batch.core.launch.JobRestartException;
 import org.springframework.batch.core.repository.support.JdbcJobRepositoryFactoryBean;
+import org.springframework.batch.core.repository.support.ResourcelessJobRepository;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.StepContribution;
 import org.springframework.batch.core.step.builder.StepBuilder;
@@ -97,6 +100,47 @@ class TaskExecutorJobOperatorTests {
 		Assertions.assertEquals(BatchStatus.COMPLETED, jobExecution.getStatus());
 	}
 
+	@Test
+	void testStartCompletedInstance() throws Exception {
+		JobParameters jobParameters = new JobParametersBuilder().addString("name", "foo").toJobParameters();
+		JobExecution jobExecution = jobOperator.start(job, jobParameters);
+		Assertions.assertEquals(BatchStatus.COMPLETED, jobExecution.getStatus());
+
+		Assertions.assertThrows(JobInstanceAlreadyCompleteException.class, () -> jobOperator.start(job, jobParameters));
+		Assertions.assertEquals(1, jobRepository.getJobInstanceCount("job"));
+	}
+
+	@Test
+	void testStartCompletedInstanceWithResourcelessJobRepository() throws Exception {
+		JobRepository resourcelessJobRepository = new ResourcelessJobRepository();
+		job = new JobBuilder("job", resourcelessJobRepository)
+			.start(new StepBuilder("step", resourcelessJobRepository)
+				.tasklet((contribution, chunkContext) -> RepeatStatus.FINISHED)
+				.build())
+			.build();
+		jobOperator.setJobRepository(resourcelessJobRepository);
+		jobOperator.afterPropertiesSet();
+		JobParameters jobParameters = new JobParametersBuilder().addString("name", "foo").toJobParameters();
+		JobExecution jobExecution = jobOperator.start(job, jobParameters);
+		Assertions.assertEquals(BatchStatus.COMPLETED, jobExecution.getStatus());
+
+		Assertions.assertThrows(JobInstanceAlreadyCompleteException.class, () -> jobOperator.start(job, jobParameters));
+	}
+
+	@Test
+	void testStartNonRestartableInstance() throws Exception {
+		job = new JobBuilder("job", jobRepository).preventRestart()
+			.start(new StepBuilder("step", jobRepository).tasklet((contribution, chunkContext) -> {
+				throw new RuntimeException("Planned failure");
+			}).build())
+			.build();
+		JobParameters jobParameters = new JobParametersBuilder().addString("name", "foo").toJobParameters();
+		JobExecution jobExecution = jobOperator.start(job, jobParameters);
+		Assertions.assertEquals(BatchStatus.FAILED, jobExecution.getStatus());
+
+		Assertions.assertThrows(JobRestartException.class, () -> jobOperator.start(job, jobParameters));
+	}
+
 	@Test
 	void testRestart() throws Exception {
 		Tasklet tasklet = new Tasklet() {
@@ -127,4 +171,16 @@ class TaskExecutorJobOperatorTests {
 		Assertions.assertEquals(BatchStatus.COMPLETED, jobExecution.getStatus());
 	}
 
+	@Test
+	void testDeleteJobInstances() throws Exception {
+		for (long i = 0; i < 5; i++) {
+			jobOperator.start(job, new JobParametersBuilder().addLong("run", i).toJobParameters());
+		}
+
+		long deleted = jobOperator.deleteJobInstances("job", JobRetentionPolicy.keepLatest(2), 2);
+
+		Assertions.assertEquals(3, deleted);
+		Assertions.assertEquals(2, jobRepository.getJobInstanceCount("job"));
+	}
+
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.partition.support;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.avro.AvroItemReader;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.UrlResource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AvroBlockPartitionerTests {
+
+	private static final Schema SCHEMA = SchemaBuilder.record("Item")
+		.fields()
+		.requiredInt("id")
+		.requiredString("name")
+		.endRecord();
+
+	private final AvroBlockPartitioner partitioner = new AvroBlockPartitioner();
+
+	@Test
+	void testMissingResource() {
+		partitioner.setResource(new FileSystemResource("does-not-exist"));
+		assertThrows(IllegalStateException.class, () -> partitioner.partition(2));
+	}
+
+	@Test
+	void testPartitionsCoverTheWholeFile(@TempDir Path tempDir) throws Exception {
+		// given
+		Path file = createFile(tempDir, 1000, 256);
+		partitioner.setResource(new FileSystemResource(file));
+
+		// when
+		Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+		// then
+		assertEquals(4, partitions.size());
+		long expectedStart = 0;
+		for (int i = 0; i < partitions.size(); i++) {
+			ExecutionContext context = partitions.get("partition" + i);
+			assertEquals(expectedStart, context.getLong("startOffset"));
+			expectedStart = context.getLong("endOffset");
+		}
+		assertEquals(Files.size(file), expectedStart);
+		assertEquals(expectedIds(1000), readPartitions(partitions));
+	}
+
+	@Test
+	void testPartitionsWithLargeBlocks(@TempDir Path tempDir) throws Exception {
+		// given
+		Path file = createFile(tempDir, 100, 1024 * 1024);
+		partitioner.setResource(new FileSystemResource(file));
+
+		// when
+		Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+		// then
+		assertEquals(1, partitions.size());
+		assertEquals(expectedIds(100), readPartitions(partitions));
+	}
+
+	private static Path createFile(Path directory, int count, int syncInterval) throws Exception {
+		Path file = directory.resolve("input.avro");
+		try (DataFileWriter<GenericRecord> writer = new DataFileWriter<>(new GenericDatumWriter<>(SCHEMA))) {
+			writer.setSyncInterval(syncInterval);
+			writer.create(SCHEMA, file.toFile());
+			for (int i = 0; i < count; i++) {
+				GenericRecord item = new GenericData.Record(SCHEMA);
+				item.put("id", i);
+				item.put("name", "name" + i);
+				writer.append(item);
+			}
+		}
+		return file;
+	}
+
+	private static List<Integer> expectedIds(int count) {
+		List<Integer> ids = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			ids.add(i);
+		}
+		return ids;
+	}
+
+	private static List<Integer> readPartitions(Map<String, ExecutionContext> partitions) throws Exception {
+		List<Integer> ids = new ArrayList<>();
+		for (int i = 0; i < partitions.size(); i++) {
+			ExecutionContext context = partitions.get("partition" + i);
+			AvroItemReader<GenericRecord> reader = new AvroItemReader<>(new UrlResource(context.getString("fileName")),
+					GenericRecord.class);
+			reader.setStartOffset(context.getLong("startOffset"));
+			reader.setEndOffset(context.getLong("endOffset"));
+			reader.open(new ExecutionContext());
+			GenericRecord item;
+			while ((item = reader.read()) != null) {
+				ids.add((Integer) item.get("id"));
+			}
+			reader.close();
+		}
+		return ids;
+	}
+
+}
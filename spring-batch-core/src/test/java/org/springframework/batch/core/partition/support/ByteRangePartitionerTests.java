@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.partition.support;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.file.FlatFileItemReader;
+import org.springframework.batch.infrastructure.item.file.mapping.PassThroughLineMapper;
+import org.springframework.batch.infrastructure.item.file.separator.DefaultRecordSeparatorPolicy;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.UrlResource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ByteRangePartitionerTests {
+
+	private final ByteRangePartitioner partitioner = new ByteRangePartitioner();
+
+	@Test
+	void testMissingResource() {
+		partitioner.setResource(new FileSystemResource("does-not-exist"));
+		assertThrows(IllegalStateException.class, () -> partitioner.partition(2));
+	}
+
+	@Test
+	void testPartitionsCoverTheWholeFile(@TempDir Path tempDir) throws Exception {
+		// given
+		Path file = createFile(tempDir, "id,name", 1000, i -> i + ",name" + i);
+		partitioner.setResource(new FileSystemResource(file));
+
+		// when
+		Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+		// then
+		assertEquals(4, partitions.size());
+		byte[] content = Files.readAllBytes(file);
+		long expectedStart = 0;
+		for (int i = 0; i < partitions.size(); i++) {
+			ExecutionContext context = partitions.get("partition" + i);
+			long start = context.getLong("startOffset");
+			long end = context.getLong("endOffset");
+			assertEquals(expectedStart, start);
+			assertTrue(start == 0 || content[(int) start - 1] == '\n');
+			assertTrue(new UrlResource(context.getString("fileName")).exists());
+			expectedStart = end;
+		}
+		assertEquals(content.length, expectedStart);
+		assertEquals(expectedLines(1000, i -> i + ",name" + i), readPartitions(partitions, 1, false));
+	}
+
+	@Test
+	void testPartitionsDoNotSplitQuotedRecords(@TempDir Path tempDir) throws Exception {
+		// given
+		Path file = createFile(tempDir, "id,comment", 500, i -> i + ",\"first\nsecond " + i + "\"");
+		partitioner.setResource(new FileSystemResource(file));
+
+		// when
+		Map<String, ExecutionContext> partitions = partitioner.partition(3);
+
+		// then
+		assertEquals(3, partitions.size());
+		assertEquals(expectedLines(500, i -> i + ",\"first\nsecond " + i + "\""), readPartitions(partitions, 1, true));
+	}
+
+	@Test
+	void testPartitionsWithoutQuoteScanning(@TempDir Path tempDir) throws Exception {
+		// given
+		Path file = createFile(tempDir, "id,name", 1000, i -> i + ",name" + i);
+		partitioner.setResource(new FileSystemResource(file));
+		partitioner.setHonorQuotes(false);
+
+		// when
+		Map<String, ExecutionContext> partitions = partitioner.partition(5);
+
+		// then
+		assertEquals(5, partitions.size());
+		assertEquals(expectedLines(1000, i -> i + ",name" + i), readPartitions(partitions, 1, false));
+	}
+
+	@Test
+	void testSmallFile(@TempDir Path tempDir) throws Exception {
+		// given
+		Path file = tempDir.resolve("input.csv");
+		Files.writeString(file, "a\n");
+		partitioner.setResource(new FileSystemResource(file));
+
+		// when
+		Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+		// then
+		assertEquals(1, partitions.size());
+		assertEquals(0, partitions.get("partition0").getLong("startOffset"));
+		assertEquals(2, partitions.get("partition0").getLong("endOffset"));
+	}
+
+	private static Path createFile(Path directory, String header, int count, IntFunction<String> line)
+			throws Exception {
+		StringBuilder content = new StringBuilder(header).append('\n');
+		for (int i = 0; i < count; i++) {
+			content.append(line.apply(i)).append('\n');
+		}
+		Path file = directory.resolve("input.csv");
+		Files.writeString(file, content);
+		return file;
+	}
+
+	private static List<String> expectedLines(int count, IntFunction<String> line) {
+		List<String> lines = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			lines.add(line.apply(i));
+		}
+		return lines;
+	}
+
+	private static List<String> readPartitions(Map<String, ExecutionContext> partitions, int linesToSkip,
+			boolean multiLineRecords) throws Exception {
+		List<String> lines = new ArrayList<>();
+		for (int i = 0; i < partitions.size(); i++) {
+			ExecutionContext context = partitions.get("partition" + i);
+			FlatFileItemReader<String> reader = new FlatFileItemReader<>(new UrlResource(context.getString("fileName")),
+					new PassThroughLineMapper());
+			reader.setLinesToSkip(linesToSkip);
+			if (multiLineRecords) {
+				reader.setRecordSeparatorPolicy(new DefaultRecordSeparatorPolicy());
+			}
+			reader.setStartOffset(context.getLong("startOffset"));
+			reader.setEndOffset(context.getLong("endOffset"));
+			reader.open(new ExecutionContext());
+			String line;
+			while ((line = reader.read()) != null) {
+				lines.add(line);
+			}
+			reader.close();
+		}
+		return lines;
+	}
+
+}
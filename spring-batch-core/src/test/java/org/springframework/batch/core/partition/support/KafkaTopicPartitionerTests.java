@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.partition.support;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KafkaTopicPartitionerTests {
+
+	private final MockConsumer<String, String> consumer = new MockConsumer<>("earliest");
+
+	private final KafkaTopicPartitioner partitioner = new KafkaTopicPartitioner(new Properties(), "topic") {
+		@Override
+		protected Consumer<?, ?> createConsumer(Properties consumerProperties) {
+			return consumer;
+		}
+	};
+
+	@Test
+	void testOnePartitionPerTopicPartition() {
+		// given
+		topic(Map.of(0, 10L, 1, 20L), Map.of(0, 100L, 1, 50L));
+
+		// when
+		Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+		// then
+		assertEquals(2, partitions.size());
+		assertEquals(Map.of("0", 10L), partitions.get("partition0").get("startOffsets"));
+		assertEquals(Map.of("0", 100L), partitions.get("partition0").get("endOffsets"));
+		assertEquals(Map.of("1", 20L), partitions.get("partition1").get("startOffsets"));
+		assertEquals(Map.of("1", 50L), partitions.get("partition1").get("endOffsets"));
+		assertTrue(consumer.closed());
+	}
+
+	@Test
+	void testTopicPartitionsAreGroupedByRecordCount() {
+		// given
+		topic(Map.of(0, 0L, 1, 0L, 2, 0L, 3, 0L), Map.of(0, 100L, 1, 60L, 2, 30L, 3, 30L));
+
+		// when
+		Map<String, ExecutionContext> partitions = partitioner.partition(2);
+
+		// then
+		assertEquals(2, partitions.size());
+		assertEquals(Map.of("0", 100L), partitions.get("partition0").get("endOffsets"));
+		assertEquals(Map.of("1", 60L, "2", 30L, "3", 30L), partitions.get("partition1").get("endOffsets"));
+		assertEquals(Map.of("1", 0L, "2", 0L, "3", 0L), partitions.get("partition1").get("startOffsets"));
+	}
+
+	@Test
+	void testUnknownTopic() {
+		assertThrows(IllegalStateException.class, () -> partitioner.partition(2));
+	}
+
+	private void topic(Map<Integer, Long> beginningOffsets, Map<Integer, Long> endOffsets) {
+		consumer.updatePartitions("topic",
+				beginningOffsets.keySet()
+					.stream()
+					.map(partition -> new PartitionInfo("topic", partition, null, null, null))
+					.toList());
+		consumer.updateBeginningOffsets(topicPartitions(beginningOffsets));
+		consumer.updateEndOffsets(topicPartitions(endOffsets));
+	}
+
+	private static Map<TopicPartition, Long> topicPartitions(Map<Integer, Long> offsets) {
+		Map<TopicPartition, Long> topicPartitionOffsets = new HashMap<>();
+		offsets
+			.forEach((partition, offset) -> topicPartitionOffsets.put(new TopicPartition("topic", partition), offset));
+		return topicPartitionOffsets;
+	}
+
+}
@@ -19,6 +19,7 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -274,6 +275,33 @@ class SimpleStepExecutionSplitterTests {
 		assertEquals(1, restartSplit.size());
 	}
 
+	@Test
+	void testRestartWithManyPartitionsRetainsExecutionContexts() throws Exception {
+		// more partitions than the step names looked up by a single query
+		Partitioner partitioner = gridSize -> {
+			Map<String, ExecutionContext> map = new HashMap<>();
+			for (int i = 0; i < gridSize; i++) {
+				map.put("partition" + i, new ExecutionContext(Map.of("index", i)));
+			}
+			return map;
+		};
+		SimpleStepExecutionSplitter provider = new SimpleStepExecutionSplitter(jobRepository, step.getName(),
+				partitioner);
+
+		Set<StepExecution> split = provider.split(stepExecution, 1200);
+		assertEquals(1200, split.size());
+
+		StepExecution restartStepExecution = updateMixedStatus(split, stepExecution);
+
+		Set<StepExecution> restartSplit = provider.split(restartStepExecution, 1200);
+		assertEquals(1199, restartSplit.size());
+		for (StepExecution execution : restartSplit) {
+			String index = execution.getStepName().substring("step:partition".length());
+			assertEquals(Integer.parseInt(index), execution.getExecutionContext().getInt("index"));
+			assertEquals(restartStepExecution.getJobExecutionId(), execution.getJobExecutionId());
+		}
+	}
+
 	private StepExecution updateMixedStatus(Set<StepExecution> split, StepExecution stepExecution) throws Exception {
 		boolean first = true;
 		for (StepExecution child : split) {
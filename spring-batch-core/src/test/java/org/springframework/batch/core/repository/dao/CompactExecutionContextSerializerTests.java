@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.dao;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactExecutionContextSerializerTests extends AbstractExecutionContextSerializerTests {
+
+	private final CompactExecutionContextSerializer serializer = new CompactExecutionContextSerializer();
+
+	@Test
+	void testSerializePrimitiveTypes() throws Exception {
+		// given
+		Map<String, Object> m1 = new HashMap<>();
+		m1.put("string", "foo éè");
+		m1.put("long", -42L);
+		m1.put("maxLong", Long.MAX_VALUE);
+		m1.put("int", 123456);
+		m1.put("minInt", Integer.MIN_VALUE);
+		m1.put("double", 3.14D);
+		m1.put("boolean", true);
+
+		// when
+		Map<String, Object> m2 = serializationRoundTrip(m1);
+
+		// then
+		assertEquals(m1, m2);
+		assertInstanceOf(Integer.class, m2.get("int"));
+		assertInstanceOf(Long.class, m2.get("long"));
+	}
+
+	@Test
+	void testSerializeMapsOfOffsets() throws Exception {
+		// given
+		Map<String, Long> hashMap = new HashMap<>();
+		hashMap.put("partition-0", 10L);
+		hashMap.put("partition-1", 20L);
+		Map<String, Long> linkedHashMap = new LinkedHashMap<>(hashMap);
+		Map<String, Long> treeMap = new TreeMap<>(hashMap);
+		Map<String, Object> m1 = new HashMap<>();
+		m1.put("hashMap", hashMap);
+		m1.put("linkedHashMap", linkedHashMap);
+		m1.put("treeMap", treeMap);
+
+		// when
+		Map<String, Object> m2 = serializationRoundTrip(m1);
+
+		// then
+		assertEquals(m1, m2);
+		assertEquals(HashMap.class, m2.get("hashMap").getClass());
+		assertEquals(LinkedHashMap.class, m2.get("linkedHashMap").getClass());
+		assertEquals(TreeMap.class, m2.get("treeMap").getClass());
+	}
+
+	@Test
+	void testSerializedContentIsSmallerThanDefault() throws Exception {
+		// given
+		Map<String, Object> context = new HashMap<>();
+		context.put("FlatFileItemReader.read.count", 12345L);
+		context.put("batch.taskletType", "org.springframework.batch.core.step.item.ChunkOrientedTasklet");
+		context.put("batch.stepType", "org.springframework.batch.core.step.tasklet.TaskletStep");
+		ByteArrayOutputStream compact = new ByteArrayOutputStream();
+		ByteArrayOutputStream standard = new ByteArrayOutputStream();
+
+		// when
+		this.serializer.serialize(context, compact);
+		new DefaultExecutionContextSerializer().serialize(context, standard);
+
+		// then
+		assertTrue(compact.size() < standard.size());
+	}
+
+	@Test
+	void testSerializeNonSerializable() {
+		Map<String, Object> m1 = new HashMap<>();
+		m1.put("object1", new Object());
+
+		assertThrows(IllegalArgumentException.class, () -> serializer.serialize(m1, new ByteArrayOutputStream()));
+	}
+
+	@Test
+	void testDeserializeUnsupportedVersion() {
+		byte[] content = Base64.getEncoder().encode(new byte[] { 2, 0 });
+
+		Exception exception = assertThrows(IllegalArgumentException.class,
+				() -> serializer.deserialize(new ByteArrayInputStream(content)));
+		assertEquals("Unsupported execution context format version: 2", exception.getMessage());
+	}
+
+	@Test
+	void testDeserializeCorruptedLength() {
+		// one entry whose key length is Integer.MAX_VALUE
+		byte[] content = Base64.getEncoder().encode(new byte[] { 1, 1, -1, -1, -1, -1, 7 });
+
+		Exception exception = assertThrows(IllegalArgumentException.class,
+				() -> serializer.deserialize(new ByteArrayInputStream(content)));
+		assertEquals("Invalid length in execution context content: " + Integer.MAX_VALUE, exception.getMessage());
+	}
+
+	@Test
+	void testDeserializeNegativeLength() {
+		// one entry whose key length is -1
+		byte[] content = Base64.getEncoder().encode(new byte[] { 1, 1, -1, -1, -1, -1, 15 });
+
+		assertThrows(IllegalArgumentException.class, () -> serializer.deserialize(new ByteArrayInputStream(content)));
+	}
+
+	@Override
+	protected ExecutionContextSerializer getSerializer() {
+		return this.serializer;
+	}
+
+}
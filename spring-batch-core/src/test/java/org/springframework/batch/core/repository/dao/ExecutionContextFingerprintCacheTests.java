@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.dao;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExecutionContextFingerprintCacheTests {
+
+	private final ExecutionContextFingerprintCache cache = new ExecutionContextFingerprintCache(2);
+
+	@Test
+	void testPersistedWithoutTransaction() {
+		// when
+		this.cache.persisted(1L, "foo");
+
+		// then
+		assertTrue(this.cache.isPersisted(1L, "foo"));
+		assertFalse(this.cache.isPersisted(1L, "bar"));
+		assertFalse(this.cache.isPersisted(2L, "foo"));
+	}
+
+	@Test
+	void testPersistedIsRecordedAfterCommit() {
+		// given
+		this.cache.persisted(1L, "foo");
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			// when
+			this.cache.persisted(1L, "bar");
+
+			// then
+			assertFalse(this.cache.isPersisted(1L, "foo"));
+			assertFalse(this.cache.isPersisted(1L, "bar"));
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+			assertTrue(this.cache.isPersisted(1L, "bar"));
+		}
+		finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void testEldestEntryIsEvicted() {
+		// when
+		this.cache.persisted(1L, "foo");
+		this.cache.persisted(2L, "foo");
+		this.cache.persisted(3L, "foo");
+
+		// then
+		assertFalse(this.cache.isPersisted(1L, "foo"));
+		assertTrue(this.cache.isPersisted(2L, "foo"));
+		assertTrue(this.cache.isPersisted(3L, "foo"));
+	}
+
+}
@@ -15,6 +15,7 @@
  */
 package org.springframework.batch.core.repository.dao.jdbc;
 
+import java.util.List;
 import java.util.Map;
 
 import org.jspecify.annotations.Nullable;
@@ -27,6 +28,7 @@ import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.repository.dao.Jackson2ExecutionContextStringSerializer;
 import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
@@ -127,4 +129,104 @@ class JdbcExecutionContextDaoTests {
 		Assertions.assertTrue(((String) shortContext).contains("\"name\":\"foo\""));
 	}
 
+	@Test
+	void testGetStepExecutionContexts() {
+		// given
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+		JobExecution jobExecution = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		List<StepExecution> stepExecutions = jdbcStepExecutionDao
+			.createStepExecutions(List.of("step:partition0", "step:partition1", "step:partition2"), jobExecution);
+		stepExecutions.get(0).getExecutionContext().putString("name", "foo");
+		stepExecutions.get(1).getExecutionContext().putString("name", "bar");
+		jdbcExecutionContextDao.saveExecutionContexts(stepExecutions.subList(0, 2));
+
+		// when
+		Map<Long, ExecutionContext> executionContexts = jdbcExecutionContextDao.getExecutionContexts(stepExecutions);
+
+		// then
+		Assertions.assertEquals(3, executionContexts.size());
+		Assertions.assertEquals("foo", executionContexts.get(stepExecutions.get(0).getId()).getString("name"));
+		Assertions.assertEquals("bar", executionContexts.get(stepExecutions.get(1).getId()).getString("name"));
+		Assertions.assertTrue(executionContexts.get(stepExecutions.get(2).getId()).isEmpty());
+	}
+
+	@Test
+	void testUpdateIdenticalStepExecutionContextIsSkipped() {
+		// given
+		jdbcExecutionContextDao.setSkipIdenticalContextUpdates(true);
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+		JobExecution jobExecution = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		StepExecution stepExecution = jdbcStepExecutionDao.createStepExecution("step", jobExecution);
+		stepExecution.getExecutionContext().putString("name", "foo");
+		jdbcExecutionContextDao.saveExecutionContext(stepExecution);
+		jdbcTemplate.update(
+				"update BATCH_STEP_EXECUTION_CONTEXT set SHORT_CONTEXT = 'marker' where STEP_EXECUTION_ID = ?",
+				stepExecution.getId());
+
+		// when
+		jdbcExecutionContextDao.updateExecutionContext(stepExecution);
+
+		// then
+		Assertions.assertEquals("marker", getShortContext(stepExecution));
+
+		// when
+		stepExecution.getExecutionContext().putString("name", "bar");
+		jdbcExecutionContextDao.updateExecutionContext(stepExecution);
+
+		// then
+		Assertions.assertTrue(getShortContext(stepExecution).contains("\"name\":\"bar\""));
+	}
+
+	@Test
+	void testUpdateCleanStepExecutionContextIsSkipped() {
+		// given
+		jdbcExecutionContextDao.setSkipCleanContextUpdates(true);
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+		JobExecution jobExecution = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		StepExecution stepExecution = jdbcStepExecutionDao.createStepExecution("step", jobExecution);
+		stepExecution.getExecutionContext().putString("name", "foo");
+		jdbcExecutionContextDao.saveExecutionContext(stepExecution);
+		stepExecution.getExecutionContext().clearDirtyFlag();
+
+		// when
+		stepExecution.getExecutionContext().putString("name", "foo");
+		jdbcTemplate.update(
+				"update BATCH_STEP_EXECUTION_CONTEXT set SHORT_CONTEXT = 'marker' where STEP_EXECUTION_ID = ?",
+				stepExecution.getId());
+		jdbcExecutionContextDao.updateExecutionContext(stepExecution);
+
+		// then
+		Assertions.assertEquals("marker", getShortContext(stepExecution));
+	}
+
+	@Test
+	void testUpdateStepExecutionContextIsNotSkippedByDefault() {
+		// given
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+		JobExecution jobExecution = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		StepExecution stepExecution = jdbcStepExecutionDao.createStepExecution("step", jobExecution);
+		stepExecution.getExecutionContext().putString("name", "foo");
+		jdbcExecutionContextDao.saveExecutionContext(stepExecution);
+		stepExecution.getExecutionContext().clearDirtyFlag();
+		jdbcTemplate.update(
+				"update BATCH_STEP_EXECUTION_CONTEXT set SHORT_CONTEXT = 'marker' where STEP_EXECUTION_ID = ?",
+				stepExecution.getId());
+
+		// when
+		jdbcExecutionContextDao.updateExecutionContext(stepExecution);
+
+		// then
+		Assertions.assertTrue(getShortContext(stepExecution).contains("\"name\":\"foo\""));
+	}
+
+	private String getShortContext(StepExecution stepExecution) {
+		return jdbcTemplate.queryForObject(
+				"select SHORT_CONTEXT from BATCH_STEP_EXECUTION_CONTEXT where STEP_EXECUTION_ID = ?", String.class,
+				stepExecution.getId());
+	}
+
 }
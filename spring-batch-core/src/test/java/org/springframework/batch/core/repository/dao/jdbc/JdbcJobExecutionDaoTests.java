@@ -20,11 +20,13 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
@@ -171,4 +173,23 @@ public class JdbcJobExecutionDaoTests {
 		Assertions.assertEquals(jobExecution1.getId(), jobExecutions.get(1).getId());
 	}
 
+	@Test
+	void testGetJobExecutionStatusesInOrder() {
+		// given
+		JobParameters jobParameters = new JobParametersBuilder().addString("name", "foo").toJobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+		JobExecution jobExecution1 = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		jobExecution1.setStatus(BatchStatus.FAILED);
+		jdbcJobExecutionDao.updateJobExecution(jobExecution1);
+		JobExecution jobExecution2 = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+
+		// when
+		Map<Long, BatchStatus> statuses = jdbcJobExecutionDao.getJobExecutionStatuses(jobInstance);
+
+		// then
+		Assertions.assertEquals(List.of(jobExecution2.getId(), jobExecution1.getId()), List.copyOf(statuses.keySet()));
+		Assertions.assertEquals(BatchStatus.STARTING, statuses.get(jobExecution2.getId()));
+		Assertions.assertEquals(BatchStatus.FAILED, statuses.get(jobExecution1.getId()));
+	}
+
 }
@@ -15,15 +15,20 @@
  */
 package org.springframework.batch.core.repository.dao.jdbc;
 
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.core.step.StepExecutionSummary;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
@@ -32,6 +37,7 @@ import org.springframework.jdbc.support.incrementer.H2SequenceMaxValueIncremente
 import org.springframework.test.jdbc.JdbcTestUtils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class JdbcStepExecutionDaoTests {
@@ -94,6 +100,95 @@ class JdbcStepExecutionDaoTests {
 		assertEquals(1, stepExecutionsCount);
 	}
 
+	@Test
+	void testCreateStepExecutions() {
+		// given
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+		JobExecution jobExecution = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+
+		// when
+		List<StepExecution> stepExecutions = jdbcStepExecutionDao
+			.createStepExecutions(List.of("step:partition0", "step:partition1", "step:partition2"), jobExecution);
+
+		// then
+		assertEquals(3, stepExecutions.size());
+		assertEquals("step:partition0", stepExecutions.get(0).getStepName());
+		assertEquals("step:partition2", stepExecutions.get(2).getStepName());
+		assertEquals(3, JdbcTestUtils.countRowsInTable(jdbcTemplate, "BATCH_STEP_EXECUTION"));
+		StepExecution retrieved = jdbcStepExecutionDao.getStepExecution(stepExecutions.get(1).getId());
+		Assertions.assertNotNull(retrieved);
+		assertEquals("step:partition1", retrieved.getStepName());
+		assertEquals(stepExecutions.get(1).getVersion(), retrieved.getVersion());
+	}
+
+	@Test
+	void testGetLastStepExecutions() {
+		// given
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+		JobExecution firstJobExecution = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		jdbcStepExecutionDao.createStepExecutions(List.of("step:partition0", "step:partition1"), firstJobExecution);
+		JobExecution secondJobExecution = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		StepExecution lastStepExecution = jdbcStepExecutionDao.createStepExecution("step:partition1",
+				secondJobExecution);
+
+		// when
+		Map<String, StepExecution> lastStepExecutions = jdbcStepExecutionDao.getLastStepExecutions(jobInstance,
+				List.of("step:partition0", "step:partition1", "step:partition2"));
+
+		// then
+		assertEquals(2, lastStepExecutions.size());
+		assertFalse(lastStepExecutions.containsKey("step:partition2"));
+		assertEquals(firstJobExecution.getId(), lastStepExecutions.get("step:partition0").getJobExecutionId());
+		assertEquals(lastStepExecution.getId(), lastStepExecutions.get("step:partition1").getId());
+		assertEquals(secondJobExecution.getId(), lastStepExecutions.get("step:partition1").getJobExecutionId());
+	}
+
+	@Test
+	void testGetStepExecutionSummaries() {
+		// given
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+		JobExecution firstJobExecution = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		jdbcStepExecutionDao.createStepExecution("step1", firstJobExecution);
+		jdbcStepExecutionDao.createStepExecution("step2", firstJobExecution);
+		JobExecution secondJobExecution = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		StepExecution lastStepExecution = jdbcStepExecutionDao.createStepExecution("step2", secondJobExecution);
+
+		// when
+		Map<String, StepExecutionSummary> summaries = jdbcStepExecutionDao.getStepExecutionSummaries(jobInstance);
+
+		// then
+		assertEquals(2, summaries.size());
+		assertEquals(1, summaries.get("step1").executionCount());
+		assertEquals(firstJobExecution.getId(), summaries.get("step1").lastStepExecution().getJobExecutionId());
+		assertEquals(2, summaries.get("step2").executionCount());
+		assertEquals(lastStepExecution.getId(), summaries.get("step2").lastStepExecution().getId());
+		assertEquals(secondJobExecution.getId(), summaries.get("step2").lastStepExecution().getJobExecutionId());
+	}
+
+	@Test
+	void testGetStepExecutionStatuses() {
+		// given
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+		JobExecution jobExecution = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		List<StepExecution> stepExecutions = jdbcStepExecutionDao
+			.createStepExecutions(List.of("step:partition0", "step:partition1"), jobExecution);
+		StepExecution completedStepExecution = stepExecutions.get(1);
+		completedStepExecution.setStatus(BatchStatus.COMPLETED);
+		jdbcStepExecutionDao.updateStepExecution(completedStepExecution);
+
+		// when
+		Map<Long, BatchStatus> statuses = jdbcStepExecutionDao
+			.getStepExecutionStatuses(List.of(stepExecutions.get(0).getId(), completedStepExecution.getId(), 12345L));
+
+		// then
+		assertEquals(Map.of(stepExecutions.get(0).getId(), BatchStatus.STARTING, completedStepExecution.getId(),
+				BatchStatus.COMPLETED), statuses);
+	}
+
 	/**
 	 * Long exit descriptions are truncated on update.
 	 */
@@ -126,6 +221,45 @@ class JdbcStepExecutionDaoTests {
 
 	}
 
+	@Test
+	void testUpdateStepExecutionIfJobExecutionUnchanged() {
+		// given
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+		JobExecution jobExecution = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		StepExecution stepExecution = jdbcStepExecutionDao.createStepExecution("step", jobExecution);
+		stepExecution.setReadCount(5);
+
+		// when
+		boolean updated = jdbcStepExecutionDao.updateStepExecutionIfJobExecutionUnchanged(stepExecution);
+
+		// then
+		assertTrue(updated);
+		assertEquals(1, stepExecution.getVersion());
+		assertEquals(5, jdbcStepExecutionDao.getStepExecution(stepExecution.getId()).getReadCount());
+	}
+
+	@Test
+	void testUpdateStepExecutionIfJobExecutionUnchangedWhenJobExecutionChanged() {
+		// given
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+		JobExecution jobExecution = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		StepExecution stepExecution = jdbcStepExecutionDao.createStepExecution("step", jobExecution);
+		// simulate a concurrent update of the job execution (eg a stop request)
+		jdbcTemplate.update("UPDATE BATCH_JOB_EXECUTION SET VERSION = VERSION + 1 WHERE JOB_EXECUTION_ID = ?",
+				jobExecution.getId());
+		stepExecution.setReadCount(5);
+
+		// when
+		boolean updated = jdbcStepExecutionDao.updateStepExecutionIfJobExecutionUnchanged(stepExecution);
+
+		// then
+		Assertions.assertFalse(updated);
+		assertEquals(0, stepExecution.getVersion());
+		assertEquals(0, jdbcStepExecutionDao.getStepExecution(stepExecution.getId()).getReadCount());
+	}
+
 	@Test
 	void testCountStepExecutions() {
 		// Given
@@ -23,6 +23,7 @@ import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.job.parameters.JobParametersBuilder;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.JobRetentionPolicy;
 import org.springframework.batch.core.step.Step;
 import org.springframework.batch.core.step.StepExecution;
 import org.springframework.batch.core.job.JobSupport;
@@ -33,6 +34,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -178,6 +180,52 @@ abstract class AbstractJobRepositoryIntegrationTests {
 		assertEquals(ctx, retrievedStepExec.getExecutionContext());
 	}
 
+	/*
+	 * Save step execution and execution context at once and retrieve them.
+	 */
+	@Test
+	void testUpdateWithExecutionContext() {
+		JobInstance jobInstance = jobRepository.createJobInstance(job.getName(), jobParameters);
+		JobExecution jobExec = jobRepository.createJobExecution(jobInstance, jobParameters, new ExecutionContext());
+		Step step = new StepSupport("step1");
+		StepExecution stepExec = jobRepository.createStepExecution(step.getName(), jobExec);
+		stepExec.setReadCount(3);
+		stepExec.getExecutionContext().put("crashedPosition", 3);
+
+		jobRepository.updateWithExecutionContext(stepExec);
+
+		assertFalse(stepExec.getExecutionContext().isDirty());
+		assertFalse(stepExec.isTerminateOnly());
+		StepExecution retrievedStepExec = jobRepository.getStepExecution(stepExec.getId());
+		assertEquals(3, retrievedStepExec.getReadCount());
+		assertEquals(3, retrievedStepExec.getExecutionContext().getInt("crashedPosition"));
+		assertEquals(stepExec.getVersion(), retrievedStepExec.getVersion());
+	}
+
+	/*
+	 * A stop request on the job execution is detected when saving the step execution and
+	 * execution context at once.
+	 */
+	@Test
+	void testUpdateWithExecutionContextWhenJobExecutionIsStopping() {
+		JobInstance jobInstance = jobRepository.createJobInstance(job.getName(), jobParameters);
+		JobExecution jobExec = jobRepository.createJobExecution(jobInstance, jobParameters, new ExecutionContext());
+		jobExec.setStartTime(LocalDateTime.now());
+		jobExec.setStatus(BatchStatus.STARTED);
+		jobRepository.update(jobExec);
+		Step step = new StepSupport("step1");
+		StepExecution stepExec = jobRepository.createStepExecution(step.getName(), jobExec);
+		JobExecution stoppingJobExec = jobRepository.getJobExecution(jobExec.getId());
+		stoppingJobExec.setStatus(BatchStatus.STOPPING);
+		jobRepository.update(stoppingJobExec);
+
+		stepExec.setReadCount(3);
+		jobRepository.updateWithExecutionContext(stepExec);
+
+		assertTrue(stepExec.isTerminateOnly());
+		assertEquals(3, jobRepository.getStepExecution(stepExec.getId()).getReadCount());
+	}
+
 	/*
 	 * If JobExecution is already running, exception will be thrown in attempt to create
 	 * new execution.
@@ -277,6 +325,68 @@ abstract class AbstractJobRepositoryIntegrationTests {
 		assertNull(jobRepository.getLastJobExecution(job.getName(), jobParameters));
 	}
 
+	@Test
+	void testDeleteJobInstancesBeyondRetainedInstances() throws Exception {
+		// given
+		List<JobInstance> jobInstances = createCompletedJobInstances(5);
+
+		// when
+		int firstBatch = jobRepository.deleteJobInstances(job.getName(), JobRetentionPolicy.keepLatest(2), 2);
+		int secondBatch = jobRepository.deleteJobInstances(job.getName(), JobRetentionPolicy.keepLatest(2), 2);
+
+		// then
+		assertEquals(2, firstBatch);
+		assertEquals(1, secondBatch);
+		assertEquals(List.of(jobInstances.get(4), jobInstances.get(3)),
+				jobRepository.getJobInstances(job.getName(), 0, 5));
+		assertNull(jobRepository.getJobInstance(jobInstances.get(0).getId()));
+		assertEquals(1, jobRepository.getJobExecutions(jobInstances.get(3)).size());
+		assertEquals(1, jobRepository.getStepExecutionCount(jobInstances.get(3), "step"));
+	}
+
+	@Test
+	void testDeleteJobInstancesOlderThanCutoff() {
+		// given
+		List<JobInstance> jobInstances = createCompletedJobInstances(3);
+		JobExecution runningExecution = jobRepository.createJobExecution(jobInstances.get(1),
+				jobRepository.getJobExecutions(jobInstances.get(1)).get(0).getJobParameters(), new ExecutionContext());
+		jobRepository.createJobInstance(job.getName(), new JobParametersBuilder().addLong("id", 10L).toJobParameters());
+
+		// when
+		int deletedBeforePast = jobRepository.deleteJobInstances(job.getName(),
+				JobRetentionPolicy.olderThan(LocalDateTime.now().minusDays(1)), 10);
+		int deletedBeforeFuture = jobRepository.deleteJobInstances(job.getName(),
+				JobRetentionPolicy.olderThan(LocalDateTime.now().plusDays(1)), 10);
+
+		// then
+		assertEquals(0, deletedBeforePast);
+		assertEquals(2, deletedBeforeFuture);
+		// job instances with a running execution or without any execution never expire
+		assertEquals(2, jobRepository.getJobInstances(job.getName(), 0, 10).size());
+		assertEquals(runningExecution, jobRepository.getLastJobExecution(jobInstances.get(1)));
+	}
+
+	private List<JobInstance> createCompletedJobInstances(int count) {
+		List<JobInstance> jobInstances = new ArrayList<>();
+		for (long i = 0; i < count; i++) {
+			JobParameters jobParameters = new JobParametersBuilder().addLong("id", i).toJobParameters();
+			JobInstance jobInstance = jobRepository.createJobInstance(job.getName(), jobParameters);
+			JobExecution jobExecution = jobRepository.createJobExecution(jobInstance, jobParameters,
+					new ExecutionContext(Map.of("job", i)));
+			StepExecution stepExecution = jobRepository.createStepExecution("step", jobExecution);
+			stepExecution.getExecutionContext().put("step", i);
+			stepExecution.setStatus(BatchStatus.COMPLETED);
+			stepExecution.setEndTime(LocalDateTime.now());
+			jobRepository.update(stepExecution);
+			jobRepository.updateExecutionContext(stepExecution);
+			jobExecution.setStatus(BatchStatus.COMPLETED);
+			jobExecution.setEndTime(LocalDateTime.now());
+			jobRepository.update(jobExecution);
+			jobInstances.add(jobInstance);
+		}
+		return jobInstances;
+	}
+
 	@Test
 	void testUpdateResetsDirtyFlag() {
 		JobInstance jobInstance = jobRepository.createJobInstance(job.getName(), jobParameters);
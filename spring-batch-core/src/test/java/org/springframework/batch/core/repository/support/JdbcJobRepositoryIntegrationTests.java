@@ -1,5 +1,5 @@
 /*
- * Copyright 2008-2025 the original author or authors.
+ * Copyright 2008-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,13 +16,32 @@
 package org.springframework.batch.core.repository.support;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.JobRetentionPolicy;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.FileSystemResource;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.jdbc.support.JdbcTransactionManager;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 
 import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
  * Repository tests using JDBC DAOs (rather than mocks).
@@ -45,4 +64,61 @@ public class JdbcJobRepositoryIntegrationTests extends AbstractJobRepositoryInte
 		}
 	}
 
+	@Test
+	void testDeleteJobInstancesWithArchive() throws Exception {
+		// given
+		createArchiveTables();
+		JdbcJobRepositoryFactoryBean factory = new JdbcJobRepositoryFactoryBean();
+		factory.setDataSource(this.dataSource);
+		factory.setTransactionManager(new JdbcTransactionManager(this.dataSource));
+		factory.setArchiveTablePrefix("ARCHIVE_");
+		factory.afterPropertiesSet();
+		JobRepository jobRepository = factory.getObject();
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = jobRepository.createJobInstance("job", jobParameters);
+		JobExecution jobExecution = jobRepository.createJobExecution(jobInstance, jobParameters,
+				new ExecutionContext(Map.of("foo", "bar")));
+		StepExecution stepExecution = jobRepository.createStepExecution("step", jobExecution);
+		stepExecution.setStatus(BatchStatus.COMPLETED);
+		jobRepository.update(stepExecution);
+		jobExecution.setStatus(BatchStatus.COMPLETED);
+		jobExecution.setEndTime(LocalDateTime.now());
+		jobRepository.update(jobExecution);
+
+		// when
+		int deleted = jobRepository.deleteJobInstances("job",
+				JobRetentionPolicy.olderThan(LocalDateTime.now().plusDays(1)), 10);
+
+		// then
+		assertEquals(1, deleted);
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(this.dataSource);
+		for (String table : new String[] { "JOB_INSTANCE", "JOB_EXECUTION", "JOB_EXECUTION_PARAMS",
+				"JOB_EXECUTION_CONTEXT", "STEP_EXECUTION", "STEP_EXECUTION_CONTEXT" }) {
+			assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM BATCH_" + table, Integer.class), table);
+		}
+		assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ARCHIVE_JOB_INSTANCE", Integer.class));
+		assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ARCHIVE_JOB_EXECUTION", Integer.class));
+		assertEquals(1,
+				jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ARCHIVE_JOB_EXECUTION_CONTEXT", Integer.class));
+		assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ARCHIVE_STEP_EXECUTION", Integer.class));
+		assertEquals(1,
+				jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ARCHIVE_STEP_EXECUTION_CONTEXT", Integer.class));
+	}
+
+	/*
+	 * Archive tables are created with the standard schema under another prefix, with
+	 * renamed constraints since their names are global.
+	 */
+	private void createArchiveTables() throws Exception {
+		try (Connection connection = dataSource.getConnection()) {
+			for (String script : new String[] { "schema-drop-hsqldb.sql", "schema-hsqldb.sql" }) {
+				String sql = Files.readString(Path.of("src/main/resources/org/springframework/batch/core", script));
+				ScriptUtils.executeSqlScript(connection,
+						new ByteArrayResource(sql.replace("BATCH_", "ARCHIVE_")
+							.replaceAll("(?i)constraint (\\w+)", "constraint ARCHIVE_$1")
+							.getBytes(StandardCharsets.UTF_8)));
+			}
+		}
+	}
+
 }
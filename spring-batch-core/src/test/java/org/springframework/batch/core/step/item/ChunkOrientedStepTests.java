@@ -15,9 +15,14 @@
  */
 package org.springframework.batch.core.step.item;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -25,6 +30,8 @@ import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.listener.ChunkListener;
+import org.springframework.batch.core.observability.InstrumentationLevel;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.repository.support.ResourcelessJobRepository;
 import org.springframework.batch.core.step.FatalStepExecutionException;
@@ -34,14 +41,19 @@ import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.skip.NeverSkipItemSkipPolicy;
 import org.springframework.batch.core.step.skip.NonSkippableProcessException;
 import org.springframework.batch.infrastructure.item.*;
+import org.springframework.batch.infrastructure.item.support.AbstractItemCountingItemStreamItemReader;
 import org.springframework.batch.infrastructure.item.support.ListItemReader;
 import org.springframework.batch.infrastructure.item.support.ListItemWriter;
 import org.springframework.batch.infrastructure.support.transaction.ResourcelessTransactionManager;
 import org.springframework.core.retry.RetryPolicy;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.SyncTaskExecutor;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -509,4 +521,287 @@ public class ChunkOrientedStepTests {
 				"Sequential mode should have accurate process skip count");
 	}
 
+	@Test
+	void testPipelinedModeWritesAllChunksInOrder() throws Exception {
+		// given
+		List<Integer> items = List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+		ListItemWriter<Integer> writer = new ListItemWriter<>();
+		ChunkOrientedStep<Integer, Integer> step = new StepBuilder("step", new ResourcelessJobRepository())
+			.<Integer, Integer>chunk(3)
+			.reader(new ListItemReader<>(items))
+			.writer(writer)
+			.pipelineDepth(2)
+			.build();
+		JobInstance jobInstance = new JobInstance(1L, "job");
+		JobExecution jobExecution = new JobExecution(1L, jobInstance, new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertEquals(ExitStatus.COMPLETED.getExitCode(), stepExecution.getExitStatus().getExitCode());
+		assertEquals(items, writer.getWrittenItems());
+		assertEquals(10, stepExecution.getReadCount());
+		assertEquals(10, stepExecution.getWriteCount());
+		assertEquals(4, stepExecution.getCommitCount());
+	}
+
+	@Test
+	void testPipelinedModeSavesReaderStateOfLastCommittedChunk() throws Exception {
+		// given
+		AbstractItemCountingItemStreamItemReader<Integer> reader = new AbstractItemCountingItemStreamItemReader<>() {
+
+			private int current = 0;
+
+			@Override
+			protected @Nullable Integer doRead() {
+				return this.current < 20 ? ++this.current : null;
+			}
+
+			@Override
+			protected void doOpen() {
+			}
+
+			@Override
+			protected void doClose() {
+			}
+		};
+		reader.setName("reader");
+		ItemWriter<Integer> writer = chunk -> {
+			if (chunk.getItems().contains(4)) {
+				throw new IllegalStateException("Simulated write failure");
+			}
+		};
+		ChunkOrientedStep<Integer, Integer> step = new StepBuilder("step", new ResourcelessJobRepository())
+			.<Integer, Integer>chunk(3)
+			.reader(reader)
+			.writer(writer)
+			.pipelineDepth(2)
+			.build();
+		JobInstance jobInstance = new JobInstance(1L, "job");
+		JobExecution jobExecution = new JobExecution(1L, jobInstance, new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		step.execute(stepExecution);
+
+		// then: the saved read count is the one of the first chunk, not of read-ahead
+		// chunks
+		assertEquals(ExitStatus.FAILED.getExitCode(), stepExecution.getExitStatus().getExitCode());
+		assertEquals(1, stepExecution.getCommitCount());
+		assertEquals(1, stepExecution.getRollbackCount());
+		assertEquals(3, stepExecution.getExecutionContext().getInt("reader.read.count"));
+	}
+
+	@Test
+	void testPipelinedModeFailsOnReadError() throws Exception {
+		// given
+		ItemReader<String> reader = mock();
+		when(reader.read()).thenReturn("1", "2", "3").thenThrow(new IllegalStateException("Simulated read failure"));
+		ListItemWriter<String> writer = new ListItemWriter<>();
+		JobRepository jobRepository = new ResourcelessJobRepository();
+		ChunkOrientedStep<String, String> step = new ChunkOrientedStep<>("step", 2, reader, writer, jobRepository);
+		step.setPipelineDepth(1);
+		step.afterPropertiesSet();
+		JobInstance jobInstance = new JobInstance(1L, "job");
+		JobExecution jobExecution = new JobExecution(1L, jobInstance, new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertEquals(ExitStatus.FAILED.getExitCode(), stepExecution.getExitStatus().getExitCode());
+		assertEquals(List.of("1", "2"), writer.getWrittenItems());
+		assertInstanceOf(FatalStepExecutionException.class, stepExecution.getFailureExceptions().get(0));
+	}
+
+	@Test
+	void testPipelinedModeFailsWithReadStageError() throws Exception {
+		// given
+		Error error = new ExceptionInInitializerError("Simulated read stage error");
+		ItemReader<String> reader = mock();
+		when(reader.read()).thenReturn("1", "2", "3").thenThrow(error);
+		ListItemWriter<String> writer = new ListItemWriter<>();
+		ChunkOrientedStep<String, String> step = new ChunkOrientedStep<>("step", 2, reader, writer,
+				new ResourcelessJobRepository());
+		step.setPipelineDepth(1);
+		step.afterPropertiesSet();
+		JobInstance jobInstance = new JobInstance(1L, "job");
+		JobExecution jobExecution = new JobExecution(1L, jobInstance, new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertEquals(ExitStatus.FAILED.getExitCode(), stepExecution.getExitStatus().getExitCode());
+		assertSame(error, stepExecution.getFailureExceptions().get(0));
+	}
+
+	@Test
+	void testPipelinedModeFailsWhenReadStageRunsOnStepThread() throws Exception {
+		// given
+		ChunkOrientedStep<Integer, Integer> step = new ChunkOrientedStep<>("step", 2,
+				new ListItemReader<>(List.of(1, 2, 3, 4, 5, 6)), new ListItemWriter<>(),
+				new ResourcelessJobRepository());
+		step.setPipelineDepth(1);
+		step.setPipelineTaskExecutor(Runnable::run);
+		step.afterPropertiesSet();
+		JobInstance jobInstance = new JobInstance(1L, "job");
+		JobExecution jobExecution = new JobExecution(1L, jobInstance, new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertEquals(ExitStatus.FAILED.getExitCode(), stepExecution.getExitStatus().getExitCode());
+		assertInstanceOf(IllegalStateException.class, stepExecution.getFailureExceptions().get(0).getCause());
+	}
+
+	@Test
+	void testPipelinedModeRejectsAdditionalItemStreams() {
+		// given
+		ChunkOrientedStep<Integer, Integer> step = new ChunkOrientedStep<>("step", 2,
+				new ListItemReader<>(List.of(1, 2, 3)), new ListItemWriter<>(), new ResourcelessJobRepository());
+		step.setPipelineDepth(1);
+		step.registerItemStream(new ItemStream() {
+		});
+
+		// when & then
+		assertThrows(IllegalStateException.class, step::afterPropertiesSet);
+	}
+
+	@Test
+	void testPipelinedModeNotifiesChunkListenerOnStepThreadInOrder() throws Exception {
+		// given
+		List<String> events = new ArrayList<>();
+		Thread stepThread = Thread.currentThread();
+		ChunkOrientedStep<Integer, Integer> step = new ChunkOrientedStep<>("step", 2,
+				new ListItemReader<>(List.of(1, 2, 3, 4, 5, 6)), new ListItemWriter<>(),
+				new ResourcelessJobRepository());
+		step.setPipelineDepth(2);
+		step.registerChunkListener(new ChunkListener<>() {
+			@Override
+			public void beforeChunk(Chunk<Integer> chunk) {
+				assertSame(stepThread, Thread.currentThread());
+				events.add("before" + chunk.getItems());
+			}
+
+			@Override
+			public void afterChunk(Chunk<Integer> chunk) {
+				events.add("after" + chunk.getItems());
+			}
+		});
+		step.afterPropertiesSet();
+		JobInstance jobInstance = new JobInstance(1L, "job");
+		JobExecution jobExecution = new JobExecution(1L, jobInstance, new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertEquals(ExitStatus.COMPLETED.getExitCode(), stepExecution.getExitStatus().getExitCode());
+		assertEquals(
+				List.of("before[1, 2]", "after[1, 2]", "before[3, 4]", "after[3, 4]", "before[5, 6]", "after[5, 6]"),
+				events);
+	}
+
+	@Test
+	void testSynchronousPipelineTaskExecutorIsRejected() {
+		ChunkOrientedStep<Integer, Integer> step = new ChunkOrientedStep<>("step", 2, new ListItemReader<>(List.of()),
+				new ListItemWriter<>(), new ResourcelessJobRepository());
+		assertThrows(IllegalArgumentException.class, () -> step.setPipelineTaskExecutor(new SyncTaskExecutor()));
+	}
+
+	@Test
+	void testChunkInstrumentationLevelRecordsChunkMetersOnly() throws Exception {
+		// given
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		ObservationRegistry observationRegistry = ObservationRegistry.create();
+		observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+		ChunkOrientedStep<Integer, Integer> step = new StepBuilder("step", new ResourcelessJobRepository())
+			.<Integer, Integer>chunk(2)
+			.reader(new ListItemReader<>(List.of(1, 2, 3, 4, 5)))
+			.writer(items -> {
+			})
+			.observationRegistry(observationRegistry)
+			.meterRegistry(meterRegistry)
+			.instrumentationLevel(InstrumentationLevel.CHUNK)
+			.build();
+		JobInstance jobInstance = new JobInstance(1L, "job");
+		JobExecution jobExecution = new JobExecution(1L, jobInstance, new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertEquals(3, meterRegistry.get("spring.batch.chunk.read").timer().count());
+		assertEquals(5, meterRegistry.get("spring.batch.chunk.items").summary().totalAmount());
+		assertEquals(3, meterRegistry.get("spring.batch.chunk.write").timer().count());
+		assertNull(meterRegistry.find("spring.batch.item.read").timer());
+		assertNull(meterRegistry.find("spring.batch.item.process").timer());
+	}
+
+	@Test
+	void testSampledInstrumentationLevelObservesOneItemOutOfN() throws Exception {
+		// given
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		ObservationRegistry observationRegistry = ObservationRegistry.create();
+		observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+		ChunkOrientedStep<Integer, Integer> step = new StepBuilder("step", new ResourcelessJobRepository())
+			.<Integer, Integer>chunk(3)
+			.reader(new ListItemReader<>(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10)))
+			.processor(item -> item)
+			.writer(items -> {
+			})
+			.observationRegistry(observationRegistry)
+			.instrumentationLevel(InstrumentationLevel.SAMPLED)
+			.instrumentationSamplingRate(5)
+			.build();
+		JobInstance jobInstance = new JobInstance(1L, "job");
+		JobExecution jobExecution = new JobExecution(1L, jobInstance, new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		step.execute(stepExecution);
+
+		// then: 11 reads (including the last null read) and 10 process calls
+		assertEquals(3, meterRegistry.get("spring.batch.item.read").timer().count());
+		assertEquals(2, meterRegistry.get("spring.batch.item.process").timer().count());
+		assertEquals(4, meterRegistry.get("spring.batch.chunk.write").timer().count());
+	}
+
+	@Test
+	void testOffInstrumentationLevelDoesNotObserveItemsAndChunks() throws Exception {
+		// given
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		ObservationRegistry observationRegistry = ObservationRegistry.create();
+		observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+		ChunkOrientedStep<Integer, Integer> step = new StepBuilder("step", new ResourcelessJobRepository())
+			.<Integer, Integer>chunk(2)
+			.reader(new ListItemReader<>(List.of(1, 2, 3)))
+			.writer(items -> {
+			})
+			.observationRegistry(observationRegistry)
+			.meterRegistry(meterRegistry)
+			.instrumentationLevel(InstrumentationLevel.OFF)
+			.build();
+		JobInstance jobInstance = new JobInstance(1L, "job");
+		JobExecution jobExecution = new JobExecution(1L, jobInstance, new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertNull(meterRegistry.find("spring.batch.item.read").timer());
+		assertNull(meterRegistry.find("spring.batch.chunk.write").timer());
+		assertNull(meterRegistry.find("spring.batch.chunk.read").timer());
+	}
+
 }
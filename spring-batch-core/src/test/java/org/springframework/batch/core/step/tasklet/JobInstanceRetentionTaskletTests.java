@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.step.tasklet;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.JobRetentionPolicy;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.step.StepContribution;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.repeat.RepeatStatus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobInstanceRetentionTaskletTests {
+
+	private final JobRepository jobRepository = mock();
+
+	private final StepExecution stepExecution = new StepExecution(1L, "purgeStep",
+			new JobExecution(1L, new JobInstance(1L, "purgeJob"), new JobParameters()));
+
+	private final StepContribution contribution = new StepContribution(stepExecution);
+
+	private final ChunkContext chunkContext = new ChunkContext(new StepContext(stepExecution));
+
+	@Test
+	void testMaxAgeOrRetainedInstancesIsRequired() {
+		// given
+		JobInstanceRetentionTasklet tasklet = new JobInstanceRetentionTasklet(jobRepository);
+
+		// when
+		Exception exception = assertThrows(IllegalStateException.class, tasklet::afterPropertiesSet);
+
+		// then
+		assertEquals("Either maxAge or a positive number of retainedInstances must be set", exception.getMessage());
+	}
+
+	@Test
+	void testDeleteOneBatchPerCall() throws Exception {
+		// given
+		JobInstanceRetentionTasklet tasklet = new JobInstanceRetentionTasklet(jobRepository);
+		tasklet.setRetainedInstances(5);
+		tasklet.setBatchSize(10);
+		when(jobRepository.getJobNames()).thenReturn(List.of("job1", "job2"));
+		when(jobRepository.deleteJobInstances("job1", JobRetentionPolicy.keepLatest(5), 10)).thenReturn(0);
+		when(jobRepository.deleteJobInstances("job2", JobRetentionPolicy.keepLatest(5), 10)).thenReturn(10, 3, 0);
+
+		// when
+		List<RepeatStatus> statuses = List.of(tasklet.execute(contribution, chunkContext),
+				tasklet.execute(contribution, chunkContext), tasklet.execute(contribution, chunkContext));
+
+		// then
+		assertEquals(List.of(RepeatStatus.CONTINUABLE, RepeatStatus.CONTINUABLE, RepeatStatus.FINISHED), statuses);
+		assertEquals(13, contribution.getWriteCount());
+	}
+
+	@Test
+	void testMaxAgeIsMeasuredFromStepStartTime() throws Exception {
+		// given
+		LocalDateTime startTime = LocalDateTime.of(2026, 1, 31, 12, 0);
+		stepExecution.setStartTime(startTime);
+		JobInstanceRetentionTasklet tasklet = new JobInstanceRetentionTasklet(jobRepository);
+		tasklet.setMaxAge(Duration.ofDays(30));
+		tasklet.setJobNames(List.of("job"));
+		JobRetentionPolicy expectedPolicy = JobRetentionPolicy.olderThan(LocalDateTime.of(2026, 1, 1, 12, 0));
+		when(jobRepository.deleteJobInstances(eq("job"), any(), eq(100))).thenReturn(0);
+		when(jobRepository.deleteJobInstances("job", expectedPolicy, 100)).thenReturn(2);
+
+		// when
+		RepeatStatus status = tasklet.execute(contribution, chunkContext);
+
+		// then
+		assertEquals(RepeatStatus.CONTINUABLE, status);
+		assertEquals(2, contribution.getWriteCount());
+	}
+
+}
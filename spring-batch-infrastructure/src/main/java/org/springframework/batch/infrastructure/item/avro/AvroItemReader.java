@@ -19,7 +19,9 @@ import java.io.IOException;
 import java.io.InputStream;
 
 import org.apache.avro.Schema;
+import org.apache.avro.file.DataFileReader;
 import org.apache.avro.file.DataFileStream;
+import org.apache.avro.file.SeekableFileInput;
 import org.apache.avro.generic.GenericDatumReader;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
@@ -30,6 +32,7 @@ import org.apache.avro.specific.SpecificDatumReader;
 import org.apache.avro.specific.SpecificRecordBase;
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.batch.infrastructure.item.ItemReader;
 import org.springframework.batch.infrastructure.item.ItemStreamException;
 import org.springframework.batch.infrastructure.item.support.AbstractItemCountingItemStreamItemReader;
@@ -41,6 +44,16 @@ import org.springframework.util.Assert;
  * serialized Avro objects.
  *
  * <p>
+ * When the resource is a file with an embedded schema, the position of the current Avro
+ * block and the index of the current item within that block are saved in the
+ * {@link ExecutionContext}, so that the reader seeks directly to that block on restart
+ * instead of deserializing all previously read items. The reader can also be restricted
+ * to the blocks of a byte range of the file with {@link #setStartOffset(long)} and
+ * {@link #setEndOffset(long)}, typically to read one of the ranges of a large file in a
+ * partitioned step.
+ * </p>
+ *
+ * <p>
  * This reader is <b>not</b> thread-safe.
  * </p>
  *
@@ -52,16 +65,32 @@ import org.springframework.util.Assert;
  */
 public class AvroItemReader<T> extends AbstractItemCountingItemStreamItemReader<T> {
 
+	private static final String BLOCK_POSITION = "block.position";
+
+	private static final String BLOCK_INDEX = "block.index";
+
 	private boolean embeddedSchema = true;
 
 	private @Nullable InputStreamReader<T> inputStreamReader;
 
 	private @Nullable DataFileStream<T> dataFileReader;
 
-	private final InputStream inputStream;
+	private final Resource resource;
 
 	private final DatumReader<T> datumReader;
 
+	private long startOffset = 0;
+
+	private long endOffset = Long.MAX_VALUE;
+
+	private long blockPosition = -1;
+
+	private long blockIndex;
+
+	private long restartBlockPosition = -1;
+
+	private long restartBlockIndex;
+
 	/**
 	 * @param resource the {@link Resource} containing objects serialized with Avro.
 	 * @param clazz the data type to be deserialized.
@@ -69,14 +98,10 @@ public class AvroItemReader<T> extends AbstractItemCountingItemStreamItemReader<
 	public AvroItemReader(Resource resource, Class<T> clazz) {
 		Assert.notNull(resource, "'resource' is required.");
 		Assert.notNull(clazz, "'class' is required.");
+		Assert.isTrue(resource.exists(), "'resource' " + resource.getFilename() + " does not exist.");
 
-		try {
-			this.inputStream = resource.getInputStream();
-			this.datumReader = datumReaderForClass(clazz);
-		}
-		catch (IOException e) {
-			throw new IllegalArgumentException(e.getMessage(), e);
-		}
+		this.resource = resource;
+		this.datumReader = datumReaderForClass(clazz);
 	}
 
 	/**
@@ -88,8 +113,8 @@ public class AvroItemReader<T> extends AbstractItemCountingItemStreamItemReader<
 		Assert.state(data.exists(), "'data' " + data.getFilename() + " does not exist.");
 		Assert.notNull(schema, "'schema' is required");
 		Assert.state(schema.exists(), "'schema' " + schema.getFilename() + " does not exist.");
+		this.resource = data;
 		try {
-			this.inputStream = data.getInputStream();
 			Schema avroSchema = new Schema.Parser().parse(schema.getInputStream());
 			this.datumReader = new GenericDatumReader<>(avroSchema);
 		}
@@ -107,36 +132,137 @@ public class AvroItemReader<T> extends AbstractItemCountingItemStreamItemReader<
 		this.embeddedSchema = embeddedSchema;
 	}
 
+	/**
+	 * The byte offset from which to look for the first block to read. Only the blocks
+	 * preceded by a sync marker starting at or after that offset are read, so the offset
+	 * does not need to be aligned to a block boundary. Reading a range requires a file
+	 * resource with an embedded schema. Defaults to zero.
+	 * @param startOffset the byte offset at which to start reading, inclusive
+	 * @since 6.1
+	 */
+	public void setStartOffset(long startOffset) {
+		Assert.isTrue(startOffset >= 0, "startOffset must not be negative");
+		this.startOffset = startOffset;
+	}
+
+	/**
+	 * The byte offset after which no new block is read. A block preceded by a sync marker
+	 * starting before that offset is read entirely, even if it spans over it. Defaults to
+	 * {@link Long#MAX_VALUE} (read until the end of the resource).
+	 * @param endOffset the byte offset at which to stop reading, exclusive
+	 * @since 6.1
+	 * @see #setStartOffset(long)
+	 */
+	public void setEndOffset(long endOffset) {
+		Assert.isTrue(endOffset >= 0, "endOffset must not be negative");
+		this.endOffset = endOffset;
+	}
+
 	@SuppressWarnings("DataFlowIssue")
 	@Override
 	protected @Nullable T doRead() throws Exception {
 		if (this.inputStreamReader != null) {
 			return this.inputStreamReader.read();
 		}
+		if (this.dataFileReader instanceof DataFileReader<T> seekableReader) {
+			return readBlock(seekableReader);
+		}
 		return this.dataFileReader.hasNext() ? this.dataFileReader.next() : null;
 	}
 
+	private @Nullable T readBlock(DataFileReader<T> reader) throws IOException {
+		if (this.endOffset < Long.MAX_VALUE && reader.pastSync(this.endOffset)) {
+			return null;
+		}
+		if (!reader.hasNext()) {
+			return null;
+		}
+		// the previous sync point only moves once the last item of a block is read
+		long position = reader.previousSync();
+		if (position != this.blockPosition) {
+			this.blockPosition = position;
+			this.blockIndex = 0;
+		}
+		T item = reader.next();
+		this.blockIndex++;
+		return item;
+	}
+
 	@Override
 	protected void doOpen() throws Exception {
 		initializeReader();
 	}
 
+	@Override
+	public void open(ExecutionContext executionContext) throws ItemStreamException {
+		if (isSaveState() && executionContext.containsKey(getExecutionContextKey(BLOCK_POSITION))
+				&& executionContext.containsKey(getExecutionContextKey(BLOCK_INDEX))) {
+			this.restartBlockPosition = executionContext.getLong(getExecutionContextKey(BLOCK_POSITION));
+			this.restartBlockIndex = executionContext.getLong(getExecutionContextKey(BLOCK_INDEX));
+		}
+		try {
+			super.open(executionContext);
+		}
+		finally {
+			this.restartBlockPosition = -1;
+		}
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		super.update(executionContext);
+		if (isSaveState() && this.blockPosition >= 0) {
+			executionContext.putLong(getExecutionContextKey(BLOCK_POSITION), this.blockPosition);
+			executionContext.putLong(getExecutionContextKey(BLOCK_INDEX), this.blockIndex);
+		}
+	}
+
+	@Override
+	protected void jumpToItem(int itemIndex) throws Exception {
+		if (this.dataFileReader instanceof DataFileReader<T> seekableReader && this.restartBlockPosition >= 0) {
+			seekableReader.seek(this.restartBlockPosition);
+			for (long i = 0; i < this.restartBlockIndex; i++) {
+				seekableReader.next();
+			}
+			this.blockPosition = this.restartBlockPosition;
+			this.blockIndex = this.restartBlockIndex;
+			return;
+		}
+		super.jumpToItem(itemIndex);
+	}
+
 	@SuppressWarnings("DataFlowIssue")
 	@Override
 	protected void doClose() throws Exception {
+		this.blockPosition = -1;
+		this.blockIndex = 0;
 		if (this.inputStreamReader != null) {
 			this.inputStreamReader.close();
+			this.inputStreamReader = null;
 			return;
 		}
 		this.dataFileReader.close();
+		this.dataFileReader = null;
 	}
 
 	private void initializeReader() throws IOException {
+		boolean rangeSet = this.startOffset > 0 || this.endOffset < Long.MAX_VALUE;
+		if (this.embeddedSchema && this.resource.isFile()) {
+			DataFileReader<T> seekableReader = new DataFileReader<>(new SeekableFileInput(this.resource.getFile()),
+					this.datumReader);
+			if (this.startOffset > 0) {
+				seekableReader.sync(this.startOffset);
+			}
+			this.dataFileReader = seekableReader;
+			return;
+		}
+		Assert.state(!rangeSet, "Reading a byte range requires a file resource with an embedded schema: "
+				+ this.resource.getDescription());
 		if (this.embeddedSchema) {
-			this.dataFileReader = new DataFileStream<>(this.inputStream, this.datumReader);
+			this.dataFileReader = new DataFileStream<>(this.resource.getInputStream(), this.datumReader);
 		}
 		else {
-			this.inputStreamReader = createInputStreamReader(this.inputStream, this.datumReader);
+			this.inputStreamReader = createInputStreamReader(this.resource.getInputStream(), this.datumReader);
 		}
 
 	}
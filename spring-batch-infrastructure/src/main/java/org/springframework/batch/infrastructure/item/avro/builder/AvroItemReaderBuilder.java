@@ -55,6 +55,10 @@ public class AvroItemReaderBuilder<T> {
 
 	private boolean embeddedSchema = true;
 
+	private long startOffset = 0;
+
+	private long endOffset = Long.MAX_VALUE;
+
 	/**
 	 * Configure a {@link Resource} containing Avro serialized objects.
 	 * @param resource an existing Resource.
@@ -111,6 +115,22 @@ public class AvroItemReaderBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * Configure the byte range of the resource to read, typically provided by a
+	 * partitioner splitting a large Avro file by blocks.
+	 * @param startOffset the byte offset at which to start reading, inclusive
+	 * @param endOffset the byte offset at which to stop reading, exclusive
+	 * @return The current instance of the builder.
+	 * @see AvroItemReader#setStartOffset(long)
+	 * @see AvroItemReader#setEndOffset(long)
+	 * @since 6.1
+	 */
+	public AvroItemReaderBuilder<T> byteRange(long startOffset, long endOffset) {
+		this.startOffset = startOffset;
+		this.endOffset = endOffset;
+		return this;
+	}
+
 	/**
 	 * Configure if the state of the {@link ItemStreamSupport} should be persisted within
 	 * the {@link ExecutionContext} for restart purposes.
@@ -184,6 +204,8 @@ public class AvroItemReaderBuilder<T> {
 		avroItemReader.setCurrentItemCount(this.currentItemCount);
 		avroItemReader.setMaxItemCount(this.maxItemCount);
 		avroItemReader.setEmbeddedSchema(this.embeddedSchema);
+		avroItemReader.setStartOffset(this.startOffset);
+		avroItemReader.setEndOffset(this.endOffset);
 
 		return avroItemReader;
 	}
@@ -17,6 +17,7 @@ package org.springframework.batch.infrastructure.item.data;
 
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -25,10 +26,14 @@ import org.bson.codecs.DecoderContext;
 import org.jspecify.annotations.Nullable;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.batch.infrastructure.item.ItemReader;
+import org.springframework.batch.infrastructure.item.ItemStreamException;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Query;
@@ -61,6 +66,13 @@ import org.springframework.util.StringUtils;
  * </p>
  *
  * <p>
+ * By default, pages are requested with a skip and a limit, which get slower as the page
+ * number increases. With {@link #setKeysetPaging(boolean) keyset paging}, pages are
+ * requested with a {@link KeysetScrollPosition} instead, and the keys of the last
+ * document read are saved in the {@link ExecutionContext} for restart.
+ * </p>
+ *
+ * <p>
  * The JSON String query provided supports parameter substitution via ?&lt;index&gt;
  * placeholders where the &lt;index&gt; indicates the index of the parameterValue to
  * substitute.
@@ -82,6 +94,8 @@ import org.springframework.util.StringUtils;
  */
 public class MongoPagingItemReader<T> extends AbstractPaginatedDataItemReader<T> implements InitializingBean {
 
+	private static final String START_AFTER_VALUE = "start.after";
+
 	protected MongoOperations template;
 
 	protected @Nullable Query query;
@@ -100,6 +114,12 @@ public class MongoPagingItemReader<T> extends AbstractPaginatedDataItemReader<T>
 
 	protected List<Object> parameterValues = new ArrayList<>();
 
+	private boolean keysetPaging;
+
+	private @Nullable Map<String, Object> startAfterValues;
+
+	private @Nullable Map<String, Object> previousStartAfterValues;
+
 	/**
 	 * Create a new instance of {@link MongoPagingItemReader}.
 	 * @param template the {@link MongoOperations} to use
@@ -193,9 +213,23 @@ public class MongoPagingItemReader<T> extends AbstractPaginatedDataItemReader<T>
 		this.hint = hint;
 	}
 
+	/**
+	 * Whether pages should be requested with a {@link KeysetScrollPosition} rather than
+	 * with a skip and a limit. The sort of the query should uniquely identify a document,
+	 * otherwise MongoDB appends the {@code _id} field to it. Defaults to {@code false}.
+	 * @param keysetPaging true to use keyset paging
+	 * @since 6.1
+	 */
+	public void setKeysetPaging(boolean keysetPaging) {
+		this.keysetPaging = keysetPaging;
+	}
+
 	@SuppressWarnings({ "unchecked", "DataFlowIssue" })
 	@Override
 	protected Iterator<T> doPageRead() {
+		if (keysetPaging) {
+			return doScrollRead();
+		}
 		if (queryString != null) {
 			Pageable pageRequest = PageRequest.of(page, pageSize, sort);
 
@@ -231,6 +265,76 @@ public class MongoPagingItemReader<T> extends AbstractPaginatedDataItemReader<T>
 		}
 	}
 
+	@SuppressWarnings({ "unchecked", "DataFlowIssue" })
+	private Iterator<T> doScrollRead() {
+		Query mongoQuery;
+		if (queryString != null) {
+			String populatedQuery = replacePlaceholders(queryString, parameterValues);
+			mongoQuery = StringUtils.hasText(fields) ? new BasicQuery(populatedQuery, fields)
+					: new BasicQuery(populatedQuery);
+			mongoQuery.with(sort);
+			if (StringUtils.hasText(hint)) {
+				mongoQuery.withHint(hint);
+			}
+		}
+		else {
+			mongoQuery = query;
+		}
+
+		KeysetScrollPosition position;
+		if (startAfterValues == null || startAfterValues.isEmpty()) {
+			position = ScrollPosition.keyset();
+		}
+		else {
+			previousStartAfterValues = startAfterValues;
+			position = ScrollPosition.forward(startAfterValues);
+		}
+		mongoQuery.with(position).limit(pageSize);
+
+		Window<T> window = StringUtils.hasText(collection) //
+				? (Window<T>) template.scroll(mongoQuery, type, collection) //
+				: (Window<T>) template.scroll(mongoQuery, type);
+
+		if (!window.isEmpty()) {
+			ScrollPosition lastPosition = window.positionAt(window.size() - 1);
+			Assert.state(lastPosition instanceof KeysetScrollPosition, "Keyset paging requires keyset based positions");
+			startAfterValues = new LinkedHashMap<>(((KeysetScrollPosition) lastPosition).getKeys());
+		}
+
+		return window.iterator();
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		super.update(executionContext);
+		if (isSaveState() && keysetPaging) {
+			if (getCurrentItemCount() % pageSize == 0 && startAfterValues != null) {
+				// restart on next page
+				executionContext.put(getExecutionContextKey(START_AFTER_VALUE), startAfterValues);
+			}
+			else if (previousStartAfterValues != null) {
+				// restart on current page
+				executionContext.put(getExecutionContextKey(START_AFTER_VALUE), previousStartAfterValues);
+			}
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void open(ExecutionContext executionContext) {
+		if (isSaveState() && keysetPaging) {
+			startAfterValues = (Map<String, Object>) executionContext.get(getExecutionContextKey(START_AFTER_VALUE));
+		}
+		super.open(executionContext);
+	}
+
+	@Override
+	protected void doClose() throws Exception {
+		super.doClose();
+		startAfterValues = null;
+		previousStartAfterValues = null;
+	}
+
 	/**
 	 * Checks mandatory properties
 	 *
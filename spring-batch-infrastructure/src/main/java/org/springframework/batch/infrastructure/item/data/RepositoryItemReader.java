@@ -17,6 +17,7 @@ package org.springframework.batch.infrastructure.item.data;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.locks.Lock;
@@ -28,14 +29,19 @@ import org.jspecify.annotations.Nullable;
 
 import org.springframework.batch.infrastructure.item.ItemReader;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamException;
 import org.springframework.batch.infrastructure.item.adapter.AbstractMethodInvokingDelegator.InvocationTargetThrowableWrapper;
 import org.springframework.batch.infrastructure.item.adapter.DynamicMethodInvocationException;
 import org.springframework.batch.infrastructure.item.support.AbstractItemCountingItemStreamItemReader;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -73,6 +79,14 @@ import org.springframework.util.StringUtils;
  * </p>
  *
  * <p>
+ * By default, pages are requested with a {@link Pageable}, which results in offset based
+ * queries that get slower as the page number increases. With
+ * {@link #setKeysetPaging(boolean) keyset paging}, pages are requested with a
+ * {@link KeysetScrollPosition} instead, and the keys of the last item read are saved in
+ * the {@link ExecutionContext} for restart.
+ * </p>
+ *
+ * <p>
  * NOTE: The {@code RepositoryItemReader} only reads Java Objects i.e. non primitives.
  * </p>
  *
@@ -84,6 +98,8 @@ import org.springframework.util.StringUtils;
  */
 public class RepositoryItemReader<T> extends AbstractItemCountingItemStreamItemReader<T> implements InitializingBean {
 
+	private static final String START_AFTER_VALUE = "start.after";
+
 	protected Log logger = LogFactory.getLog(getClass());
 
 	private PagingAndSortingRepository<?, ?> repository;
@@ -104,6 +120,12 @@ public class RepositoryItemReader<T> extends AbstractItemCountingItemStreamItemR
 
 	private @Nullable String methodName;
 
+	private boolean keysetPaging;
+
+	private @Nullable Map<String, Object> startAfterValues;
+
+	private @Nullable Map<String, Object> previousStartAfterValues;
+
 	/**
 	 * Create a new {@link RepositoryItemReader}.
 	 * @param repository the {@link PagingAndSortingRepository} to use
@@ -159,6 +181,19 @@ public class RepositoryItemReader<T> extends AbstractItemCountingItemStreamItemR
 		this.methodName = methodName;
 	}
 
+	/**
+	 * Whether pages should be requested with a {@link KeysetScrollPosition} rather than a
+	 * {@link Pageable}. When enabled, the repository method must take a
+	 * {@link ScrollPosition}, a {@link Limit} and a {@link Sort} as its <em>last</em>
+	 * arguments (in that order) and return a {@link Window}. The {@link #setSorts(Map)
+	 * sorts} must uniquely identify an item. Defaults to {@code false}.
+	 * @param keysetPaging true to use keyset paging
+	 * @since 6.1
+	 */
+	public void setKeysetPaging(boolean keysetPaging) {
+		this.keysetPaging = keysetPaging;
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		Assert.state(pageSize > 0, "Page size must be greater than 0");
@@ -228,9 +263,6 @@ public class RepositoryItemReader<T> extends AbstractItemCountingItemStreamItemR
 	 */
 	@SuppressWarnings("unchecked")
 	protected List<T> doPageRead() throws Exception {
-		@SuppressWarnings("DataFlowIssue")
-		Pageable pageRequest = PageRequest.of(page, pageSize, convertToSort(sorts));
-
 		@SuppressWarnings("DataFlowIssue")
 		MethodInvoker invoker = createMethodInvoker(repository, methodName);
 
@@ -240,6 +272,13 @@ public class RepositoryItemReader<T> extends AbstractItemCountingItemStreamItemR
 			parameters.addAll(arguments);
 		}
 
+		if (keysetPaging) {
+			return doScrollRead(invoker, parameters);
+		}
+
+		@SuppressWarnings("DataFlowIssue")
+		Pageable pageRequest = PageRequest.of(page, pageSize, convertToSort(sorts));
+
 		parameters.add(pageRequest);
 
 		invoker.setArguments(parameters.toArray());
@@ -249,6 +288,59 @@ public class RepositoryItemReader<T> extends AbstractItemCountingItemStreamItemR
 		return curPage.getContent();
 	}
 
+	@SuppressWarnings("unchecked")
+	private List<T> doScrollRead(MethodInvoker invoker, List<Object> parameters) throws Exception {
+		ScrollPosition position;
+		if (startAfterValues == null || startAfterValues.isEmpty()) {
+			position = ScrollPosition.keyset();
+		}
+		else {
+			previousStartAfterValues = startAfterValues;
+			position = ScrollPosition.forward(startAfterValues);
+		}
+
+		parameters.add(position);
+		parameters.add(Limit.of(pageSize));
+		parameters.add(convertToSort(sorts));
+
+		invoker.setArguments(parameters.toArray());
+
+		Window<T> window = (Window<T>) doInvoke(invoker);
+
+		if (!window.isEmpty()) {
+			ScrollPosition lastPosition = window.positionAt(window.size() - 1);
+			Assert.state(lastPosition instanceof KeysetScrollPosition,
+					"Keyset paging requires the repository to return keyset based positions");
+			startAfterValues = new LinkedHashMap<>(((KeysetScrollPosition) lastPosition).getKeys());
+		}
+
+		return window.getContent();
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		super.update(executionContext);
+		if (isSaveState() && keysetPaging) {
+			if (getCurrentItemCount() % pageSize == 0 && startAfterValues != null) {
+				// restart on next page
+				executionContext.put(getExecutionContextKey(START_AFTER_VALUE), startAfterValues);
+			}
+			else if (previousStartAfterValues != null) {
+				// restart on current page
+				executionContext.put(getExecutionContextKey(START_AFTER_VALUE), previousStartAfterValues);
+			}
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void open(ExecutionContext executionContext) {
+		if (isSaveState() && keysetPaging) {
+			startAfterValues = (Map<String, Object>) executionContext.get(getExecutionContextKey(START_AFTER_VALUE));
+		}
+		super.open(executionContext);
+	}
+
 	@Override
 	protected void doOpen() throws Exception {
 	}
@@ -260,6 +352,8 @@ public class RepositoryItemReader<T> extends AbstractItemCountingItemStreamItemR
 			current = 0;
 			page = 0;
 			results = null;
+			startAfterValues = null;
+			previousStartAfterValues = null;
 		}
 		finally {
 			this.lock.unlock();
@@ -73,6 +73,8 @@ public class MongoPagingItemReaderBuilder<T> {
 
 	protected @Nullable Query query;
 
+	protected boolean keysetPaging;
+
 	/**
 	 * Configure if the state of the {@link ItemStreamSupport} should be persisted within
 	 * the {@link ExecutionContext} for restart purposes.
@@ -236,6 +238,20 @@ public class MongoPagingItemReaderBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * Whether pages should be requested with a keyset scroll position rather than with a
+	 * skip and a limit.
+	 * @param keysetPaging true to use keyset paging
+	 * @return this instance for method chaining
+	 * @see MongoPagingItemReader#setKeysetPaging(boolean)
+	 * @since 6.1
+	 */
+	public MongoPagingItemReaderBuilder<T> keysetPaging(boolean keysetPaging) {
+		this.keysetPaging = keysetPaging;
+
+		return this;
+	}
+
 	/**
 	 * The number of items to be read with each page.
 	 * @param pageSize the number of items
@@ -297,6 +313,7 @@ public class MongoPagingItemReaderBuilder<T> {
 		}
 
 		reader.setPageSize(this.pageSize);
+		reader.setKeysetPaging(this.keysetPaging);
 		if (this.name != null) {
 			reader.setName(this.name);
 		}
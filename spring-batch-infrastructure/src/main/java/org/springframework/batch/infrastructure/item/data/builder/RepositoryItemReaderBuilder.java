@@ -60,6 +60,8 @@ public class RepositoryItemReaderBuilder<T> {
 
 	private int currentItemCount;
 
+	private boolean keysetPaging;
+
 	/**
 	 * Configure if the state of the {@link ItemStreamSupport} should be persisted within
 	 * the {@link ExecutionContext} for restart purposes.
@@ -183,6 +185,21 @@ public class RepositoryItemReaderBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * Request pages with a keyset based
+	 * {@link org.springframework.data.domain.ScrollPosition} rather than a
+	 * {@link org.springframework.data.domain.Pageable}.
+	 * @param keysetPaging true to use keyset paging
+	 * @return The current instance of the builder.
+	 * @since 6.1
+	 * @see RepositoryItemReader#setKeysetPaging(boolean)
+	 */
+	public RepositoryItemReaderBuilder<T> keysetPaging(boolean keysetPaging) {
+		this.keysetPaging = keysetPaging;
+
+		return this;
+	}
+
 	/**
 	 * Builds the {@link RepositoryItemReader}.
 	 * @return a {@link RepositoryItemReader}
@@ -203,6 +220,7 @@ public class RepositoryItemReaderBuilder<T> {
 		reader.setRepository(this.repository);
 		reader.setMethodName(this.methodName);
 		reader.setPageSize(this.pageSize);
+		reader.setKeysetPaging(this.keysetPaging);
 		reader.setCurrentItemCount(this.currentItemCount);
 		reader.setMaxItemCount(this.maxItemCount);
 		reader.setSaveState(this.saveState);
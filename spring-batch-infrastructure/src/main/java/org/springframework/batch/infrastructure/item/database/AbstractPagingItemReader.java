@@ -15,7 +15,13 @@
  */
 package org.springframework.batch.infrastructure.item.database;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -23,9 +29,11 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.batch.infrastructure.item.ItemStreamException;
 import org.springframework.batch.infrastructure.item.ItemStreamReader;
 import org.springframework.batch.infrastructure.item.support.AbstractItemCountingItemStreamItemReader;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.util.Assert;
 
 /**
@@ -39,6 +47,26 @@ import org.springframework.util.Assert;
  * position.
  * </p>
  *
+ * <p>
+ * When a {@link #setPrefetchExecutor(TaskExecutor) prefetch executor} is set, pages are
+ * read ahead by a task submitted to this executor, up to {@link #setPrefetchSize(int)
+ * prefetch size} pages, while the current page is being consumed. Pages are still read
+ * one after the other, so implementations do not need to be thread-safe, but
+ * {@link #doReadPage()} is called from the prefetch thread. Implementations that save
+ * restart state depending on the last page read should capture it in
+ * {@link #capturePageState()} and save the one returned by {@link #getCurrentPageState()}
+ * when pages are prefetched.
+ * </p>
+ *
+ * <p>
+ * In a multi-threaded step, all threads calling {@link #read()} are serialized on a
+ * single lock. With {@link #setPageClaiming(boolean) page claiming}, whole pages are
+ * instead claimed under this lock into a queue shared by all threads, which then read
+ * their items without locking. This removes the contention when many threads share this
+ * reader. Items are then not returned in order across threads, and the state of the
+ * reader must not be saved.
+ * </p>
+ *
  * This reader is <b>not</b> thread-safe.
  *
  * @author Thomas Risberg
@@ -65,6 +93,22 @@ public abstract class AbstractPagingItemReader<T> extends AbstractItemCountingIt
 
 	private final Lock lock = new ReentrantLock();
 
+	private @Nullable TaskExecutor prefetchExecutor;
+
+	private int prefetchSize = 1;
+
+	private @Nullable PagePrefetcher prefetcher;
+
+	private @Nullable Page<T> prefetchedPage;
+
+	private @Nullable Throwable prefetchFailure;
+
+	private boolean pageClaiming;
+
+	private final Queue<ClaimedPage<T>> claimedPages = new ConcurrentLinkedQueue<>();
+
+	private volatile boolean allPagesClaimed;
+
 	public AbstractPagingItemReader() {
 	}
 
@@ -92,6 +136,56 @@ public abstract class AbstractPagingItemReader<T> extends AbstractItemCountingIt
 		this.pageSize = pageSize;
 	}
 
+	/**
+	 * Set the executor used to read pages ahead while the current page is being consumed.
+	 * The prefetch task runs until all pages are read or the reader is closed, so a
+	 * thread of this executor is used for the whole duration of the step. Defaults to
+	 * {@code null} (pages are read on demand by the thread calling {@link #read()}).
+	 * @param prefetchExecutor the executor to read pages with
+	 * @since 6.1
+	 */
+	public void setPrefetchExecutor(TaskExecutor prefetchExecutor) {
+		this.prefetchExecutor = prefetchExecutor;
+	}
+
+	/**
+	 * Return the executor used to read pages ahead, if any.
+	 * @return the prefetch executor, or {@code null} if pages are read on demand
+	 * @since 6.1
+	 */
+	protected @Nullable TaskExecutor getPrefetchExecutor() {
+		return this.prefetchExecutor;
+	}
+
+	/**
+	 * The maximum number of pages read ahead and not yet consumed when a
+	 * {@link #setPrefetchExecutor(TaskExecutor) prefetch executor} is set. Defaults to 1.
+	 * @param prefetchSize the maximum number of pages to read ahead, must be greater than
+	 * zero
+	 * @since 6.1
+	 */
+	public void setPrefetchSize(int prefetchSize) {
+		Assert.isTrue(prefetchSize > 0, "prefetchSize must be greater than zero");
+		this.prefetchSize = prefetchSize;
+	}
+
+	/**
+	 * Whether threads calling {@link #read()} should claim whole pages and read their
+	 * items without locking, rather than locking for each item. Only the claim of a page
+	 * is serialized, so this reduces contention in multi-threaded steps. Claimed pages
+	 * are shared by all threads and a new page is claimed only once the claimed ones are
+	 * exhausted, so pages partially read by a thread that is no longer reading are
+	 * finished by the other threads. Items are not returned in order across threads, so
+	 * the state of the reader must not be saved: page claiming requires
+	 * {@link #setSaveState(boolean) saveState} to be {@code false}. Defaults to
+	 * {@code false}.
+	 * @param pageClaiming true to let threads claim whole pages
+	 * @since 6.1
+	 */
+	public void setPageClaiming(boolean pageClaiming) {
+		this.pageClaiming = pageClaiming;
+	}
+
 	/**
 	 * Check mandatory properties.
 	 * @see org.springframework.beans.factory.InitializingBean#afterPropertiesSet()
@@ -99,15 +193,26 @@ public abstract class AbstractPagingItemReader<T> extends AbstractItemCountingIt
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		Assert.state(pageSize > 0, "pageSize must be greater than zero");
+		assertNoSaveStateWhenPageClaiming();
 	}
 
 	@SuppressWarnings("DataFlowIssue")
 	@Override
 	protected @Nullable T doRead() throws Exception {
 
+		if (pageClaiming) {
+			return readClaimedItem();
+		}
+
 		this.lock.lock();
 		try {
 
+			if (prefetchExecutor != null) {
+				List<T> items = readPrefetchedPageIfNecessary(prefetchExecutor);
+				int next = current++;
+				return next < items.size() ? items.get(next) : null;
+			}
+
 			if (results == null || current >= pageSize) {
 
 				if (logger.isDebugEnabled()) {
@@ -137,16 +242,152 @@ public abstract class AbstractPagingItemReader<T> extends AbstractItemCountingIt
 
 	}
 
+	private List<T> readPrefetchedPageIfNecessary(TaskExecutor executor) {
+		Page<T> currentPage = this.prefetchedPage;
+		if (currentPage == null || (current >= pageSize && !currentPage.last())) {
+			currentPage = takePrefetchedPage(executor);
+			if (current >= pageSize) {
+				current = 0;
+			}
+		}
+		return currentPage.items();
+	}
+
+	private Page<T> takePrefetchedPage(TaskExecutor executor) {
+		Throwable failure = this.prefetchFailure;
+		if (failure != null) {
+			throw asUncheckedException(failure);
+		}
+		PagePrefetcher pagePrefetcher = this.prefetcher;
+		if (pagePrefetcher == null) {
+			pagePrefetcher = new PagePrefetcher(this.prefetchSize);
+			this.prefetcher = pagePrefetcher;
+			executor.execute(pagePrefetcher);
+		}
+		Page<T> nextPage = pagePrefetcher.take();
+		failure = nextPage.failure();
+		if (failure != null) {
+			this.prefetchFailure = failure;
+			throw asUncheckedException(failure);
+		}
+		this.prefetchedPage = nextPage;
+		return nextPage;
+	}
+
+	private @Nullable T readClaimedItem() {
+		while (true) {
+			ClaimedPage<T> claimedPage = this.claimedPages.peek();
+			if (claimedPage != null) {
+				T item = claimedPage.next();
+				if (item != null) {
+					return item;
+				}
+				// exhausted, so that its items are not retained
+				this.claimedPages.remove(claimedPage);
+			}
+			else if (!claimNextPage()) {
+				return null;
+			}
+		}
+	}
+
+	private boolean claimNextPage() {
+		this.lock.lock();
+		try {
+			if (!this.claimedPages.isEmpty()) {
+				// claimed by another thread in the meantime
+				return true;
+			}
+			if (this.allPagesClaimed) {
+				return false;
+			}
+			Page<T> nextPage;
+			if (prefetchExecutor != null) {
+				nextPage = takePrefetchedPage(prefetchExecutor);
+			}
+			else {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Reading page " + getPage());
+				}
+				nextPage = readPage(false);
+			}
+			// the first page claimed after a jump starts at the current item
+			this.claimedPages.add(new ClaimedPage<>(nextPage.items(), current));
+			current = 0;
+			this.allPagesClaimed = nextPage.last();
+			return true;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private Page<T> readPage(boolean captureState) {
+		doReadPage();
+		page++;
+		List<T> pageResults = results;
+		List<T> items = pageResults != null ? new ArrayList<>(pageResults) : List.of();
+		return new Page<>(items, captureState ? capturePageState() : null, null, items.size() < pageSize);
+	}
+
+	private static RuntimeException asUncheckedException(Throwable failure) {
+		if (failure instanceof Error error) {
+			throw error;
+		}
+		return (RuntimeException) failure;
+	}
+
 	abstract protected void doReadPage();
 
+	/**
+	 * Capture the state of this reader that depends on the last page read by
+	 * {@link #doReadPage()}, such as the sort key values of its last item. Only called
+	 * when pages are prefetched, from the prefetch thread, right after the page is read.
+	 * Defaults to {@code null}.
+	 * @return the state of the last page read
+	 * @since 6.1
+	 */
+	protected @Nullable Object capturePageState() {
+		return null;
+	}
+
+	/**
+	 * The state returned by {@link #capturePageState()} when the page that is currently
+	 * consumed was read.
+	 * @return the state of the current page, or {@code null} if pages are not prefetched
+	 * or if no page was consumed yet
+	 * @since 6.1
+	 */
+	protected @Nullable Object getCurrentPageState() {
+		Page<T> currentPage = this.prefetchedPage;
+		return currentPage != null ? currentPage.state() : null;
+	}
+
 	@Override
 	protected void doOpen() throws Exception {
 
 		Assert.state(!initialized, "Cannot open an already opened ItemReader, call close first");
+		assertNoSaveStateWhenPageClaiming();
 		initialized = true;
 
 	}
 
+	private void assertNoSaveStateWhenPageClaiming() {
+		Assert.state(!pageClaiming || !isSaveState(), "saveState must be set to false when page claiming is enabled");
+	}
+
+	/**
+	 * Stop reading pages ahead, if pages are prefetched, before closing the reader.
+	 */
+	@Override
+	public void close() throws ItemStreamException {
+		PagePrefetcher pagePrefetcher = this.prefetcher;
+		if (pagePrefetcher != null) {
+			pagePrefetcher.stop();
+		}
+		super.close();
+	}
+
 	@Override
 	protected void doClose() throws Exception {
 
@@ -156,6 +397,11 @@ public abstract class AbstractPagingItemReader<T> extends AbstractItemCountingIt
 			current = 0;
 			page = 0;
 			results = null;
+			prefetcher = null;
+			prefetchedPage = null;
+			prefetchFailure = null;
+			claimedPages.clear();
+			allPagesClaimed = false;
 		}
 		finally {
 			this.lock.unlock();
@@ -181,4 +427,115 @@ public abstract class AbstractPagingItemReader<T> extends AbstractItemCountingIt
 
 	}
 
+	private record Page<T>(List<T> items, @Nullable Object state, @Nullable Throwable failure, boolean last) {
+
+	}
+
+	/**
+	 * A claimed page, whose items can be read concurrently by all threads, hence the
+	 * atomic index.
+	 */
+	private static final class ClaimedPage<T> {
+
+		private final List<T> items;
+
+		private final AtomicInteger nextIndex;
+
+		private ClaimedPage(List<T> items, int firstIndex) {
+			this.items = items;
+			this.nextIndex = new AtomicInteger(firstIndex);
+		}
+
+		private @Nullable T next() {
+			if (this.nextIndex.get() >= this.items.size()) {
+				return null;
+			}
+			int index = this.nextIndex.getAndIncrement();
+			return index < this.items.size() ? this.items.get(index) : null;
+		}
+
+	}
+
+	/**
+	 * Reads pages in order, starting from the current page, until a page that is not full
+	 * is read, an error occurs or it is stopped.
+	 */
+	private final class PagePrefetcher implements Runnable {
+
+		private final BlockingQueue<Page<T>> pages;
+
+		private final Lock fetchLock = new ReentrantLock();
+
+		private volatile boolean stopped;
+
+		private PagePrefetcher(int capacity) {
+			this.pages = new ArrayBlockingQueue<>(capacity);
+		}
+
+		@Override
+		public void run() {
+			boolean last = false;
+			while (!last) {
+				Page<T> prefetchedPage;
+				this.fetchLock.lock();
+				try {
+					if (this.stopped) {
+						return;
+					}
+					prefetchedPage = fetch();
+				}
+				finally {
+					this.fetchLock.unlock();
+				}
+				try {
+					this.pages.put(prefetchedPage);
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				last = prefetchedPage.last();
+			}
+		}
+
+		private Page<T> fetch() {
+			try {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Prefetching page " + getPage());
+				}
+				return readPage(true);
+			}
+			catch (RuntimeException | Error e) {
+				return new Page<>(List.of(), null, e, true);
+			}
+		}
+
+		private Page<T> take() {
+			try {
+				return this.pages.take();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while waiting for the next page", e);
+			}
+		}
+
+		/*
+		 * Wait for the page being read, if any, so that the reader can be safely closed.
+		 * Clearing the buffer unblocks the prefetch task if it is waiting for the current
+		 * page to be consumed.
+		 */
+		private void stop() {
+			this.stopped = true;
+			this.fetchLock.lock();
+			try {
+				this.pages.clear();
+			}
+			finally {
+				this.fetchLock.unlock();
+			}
+		}
+
+	}
+
 }
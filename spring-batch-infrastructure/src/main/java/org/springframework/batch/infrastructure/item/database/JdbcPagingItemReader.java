@@ -234,10 +234,23 @@ public class JdbcPagingItemReader<T> extends AbstractPagingItemReader<T> impleme
 		results.addAll(query);
 	}
 
+	@Override
+	protected Object capturePageState() {
+		return new PageState(previousStartAfterValues, startAfterValues);
+	}
+
 	@Override
 	public void update(ExecutionContext executionContext) throws ItemStreamException {
 		super.update(executionContext);
 		if (isSaveState()) {
+			Map<String, Object> startAfterValues = this.startAfterValues;
+			Map<String, Object> previousStartAfterValues = this.previousStartAfterValues;
+			if (getCurrentPageState() instanceof PageState pageState) {
+				// pages are prefetched, the values above are the ones of the last page
+				// read
+				startAfterValues = pageState.startAfterValues();
+				previousStartAfterValues = pageState.previousStartAfterValues();
+			}
 			if (isAtEndOfPage() && startAfterValues != null) {
 				// restart on next page
 				executionContext.put(getExecutionContextKey(START_AFTER_VALUE), startAfterValues);
@@ -309,6 +322,11 @@ public class JdbcPagingItemReader<T> extends AbstractPagingItemReader<T> impleme
 		return parameterList;
 	}
 
+	private record PageState(@Nullable Map<String, Object> previousStartAfterValues,
+			@Nullable Map<String, Object> startAfterValues) {
+
+	}
+
 	private class PagingRowMapper implements RowMapper<T> {
 
 		@SuppressWarnings("DataFlowIssue")
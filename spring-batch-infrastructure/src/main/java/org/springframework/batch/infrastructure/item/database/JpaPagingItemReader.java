@@ -17,7 +17,9 @@
 package org.springframework.batch.infrastructure.item.database;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -30,7 +32,10 @@ import org.jspecify.annotations.Nullable;
 
 import org.springframework.batch.infrastructure.item.ItemReader;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamException;
 import org.springframework.batch.infrastructure.item.database.orm.JpaQueryProvider;
+import org.springframework.beans.PropertyAccessor;
+import org.springframework.beans.PropertyAccessorFactory;
 import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -54,6 +59,15 @@ import org.springframework.util.StringUtils;
  * </p>
  *
  * <p>
+ * By default, pages are read with an offset ({@link Query#setFirstResult(int)}), which
+ * requires the database to scan all the rows of the previous pages for each page. When
+ * {@link #setSortKeys(Map) sort keys} are set, the reader uses keyset paging instead:
+ * rows are ordered by the sort keys and each page is read from the sort key values of the
+ * last item of the previous page, which are also saved in the {@link ExecutionContext}
+ * for restart.
+ * </p>
+ *
+ * <p>
  * Setting a fairly large page size and using a commit interval that matches the page size
  * should provide better performance.
  * </p>
@@ -66,6 +80,14 @@ import org.springframework.util.StringUtils;
  * </p>
  *
  * <p>
+ * A {@link #setPrefetchExecutor(org.springframework.core.task.TaskExecutor) prefetch
+ * executor} can only be used when the reader is not {@link #setTransacted(boolean)
+ * transacted}. In that case, pages are read by the prefetch thread and their entities are
+ * detached, so the entity manager of the reader is never used by the thread processing
+ * the items.
+ * </p>
+ *
+ * <p>
  * The reader must be configured with an {@link jakarta.persistence.EntityManagerFactory}.
  * All entity access is performed within a new transaction, independent of any existing
  * Spring managed transactions.
@@ -87,6 +109,10 @@ import org.springframework.util.StringUtils;
  */
 public class JpaPagingItemReader<T> extends AbstractPagingItemReader<T> {
 
+	private static final String START_AFTER_VALUE = "start.after";
+
+	private static final String SORT_KEY_PARAMETER_PREFIX = "_sortKey";
+
 	private EntityManagerFactory entityManagerFactory;
 
 	private @Nullable EntityManager entityManager;
@@ -103,6 +129,16 @@ public class JpaPagingItemReader<T> extends AbstractPagingItemReader<T> {
 
 	private boolean transacted = true;// default value
 
+	private @Nullable Map<String, Order> sortKeys;
+
+	private @Nullable String firstPageQueryString;
+
+	private @Nullable String remainingPagesQueryString;
+
+	private @Nullable Map<String, Object> startAfterValues;
+
+	private @Nullable Map<String, Object> previousStartAfterValues;
+
 	/**
 	 * Create a new {@link JpaPagingItemReader} instance.
 	 * @param entityManagerFactory the JPA entity manager factory.
@@ -142,13 +178,32 @@ public class JpaPagingItemReader<T> extends AbstractPagingItemReader<T> {
 	 * read. Can be overridden (false) in cases where the JPA implementation doesn't
 	 * support a particular transaction. (e.g. Hibernate with a JTA transaction). NOTE:
 	 * may cause problems in guaranteeing the object consistency in the
-	 * EntityManagerFactory.
+	 * EntityManagerFactory. A transacted reader does not support a prefetch executor, as
+	 * the entity manager would be flushed by the prefetch thread while the entities of
+	 * the current page are being processed.
 	 * @param transacted indicator
 	 */
 	public void setTransacted(boolean transacted) {
 		this.transacted = transacted;
 	}
 
+	/**
+	 * The keys to sort the results by, in order to read pages with keyset paging instead
+	 * of an offset. Each key is a path of the query, prefixed with its identification
+	 * variable (for example {@code f.id} for {@code select f from Foo f}), and the
+	 * corresponding property (for example {@code id}) must be readable from the items
+	 * returned by the query. The keys must uniquely identify a row, and the query must
+	 * not have an {@code order by} clause. The condition on the sort keys is added to the
+	 * top-level {@code where} clause, before any {@code group by} or {@code having}
+	 * clause, so with a grouped query the sort keys must be grouping expressions. Use a
+	 * {@link LinkedHashMap} in case of multiple sort keys to keep their order.
+	 * @param sortKeys the sort keys and their order
+	 * @since 6.1
+	 */
+	public void setSortKeys(Map<String, Order> sortKeys) {
+		this.sortKeys = sortKeys;
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		super.afterPropertiesSet();
@@ -158,6 +213,11 @@ public class JpaPagingItemReader<T> extends AbstractPagingItemReader<T> {
 			// of whether the queryProvider is set or not.
 			Assert.state(StringUtils.hasLength(queryString), "Query string is required when queryProvider is null");
 		}
+		assertNoPrefetchWhenTransacted();
+		if (sortKeys != null) {
+			Assert.state(queryProvider == null, "Sort keys are not supported with a query provider");
+			Assert.state(!sortKeys.isEmpty(), "Sort keys must not be empty");
+		}
 	}
 
 	/**
@@ -176,6 +236,7 @@ public class JpaPagingItemReader<T> extends AbstractPagingItemReader<T> {
 
 	@Override
 	protected void doOpen() throws Exception {
+		assertNoPrefetchWhenTransacted();
 		super.doOpen();
 
 		entityManager = entityManagerFactory.createEntityManager(jpaPropertyMap);
@@ -187,6 +248,13 @@ public class JpaPagingItemReader<T> extends AbstractPagingItemReader<T> {
 		if (queryProvider != null) {
 			queryProvider.setEntityManager(entityManager);
 		}
+		if (sortKeys != null) {
+			String keysetQueryString = queryString;
+			Assert.state(keysetQueryString != null, "A query string is required when sort keys are set");
+			String orderByClause = buildOrderByClause(sortKeys);
+			firstPageQueryString = keysetQueryString + orderByClause;
+			remainingPagesQueryString = addCondition(keysetQueryString, buildKeysetCondition(sortKeys)) + orderByClause;
+		}
 
 	}
 
@@ -204,7 +272,21 @@ public class JpaPagingItemReader<T> extends AbstractPagingItemReader<T> {
 			entityManager.clear();
 		} // end if
 
-		Query query = createQuery().setFirstResult(getPage() * getPageSize()).setMaxResults(getPageSize());
+		Query query;
+		if (sortKeys == null) {
+			query = createQuery().setFirstResult(getPage() * getPageSize()).setMaxResults(getPageSize());
+		}
+		else if (startAfterValues == null || startAfterValues.isEmpty()) {
+			query = entityManager.createQuery(firstPageQueryString).setMaxResults(getPageSize());
+		}
+		else {
+			previousStartAfterValues = startAfterValues;
+			query = entityManager.createQuery(remainingPagesQueryString).setMaxResults(getPageSize());
+			int index = 0;
+			for (String sortKey : sortKeys.keySet()) {
+				query.setParameter(SORT_KEY_PARAMETER_PREFIX + index++, startAfterValues.get(sortKey));
+			}
+		}
 
 		if (parameterValues != null) {
 			for (Map.Entry<String, Object> me : parameterValues.entrySet()) {
@@ -234,6 +316,47 @@ public class JpaPagingItemReader<T> extends AbstractPagingItemReader<T> {
 			results.addAll(query.getResultList());
 			tx.commit();
 		} // end if
+
+		if (sortKeys != null && !results.isEmpty()) {
+			startAfterValues = extractSortKeyValues(results.get(results.size() - 1), sortKeys);
+		}
+	}
+
+	@Override
+	protected @Nullable Object capturePageState() {
+		return sortKeys != null ? new PageState(previousStartAfterValues, startAfterValues) : null;
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		super.update(executionContext);
+		if (isSaveState() && sortKeys != null) {
+			Map<String, Object> startAfterValues = this.startAfterValues;
+			Map<String, Object> previousStartAfterValues = this.previousStartAfterValues;
+			if (getCurrentPageState() instanceof PageState pageState) {
+				// pages are prefetched, the values above are the ones of the last page
+				// read
+				startAfterValues = pageState.startAfterValues();
+				previousStartAfterValues = pageState.previousStartAfterValues();
+			}
+			if (getCurrentItemCount() % getPageSize() == 0 && startAfterValues != null) {
+				// restart on next page
+				executionContext.put(getExecutionContextKey(START_AFTER_VALUE), startAfterValues);
+			}
+			else if (previousStartAfterValues != null) {
+				// restart on current page
+				executionContext.put(getExecutionContextKey(START_AFTER_VALUE), previousStartAfterValues);
+			}
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void open(ExecutionContext executionContext) {
+		if (isSaveState() && sortKeys != null) {
+			startAfterValues = (Map<String, Object>) executionContext.get(getExecutionContextKey(START_AFTER_VALUE));
+		}
+		super.open(executionContext);
 	}
 
 	/**
@@ -254,7 +377,116 @@ public class JpaPagingItemReader<T> extends AbstractPagingItemReader<T> {
 	@Override
 	protected void doClose() throws Exception {
 		entityManager.close();
+		startAfterValues = null;
+		previousStartAfterValues = null;
 		super.doClose();
 	}
 
+	private record PageState(@Nullable Map<String, Object> previousStartAfterValues,
+			@Nullable Map<String, Object> startAfterValues) {
+
+	}
+
+	private static String buildOrderByClause(Map<String, Order> sortKeys) {
+		StringBuilder orderBy = new StringBuilder(" order by ");
+		String separator = "";
+		for (Map.Entry<String, Order> sortKey : sortKeys.entrySet()) {
+			orderBy.append(separator)
+				.append(sortKey.getKey())
+				.append(sortKey.getValue() == Order.DESCENDING ? " desc" : " asc");
+			separator = ", ";
+		}
+		return orderBy.toString();
+	}
+
+	private void assertNoPrefetchWhenTransacted() {
+		Assert.state(!transacted || getPrefetchExecutor() == null,
+				"A prefetch executor is not supported with a transacted reader, set transacted to false");
+	}
+
+	/*
+	 * (k0 > :_sortKey0) or (k0 = :_sortKey0 and k1 > :_sortKey1) or ...
+	 */
+	private static String buildKeysetCondition(Map<String, Order> sortKeys) {
+		StringBuilder condition = new StringBuilder();
+		List<Map.Entry<String, Order>> keys = List.copyOf(sortKeys.entrySet());
+		for (int i = 0; i < keys.size(); i++) {
+			condition.append(i == 0 ? "(" : " or (");
+			for (int j = 0; j < i; j++) {
+				condition.append(keys.get(j).getKey())
+					.append(" = :")
+					.append(SORT_KEY_PARAMETER_PREFIX + j)
+					.append(" and ");
+			}
+			condition.append(keys.get(i).getKey())
+				.append(keys.get(i).getValue() == Order.DESCENDING ? " < :" : " > :")
+				.append(SORT_KEY_PARAMETER_PREFIX + i)
+				.append(")");
+		}
+		return condition.toString();
+	}
+
+	/*
+	 * Combine the condition with the where clause of the query that is neither nested in
+	 * parentheses (that is, not part of a subquery) nor in a string literal, and insert
+	 * it before the group by or having clause of the query, if any.
+	 */
+	private static String addCondition(String queryString, String condition) {
+		String lowerCaseQuery = queryString.toLowerCase(Locale.ROOT);
+		int whereIndex = -1;
+		int groupingIndex = queryString.length();
+		int depth = 0;
+		boolean inLiteral = false;
+		for (int i = 0; i < lowerCaseQuery.length() && groupingIndex == queryString.length(); i++) {
+			char c = lowerCaseQuery.charAt(i);
+			if (c == '\'') {
+				// an escaped quote ('') toggles twice
+				inLiteral = !inLiteral;
+			}
+			else if (inLiteral) {
+				continue;
+			}
+			else if (c == '(') {
+				depth++;
+			}
+			else if (c == ')') {
+				depth--;
+			}
+			else if (depth == 0 && isKeyword(lowerCaseQuery, i, "where")) {
+				whereIndex = i;
+			}
+			else if (depth == 0 && (isKeyword(lowerCaseQuery, i, "having") || (isKeyword(lowerCaseQuery, i, "group")
+					&& lowerCaseQuery.substring(i + 5).stripLeading().startsWith("by")))) {
+				groupingIndex = i;
+			}
+		}
+		String query = queryString.substring(0, groupingIndex).trim();
+		String groupingClauses = groupingIndex < queryString.length() ? " " + queryString.substring(groupingIndex) : "";
+		if (whereIndex < 0) {
+			return query + " where " + condition + groupingClauses;
+		}
+		return query.substring(0, whereIndex) + "where (" + query.substring(whereIndex + 5).trim() + ") and ("
+				+ condition + ")" + groupingClauses;
+	}
+
+	private static boolean isKeyword(String query, int index, String keyword) {
+		int end = index + keyword.length();
+		return query.startsWith(keyword, index)
+				&& (index == 0 || Character.isWhitespace(query.charAt(index - 1)) || query.charAt(index - 1) == ')')
+				&& (end == query.length() || Character.isWhitespace(query.charAt(end)) || query.charAt(end) == '(');
+	}
+
+	private static Map<String, Object> extractSortKeyValues(Object item, Map<String, Order> sortKeys) {
+		PropertyAccessor beanAccessor = PropertyAccessorFactory.forBeanPropertyAccess(item);
+		PropertyAccessor fieldAccessor = PropertyAccessorFactory.forDirectFieldAccess(item);
+		Map<String, Object> values = new LinkedHashMap<>();
+		for (String sortKey : sortKeys.keySet()) {
+			// strip the identification variable
+			String propertyPath = sortKey.substring(sortKey.indexOf('.') + 1);
+			values.put(sortKey, beanAccessor.isReadableProperty(propertyPath)
+					? beanAccessor.getPropertyValue(propertyPath) : fieldAccessor.getPropertyValue(propertyPath));
+		}
+		return values;
+	}
+
 }
@@ -44,6 +44,7 @@ import org.springframework.jdbc.core.BeanPropertyRowMapper;
 import org.springframework.jdbc.core.DataClassRowMapper;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.util.Assert;
 
 /**
@@ -77,6 +78,12 @@ public class JdbcPagingItemReaderBuilder<T> {
 
 	protected int pageSize = 10;
 
+	protected @Nullable TaskExecutor prefetchExecutor;
+
+	protected int prefetchSize = 1;
+
+	protected boolean pageClaiming;
+
 	protected @Nullable String groupClause;
 
 	protected @Nullable String selectClause;
@@ -230,6 +237,48 @@ public class JdbcPagingItemReaderBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * The executor used to read pages ahead while the current page is being consumed.
+	 * Defaults to {@code null} (pages are read on demand).
+	 * @param prefetchExecutor the executor to read pages with
+	 * @return this instance for method chaining
+	 * @since 6.1
+	 * @see JdbcPagingItemReader#setPrefetchExecutor(TaskExecutor)
+	 */
+	public JdbcPagingItemReaderBuilder<T> prefetchExecutor(TaskExecutor prefetchExecutor) {
+		this.prefetchExecutor = prefetchExecutor;
+
+		return this;
+	}
+
+	/**
+	 * The maximum number of pages read ahead when a prefetch executor is set. Defaults to
+	 * 1.
+	 * @param prefetchSize the maximum number of pages to read ahead
+	 * @return this instance for method chaining
+	 * @since 6.1
+	 * @see JdbcPagingItemReader#setPrefetchSize(int)
+	 */
+	public JdbcPagingItemReaderBuilder<T> prefetchSize(int prefetchSize) {
+		this.prefetchSize = prefetchSize;
+
+		return this;
+	}
+
+	/**
+	 * Whether each thread should claim a whole page and read its items without locking.
+	 * Requires {@link #saveState(boolean)} to be set to false. Defaults to {@code false}.
+	 * @param pageClaiming true to let each thread claim a whole page
+	 * @return this instance for method chaining
+	 * @since 6.1
+	 * @see JdbcPagingItemReader#setPageClaiming(boolean)
+	 */
+	public JdbcPagingItemReaderBuilder<T> pageClaiming(boolean pageClaiming) {
+		this.pageClaiming = pageClaiming;
+
+		return this;
+	}
+
 	/**
 	 * The SQL <code>GROUP BY</code> clause for a db
 	 * specific @{@link PagingQueryProvider}. This is only used if a
@@ -340,6 +389,11 @@ public class JdbcPagingItemReaderBuilder<T> {
 			reader.setRowMapper(rowMapper);
 		}
 		reader.setPageSize(pageSize);
+		if (prefetchExecutor != null) {
+			reader.setPrefetchExecutor(prefetchExecutor);
+		}
+		reader.setPrefetchSize(prefetchSize);
+		reader.setPageClaiming(pageClaiming);
 		reader.afterPropertiesSet();
 		return reader;
 	}
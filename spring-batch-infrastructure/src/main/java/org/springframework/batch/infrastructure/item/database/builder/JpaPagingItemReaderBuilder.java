@@ -23,8 +23,10 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.batch.infrastructure.item.ItemStreamSupport;
 import org.springframework.batch.infrastructure.item.database.JpaPagingItemReader;
+import org.springframework.batch.infrastructure.item.database.Order;
 import org.springframework.batch.infrastructure.item.database.orm.JpaQueryProvider;
 import org.springframework.batch.infrastructure.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.util.Assert;
 
 /**
@@ -41,6 +43,12 @@ public class JpaPagingItemReaderBuilder<T> {
 
 	private int pageSize = 10;
 
+	private @Nullable TaskExecutor prefetchExecutor;
+
+	private int prefetchSize = 1;
+
+	private boolean pageClaiming;
+
 	private @Nullable EntityManagerFactory entityManagerFactory;
 
 	private @Nullable Map<String, Object> parameterValues;
@@ -49,6 +57,8 @@ public class JpaPagingItemReaderBuilder<T> {
 
 	private boolean transacted = true;
 
+	private @Nullable Map<String, Order> sortKeys;
+
 	private @Nullable String queryString;
 
 	private @Nullable JpaQueryProvider queryProvider;
@@ -123,6 +133,48 @@ public class JpaPagingItemReaderBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * The executor used to read pages ahead while the current page is being consumed.
+	 * Defaults to {@code null} (pages are read on demand).
+	 * @param prefetchExecutor the executor to read pages with
+	 * @return this instance for method chaining
+	 * @since 6.1
+	 * @see JpaPagingItemReader#setPrefetchExecutor(TaskExecutor)
+	 */
+	public JpaPagingItemReaderBuilder<T> prefetchExecutor(TaskExecutor prefetchExecutor) {
+		this.prefetchExecutor = prefetchExecutor;
+
+		return this;
+	}
+
+	/**
+	 * The maximum number of pages read ahead when a prefetch executor is set. Defaults to
+	 * 1.
+	 * @param prefetchSize the maximum number of pages to read ahead
+	 * @return this instance for method chaining
+	 * @since 6.1
+	 * @see JpaPagingItemReader#setPrefetchSize(int)
+	 */
+	public JpaPagingItemReaderBuilder<T> prefetchSize(int prefetchSize) {
+		this.prefetchSize = prefetchSize;
+
+		return this;
+	}
+
+	/**
+	 * Whether each thread should claim a whole page and read its items without locking.
+	 * Requires {@link #saveState(boolean)} to be set to false. Defaults to {@code false}.
+	 * @param pageClaiming true to let each thread claim a whole page
+	 * @return this instance for method chaining
+	 * @since 6.1
+	 * @see JpaPagingItemReader#setPageClaiming(boolean)
+	 */
+	public JpaPagingItemReaderBuilder<T> pageClaiming(boolean pageClaiming) {
+		this.pageClaiming = pageClaiming;
+
+		return this;
+	}
+
 	/**
 	 * A map of parameter values to be set on the query. The key of the map is the name of
 	 * the parameter to be set with the value being the value to be set.
@@ -190,6 +242,20 @@ public class JpaPagingItemReaderBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * The keys to sort the results by, in order to read pages with keyset paging instead
+	 * of an offset.
+	 * @param sortKeys the sort keys and their order
+	 * @return this instance for method chaining
+	 * @since 6.1
+	 * @see JpaPagingItemReader#setSortKeys(Map)
+	 */
+	public JpaPagingItemReaderBuilder<T> sortKeys(Map<String, Order> sortKeys) {
+		this.sortKeys = sortKeys;
+
+		return this;
+	}
+
 	/**
 	 * The {@link EntityManagerFactory} to be used for executing the configured
 	 * {@link #queryString}.
@@ -218,6 +284,10 @@ public class JpaPagingItemReaderBuilder<T> {
 		if (this.queryProvider == null) {
 			Assert.hasLength(this.queryString, "Query string is required when queryProvider is null");
 		}
+		if (this.sortKeys != null) {
+			Assert.isTrue(this.queryProvider == null, "Sort keys are not supported with a query provider");
+			Assert.notEmpty(this.sortKeys, "Sort keys must not be empty");
+		}
 
 		JpaPagingItemReader<T> reader = new JpaPagingItemReader<>(this.entityManagerFactory);
 
@@ -234,10 +304,18 @@ public class JpaPagingItemReaderBuilder<T> {
 			reader.setName(this.name);
 		}
 		reader.setPageSize(this.pageSize);
+		if (this.prefetchExecutor != null) {
+			reader.setPrefetchExecutor(this.prefetchExecutor);
+		}
+		reader.setPrefetchSize(this.prefetchSize);
+		reader.setPageClaiming(this.pageClaiming);
 		if (this.queryProvider != null) {
 			reader.setQueryProvider(this.queryProvider);
 		}
 		reader.setTransacted(this.transacted);
+		if (this.sortKeys != null) {
+			reader.setSortKeys(this.sortKeys);
+		}
 		reader.setCurrentItemCount(this.currentItemCount);
 		reader.setMaxItemCount(this.maxItemCount);
 		reader.setSaveState(this.saveState);
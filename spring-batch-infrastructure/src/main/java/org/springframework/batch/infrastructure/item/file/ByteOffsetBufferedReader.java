@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.file;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link BufferedReader} extension that reads lines directly from a {@link FileChannel}
+ * and keeps track of the byte offset of the next line, so that reading can be resumed
+ * from that offset with {@link #seek(long)}. Lines are split on the same line endings as
+ * {@link BufferedReader#readLine()} (line feed, carriage return or both), which is only
+ * correct for charsets encoding these characters as single ASCII bytes, see
+ * {@link #supports(Charset)}.
+ * <p>
+ * Only lines can be read from this reader, with {@link #readLine()} or {@link #lines()}.
+ * Reading characters is not supported, and neither is marking the stream.
+ *
+ * @since 6.1
+ */
+final class ByteOffsetBufferedReader extends BufferedReader {
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private static final byte LF = '\n';
+
+	private static final byte CR = '\r';
+
+	private final FileChannel channel;
+
+	private final Charset charset;
+
+	private final byte[] buffer = new byte[BUFFER_SIZE];
+
+	private int bufferPosition;
+
+	private int bufferLimit;
+
+	private byte[] line = new byte[256];
+
+	private int lineLength;
+
+	private long position;
+
+	ByteOffsetBufferedReader(Path path, Charset charset) throws IOException {
+		super(Reader.nullReader(), 1);
+		this.channel = FileChannel.open(path, StandardOpenOption.READ);
+		this.charset = charset;
+	}
+
+	/**
+	 * Check if lines of a content encoded with the given charset can be split on line
+	 * ending bytes.
+	 * @param charset the charset of the content
+	 * @return true if the charset is UTF-8 or a single byte charset encoding line endings
+	 * as ASCII
+	 */
+	static boolean supports(Charset charset) {
+		if (!charset.canEncode()) {
+			return false;
+		}
+		boolean asciiLineEndings = Arrays.equals("\r\n".getBytes(charset), new byte[] { CR, LF });
+		return asciiLineEndings
+				&& (charset.equals(StandardCharsets.UTF_8) || charset.newEncoder().maxBytesPerChar() == 1.0f);
+	}
+
+	/**
+	 * @return the byte offset of the next line to be read
+	 */
+	long position() {
+		return this.position;
+	}
+
+	/**
+	 * @return the size of the underlying file in bytes
+	 * @throws IOException if the size cannot be determined
+	 */
+	long size() throws IOException {
+		return this.channel.size();
+	}
+
+	/**
+	 * Move to the given byte offset, which must be the start of a line.
+	 * @param offset the byte offset of the next line to read
+	 * @throws IOException if the position cannot be changed
+	 */
+	void seek(long offset) throws IOException {
+		this.channel.position(offset);
+		this.bufferPosition = 0;
+		this.bufferLimit = 0;
+		this.position = offset;
+	}
+
+	@Override
+	public @Nullable String readLine() throws IOException {
+		this.lineLength = 0;
+		boolean endOfLine = false;
+		boolean empty = true;
+		while (!endOfLine) {
+			if (this.bufferPosition == this.bufferLimit && !fill()) {
+				return empty ? null : decodeLine();
+			}
+			empty = false;
+			int start = this.bufferPosition;
+			int end = start;
+			while (end < this.bufferLimit && this.buffer[end] != LF && this.buffer[end] != CR) {
+				end++;
+			}
+			append(start, end - start);
+			this.position += end - start;
+			this.bufferPosition = end;
+			if (end < this.bufferLimit) {
+				byte ending = this.buffer[end];
+				this.bufferPosition++;
+				this.position++;
+				if (ending == CR && (this.bufferPosition < this.bufferLimit || fill())
+						&& this.buffer[this.bufferPosition] == LF) {
+					this.bufferPosition++;
+					this.position++;
+				}
+				endOfLine = true;
+			}
+		}
+		return decodeLine();
+	}
+
+	@Override
+	public boolean ready() throws IOException {
+		return this.bufferPosition < this.bufferLimit || this.channel.position() < this.channel.size();
+	}
+
+	@Override
+	public int read() throws IOException {
+		throw new UnsupportedOperationException("Only lines can be read from this reader");
+	}
+
+	@Override
+	public int read(char[] chars, int offset, int length) throws IOException {
+		throw new UnsupportedOperationException("Only lines can be read from this reader");
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		throw new UnsupportedOperationException("Only lines can be read from this reader");
+	}
+
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+
+	@Override
+	public void mark(int readAheadLimit) throws IOException {
+		throw new IOException("mark() not supported");
+	}
+
+	@Override
+	public void reset() throws IOException {
+		throw new IOException("reset() not supported");
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.channel.close();
+	}
+
+	private boolean fill() throws IOException {
+		int read;
+		do {
+			read = this.channel.read(ByteBuffer.wrap(this.buffer));
+		}
+		while (read == 0);
+		this.bufferPosition = 0;
+		this.bufferLimit = Math.max(read, 0);
+		return read > 0;
+	}
+
+	private void append(int offset, int length) {
+		if (this.lineLength + length > this.line.length) {
+			this.line = Arrays.copyOf(this.line, Math.max(this.line.length * 2, this.lineLength + length));
+		}
+		System.arraycopy(this.buffer, offset, this.line, this.lineLength, length);
+		this.lineLength += length;
+	}
+
+	private String decodeLine() {
+		return new String(this.line, 0, this.lineLength, this.charset);
+	}
+
+}
@@ -18,6 +18,7 @@ package org.springframework.batch.infrastructure.item.file;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
 import org.apache.commons.logging.Log;
@@ -26,6 +27,7 @@ import org.jspecify.annotations.Nullable;
 
 import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.batch.infrastructure.item.ItemReader;
+import org.springframework.batch.infrastructure.item.ItemStreamException;
 import org.springframework.batch.infrastructure.item.ReaderNotOpenException;
 import org.springframework.batch.infrastructure.item.file.separator.RecordSeparatorPolicy;
 import org.springframework.batch.infrastructure.item.file.separator.SimpleRecordSeparatorPolicy;
@@ -43,6 +45,19 @@ import org.springframework.util.StringUtils;
  * line and its line number.
  *
  * <p>
+ * When {@link #setByteOffsetRestart(boolean) byte offset restart} is enabled, the reader
+ * also saves the byte offset of the next line in the {@link ExecutionContext}, and seeks
+ * directly to that offset on restart instead of re-reading all previously consumed lines.
+ * </p>
+ *
+ * <p>
+ * The reader can also be restricted to a byte range of the resource with
+ * {@link #setStartOffset(long)} and {@link #setEndOffset(long)}, typically to read one of
+ * the ranges of a large file in a partitioned step. Both offsets must be aligned to
+ * record boundaries.
+ * </p>
+ *
+ * <p>
  * This reader is <b>not</b> thread-safe.
  * </p>
  *
@@ -63,6 +78,10 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 
 	public static final String[] DEFAULT_COMMENT_PREFIXES = new String[] { "#" };
 
+	private static final String READ_OFFSET = "read.offset";
+
+	private static final String LINE_COUNT = "line.count";
+
 	private RecordSeparatorPolicy recordSeparatorPolicy = new SimpleRecordSeparatorPolicy();
 
 	private @Nullable Resource resource;
@@ -87,6 +106,16 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 
 	private BufferedReaderFactory bufferedReaderFactory = new DefaultBufferedReaderFactory();
 
+	private boolean byteOffsetRestart = false;
+
+	private long startOffset = 0;
+
+	private long endOffset = Long.MAX_VALUE;
+
+	private long restartOffset = -1;
+
+	private int restartLineCount;
+
 	/**
 	 * Create a new {@link FlatFileItemReader} with a {@link LineMapper}.
 	 * @param lineMapper to use to map lines to items
@@ -165,6 +194,49 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 		this.bufferedReaderFactory = bufferedReaderFactory;
 	}
 
+	/**
+	 * Whether to save the byte offset of the next line to read in the
+	 * {@link ExecutionContext}, and to seek to that offset on restart instead of
+	 * re-reading the lines consumed by the previous execution. This is only possible for
+	 * resources backed by a file that are read with the default
+	 * {@link BufferedReaderFactory}, and with an encoding that represents line endings as
+	 * single ASCII bytes (UTF-8, US-ASCII, ISO-8859-1, etc). Otherwise, the reader falls
+	 * back to re-reading lines on restart. Defaults to {@code false}.
+	 * @param byteOffsetRestart true to enable restart from byte offsets
+	 * @since 6.1
+	 */
+	public void setByteOffsetRestart(boolean byteOffsetRestart) {
+		this.byteOffsetRestart = byteOffsetRestart;
+	}
+
+	/**
+	 * The byte offset of the first record to read. If greater than zero, the reader seeks
+	 * to that offset when opened and the {@link #setLinesToSkip(int) lines to skip} are
+	 * not skipped, as they are assumed to belong to the range starting at offset zero.
+	 * Line numbers passed to the {@link LineMapper} are then relative to the start of the
+	 * range. Reading a byte range has the same requirements as
+	 * {@link #setByteOffsetRestart(boolean) byte offset restart}. Defaults to zero.
+	 * @param startOffset the byte offset at which to start reading, inclusive
+	 * @since 6.1
+	 */
+	public void setStartOffset(long startOffset) {
+		Assert.isTrue(startOffset >= 0, "startOffset must not be negative");
+		this.startOffset = startOffset;
+	}
+
+	/**
+	 * The byte offset after which no new record is read. A record starting before that
+	 * offset is read entirely, even if it spans over it. Defaults to
+	 * {@link Long#MAX_VALUE} (read until the end of the resource).
+	 * @param endOffset the byte offset at which to stop reading, exclusive
+	 * @since 6.1
+	 * @see #setStartOffset(long)
+	 */
+	public void setEndOffset(long endOffset) {
+		Assert.isTrue(endOffset >= 0, "endOffset must not be negative");
+		this.endOffset = endOffset;
+	}
+
 	/**
 	 * Setter for comment prefixes. Can be used to ignore header lines as well by using
 	 * e.g. the first couple of column names as a prefix. Defaults to
@@ -203,7 +275,7 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 	protected @Nullable T doRead() throws Exception {
 		Assert.notNull(resource, "Input resource must be set");
 
-		if (noInput) {
+		if (noInput || isEndOfRange()) {
 			return null;
 		}
 
@@ -241,6 +313,10 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 					return null;
 				}
 				lineCount++;
+				if (isComment(line) && isEndOfRange()) {
+					// the next record starts in the next byte range
+					return null;
+				}
 			}
 			while (isComment(line));
 
@@ -300,18 +376,87 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 			return;
 		}
 
-		reader = bufferedReaderFactory.create(resource, encoding);
-		for (int i = 0; i < linesToSkip; i++) {
-			String line = readLine();
-			if (skippedLinesCallback != null && line != null) {
-				skippedLinesCallback.handleLine(line);
+		reader = createReader(resource);
+		if (this.startOffset > 0 && reader instanceof ByteOffsetBufferedReader byteOffsetReader) {
+			byteOffsetReader.seek(this.startOffset);
+		}
+		else {
+			for (int i = 0; i < linesToSkip; i++) {
+				String line = readLine();
+				if (skippedLinesCallback != null && line != null) {
+					skippedLinesCallback.handleLine(line);
+				}
 			}
 		}
 		noInput = false;
 	}
 
+	/*
+	 * Only checked before the first line of a record: a record starting before the end
+	 * offset is read entirely, including lines beyond the end offset.
+	 */
+	private boolean isEndOfRange() {
+		return this.reader instanceof ByteOffsetBufferedReader byteOffsetReader
+				&& byteOffsetReader.position() >= this.endOffset;
+	}
+
+	private boolean isRangeSet() {
+		return this.startOffset > 0 || this.endOffset < Long.MAX_VALUE;
+	}
+
+	private BufferedReader createReader(Resource resource) throws IOException {
+		if ((this.byteOffsetRestart || isRangeSet()) && resource.isFile()
+				&& this.bufferedReaderFactory.getClass() == DefaultBufferedReaderFactory.class) {
+			Charset charset = Charset.forName(this.encoding);
+			if (ByteOffsetBufferedReader.supports(charset)) {
+				return new ByteOffsetBufferedReader(resource.getFile().toPath(), charset);
+			}
+		}
+		if (isRangeSet()) {
+			throw new IllegalStateException("Reading a byte range requires a file resource read with the default "
+					+ "BufferedReaderFactory and an ASCII compatible encoding: " + resource.getDescription()
+					+ " with encoding " + this.encoding);
+		}
+		if (this.byteOffsetRestart && logger.isDebugEnabled()) {
+			logger.debug("Byte offset restart is not supported for resource " + resource.getDescription()
+					+ " with encoding " + this.encoding + ", lines will be re-read on restart");
+		}
+		return this.bufferedReaderFactory.create(resource, this.encoding);
+	}
+
+	@Override
+	public void open(ExecutionContext executionContext) throws ItemStreamException {
+		if ((this.byteOffsetRestart || isRangeSet()) && isSaveState()
+				&& executionContext.containsKey(getExecutionContextKey(READ_OFFSET))
+				&& executionContext.containsKey(getExecutionContextKey(LINE_COUNT))) {
+			this.restartOffset = executionContext.getLong(getExecutionContextKey(READ_OFFSET));
+			this.restartLineCount = executionContext.getInt(getExecutionContextKey(LINE_COUNT));
+		}
+		try {
+			super.open(executionContext);
+		}
+		finally {
+			this.restartOffset = -1;
+		}
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		super.update(executionContext);
+		if (isSaveState() && this.reader instanceof ByteOffsetBufferedReader byteOffsetReader) {
+			executionContext.putLong(getExecutionContextKey(READ_OFFSET), byteOffsetReader.position());
+			executionContext.putInt(getExecutionContextKey(LINE_COUNT), this.lineCount);
+		}
+	}
+
 	@Override
 	protected void jumpToItem(int itemIndex) throws Exception {
+		if (this.reader instanceof ByteOffsetBufferedReader byteOffsetReader && this.restartOffset >= 0
+				&& this.restartOffset <= byteOffsetReader.size()) {
+			byteOffsetReader.seek(this.restartOffset);
+			this.lineCount = this.restartLineCount;
+			return;
+		}
 		for (int i = 0; i < itemIndex; i++) {
 			readLine();
 		}
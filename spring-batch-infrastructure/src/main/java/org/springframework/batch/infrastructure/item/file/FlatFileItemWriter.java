@@ -16,6 +16,9 @@
 
 package org.springframework.batch.infrastructure.item.file;
 
+import java.io.IOException;
+import java.io.Writer;
+
 import org.springframework.batch.infrastructure.item.Chunk;
 import org.springframework.batch.infrastructure.item.file.transform.LineAggregator;
 import org.springframework.batch.infrastructure.item.support.AbstractFileItemWriter;
@@ -48,6 +51,14 @@ public class FlatFileItemWriter<T> extends AbstractFileItemWriter<T> {
 
 	protected LineAggregator<T> lineAggregator;
 
+	// capacity above which the buffer of lines is released after a chunk
+	private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+	// reusable buffers holding the lines of the current chunk
+	private final StringBuilder lines = new StringBuilder();
+
+	private final char[] chars = new char[8192];
+
 	/**
 	 * Create a new {@link FlatFileItemWriter} with the {@link LineAggregator} specified.
 	 * @param lineAggregator to use to convert items to lines of text
@@ -93,13 +104,67 @@ public class FlatFileItemWriter<T> extends AbstractFileItemWriter<T> {
 		this.lineAggregator = lineAggregator;
 	}
 
+	/**
+	 * Aggregate the lines of the chunk into a string. This method is used to write chunks
+	 * by subclasses that do not override {@link #doWrite(Chunk, Writer)}.
+	 * @param items to be written
+	 * @return the lines of the items
+	 */
 	@Override
 	public String doWrite(Chunk<? extends T> items) {
 		StringBuilder lines = new StringBuilder();
+		aggregate(items, lines);
+		return lines.toString();
+	}
+
+	/**
+	 * Write the lines of the chunk with {@link #writeLines(Chunk, Writer)}. Subclasses,
+	 * which may override {@link #doWrite(Chunk)}, write the string it returns instead,
+	 * and can override this method to call {@link #writeLines(Chunk, Writer)}.
+	 * @since 6.1
+	 */
+	@Override
+	protected void doWrite(Chunk<? extends T> items, Writer writer) throws IOException {
+		if (getClass() == FlatFileItemWriter.class) {
+			writeLines(items, writer);
+		}
+		else {
+			super.doWrite(items, writer);
+		}
+	}
+
+	/**
+	 * Aggregate the lines of the chunk into a buffer reused across chunks, and copy them
+	 * to the writer once all items have been aggregated, without creating a string per
+	 * line or per chunk.
+	 * @param items to be written
+	 * @param writer the writer of the output file
+	 * @throws IOException if unable to write to the writer
+	 * @since 6.1
+	 */
+	protected void writeLines(Chunk<? extends T> items, Writer writer) throws IOException {
+		try {
+			aggregate(items, this.lines);
+			int length = this.lines.length();
+			for (int start = 0; start < length; start += this.chars.length) {
+				int end = Math.min(start + this.chars.length, length);
+				this.lines.getChars(start, end, this.chars, 0);
+				writer.write(this.chars, 0, end - start);
+			}
+		}
+		finally {
+			this.lines.setLength(0);
+			if (this.lines.capacity() > MAX_RETAINED_CAPACITY) {
+				this.lines.trimToSize();
+			}
+		}
+	}
+
+	private void aggregate(Chunk<? extends T> items, StringBuilder lines) {
 		for (T item : items) {
-			lines.append(this.lineAggregator.aggregate(item)).append(this.lineSeparator);
+			this.lineAggregator.aggregate(item, lines);
+			lines.append(this.lineSeparator);
 		}
-		return lines.toString();
 	}
 
 }
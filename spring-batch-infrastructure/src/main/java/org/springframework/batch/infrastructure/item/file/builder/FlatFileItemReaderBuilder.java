@@ -81,6 +81,12 @@ public class FlatFileItemReaderBuilder<T> {
 
 	private BufferedReaderFactory bufferedReaderFactory = new DefaultBufferedReaderFactory();
 
+	private boolean byteOffsetRestart = false;
+
+	private long startOffset = 0;
+
+	private long endOffset = Long.MAX_VALUE;
+
 	private @Nullable Resource resource;
 
 	private List<String> comments = new ArrayList<>(Arrays.asList(FlatFileItemReader.DEFAULT_COMMENT_PREFIXES));
@@ -217,6 +223,35 @@ public class FlatFileItemReaderBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * Configure if the reader should save the byte offset of the next line and seek to it
+	 * on restart, instead of re-reading previously consumed lines.
+	 * @param byteOffsetRestart true to enable restart from byte offsets
+	 * @return The current instance of the builder.
+	 * @see FlatFileItemReader#setByteOffsetRestart(boolean)
+	 * @since 6.1
+	 */
+	public FlatFileItemReaderBuilder<T> byteOffsetRestart(boolean byteOffsetRestart) {
+		this.byteOffsetRestart = byteOffsetRestart;
+		return this;
+	}
+
+	/**
+	 * Configure the byte range of the resource to read, typically provided by a
+	 * partitioner splitting a large file into ranges aligned to record boundaries.
+	 * @param startOffset the byte offset at which to start reading, inclusive
+	 * @param endOffset the byte offset at which to stop reading, exclusive
+	 * @return The current instance of the builder.
+	 * @see FlatFileItemReader#setStartOffset(long)
+	 * @see FlatFileItemReader#setEndOffset(long)
+	 * @since 6.1
+	 */
+	public FlatFileItemReaderBuilder<T> byteRange(long startOffset, long endOffset) {
+		this.startOffset = startOffset;
+		this.endOffset = endOffset;
+		return this;
+	}
+
 	/**
 	 * The {@link Resource} to be used as input.
 	 * @param resource the input to the reader.
@@ -556,6 +591,9 @@ public class FlatFileItemReaderBuilder<T> {
 		}
 		reader.setRecordSeparatorPolicy(this.recordSeparatorPolicy);
 		reader.setBufferedReaderFactory(this.bufferedReaderFactory);
+		reader.setByteOffsetRestart(this.byteOffsetRestart);
+		reader.setStartOffset(this.startOffset);
+		reader.setEndOffset(this.endOffset);
 		reader.setMaxItemCount(this.maxItemCount);
 		reader.setCurrentItemCount(this.currentItemCount);
 		reader.setSaveState(this.saveState);
@@ -15,9 +15,6 @@
  */
 package org.springframework.batch.infrastructure.item.file.transform;
 
-import java.util.Arrays;
-import java.util.stream.Collectors;
-
 /**
  * A {@link LineAggregator} implementation that converts an object into a delimited list
  * of strings. The default delimiter is a comma. An optional quote value can be set to add
@@ -52,9 +49,19 @@ public class DelimitedLineAggregator<T> extends ExtractorLineAggregator<T> {
 
 	@Override
 	public String doAggregate(Object[] fields) {
-		return Arrays.stream(fields)
-			.map(field -> this.quoteCharacter + field + this.quoteCharacter)
-			.collect(Collectors.joining(this.delimiter));
+		StringBuilder line = new StringBuilder();
+		doAggregate(fields, line);
+		return line.toString();
+	}
+
+	@Override
+	public void doAggregate(Object[] fields, StringBuilder line) {
+		for (int i = 0; i < fields.length; i++) {
+			if (i > 0) {
+				line.append(this.delimiter);
+			}
+			line.append(this.quoteCharacter).append(fields[i]).append(this.quoteCharacter);
+		}
 	}
 
 }
@@ -17,9 +17,8 @@
 package org.springframework.batch.infrastructure.item.file.transform;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Set;
 
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.util.Assert;
@@ -63,7 +62,7 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 
 	private String escapedQuoteString;
 
-	private final Set<Integer> includedFields = new HashSet<>();
+	private final BitSet includedFields = new BitSet();
 
 	/**
 	 * Create a new instance of the {@link DelimitedLineTokenizer} class for the common
@@ -106,11 +105,9 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 	 * @param includedFields the included fields to set
 	 */
 	public void setIncludedFields(int... includedFields) {
-		if (!this.includedFields.isEmpty()) {
-			this.includedFields.clear();
-		}
+		this.includedFields.clear();
 		for (int i : includedFields) {
-			this.includedFields.add(i);
+			this.includedFields.set(i);
 		}
 	}
 
@@ -136,6 +133,9 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 	 */
 	@Override
 	protected List<String> doTokenize(String line) {
+		if (delimiter.length() == 1) {
+			return doTokenize(line, delimiter.charAt(0));
+		}
 
 		List<String> tokens = new ArrayList<>();
 
@@ -164,7 +164,7 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 					endPosition = (endPosition - delimiter.length()) + 1;
 				}
 
-				if (includedFields.isEmpty() || includedFields.contains(fieldCount)) {
+				if (isIncluded(fieldCount)) {
 					String value = substringWithTrimmedWhitespaceAndQuotesIfQuotesPresent(line, lastCut, endPosition);
 					tokens.add(value);
 				}
@@ -172,7 +172,7 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 				fieldCount++;
 
 				if (isEnd && isDelimiter) {
-					if (includedFields.isEmpty() || includedFields.contains(fieldCount)) {
+					if (isIncluded(fieldCount)) {
 						tokens.add("");
 					}
 					fieldCount++;
@@ -189,6 +189,64 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 		return tokens;
 	}
 
+	/**
+	 * Fast path of {@link #doTokenize(String)} for single character delimiters: the line
+	 * is scanned once with a plain character comparison, and scanning stops as soon as
+	 * the last included field has been extracted.
+	 * @param line the line to be tokenized
+	 * @param delimiter the delimiter character
+	 * @return the resulting tokens
+	 */
+	private List<String> doTokenize(String line, char delimiter) {
+		List<String> tokens = new ArrayList<>(names.length > 0 ? names.length : 10);
+
+		boolean inQuoted = false;
+		int lastCut = 0;
+		int length = line.length();
+		int fieldCount = 0;
+		int lastIncludedField = includedFields.isEmpty() ? Integer.MAX_VALUE : includedFields.length() - 1;
+
+		for (int i = 0; i < length && fieldCount <= lastIncludedField; i++) {
+			char currentChar = line.charAt(i);
+			boolean isEnd = (i == (length - 1));
+			boolean isDelimiter = (currentChar == delimiter);
+
+			if ((isDelimiter && !inQuoted) || isEnd) {
+				int count;
+				if (!isEnd) {
+					count = i - lastCut;
+				}
+				else {
+					count = isDelimiter ? length - lastCut - 1 : length - lastCut;
+				}
+
+				if (isIncluded(fieldCount)) {
+					tokens.add(substringWithTrimmedWhitespaceAndQuotesIfQuotesPresent(line, lastCut, count));
+				}
+
+				fieldCount++;
+
+				if (isEnd && isDelimiter) {
+					if (isIncluded(fieldCount)) {
+						tokens.add("");
+					}
+					fieldCount++;
+				}
+
+				lastCut = i + 1;
+			}
+			else if (isQuoteCharacter(currentChar)) {
+				inQuoted = !inQuoted;
+			}
+		}
+
+		return tokens;
+	}
+
+	private boolean isIncluded(int field) {
+		return includedFields.isEmpty() || includedFields.get(field);
+	}
+
 	/**
 	 * Trim any leading or trailing quotes (and any leading or trailing whitespace before
 	 * or after the quotes) from within the specified character array beginning at the
@@ -47,6 +47,23 @@ public abstract class ExtractorLineAggregator<T> implements LineAggregator<T> {
 	 */
 	@Override
 	public String aggregate(T item) {
+		return this.doAggregate(extractFields(item));
+	}
+
+	/**
+	 * Extract fields from the given item using the {@link FieldExtractor} and then append
+	 * them to the given builder. Any null field returned by the extractor will be
+	 * replaced by an empty String. Null items are not allowed.
+	 *
+	 * @see LineAggregator#aggregate(Object, StringBuilder)
+	 * @since 6.1
+	 */
+	@Override
+	public void aggregate(T item, StringBuilder line) {
+		this.doAggregate(extractFields(item), line);
+	}
+
+	private Object[] extractFields(T item) {
 		Assert.notNull(item, "Item is required");
 		Object[] fields = this.fieldExtractor.extract(item);
 
@@ -63,7 +80,7 @@ public abstract class ExtractorLineAggregator<T> implements LineAggregator<T> {
 			}
 		}
 
-		return this.doAggregate(args);
+		return args;
 	}
 
 	/**
@@ -73,4 +90,15 @@ public abstract class ExtractorLineAggregator<T> implements LineAggregator<T> {
 	 */
 	protected abstract String doAggregate(Object[] fields);
 
+	/**
+	 * Append provided fields to the given builder. The default implementation appends the
+	 * result of {@link #doAggregate(Object[])}.
+	 * @param fields An array of the fields that must be aggregated
+	 * @param line the builder to append the aggregated fields to
+	 * @since 6.1
+	 */
+	protected void doAggregate(Object[] fields, StringBuilder line) {
+		line.append(this.doAggregate(fields));
+	}
+
 }
@@ -88,19 +88,34 @@ public class FormatterLineAggregator<T> extends ExtractorLineAggregator<T> {
 
 	@Override
 	protected String doAggregate(Object[] fields) {
-		String value = String.format(locale, format, fields);
+		StringBuilder line = new StringBuilder();
+		doAggregate(fields, line);
+		return line.toString();
+	}
+
+	/**
+	 * Format the fields directly into the given builder.
+	 *
+	 * @see ExtractorLineAggregator#doAggregate(Object[], StringBuilder)
+	 * @since 6.1
+	 */
+	@Override
+	protected void doAggregate(Object[] fields, StringBuilder line) {
+		int start = line.length();
+		new Formatter(line, locale).format(format, fields);
+		int length = line.length() - start;
 
 		if (maximumLength > 0) {
-			Assert.state(value.length() <= maximumLength, String
-				.format("String overflowed in formatter -" + " longer than %d characters: [%s", maximumLength, value));
+			Assert.state(length <= maximumLength,
+					() -> String.format("String overflowed in formatter -" + " longer than %d characters: [%s",
+							maximumLength, line.substring(start)));
 		}
 
 		if (minimumLength > 0) {
-			Assert.state(value.length() >= minimumLength, String.format(
-					"String underflowed in formatter -" + " shorter than %d characters: [%s", minimumLength, value));
+			Assert.state(length >= minimumLength,
+					() -> String.format("String underflowed in formatter -" + " shorter than %d characters: [%s",
+							minimumLength, line.substring(start)));
 		}
-
-		return value;
 	}
 
 }
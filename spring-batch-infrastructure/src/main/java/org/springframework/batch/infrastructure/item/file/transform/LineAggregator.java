@@ -30,4 +30,18 @@ public interface LineAggregator<T> {
 	 */
 	String aggregate(T item);
 
+	/**
+	 * Append the line created from the value provided to the given builder. Used by the
+	 * {@link org.springframework.batch.infrastructure.item.file.FlatFileItemWriter} to
+	 * build the lines of a chunk in a single reusable buffer. The default implementation
+	 * appends the result of {@link #aggregate(Object)}, implementations can override it
+	 * to avoid creating a string per line.
+	 * @param item values to be converted
+	 * @param line the builder to append the line to
+	 * @since 6.1
+	 */
+	default void aggregate(T item, StringBuilder line) {
+		line.append(aggregate(item));
+	}
+
 }
@@ -20,13 +20,17 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.common.TopicPartition;
 import org.jspecify.annotations.Nullable;
@@ -44,6 +48,19 @@ import org.springframework.util.Assert;
  * </p>
  *
  * <p>
+ * The records returned by each poll are handed out partition by partition, and the offset
+ * of the last record read in each partition is only tracked when the reader moves to the
+ * next partition batch or when its state is saved. The reader can also be bounded with
+ * {@link #setPartitionEndOffsets(Map)}, in which case it stops reading a partition when
+ * reaching its end offset, and returns {@code null} once all assigned partitions have
+ * been read up to their end offset. Polls that return no records do not end the reading
+ * while a partition has not reached its end offset, unless
+ * {@link #setEndOffsetTimeout(Duration)} is exceeded. This allows a step to read a
+ * well-defined snapshot of a topic, typically one partition range per worker of a
+ * partitioned step.
+ * </p>
+ *
+ * <p>
  * Since {@link KafkaConsumer} is not thread-safe, this reader is not thread-safe.
  * </p>
  *
@@ -64,11 +81,21 @@ public class KafkaItemReader<K, V> extends AbstractItemStreamItemReader<V> {
 
 	private @Nullable Map<TopicPartition, Long> partitionOffsets;
 
-	private @Nullable KafkaConsumer<K, V> kafkaConsumer;
+	private @Nullable Map<TopicPartition, Long> partitionEndOffsets;
+
+	private final Set<TopicPartition> completedPartitions = new HashSet<>();
+
+	private @Nullable Duration endOffsetTimeout;
+
+	private @Nullable Consumer<K, V> kafkaConsumer;
 
 	private final Properties consumerProperties;
 
-	private @Nullable Iterator<ConsumerRecord<K, V>> consumerRecords;
+	private @Nullable Iterator<PartitionBatch<K, V>> partitionBatches;
+
+	private @Nullable PartitionBatch<K, V> currentBatch;
+
+	private int currentIndex;
 
 	private Duration pollTimeout = Duration.ofSeconds(DEFAULT_POLL_TIMEOUT);
 
@@ -168,10 +195,50 @@ public class KafkaItemReader<K, V> extends AbstractItemStreamItemReader<V> {
 		this.partitionOffsets = partitionOffsets;
 	}
 
+	/**
+	 * Setter for partition end offsets. This mapping tells the reader the offset at which
+	 * to stop reading in each partition (exclusive), typically the end offsets of the
+	 * partitions when the job was launched. This is optional, defaults to reading each
+	 * partition until a poll returns no records. Partitions without an end offset are
+	 * read until a poll returns no records once all other partitions reached their end
+	 * offset.
+	 * @param partitionEndOffsets mapping of end offset in each partition
+	 * @since 6.1
+	 */
+	public void setPartitionEndOffsets(Map<TopicPartition, Long> partitionEndOffsets) {
+		this.partitionEndOffsets = partitionEndOffsets;
+	}
+
+	/**
+	 * Set the maximum time to wait for records while a partition has not reached its end
+	 * offset. When no records are returned by polls for this duration, {@code read} fails
+	 * with an {@link IllegalStateException}. This is optional, defaults to waiting until
+	 * all partitions reach their end offset.
+	 * @param endOffsetTimeout the maximum time to wait for records
+	 * @since 6.1
+	 * @see #setPartitionEndOffsets(Map)
+	 */
+	public void setEndOffsetTimeout(Duration endOffsetTimeout) {
+		Assert.notNull(endOffsetTimeout, "endOffsetTimeout must not be null");
+		Assert.isTrue(!endOffsetTimeout.isNegative(), "endOffsetTimeout must not be negative");
+		this.endOffsetTimeout = endOffsetTimeout;
+	}
+
+	/**
+	 * Create the consumer used to read records. Can be overridden to customize the
+	 * consumer.
+	 * @param consumerProperties properties of the consumer
+	 * @return a new consumer
+	 * @since 6.1
+	 */
+	protected Consumer<K, V> createConsumer(Properties consumerProperties) {
+		return new KafkaConsumer<>(consumerProperties);
+	}
+
 	@SuppressWarnings({ "unchecked", "DataFlowIssue" })
 	@Override
 	public void open(ExecutionContext executionContext) {
-		this.kafkaConsumer = new KafkaConsumer<>(this.consumerProperties);
+		this.kafkaConsumer = createConsumer(this.consumerProperties);
 		if (this.partitionOffsets == null) {
 			this.partitionOffsets = new HashMap<>();
 			for (TopicPartition topicPartition : this.topicPartitions) {
@@ -187,27 +254,117 @@ public class KafkaItemReader<K, V> extends AbstractItemStreamItemReader<V> {
 		}
 		this.kafkaConsumer.assign(this.topicPartitions);
 		this.partitionOffsets.forEach(this.kafkaConsumer::seek);
+		this.completedPartitions.clear();
+		checkCompletedPartitions(this.kafkaConsumer);
 	}
 
 	@SuppressWarnings("DataFlowIssue")
 	@Override
 	public @Nullable V read() {
-		if (this.consumerRecords == null || !this.consumerRecords.hasNext()) {
-			this.consumerRecords = this.kafkaConsumer.poll(this.pollTimeout).iterator();
+		long waitStart = 0;
+		while (this.currentBatch == null || this.currentIndex >= this.currentBatch.records().size()) {
+			trackCurrentBatch();
+			this.currentBatch = null;
+			if (this.partitionBatches != null && this.partitionBatches.hasNext()) {
+				this.currentBatch = this.partitionBatches.next();
+				this.currentIndex = 0;
+				continue;
+			}
+			if (this.partitionEndOffsets != null && this.completedPartitions.size() == this.topicPartitions.size()) {
+				return null;
+			}
+			ConsumerRecords<K, V> records = this.kafkaConsumer.poll(this.pollTimeout);
+			// the position can move past control records without returning any record
+			checkCompletedPartitions(this.kafkaConsumer);
+			if (records.isEmpty()) {
+				if (boundedPartitionsCompleted()) {
+					return null;
+				}
+				if (waitStart == 0) {
+					waitStart = System.nanoTime();
+				}
+				else if (this.endOffsetTimeout != null
+						&& System.nanoTime() - waitStart > this.endOffsetTimeout.toNanos()) {
+					throw new IllegalStateException("Partitions did not reach their end offset within "
+							+ this.endOffsetTimeout + ", completed partitions: " + this.completedPartitions);
+				}
+				continue;
+			}
+			waitStart = 0;
+			this.partitionBatches = partitionBatches(records);
+		}
+		return this.currentBatch.records().get(this.currentIndex++).value();
+	}
+
+	private Iterator<PartitionBatch<K, V>> partitionBatches(ConsumerRecords<K, V> records) {
+		List<PartitionBatch<K, V>> batches = new ArrayList<>(records.partitions().size());
+		for (TopicPartition topicPartition : records.partitions()) {
+			List<ConsumerRecord<K, V>> partitionRecords = records.records(topicPartition);
+			Long endOffset = this.partitionEndOffsets == null ? null : this.partitionEndOffsets.get(topicPartition);
+			if (endOffset != null) {
+				int count = 0;
+				while (count < partitionRecords.size() && partitionRecords.get(count).offset() < endOffset) {
+					count++;
+				}
+				partitionRecords = partitionRecords.subList(0, count);
+			}
+			if (!partitionRecords.isEmpty()) {
+				batches.add(new PartitionBatch<>(topicPartition, partitionRecords));
+			}
 		}
-		if (this.consumerRecords.hasNext()) {
-			ConsumerRecord<K, V> record = this.consumerRecords.next();
-			this.partitionOffsets.put(new TopicPartition(record.topic(), record.partition()), record.offset());
-			return record.value();
+		return batches.iterator();
+	}
+
+	/*
+	 * Whether all partitions with an end offset reached it, which is always the case when
+	 * no end offsets are set.
+	 */
+	private boolean boundedPartitionsCompleted() {
+		if (this.partitionEndOffsets == null) {
+			return true;
 		}
-		else {
-			return null;
+		for (TopicPartition topicPartition : this.topicPartitions) {
+			if (this.partitionEndOffsets.containsKey(topicPartition)
+					&& !this.completedPartitions.contains(topicPartition)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/*
+	 * Stop fetching the partitions whose position reached their end offset.
+	 */
+	private void checkCompletedPartitions(Consumer<K, V> consumer) {
+		if (this.partitionEndOffsets == null) {
+			return;
+		}
+		List<TopicPartition> completed = new ArrayList<>();
+		for (TopicPartition topicPartition : this.topicPartitions) {
+			Long endOffset = this.partitionEndOffsets.get(topicPartition);
+			if (endOffset != null && !this.completedPartitions.contains(topicPartition)
+					&& consumer.position(topicPartition) >= endOffset) {
+				completed.add(topicPartition);
+			}
+		}
+		if (!completed.isEmpty()) {
+			this.completedPartitions.addAll(completed);
+			consumer.pause(completed);
+		}
+	}
+
+	@SuppressWarnings("DataFlowIssue")
+	private void trackCurrentBatch() {
+		if (this.currentBatch != null && this.currentIndex > 0) {
+			this.partitionOffsets.put(this.currentBatch.partition(),
+					this.currentBatch.records().get(this.currentIndex - 1).offset());
 		}
 	}
 
 	@SuppressWarnings("DataFlowIssue")
 	@Override
 	public void update(ExecutionContext executionContext) {
+		trackCurrentBatch();
 		if (this.saveState) {
 			Map<String, Long> offsets = new HashMap<>();
 			for (Map.Entry<TopicPartition, Long> entry : this.partitionOffsets.entrySet()) {
@@ -220,9 +377,14 @@ public class KafkaItemReader<K, V> extends AbstractItemStreamItemReader<V> {
 
 	@Override
 	public void close() {
+		this.partitionBatches = null;
+		this.currentBatch = null;
 		if (this.kafkaConsumer != null) {
 			this.kafkaConsumer.close();
 		}
 	}
 
+	private record PartitionBatch<K, V>(TopicPartition partition, List<ConsumerRecord<K, V>> records) {
+	}
+
 }
@@ -19,6 +19,7 @@ package org.springframework.batch.infrastructure.item.kafka.builder;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -51,6 +52,14 @@ public class KafkaItemReaderBuilder<K, V> {
 
 	private @Nullable Map<TopicPartition, Long> partitionOffsets;
 
+	private @Nullable Map<TopicPartition, Long> partitionEndOffsets;
+
+	private @Nullable Map<String, Long> startOffsets;
+
+	private @Nullable Map<String, Long> endOffsets;
+
+	private @Nullable Duration endOffsetTimeout;
+
 	private Duration pollTimeout = Duration.ofSeconds(30L);
 
 	private boolean saveState = true;
@@ -133,6 +142,50 @@ public class KafkaItemReaderBuilder<K, V> {
 		return this;
 	}
 
+	/**
+	 * Setter for partition end offsets. This mapping tells the reader the offset at which
+	 * to stop reading in each partition (exclusive).
+	 * @param partitionEndOffsets mapping of end offset in each partition
+	 * @return The current instance of the builder.
+	 * @see KafkaItemReader#setPartitionEndOffsets(Map)
+	 * @since 6.1
+	 */
+	public KafkaItemReaderBuilder<K, V> partitionEndOffsets(Map<TopicPartition, Long> partitionEndOffsets) {
+		this.partitionEndOffsets = partitionEndOffsets;
+		return this;
+	}
+
+	/**
+	 * Configure the partitions to read and the range of offsets to read in each of them,
+	 * typically provided by a partitioner splitting a topic by partitions. Both maps are
+	 * keyed by partition number, and the partitions to read are the keys of the start
+	 * offsets.
+	 * @param startOffsets mapping of starting offset in each partition (inclusive)
+	 * @param endOffsets mapping of end offset in each partition (exclusive)
+	 * @return The current instance of the builder.
+	 * @see KafkaItemReader#setPartitionOffsets(Map)
+	 * @see KafkaItemReader#setPartitionEndOffsets(Map)
+	 * @since 6.1
+	 */
+	public KafkaItemReaderBuilder<K, V> offsetRange(Map<String, Long> startOffsets, Map<String, Long> endOffsets) {
+		this.startOffsets = startOffsets;
+		this.endOffsets = endOffsets;
+		return this;
+	}
+
+	/**
+	 * Set the maximum time to wait for records while a partition has not reached its end
+	 * offset.
+	 * @param endOffsetTimeout the maximum time to wait for records
+	 * @return The current instance of the builder.
+	 * @see KafkaItemReader#setEndOffsetTimeout(Duration)
+	 * @since 6.1
+	 */
+	public KafkaItemReaderBuilder<K, V> endOffsetTimeout(Duration endOffsetTimeout) {
+		this.endOffsetTimeout = endOffsetTimeout;
+		return this;
+	}
+
 	/**
 	 * A topic name to manually assign to the consumer.
 	 * @param topic name to assign to the consumer
@@ -171,6 +224,13 @@ public class KafkaItemReaderBuilder<K, V> {
 		Assert.notNull(pollTimeout, "pollTimeout must not be null");
 		Assert.isTrue(!pollTimeout.isZero(), "pollTimeout must not be zero");
 		Assert.isTrue(!pollTimeout.isNegative(), "pollTimeout must not be negative");
+		Map<String, Long> startOffsets = this.startOffsets;
+		Map<String, Long> endOffsets = this.endOffsets;
+		if (startOffsets != null && endOffsets != null) {
+			this.partitions = startOffsets.keySet().stream().map(Integer::valueOf).sorted().toList();
+			this.partitionOffsets = toTopicPartitions(this.topic, startOffsets);
+			this.partitionEndOffsets = toTopicPartitions(this.topic, endOffsets);
+		}
 		Assert.isTrue(!partitions.isEmpty(), "At least one partition must be provided");
 
 		KafkaItemReader<K, V> reader = new KafkaItemReader<>(this.consumerProperties, this.topic, this.partitions);
@@ -182,7 +242,20 @@ public class KafkaItemReaderBuilder<K, V> {
 		if (this.partitionOffsets != null) {
 			reader.setPartitionOffsets(this.partitionOffsets);
 		}
+		if (this.partitionEndOffsets != null) {
+			reader.setPartitionEndOffsets(this.partitionEndOffsets);
+		}
+		if (this.endOffsetTimeout != null) {
+			reader.setEndOffsetTimeout(this.endOffsetTimeout);
+		}
 		return reader;
 	}
 
+	private static Map<TopicPartition, Long> toTopicPartitions(String topic, Map<String, Long> offsets) {
+		Map<TopicPartition, Long> topicPartitionOffsets = new HashMap<>();
+		offsets.forEach((partition, offset) -> topicPartitionOffsets
+			.put(new TopicPartition(topic, Integer.parseInt(partition)), offset));
+		return topicPartitionOffsets;
+	}
+
 }
@@ -15,6 +15,12 @@
  */
 package org.springframework.batch.infrastructure.item.redis;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.batch.infrastructure.item.ExecutionContext;
@@ -31,6 +37,12 @@ import org.springframework.util.Assert;
  * query.
  *
  * <p>
+ * By default, the value of each scanned key is fetched with a separate {@code GET}
+ * command. With {@link #setBatchSize(int)}, the values of several scanned keys are
+ * fetched with a single {@code MGET} command, which saves a network round trip per item.
+ * </p>
+ *
+ * <p>
  * The implementation is not thread-safe and not restartable.
  * </p>
  *
@@ -47,6 +59,10 @@ public class RedisItemReader<K, V> implements ItemStreamReader<V> {
 
 	private @Nullable Cursor<K> cursor;
 
+	private int batchSize = 1;
+
+	private Iterator<V> values = Collections.emptyIterator();
+
 	public RedisItemReader(RedisTemplate<K, V> redisTemplate, ScanOptions scanOptions) {
 		Assert.notNull(redisTemplate, "redisTemplate must not be null");
 		Assert.notNull(scanOptions, "scanOptions must no be null");
@@ -54,6 +70,19 @@ public class RedisItemReader<K, V> implements ItemStreamReader<V> {
 		this.scanOptions = scanOptions;
 	}
 
+	/**
+	 * Set the maximum number of scanned keys whose values are fetched with a single
+	 * {@code MGET} command. When greater than one, keys removed between the scan and the
+	 * fetch of their values are skipped. Defaults to 1 (values are fetched one by one
+	 * with {@code GET}).
+	 * @param batchSize the number of values to fetch at once, must be greater than zero
+	 * @since 6.1
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "batchSize must be greater than zero");
+		this.batchSize = batchSize;
+	}
+
 	@Override
 	public void open(ExecutionContext executionContext) throws ItemStreamException {
 		this.cursor = this.redisTemplate.scan(this.scanOptions);
@@ -62,6 +91,15 @@ public class RedisItemReader<K, V> implements ItemStreamReader<V> {
 	@SuppressWarnings("DataFlowIssue")
 	@Override
 	public @Nullable V read() throws Exception {
+		if (this.batchSize > 1) {
+			while (!this.values.hasNext()) {
+				if (!this.cursor.hasNext()) {
+					return null;
+				}
+				this.values = fetchValues(this.cursor);
+			}
+			return this.values.next();
+		}
 		if (this.cursor.hasNext()) {
 			K nextKey = this.cursor.next();
 			return this.redisTemplate.opsForValue().get(nextKey);
@@ -74,7 +112,20 @@ public class RedisItemReader<K, V> implements ItemStreamReader<V> {
 	@SuppressWarnings("DataFlowIssue")
 	@Override
 	public void close() throws ItemStreamException {
+		this.values = Collections.emptyIterator();
 		this.cursor.close();
 	}
 
+	private Iterator<V> fetchValues(Cursor<K> cursor) {
+		List<K> keys = new ArrayList<>(this.batchSize);
+		while (keys.size() < this.batchSize && cursor.hasNext()) {
+			keys.add(cursor.next());
+		}
+		List<V> fetchedValues = this.redisTemplate.opsForValue().multiGet(keys);
+		if (fetchedValues == null) {
+			return Collections.emptyIterator();
+		}
+		return fetchedValues.stream().filter(Objects::nonNull).iterator();
+	}
+
 }
@@ -16,6 +16,12 @@
 
 package org.springframework.batch.infrastructure.item.redis;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.batch.infrastructure.item.Chunk;
 import org.springframework.batch.infrastructure.item.ItemWriter;
 import org.springframework.batch.infrastructure.item.KeyValueItemWriter;
 import org.springframework.core.convert.converter.Converter;
@@ -27,6 +33,12 @@ import org.springframework.util.Assert;
  * An {@link ItemWriter} implementation for Redis using a {@link RedisTemplate} .
  * </p>
  *
+ * <p>
+ * By default, each item is written with a separate {@code SET} (or {@code DEL}) command.
+ * With {@link #setBatchWrites(boolean)}, each chunk is written with a single {@code MSET}
+ * (or {@code DEL}) command.
+ * </p>
+ *
  * @author Santiago Molano
  * @author Mahmoud Ben Hassine
  * @author Stefano Cordio
@@ -36,6 +48,8 @@ public class RedisItemWriter<K, T> extends KeyValueItemWriter<K, T> {
 
 	private RedisTemplate<K, T> redisTemplate;
 
+	private boolean batchWrites;
+
 	/**
 	 * Create a new {@link RedisItemWriter}.
 	 * @param itemKeyMapper the {@link Converter} used to derive a key from an item.
@@ -48,6 +62,31 @@ public class RedisItemWriter<K, T> extends KeyValueItemWriter<K, T> {
 		this.redisTemplate = redisTemplate;
 	}
 
+	@Override
+	public void write(Chunk<? extends T> chunk) throws Exception {
+		if (!this.batchWrites) {
+			super.write(chunk);
+			return;
+		}
+		if (chunk.isEmpty()) {
+			return;
+		}
+		if (this.delete) {
+			List<K> keys = new ArrayList<>(chunk.size());
+			for (T item : chunk) {
+				keys.add(this.itemKeyMapper.convert(item));
+			}
+			this.redisTemplate.delete(keys);
+		}
+		else {
+			Map<K, T> items = new LinkedHashMap<>(chunk.size());
+			for (T item : chunk) {
+				items.put(this.itemKeyMapper.convert(item), item);
+			}
+			this.redisTemplate.opsForValue().multiSet(items);
+		}
+	}
+
 	@Override
 	protected void writeKeyValue(K key, T value) {
 		if (this.delete) {
@@ -71,4 +110,15 @@ public class RedisItemWriter<K, T> extends KeyValueItemWriter<K, T> {
 		this.redisTemplate = redisTemplate;
 	}
 
+	/**
+	 * Set whether each chunk should be written with a single {@code MSET} command (or a
+	 * single {@code DEL} command when deleting) instead of one command per item. Defaults
+	 * to {@code false}.
+	 * @param batchWrites true to write each chunk with a single command
+	 * @since 6.1
+	 */
+	public void setBatchWrites(boolean batchWrites) {
+		this.batchWrites = batchWrites;
+	}
+
 }
@@ -33,6 +33,8 @@ public class RedisItemReaderBuilder<K, V> {
 
 	private ScanOptions scanOptions;
 
+	private int batchSize = 1;
+
 	/**
 	 * Set the {@link RedisTemplate} to use in the reader.
 	 * @param redisTemplate the template to use
@@ -53,12 +55,27 @@ public class RedisItemReaderBuilder<K, V> {
 		return this;
 	}
 
+	/**
+	 * Set the maximum number of scanned keys whose values are fetched with a single
+	 * {@code MGET} command.
+	 * @param batchSize the number of values to fetch at once
+	 * @return the current builder instance for fluent chaining
+	 * @see RedisItemReader#setBatchSize(int)
+	 * @since 6.1
+	 */
+	public RedisItemReaderBuilder<K, V> batchSize(int batchSize) {
+		this.batchSize = batchSize;
+		return this;
+	}
+
 	/**
 	 * Build a new {@link RedisItemReader}.
 	 * @return a new item reader
 	 */
 	public RedisItemReader<K, V> build() {
-		return new RedisItemReader<>(this.redisTemplate, this.scanOptions);
+		RedisItemReader<K, V> reader = new RedisItemReader<>(this.redisTemplate, this.scanOptions);
+		reader.setBatchSize(this.batchSize);
+		return reader;
 	}
 
 }
@@ -36,6 +36,8 @@ public class RedisItemWriterBuilder<K, V> {
 
 	private boolean delete;
 
+	private boolean batchWrites;
+
 	/**
 	 * Set the {@link RedisTemplate} to use to write items to Redis.
 	 * @param redisTemplate the template to use.
@@ -69,6 +71,19 @@ public class RedisItemWriterBuilder<K, V> {
 		return this;
 	}
 
+	/**
+	 * Indicate if each chunk should be written with a single {@code MSET} (or
+	 * {@code DEL}) command.
+	 * @param batchWrites true to write each chunk with a single command.
+	 * @return The current instance of the builder.
+	 * @see RedisItemWriter#setBatchWrites(boolean)
+	 * @since 6.1
+	 */
+	public RedisItemWriterBuilder<K, V> batchWrites(boolean batchWrites) {
+		this.batchWrites = batchWrites;
+		return this;
+	}
+
 	/**
 	 * Validates and builds a {@link RedisItemWriter}.
 	 * @return a {@link RedisItemWriter}
@@ -79,6 +94,7 @@ public class RedisItemWriterBuilder<K, V> {
 
 		RedisItemWriter<@NonNull K, @NonNull V> writer = new RedisItemWriter<>(this.itemKeyMapper, this.redisTemplate);
 		writer.setDelete(this.delete);
+		writer.setBatchWrites(this.batchWrites);
 		return writer;
 	}
 
@@ -233,9 +233,8 @@ public abstract class AbstractFileItemWriter<T> extends AbstractItemStreamItemWr
 
 		OutputState state = getOutputState();
 
-		String lines = doWrite(items);
 		try {
-			state.write(lines);
+			state.write(items);
 		}
 		catch (IOException e) {
 			throw new WriteFailedException("Could not write data. The file may be corrupt.", e);
@@ -251,6 +250,21 @@ public abstract class AbstractFileItemWriter<T> extends AbstractItemStreamItemWr
 	 */
 	protected abstract String doWrite(Chunk<? extends T> items);
 
+	/**
+	 * Write the lines of the given items to the output writer. The default implementation
+	 * writes the string returned by {@link #doWrite(Chunk)}, subclasses can override it
+	 * to stream the lines to the writer. Lines must not be written to the writer if the
+	 * chunk fails, so that a failed chunk does not leave partial output in
+	 * non-transactional mode.
+	 * @param items to be written
+	 * @param writer the writer of the output file
+	 * @throws IOException if unable to write to the writer
+	 * @since 6.1
+	 */
+	protected void doWrite(Chunk<? extends T> items, Writer writer) throws IOException {
+		writer.write(doWrite(items));
+	}
+
 	/**
 	 * @see ItemStream#close()
 	 */
@@ -526,6 +540,27 @@ public abstract class AbstractFileItemWriter<T> extends AbstractItemStreamItemWr
 			outputBufferedWriter.flush();
 		}
 
+		/**
+		 * Write the lines of the given items. In non-transactional mode, the buffered
+		 * writer is not flushed unless force sync is enabled: its content is flushed when
+		 * the position is saved on
+		 * {@link AbstractFileItemWriter#update(ExecutionContext)} and on close.
+		 * @param items to be written to the file
+		 * @throws IOException If unable to write the items to the file
+		 * @since 6.1
+		 */
+		@SuppressWarnings("DataFlowIssue")
+		public void write(Chunk<? extends T> items) throws IOException {
+			if (!initialized) {
+				initializeBufferedWriter();
+			}
+
+			doWrite(items, outputBufferedWriter);
+			if (transactional || forceSync) {
+				outputBufferedWriter.flush();
+			}
+		}
+
 		/**
 		 * Truncate the output at the last known good point.
 		 * @throws IOException if unable to work with file
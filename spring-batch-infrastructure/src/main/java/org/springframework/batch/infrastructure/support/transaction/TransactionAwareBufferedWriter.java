@@ -16,12 +16,20 @@
 package org.springframework.batch.infrastructure.support.transaction;
 
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
 import java.io.Writer;
 import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
-import org.springframework.batch.infrastructure.item.WriteFailedException;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
@@ -30,6 +38,12 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
  * if a transaction is active. If a transaction is detected on the call to
  * {@link #write(String)} the parameter is buffered and passed on to the underlying writer
  * only when the transaction is committed.
+ * <p>
+ * Buffered characters are encoded as they are written into direct byte buffers that are
+ * reused across transactions, so that the size of the buffered data is known without
+ * encoding it again and the data is written to the channel with as few gathering writes
+ * as possible on commit. All the buffers are kept for the next transactions, so the
+ * memory held by this writer is the one needed by its largest transaction.
  *
  * @author Dave Syer
  * @author Michael Minella
@@ -47,10 +61,13 @@ public class TransactionAwareBufferedWriter extends Writer {
 
 	private final Runnable closeCallback;
 
-	// default encoding for writing to output files - set to UTF-8.
-	private static final String DEFAULT_CHARSET = "UTF-8";
+	// size of the byte buffers holding the encoded data of a transaction
+	private static final int SEGMENT_SIZE = 8192;
+
+	private final Queue<ByteBuffer> segmentPool = new ConcurrentLinkedQueue<>();
 
-	private String encoding = DEFAULT_CHARSET;
+	// default encoding for writing to output files - set to UTF-8.
+	private Charset charset = StandardCharsets.UTF_8;
 
 	private boolean forceSync = false;
 
@@ -69,8 +86,14 @@ public class TransactionAwareBufferedWriter extends Writer {
 		this.closeKey = new Object();
 	}
 
+	/**
+	 * Set the encoding of the written data. Defaults to UTF-8.
+	 * @param encoding the name of the encoding
+	 * @throws java.nio.charset.UnsupportedCharsetException if the encoding is not
+	 * supported
+	 */
 	public void setEncoding(String encoding) {
-		this.encoding = encoding;
+		this.charset = Charset.forName(encoding);
 	}
 
 	/**
@@ -88,11 +111,11 @@ public class TransactionAwareBufferedWriter extends Writer {
 	 * @return the current buffer
 	 */
 	@SuppressWarnings("DataFlowIssue")
-	private StringBuilder getCurrentBuffer() {
+	private EncodingBuffer getCurrentBuffer() {
 
 		if (!TransactionSynchronizationManager.hasResource(bufferKey)) {
 
-			TransactionSynchronizationManager.bindResource(bufferKey, new StringBuilder());
+			TransactionSynchronizationManager.bindResource(bufferKey, new EncodingBuffer(charset, segmentPool));
 
 			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
 				@Override
@@ -113,16 +136,9 @@ public class TransactionAwareBufferedWriter extends Writer {
 				}
 
 				private void complete() throws IOException {
-					StringBuilder buffer = (StringBuilder) TransactionSynchronizationManager.getResource(bufferKey);
+					EncodingBuffer buffer = (EncodingBuffer) TransactionSynchronizationManager.getResource(bufferKey);
 					if (buffer != null) {
-						String string = buffer.toString();
-						byte[] bytes = string.getBytes(encoding);
-						int bufferLength = bytes.length;
-						ByteBuffer bb = ByteBuffer.wrap(bytes);
-						int bytesWritten = channel.write(bb);
-						if (bytesWritten != bufferLength) {
-							throw new IOException("All bytes to be written were not successfully written");
-						}
+						buffer.writeTo(channel);
 						if (forceSync) {
 							channel.force(false);
 						}
@@ -134,7 +150,9 @@ public class TransactionAwareBufferedWriter extends Writer {
 
 				private void clear() {
 					if (TransactionSynchronizationManager.hasResource(bufferKey)) {
-						TransactionSynchronizationManager.unbindResource(bufferKey);
+						EncodingBuffer buffer = (EncodingBuffer) TransactionSynchronizationManager
+							.unbindResource(bufferKey);
+						buffer.release();
 					}
 					if (TransactionSynchronizationManager.hasResource(closeKey)) {
 						TransactionSynchronizationManager.unbindResource(closeKey);
@@ -145,7 +163,7 @@ public class TransactionAwareBufferedWriter extends Writer {
 
 		}
 
-		return (StringBuilder) TransactionSynchronizationManager.getResource(bufferKey);
+		return (EncodingBuffer) TransactionSynchronizationManager.getResource(bufferKey);
 
 	}
 
@@ -157,13 +175,7 @@ public class TransactionAwareBufferedWriter extends Writer {
 		if (!transactionActive()) {
 			return 0L;
 		}
-		try {
-			return getCurrentBuffer().toString().getBytes(encoding).length;
-		}
-		catch (UnsupportedEncodingException e) {
-			throw new WriteFailedException(
-					"Could not determine buffer size because of unsupported encoding: " + encoding, e);
-		}
+		return getCurrentBuffer().size();
 	}
 
 	/**
@@ -195,7 +207,7 @@ public class TransactionAwareBufferedWriter extends Writer {
 	public void write(char[] cbuf, int off, int len) throws IOException {
 
 		if (!transactionActive()) {
-			byte[] bytes = new String(cbuf, off, len).getBytes(encoding);
+			byte[] bytes = new String(cbuf, off, len).getBytes(charset);
 			int length = bytes.length;
 			ByteBuffer bb = ByteBuffer.wrap(bytes);
 			int bytesWritten = channel.write(bb);
@@ -206,15 +218,14 @@ public class TransactionAwareBufferedWriter extends Writer {
 			return;
 		}
 
-		StringBuilder buffer = getCurrentBuffer();
-		buffer.append(cbuf, off, len);
+		getCurrentBuffer().append(CharBuffer.wrap(cbuf, off, len));
 	}
 
 	@Override
 	public void write(String str, int off, int len) throws IOException {
 
 		if (!transactionActive()) {
-			byte[] bytes = str.substring(off, off + len).getBytes(encoding);
+			byte[] bytes = str.substring(off, off + len).getBytes(charset);
 			int length = bytes.length;
 			ByteBuffer bb = ByteBuffer.wrap(bytes);
 			int bytesWritten = channel.write(bb);
@@ -225,8 +236,134 @@ public class TransactionAwareBufferedWriter extends Writer {
 			return;
 		}
 
-		StringBuilder buffer = getCurrentBuffer();
-		buffer.append(str, off, off + len);
+		getCurrentBuffer().append(CharBuffer.wrap(str, off, off + len));
+	}
+
+	/**
+	 * Encoded data of a transaction, held in a list of byte buffers taken from a pool. A
+	 * high surrogate ending a write is kept until the next write, so that surrogate pairs
+	 * split across writes are encoded as a single character.
+	 */
+	private static final class EncodingBuffer {
+
+		private final CharsetEncoder encoder;
+
+		private final Queue<ByteBuffer> pool;
+
+		private final List<ByteBuffer> segments = new ArrayList<>();
+
+		private ByteBuffer current;
+
+		// bytes held by the segments preceding the current one
+		private long completedSize;
+
+		private char pendingHighSurrogate;
+
+		private boolean finished;
+
+		private EncodingBuffer(Charset charset, Queue<ByteBuffer> pool) {
+			this.encoder = charset.newEncoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+			this.pool = pool;
+			this.current = nextSegment();
+		}
+
+		/*
+		 * A pending high surrogate is counted as the replacement it is encoded to if no
+		 * low surrogate follows it, which is what would be written on commit.
+		 */
+		long size() {
+			long pendingSize = this.pendingHighSurrogate != 0 ? this.encoder.replacement().length : 0;
+			return this.completedSize + this.current.position() + pendingSize;
+		}
+
+		boolean isEmpty() {
+			return size() == 0 && this.pendingHighSurrogate == 0;
+		}
+
+		void append(CharBuffer chars) {
+			if (this.pendingHighSurrogate != 0 && chars.hasRemaining()) {
+				CharBuffer pair = CharBuffer.wrap(new char[] { this.pendingHighSurrogate, chars.get() });
+				this.pendingHighSurrogate = 0;
+				encode(pair, false);
+				if (pair.hasRemaining()) {
+					// not a low surrogate but another high surrogate, encode it with the
+					// rest
+					chars.position(chars.position() - 1);
+				}
+			}
+			encode(chars, false);
+			if (chars.hasRemaining()) {
+				this.pendingHighSurrogate = chars.get();
+			}
+		}
+
+		/*
+		 * Encode the pending surrogate (if any) and flush the encoder, then write all
+		 * segments with gathering writes.
+		 */
+		void writeTo(FileChannel channel) throws IOException {
+			if (!this.finished) {
+				CharBuffer remaining = this.pendingHighSurrogate != 0
+						? CharBuffer.wrap(new char[] { this.pendingHighSurrogate }) : CharBuffer.allocate(0);
+				this.pendingHighSurrogate = 0;
+				encode(remaining, true);
+				while (this.encoder.flush(this.current).isOverflow()) {
+					completeSegment();
+				}
+				this.finished = true;
+			}
+			long size = size();
+			ByteBuffer[] buffers = new ByteBuffer[this.segments.size()];
+			for (int i = 0; i < buffers.length; i++) {
+				buffers[i] = this.segments.get(i).duplicate().flip();
+			}
+			long bytesWritten = 0;
+			while (bytesWritten < size) {
+				long written = buffers.length == 1 ? channel.write(buffers[0])
+						: channel.write(buffers, 0, buffers.length);
+				if (written <= 0) {
+					throw new IOException("All bytes to be written were not successfully written");
+				}
+				bytesWritten += written;
+			}
+		}
+
+		/*
+		 * Return all the segments to the pool, which therefore holds as many segments as
+		 * the largest transaction needed, so that transactions of that size do not
+		 * allocate any segment anymore.
+		 */
+		void release() {
+			for (ByteBuffer segment : this.segments) {
+				this.pool.offer(segment.clear());
+			}
+			this.segments.clear();
+		}
+
+		private void encode(CharBuffer chars, boolean endOfInput) {
+			CoderResult result = this.encoder.encode(chars, this.current, endOfInput);
+			while (result.isOverflow()) {
+				completeSegment();
+				result = this.encoder.encode(chars, this.current, endOfInput);
+			}
+		}
+
+		private void completeSegment() {
+			this.completedSize += this.current.position();
+			this.current = nextSegment();
+		}
+
+		private ByteBuffer nextSegment() {
+			ByteBuffer segment = this.pool.poll();
+			if (segment == null) {
+				segment = ByteBuffer.allocateDirect(SEGMENT_SIZE);
+			}
+			this.segments.add(segment);
+			return segment;
+		}
+
 	}
 
 }
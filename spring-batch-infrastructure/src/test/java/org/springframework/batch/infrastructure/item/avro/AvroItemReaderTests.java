@@ -16,14 +16,28 @@
 
 package org.springframework.batch.infrastructure.item.avro;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.avro.file.DataFileWriter;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.specific.SpecificDatumWriter;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamException;
 import org.springframework.batch.infrastructure.item.avro.example.User;
 import org.springframework.batch.infrastructure.item.avro.support.AvroItemReaderTestSupport;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author David Turanski
@@ -70,6 +84,71 @@ class AvroItemReaderTests extends AvroItemReaderTestSupport {
 		verify(itemReader, plainOldUsers());
 	}
 
+	@Test
+	void restartFromBlockPosition(@TempDir Path tempDir) throws Exception {
+		// given
+		Path file = createFile(tempDir, 100);
+		AvroItemReader<User> itemReader = new AvroItemReader<>(new FileSystemResource(file), User.class);
+		itemReader.setName("reader");
+		ExecutionContext executionContext = new ExecutionContext();
+		itemReader.open(executionContext);
+		for (int i = 0; i < 37; i++) {
+			itemReader.read();
+		}
+		itemReader.update(executionContext);
+		itemReader.close();
+
+		// when
+		AvroItemReader<User> restartedReader = new AvroItemReader<>(new FileSystemResource(file), User.class);
+		restartedReader.setName("reader");
+		restartedReader.open(executionContext);
+		List<Integer> numbers = readNumbers(restartedReader);
+
+		// then
+		assertTrue(executionContext.getLong("reader.block.position") > 0);
+		assertTrue(executionContext.getLong("reader.block.index") > 0);
+		assertEquals(63, numbers.size());
+		assertEquals(37, numbers.get(0));
+		assertEquals(99, numbers.get(62));
+	}
+
+	@Test
+	void readByteRanges(@TempDir Path tempDir) throws Exception {
+		// given
+		Path file = createFile(tempDir, 100);
+		long size = Files.size(file);
+		long[] offsets = { 0, size / 3, 2 * size / 3, size };
+
+		// when
+		List<Integer> numbers = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			AvroItemReader<User> itemReader = new AvroItemReader<>(new FileSystemResource(file), User.class);
+			itemReader.setName("reader");
+			itemReader.setStartOffset(offsets[i]);
+			itemReader.setEndOffset(offsets[i + 1]);
+			itemReader.open(new ExecutionContext());
+			List<Integer> range = readNumbers(itemReader);
+			assertTrue(range.size() < 100);
+			numbers.addAll(range);
+		}
+
+		// then
+		assertEquals(100, numbers.size());
+		for (int i = 0; i < 100; i++) {
+			assertEquals(i, numbers.get(i));
+		}
+	}
+
+	@Test
+	void byteRangeRequiresFileResource() throws Exception {
+		AvroItemReader<User> itemReader = new AvroItemReader<>(
+				new ByteArrayResource(dataResourceWithSchema.getContentAsByteArray()), User.class);
+		itemReader.setName("reader");
+		itemReader.setEndOffset(100);
+
+		assertThrows(ItemStreamException.class, () -> itemReader.open(new ExecutionContext()));
+	}
+
 	@Test
 	void dataResourceDoesNotExist() {
 		assertThrows(IllegalStateException.class,
@@ -82,4 +161,26 @@ class AvroItemReaderTests extends AvroItemReaderTestSupport {
 				() -> new AvroItemReader<User>(dataResource, new ClassPathResource("doesnotexist")));
 	}
 
+	private static Path createFile(Path directory, int count) throws Exception {
+		Path file = directory.resolve("users.avro");
+		try (DataFileWriter<User> writer = new DataFileWriter<>(new SpecificDatumWriter<>(User.class))) {
+			writer.setSyncInterval(64);
+			writer.create(User.getClassSchema(), file.toFile());
+			for (int i = 0; i < count; i++) {
+				writer.append(new User("user" + i, i, "blue"));
+			}
+		}
+		return file;
+	}
+
+	private static List<Integer> readNumbers(AvroItemReader<User> itemReader) throws Exception {
+		List<Integer> numbers = new ArrayList<>();
+		User user;
+		while ((user = itemReader.read()) != null) {
+			numbers.add(user.getFavoriteNumber());
+		}
+		itemReader.close();
+		return numbers;
+	}
+
 }
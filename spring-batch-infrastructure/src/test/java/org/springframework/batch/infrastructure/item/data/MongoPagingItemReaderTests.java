@@ -27,10 +27,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.batch.infrastructure.item.data.MongoPagingItemReader;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.domain.Window;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Query;
 
@@ -310,6 +313,64 @@ class MongoPagingItemReaderTests {
 			.withMessage("Sorts must not be null");
 	}
 
+	@Test
+	void testKeysetPaging() throws Exception {
+		// given
+		reader.setKeysetPaging(true);
+		reader.setPageSize(2);
+		reader.setName("reader");
+		List<Query> queries = new ArrayList<>();
+		when(template.scroll(any(), eq(String.class))).thenAnswer(invocation -> {
+			queries.add(invocation.getArgument(0));
+			Map<String, Object> keys = invocation.<Query>getArgument(0).getKeyset().getKeys();
+			if (keys.isEmpty()) {
+				return window(1, false, "foo", "bar");
+			}
+			return keys.get("name").equals(2) ? window(3, true, "baz") : window(4, true);
+		});
+
+		// when
+		reader.open(new ExecutionContext());
+
+		// then
+		assertEquals("foo", reader.read());
+		assertEquals("bar", reader.read());
+		assertEquals("baz", reader.read());
+		assertNull(reader.read());
+		assertEquals(3, queries.size());
+		Query secondQuery = queries.get(1);
+		assertEquals(2, secondQuery.getLimit());
+		assertEquals(0, secondQuery.getSkip());
+		assertEquals(Map.of("name", 2), secondQuery.getKeyset().getKeys());
+		assertEquals("{\"name\": -1}", secondQuery.getSortObject().toJson());
+	}
+
+	@Test
+	void testKeysetPagingRestart() throws Exception {
+		// given
+		reader.setKeysetPaging(true);
+		reader.setPageSize(2);
+		reader.setName("reader");
+		ExecutionContext executionContext = new ExecutionContext();
+		executionContext.putInt("reader.read.count", 3);
+		executionContext.put("reader.start.after", Map.of("name", 2));
+		when(template.scroll(any(), eq(String.class))).thenReturn(window(3, true, "baz", "qux"));
+
+		// when
+		reader.open(executionContext);
+
+		// then
+		assertEquals("qux", reader.read());
+		reader.update(executionContext);
+		assertEquals(Map.of("name", 4), executionContext.get("reader.start.after"));
+		verify(template).scroll(assertArg(query -> assertEquals(Map.of("name", 2), query.getKeyset().getKeys())),
+				eq(String.class));
+	}
+
+	private static Window<String> window(int firstKey, boolean last, String... items) {
+		return Window.from(List.of(items), index -> ScrollPosition.forward(Map.of("name", firstKey + index)), !last);
+	}
+
 	@Test
 	void testClose() throws Exception {
 		// given
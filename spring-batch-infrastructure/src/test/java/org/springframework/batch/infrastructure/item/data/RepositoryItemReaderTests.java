@@ -30,13 +30,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.batch.infrastructure.item.adapter.DynamicMethodInvocationException;
 import org.springframework.batch.infrastructure.item.data.RepositoryItemReader;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Window;
 import org.springframework.data.repository.PagingAndSortingRepository;
 
 import static java.util.Collections.singletonList;
@@ -283,10 +287,73 @@ class RepositoryItemReaderTests {
 		assertEquals("3", reader.read());
 	}
 
+	@Test
+	void testKeysetPaging() throws Exception {
+		TestRepository keysetRepository = mock();
+		when(keysetRepository.findByKeyset(any(), any(), any()))
+			.thenAnswer(invocation -> scroll(invocation.getArgument(0), invocation.getArgument(1),
+					List.of("1", "2", "3", "4", "5")));
+		RepositoryItemReader<String> reader = new RepositoryItemReader<>(keysetRepository, sorts);
+		reader.setPageSize(2);
+		reader.setMethodName("findByKeyset");
+		reader.setKeysetPaging(true);
+		reader.setName("reader");
+
+		reader.open(new ExecutionContext());
+
+		assertEquals("1", reader.read());
+		assertEquals("2", reader.read());
+		assertEquals("3", reader.read());
+		assertEquals("4", reader.read());
+		assertEquals("5", reader.read());
+		assertNull(reader.read());
+		verify(keysetRepository).findByKeyset(ScrollPosition.keyset(), Limit.of(2), Sort.by(Direction.ASC, "id"));
+		verify(keysetRepository).findByKeyset(ScrollPosition.forward(Map.of("id", 2)), Limit.of(2),
+				Sort.by(Direction.ASC, "id"));
+	}
+
+	@Test
+	void testKeysetPagingRestart() throws Exception {
+		TestRepository keysetRepository = mock();
+		when(keysetRepository.findByKeyset(any(), any(), any()))
+			.thenAnswer(invocation -> scroll(invocation.getArgument(0), invocation.getArgument(1),
+					List.of("1", "2", "3", "4", "5")));
+		RepositoryItemReader<String> reader = new RepositoryItemReader<>(keysetRepository, sorts);
+		reader.setPageSize(2);
+		reader.setMethodName("findByKeyset");
+		reader.setKeysetPaging(true);
+		reader.setName("reader");
+		ExecutionContext executionContext = new ExecutionContext();
+
+		reader.open(executionContext);
+		assertEquals("1", reader.read());
+		assertEquals("2", reader.read());
+		assertEquals("3", reader.read());
+		reader.update(executionContext);
+		reader.close();
+
+		assertEquals(Map.of("id", 2), executionContext.get("reader.start.after"));
+		reader.open(executionContext);
+		assertEquals("4", reader.read());
+		assertEquals("5", reader.read());
+		assertNull(reader.read());
+	}
+
+	private static Window<String> scroll(ScrollPosition position, Limit limit, List<String> items) {
+		int start = position instanceof KeysetScrollPosition keyset && !keyset.isInitial()
+				? (Integer) keyset.getKeys().get("id") : 0;
+		List<String> content = items.subList(Math.min(start, items.size()),
+				Math.min(start + limit.max(), items.size()));
+		return Window.from(content, index -> ScrollPosition.forward(Map.of("id", start + index + 1)),
+				start + limit.max() < items.size());
+	}
+
 	public interface TestRepository extends PagingAndSortingRepository<Map, Long> {
 
 		Slice<String> findFirstNames(Pageable pageable);
 
+		Window<String> findByKeyset(ScrollPosition position, Limit limit, Sort sort);
+
 	}
 
 	// Simple object for readability
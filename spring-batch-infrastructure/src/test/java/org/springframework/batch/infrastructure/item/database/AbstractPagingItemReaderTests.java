@@ -17,11 +17,21 @@ package org.springframework.batch.infrastructure.item.database;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class AbstractPagingItemReaderTests {
 
@@ -30,8 +40,16 @@ class AbstractPagingItemReaderTests {
 		private final List<Integer> data = List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18,
 				19);
 
+		private final AtomicInteger pagesRead = new AtomicInteger();
+
+		private volatile int failingPage = -1;
+
 		@Override
 		protected void doReadPage() {
+			pagesRead.incrementAndGet();
+			if (getPage() == failingPage) {
+				throw new IllegalStateException("Failed to read page " + failingPage);
+			}
 			int start = getPage() * getPageSize();
 			int end = Math.min(start + getPageSize(), data.size());
 
@@ -90,4 +108,200 @@ class AbstractPagingItemReaderTests {
 		assertEquals(10, reader.read());
 	}
 
-}
\ No newline at end of file
+	@Test
+	void prefetch_shouldReadAllItemsInOrder() throws Exception {
+		PagingItemReader reader = new PagingItemReader();
+		reader.setPageSize(3);
+		reader.setPrefetchExecutor(new SimpleAsyncTaskExecutor());
+		reader.setPrefetchSize(2);
+		reader.open(new ExecutionContext());
+
+		for (int i = 0; i < 20; i++) {
+			assertEquals(i, reader.read());
+		}
+		assertNull(reader.read());
+		assertNull(reader.read());
+		reader.close();
+
+		assertEquals(7, reader.pagesRead.get());
+	}
+
+	@Test
+	void prefetch_shouldStopAfterLastFullPage() throws Exception {
+		PagingItemReader reader = new PagingItemReader();
+		reader.setPageSize(1);
+		reader.setPrefetchExecutor(new SimpleAsyncTaskExecutor());
+		reader.open(new ExecutionContext());
+
+		for (int i = 0; i < 20; i++) {
+			assertEquals(i, reader.read());
+		}
+		assertNull(reader.read());
+		assertNull(reader.read());
+		reader.close();
+	}
+
+	@Test
+	void prefetch_shouldReadExactItem_afterJump() throws Exception {
+		PagingItemReader reader = new PagingItemReader();
+		reader.setPrefetchExecutor(new SimpleAsyncTaskExecutor());
+		reader.open(new ExecutionContext());
+
+		reader.jumpToItem(13);
+		assertEquals(13, reader.read());
+		assertEquals(14, reader.read());
+		reader.close();
+	}
+
+	@Test
+	void prefetch_shouldPropagateFailureInOrder() throws Exception {
+		PagingItemReader reader = new PagingItemReader();
+		reader.setPageSize(5);
+		reader.setPrefetchExecutor(new SimpleAsyncTaskExecutor());
+		reader.failingPage = 1;
+		reader.open(new ExecutionContext());
+
+		for (int i = 0; i < 5; i++) {
+			assertEquals(i, reader.read());
+		}
+		Exception exception = assertThrows(IllegalStateException.class, reader::read);
+		assertEquals("Failed to read page 1", exception.getMessage());
+		assertThrows(IllegalStateException.class, reader::read);
+		reader.close();
+	}
+
+	@Test
+	void pageClaiming_shouldReadEachItemOnce() throws Exception {
+		PagingItemReader reader = new PagingItemReader();
+		reader.setPageSize(3);
+		reader.setPageClaiming(true);
+		reader.setSaveState(false);
+		reader.open(new ExecutionContext());
+
+		List<Integer> items = readConcurrently(reader, 8);
+
+		assertEquals(reader.data, items);
+		assertEquals(7, reader.pagesRead.get());
+	}
+
+	@Test
+	void pageClaiming_withPrefetch_shouldReadEachItemOnce() throws Exception {
+		PagingItemReader reader = new PagingItemReader();
+		reader.setPageSize(3);
+		reader.setPageClaiming(true);
+		reader.setPrefetchExecutor(new SimpleAsyncTaskExecutor());
+		reader.setSaveState(false);
+		reader.open(new ExecutionContext());
+
+		List<Integer> items = readConcurrently(reader, 8);
+		reader.close();
+
+		assertEquals(reader.data, items);
+	}
+
+	@Test
+	void pageClaiming_shouldReadItemsClaimedByOtherThreads() throws Exception {
+		PagingItemReader reader = new PagingItemReader();
+		reader.setPageSize(5);
+		reader.setPageClaiming(true);
+		reader.setSaveState(false);
+		reader.open(new ExecutionContext());
+
+		// claim the first page and read one item only
+		assertEquals(0, reader.read());
+		List<Integer> items = readConcurrently(reader, 1);
+
+		assertEquals(reader.data.subList(1, 20), items);
+	}
+
+	@Test
+	void pageClaiming_shouldReadExactItem_afterJump() throws Exception {
+		PagingItemReader reader = new PagingItemReader();
+		reader.setPageClaiming(true);
+		reader.setSaveState(false);
+		reader.open(new ExecutionContext());
+
+		reader.jumpToItem(13);
+		assertEquals(13, reader.read());
+		assertEquals(14, reader.read());
+	}
+
+	@Test
+	void pageClaiming_withThreadPerChunk_shouldReadPartiallyReadPagesFirst() throws Exception {
+		PagingItemReader reader = new PagingItemReader();
+		reader.setPageSize(5);
+		reader.setPageClaiming(true);
+		reader.setSaveState(false);
+		reader.open(new ExecutionContext());
+
+		// a new thread per chunk of 2 items, as with a SimpleAsyncTaskExecutor
+		List<Integer> items = new ArrayList<>();
+		for (int chunk = 0; chunk < 11; chunk++) {
+			FutureTask<List<Integer>> task = new FutureTask<>(() -> {
+				List<Integer> chunkItems = new ArrayList<>();
+				Integer item;
+				while (chunkItems.size() < 2 && (item = reader.read()) != null) {
+					chunkItems.add(item);
+				}
+				return chunkItems;
+			});
+			new Thread(task).start();
+			items.addAll(task.get());
+		}
+
+		assertEquals(reader.data, items);
+		assertEquals(5, reader.pagesRead.get());
+	}
+
+	@Test
+	void pageClaiming_shouldRequireSaveStateToBeDisabled() {
+		PagingItemReader reader = new PagingItemReader();
+		reader.setPageClaiming(true);
+
+		Exception exception = assertThrows(IllegalStateException.class, reader::afterPropertiesSet);
+		assertEquals("saveState must be set to false when page claiming is enabled", exception.getMessage());
+	}
+
+	@Test
+	void prefetch_shouldNotReadPagesAfterClose() throws Exception {
+		PagingItemReader reader = new PagingItemReader();
+		reader.setPageSize(2);
+		reader.setPrefetchExecutor(new SimpleAsyncTaskExecutor());
+		reader.open(new ExecutionContext());
+
+		assertEquals(0, reader.read());
+		reader.close();
+		int pagesRead = reader.pagesRead.get();
+		Thread.sleep(100);
+
+		assertEquals(pagesRead, reader.pagesRead.get());
+		assertTrue(pagesRead <= 3);
+	}
+
+	private static List<Integer> readConcurrently(PagingItemReader reader, int threads) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<List<Integer>>> futures = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				futures.add(executor.submit(() -> {
+					List<Integer> items = new ArrayList<>();
+					Integer item;
+					while ((item = reader.read()) != null) {
+						items.add(item);
+					}
+					return items;
+				}));
+			}
+			List<Integer> items = new ArrayList<>();
+			for (Future<List<Integer>> future : futures) {
+				items.addAll(future.get());
+			}
+			Collections.sort(items);
+			return items;
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.database;
+
+import org.springframework.batch.infrastructure.item.ItemReader;
+import org.springframework.batch.infrastructure.item.sample.Foo;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * Runs the common reader tests, including restart, with pages read ahead.
+ */
+class JdbcPagingItemReaderPrefetchCommonTests extends JdbcPagingItemReaderCommonTests {
+
+	@Override
+	protected ItemReader<Foo> getItemReader() throws Exception {
+		JdbcPagingItemReader<Foo> reader = (JdbcPagingItemReader<Foo>) super.getItemReader();
+		reader.setPrefetchExecutor(new SimpleAsyncTaskExecutor());
+		reader.setPrefetchSize(2);
+		return reader;
+	}
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.database;
+
+import java.util.Collections;
+import java.util.Map;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.infrastructure.item.sample.Foo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringJUnitConfig(locations = "JpaPagingItemReaderCommonTests-context.xml")
+class JpaPagingItemReaderKeysetParameterTests extends AbstractPagingItemReaderParameterTests {
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Override
+	protected AbstractPagingItemReader<Foo> getItemReader() throws Exception {
+		JpaPagingItemReader<Foo> reader = new JpaPagingItemReader<>(entityManagerFactory);
+		reader.setQueryString("select f from Foo f where f.value = :limit or f.value > :limit");
+		reader.setParameterValues(Collections.singletonMap("limit", 2));
+		reader.setSortKeys(Map.of("f.id", Order.ASCENDING));
+		reader.setPageSize(3);
+		reader.afterPropertiesSet();
+		reader.setSaveState(true);
+
+		return reader;
+	}
+
+	@Override
+	@Test
+	void testReadAfterJumpSecondPage() throws Exception {
+		executionContext.put(getName() + ".start.after", Collections.<String, Object>singletonMap("f.id", 4));
+		super.testReadAfterJumpSecondPage();
+	}
+
+	@Test
+	void testReadDescending() throws Exception {
+		JpaPagingItemReader<Foo> reader = (JpaPagingItemReader<Foo>) tested;
+		reader.setSortKeys(Map.of("f.id", Order.DESCENDING));
+		reader.open(executionContext);
+
+		assertEquals(5, reader.read().getValue());
+		assertEquals(4, reader.read().getValue());
+		assertEquals(3, reader.read().getValue());
+		assertEquals(2, reader.read().getValue());
+		assertNull(reader.read());
+	}
+
+	@Test
+	void testReadWithKeywordsInStringLiteral() throws Exception {
+		JpaPagingItemReader<Foo> reader = (JpaPagingItemReader<Foo>) tested;
+		reader.setQueryString("select f from Foo f where f.name <> 'x) where (y' and f.value >= :limit");
+		reader.open(executionContext);
+
+		assertEquals(2, reader.read().getValue());
+		assertEquals(3, reader.read().getValue());
+		assertEquals(4, reader.read().getValue());
+		assertEquals(5, reader.read().getValue());
+		assertNull(reader.read());
+	}
+
+	@Test
+	void testReadWithGroupByAndHaving() throws Exception {
+		JpaPagingItemReader<Foo> reader = (JpaPagingItemReader<Foo>) tested;
+		reader.setQueryString("select f from Foo f where f.value >= :limit group by f having count(f) = 1");
+		reader.open(executionContext);
+
+		assertEquals(2, reader.read().getValue());
+		assertEquals(3, reader.read().getValue());
+		assertEquals(4, reader.read().getValue());
+		assertEquals(5, reader.read().getValue());
+		assertNull(reader.read());
+	}
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.database;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamException;
+import org.springframework.batch.infrastructure.item.sample.Foo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringJUnitConfig(locations = "JpaPagingItemReaderCommonTests-context.xml")
+class JpaPagingItemReaderPrefetchTests {
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void testTransactedReaderRejectsPrefetchExecutor() {
+		// given
+		JpaPagingItemReader<Foo> reader = new JpaPagingItemReader<>(entityManagerFactory);
+		reader.setQueryString("select f from Foo f order by f.id");
+		reader.setPrefetchExecutor(new SimpleAsyncTaskExecutor());
+
+		// when
+		Exception exception = assertThrows(IllegalStateException.class, reader::afterPropertiesSet);
+
+		// then
+		assertEquals("A prefetch executor is not supported with a transacted reader, set transacted to false",
+				exception.getMessage());
+		assertThrows(ItemStreamException.class, () -> reader.open(new ExecutionContext()));
+	}
+
+	@Test
+	void testEntitiesModifiedByProcessorAreNotFlushedByPrefetch() throws Exception {
+		// given
+		JpaPagingItemReader<Foo> reader = new JpaPagingItemReader<>(entityManagerFactory);
+		reader.setQueryString("select f from Foo f order by f.id");
+		reader.setPageSize(2);
+		reader.setTransacted(false);
+		reader.setPrefetchExecutor(new SimpleAsyncTaskExecutor());
+		reader.setPrefetchSize(2);
+		reader.afterPropertiesSet();
+		reader.open(new ExecutionContext());
+
+		// when
+		List<Integer> values = new ArrayList<>();
+		try {
+			for (Foo foo = reader.read(); foo != null; foo = reader.read()) {
+				values.add(foo.getValue());
+				// what an item processor modifying the entities would do
+				foo.setValue(foo.getValue() * 10);
+				foo.setName("processed");
+			}
+		}
+		finally {
+			reader.close();
+		}
+
+		// then
+		assertEquals(List.of(1, 2, 3, 4, 5), values);
+		EntityManager entityManager = entityManagerFactory.createEntityManager();
+		try {
+			for (int id = 1; id <= 5; id++) {
+				assertEquals(id, entityManager.find(Foo.class, id).getValue());
+			}
+		}
+		finally {
+			entityManager.close();
+		}
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.file;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ByteOffsetBufferedReaderTests {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void testReadLinesAndSeek() throws Exception {
+		Path file = write("foo\r\nbar\nbaz");
+		try (ByteOffsetBufferedReader reader = new ByteOffsetBufferedReader(file, StandardCharsets.UTF_8)) {
+			assertEquals("foo", reader.readLine());
+			assertEquals(5, reader.position());
+			assertEquals("bar", reader.readLine());
+			assertEquals("baz", reader.readLine());
+			assertNull(reader.readLine());
+
+			reader.seek(5);
+			assertEquals(List.of("bar", "baz"), reader.lines().toList());
+		}
+	}
+
+	@Test
+	void testReady() throws Exception {
+		Path file = write("foo\n");
+		try (ByteOffsetBufferedReader reader = new ByteOffsetBufferedReader(file, StandardCharsets.UTF_8)) {
+			assertTrue(reader.ready());
+			reader.readLine();
+			assertFalse(reader.ready());
+		}
+	}
+
+	@Test
+	void testCharacterReadsAreNotSupported() throws Exception {
+		Path file = write("foo\n");
+		try (ByteOffsetBufferedReader reader = new ByteOffsetBufferedReader(file, StandardCharsets.UTF_8)) {
+			assertThrows(UnsupportedOperationException.class, reader::read);
+			assertThrows(UnsupportedOperationException.class, () -> reader.read(new char[4], 0, 4));
+			assertThrows(UnsupportedOperationException.class, () -> reader.skip(1));
+			assertFalse(reader.markSupported());
+			assertThrows(IOException.class, () -> reader.mark(1));
+			assertThrows(IOException.class, reader::reset);
+		}
+	}
+
+	private Path write(String content) throws IOException {
+		return Files.writeString(this.directory.resolve("input.txt"), content);
+	}
+
+}
@@ -19,6 +19,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -26,10 +27,14 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.batch.infrastructure.item.ItemCountAware;
@@ -38,6 +43,7 @@ import org.springframework.batch.infrastructure.item.file.FlatFileItemReader;
 import org.springframework.batch.infrastructure.item.file.FlatFileParseException;
 import org.springframework.batch.infrastructure.item.file.LineMapper;
 import org.springframework.batch.infrastructure.item.file.mapping.PassThroughLineMapper;
+import org.springframework.batch.infrastructure.item.file.separator.DefaultRecordSeparatorPolicy;
 import org.springframework.batch.infrastructure.item.file.separator.RecordSeparatorPolicy;
 import org.springframework.core.io.AbstractResource;
 import org.springframework.core.io.ByteArrayResource;
@@ -264,6 +270,124 @@ class FlatFileItemReaderTests {
 		assertEquals(4, executionContext.getInt(ClassUtils.getShortName(FlatFileItemReader.class) + ".read.count"));
 	}
 
+	@Test
+	void testRestartFromByteOffset(@TempDir Path tempDir) throws Exception {
+		// given
+		Path file = tempDir.resolve("input.txt");
+		Files.writeString(file, "header\r\nl\u00e9ne1\nligne2\r\n\u20ac3\rline4\nline5", StandardCharsets.UTF_8);
+		FlatFileItemReader<String> byteOffsetReader = new FlatFileItemReader<>(
+				(line, lineNumber) -> lineNumber + ":" + line);
+		byteOffsetReader.setResource(new FileSystemResource(file));
+		byteOffsetReader.setLinesToSkip(1);
+		byteOffsetReader.setByteOffsetRestart(true);
+		byteOffsetReader.open(executionContext);
+		assertEquals("2:l\u00e9ne1", byteOffsetReader.read());
+		assertEquals("3:ligne2", byteOffsetReader.read());
+
+		// when
+		byteOffsetReader.update(executionContext);
+		byteOffsetReader.close();
+
+		// then
+		assertEquals(23, executionContext.getLong(byteOffsetReader.getExecutionContextKey("read.offset")));
+		assertEquals(3, executionContext.getInt(byteOffsetReader.getExecutionContextKey("line.count")));
+		byteOffsetReader.open(executionContext);
+		assertEquals("4:\u20ac3", byteOffsetReader.read());
+		assertEquals("5:line4", byteOffsetReader.read());
+		assertEquals("6:line5", byteOffsetReader.read());
+		assertNull(byteOffsetReader.read());
+		byteOffsetReader.close();
+	}
+
+	@Test
+	void testRestartSeeksToByteOffset(@TempDir Path tempDir) throws Exception {
+		// given
+		Path file = tempDir.resolve("input.txt");
+		Files.writeString(file, "line1\nline2\nline3\nline4\n");
+		reader.setResource(new FileSystemResource(file));
+		reader.setByteOffsetRestart(true);
+		executionContext.putInt(reader.getExecutionContextKey("read.count"), 1);
+		executionContext.putLong(reader.getExecutionContextKey("read.offset"), 12);
+		executionContext.putInt(reader.getExecutionContextKey("line.count"), 2);
+
+		// when
+		reader.open(executionContext);
+
+		// then
+		assertEquals("line3", reader.read());
+		assertEquals(2, reader.getCurrentItemCount());
+		reader.close();
+	}
+
+	@Test
+	void testByteOffsetRestartFallsBackToLineCount() throws Exception {
+		// given
+		reader.setByteOffsetRestart(true);
+		reader.open(executionContext);
+		assertEquals("testLine1", reader.read());
+
+		// when
+		reader.update(executionContext);
+		reader.close();
+
+		// then
+		assertFalse(executionContext.containsKey(reader.getExecutionContextKey("read.offset")));
+		reader.open(executionContext);
+		assertEquals("testLine2", reader.read());
+	}
+
+	@Test
+	void testReadByteRange(@TempDir Path tempDir) throws Exception {
+		// given
+		Path file = tempDir.resolve("input.txt");
+		Files.writeString(file, "header\nline1\nline2\nline3\nline4\n");
+		reader.setResource(new FileSystemResource(file));
+		reader.setLinesToSkip(1);
+		reader.setStartOffset(13);
+		reader.setEndOffset(25);
+
+		// when
+		reader.open(executionContext);
+
+		// then
+		assertEquals("line2", reader.read());
+		assertEquals("line3", reader.read());
+		assertNull(reader.read());
+		reader.close();
+	}
+
+	@Test
+	void testReadByteRangeWithQuotedRecordSpanningEndOffset(@TempDir Path tempDir) throws Exception {
+		// given: the first record spans bytes 0 to 9, the second one starts at byte 10
+		Path file = tempDir.resolve("input.txt");
+		Files.writeString(file, "1,\"a\nb\nc\"\n2,\"d\"\n");
+		reader.setResource(new FileSystemResource(file));
+		reader.setRecordSeparatorPolicy(new DefaultRecordSeparatorPolicy());
+		reader.setEndOffset(6);
+		FlatFileItemReader<String> nextRangeReader = new FlatFileItemReader<>(new PassThroughLineMapper());
+		nextRangeReader.setResource(new FileSystemResource(file));
+		nextRangeReader.setRecordSeparatorPolicy(new DefaultRecordSeparatorPolicy());
+		nextRangeReader.setStartOffset(10);
+
+		// when
+		reader.open(executionContext);
+		nextRangeReader.open(new ExecutionContext());
+
+		// then
+		assertEquals("1,\"a\nb\nc\"", reader.read());
+		assertNull(reader.read());
+		assertEquals("2,\"d\"", nextRangeReader.read());
+		assertNull(nextRangeReader.read());
+		reader.close();
+		nextRangeReader.close();
+	}
+
+	@Test
+	void testReadByteRangeRequiresFileResource() {
+		reader.setEndOffset(10);
+		assertThrows(ItemStreamException.class, () -> reader.open(executionContext));
+	}
+
 	@Test
 	void testCurrentItemCount() throws Exception {
 
@@ -21,6 +21,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.Writer;
 import java.nio.charset.UnsupportedCharsetException;
 
 import org.junit.jupiter.api.AfterEach;
@@ -39,6 +40,7 @@ import org.springframework.core.io.WritableResource;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionCallback;
 import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -223,6 +225,55 @@ class FlatFileItemWriterTests {
 		assertEquals(TEST_STRING, lineFromFile);
 	}
 
+	@Test
+	void testWriteStringWithOverriddenDoWrite() throws Exception {
+		// given
+		FlatFileItemWriter<String> writer = new FlatFileItemWriter<>(new PassThroughLineAggregator<>()) {
+			@Override
+			public String doWrite(Chunk<? extends String> items) {
+				return super.doWrite(items).toUpperCase();
+			}
+		};
+		writer.setResource(new FileSystemResource(outputFile));
+		writer.setLineSeparator("\n");
+		writer.afterPropertiesSet();
+
+		// when
+		writer.open(executionContext);
+		writer.write(Chunk.of(TEST_STRING));
+		writer.close();
+
+		// then
+		assertEquals(TEST_STRING.toUpperCase(), readLine());
+	}
+
+	@Test
+	void testWriteLinesFromSubclass() throws Exception {
+		// given
+		FlatFileItemWriter<String> writer = new FlatFileItemWriter<>(new PassThroughLineAggregator<>()) {
+			@Override
+			public String doWrite(Chunk<? extends String> items) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			protected void doWrite(Chunk<? extends String> items, Writer writer) throws IOException {
+				writeLines(items, writer);
+			}
+		};
+		writer.setResource(new FileSystemResource(outputFile));
+		writer.setLineSeparator("\n");
+		writer.afterPropertiesSet();
+
+		// when
+		writer.open(executionContext);
+		writer.write(Chunk.of(TEST_STRING));
+		writer.close();
+
+		// then
+		assertEquals(TEST_STRING, readLine());
+	}
+
 	@Test
 	void testForcedWriteString() throws Exception {
 		writer.setForceSync(true);
@@ -328,6 +379,49 @@ class FlatFileItemWriterTests {
 		writeStringTransactionCheck(TEST_STRING);
 	}
 
+	@Test
+	void testWriteLargeChunkNotTransactional() throws Exception {
+		// given
+		writer.setTransactional(false);
+		String[] items = new String[1000];
+		for (int i = 0; i < items.length; i++) {
+			items[i] = TEST_STRING + i;
+		}
+		writer.open(executionContext);
+
+		// when
+		writer.write(Chunk.of(items));
+		writer.close();
+
+		// then
+		for (String item : items) {
+			assertEquals(item, readLine());
+		}
+		assertNull(readLine());
+	}
+
+	@Test
+	void testFailedChunkNotTransactional() throws Exception {
+		// given
+		writer.setTransactional(false);
+		writer.setLineAggregator(item -> {
+			Assert.state(!item.equals("fail"), "Planned failure");
+			return item;
+		});
+		writer.open(executionContext);
+
+		// when
+		writer.write(Chunk.of("foo"));
+		assertThrows(IllegalStateException.class, () -> writer.write(Chunk.of("bar", "fail")));
+		writer.write(Chunk.of("baz"));
+		writer.close();
+
+		// then
+		assertEquals("foo", readLine());
+		assertEquals("baz", readLine());
+		assertNull(readLine());
+	}
+
 	private void writeStringTransactionCheck(String expectedInTransaction) {
 		PlatformTransactionManager transactionManager = new ResourcelessTransactionManager();
 
@@ -335,6 +429,8 @@ class FlatFileItemWriterTests {
 		new TransactionTemplate(transactionManager).execute((TransactionCallback<Void>) status -> {
 			try {
 				writer.write(Chunk.of(TEST_STRING));
+				// non-transactional output is flushed when the position is saved
+				writer.update(executionContext);
 				assertEquals(expectedInTransaction, readLine());
 			}
 			catch (Exception e) {
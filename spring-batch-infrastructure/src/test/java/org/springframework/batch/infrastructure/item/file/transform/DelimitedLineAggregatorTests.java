@@ -60,4 +60,12 @@ class DelimitedLineAggregatorTests {
 		assertEquals("foo,,bar", aggregator.aggregate(new String[] { "foo", null, "bar" }));
 	}
 
+	@Test
+	void testAggregateToBuilder() {
+		aggregator.setQuoteCharacter("'");
+		StringBuilder line = new StringBuilder("0:");
+		aggregator.aggregate(new String[] { "foo", null, "bar" }, line);
+		assertEquals("0:'foo','','bar'", line.toString());
+	}
+
 }
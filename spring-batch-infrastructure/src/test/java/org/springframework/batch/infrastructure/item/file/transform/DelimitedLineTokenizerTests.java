@@ -354,6 +354,29 @@ class DelimitedLineTokenizerTests {
 		assertEquals("", line.readString(1));
 	}
 
+	@Test
+	void testTokenizeWithIncludedFieldsStopsAfterLastIncludedField() {
+		tokenizer.setIncludedFields(0, 2);
+		FieldSet line = tokenizer.tokenize("a,b,\"c,d\",\"unclosed,e");
+		assertEquals(2, line.getFieldCount());
+		assertEquals("a", line.readString(0));
+		assertEquals("c,d", line.readString(1));
+	}
+
+	@Test
+	void testSingleAndMultiCharacterDelimitersYieldSameTokens() {
+		DelimitedLineTokenizer multiCharTokenizer = new DelimitedLineTokenizer("||");
+		String[] lines = { "a,b,c", ",a,,b,", "\"a,b\", c ,\"d\"\"e\"", ",", "a", " \"a\" , b" };
+		for (String line : lines) {
+			FieldSet expected = multiCharTokenizer.tokenize(line.replace(",", "||"));
+			FieldSet actual = tokenizer.tokenize(line);
+			assertEquals(expected.getFieldCount(), actual.getFieldCount(), line);
+			for (int i = 0; i < expected.getFieldCount(); i++) {
+				assertEquals(expected.readRawString(i).replace("||", ","), actual.readRawString(i), line);
+			}
+		}
+	}
+
 	@Test
 	void testTokenizeWithIncludedFieldsAndNames() {
 		tokenizer.setIncludedFields(new int[] { 1, 2 });
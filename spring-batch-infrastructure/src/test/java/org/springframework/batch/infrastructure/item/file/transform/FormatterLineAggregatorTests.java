@@ -47,6 +47,17 @@ class FormatterLineAggregatorTests {
 		assertThrows(IllegalStateException.class, () -> aggregator.aggregate(args));
 	}
 
+	@Test
+	void testAggregateToBuilderInvalidInputLength() {
+		FormatterLineAggregator<String[]> aggregator = new FormatterLineAggregator<>("%s");
+		aggregator.setMinimumLength(3);
+		aggregator.setFieldExtractor(defaultFieldExtractor);
+		StringBuilder line = new StringBuilder("previous line");
+		aggregator.aggregate(new String[] { "foo" }, line);
+		assertEquals("previous linefoo", line.toString());
+		assertThrows(IllegalStateException.class, () -> aggregator.aggregate(new String[] { "" }, line));
+	}
+
 	/**
 	 * Test aggregation
 	 */
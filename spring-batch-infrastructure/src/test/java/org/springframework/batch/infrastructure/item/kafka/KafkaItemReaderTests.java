@@ -17,15 +17,24 @@
 package org.springframework.batch.infrastructure.item.kafka;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.batch.infrastructure.item.kafka.KafkaItemReader;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author Mathieu Ouellet
@@ -79,4 +88,144 @@ class KafkaItemReaderTests {
 		assertEquals("pollTimeout must not be negative", exception.getMessage());
 	}
 
+	@Test
+	void testReadUpToEndOffsets() throws Exception {
+		// given
+		MockConsumer<String, String> consumer = consumer(10, 5);
+		KafkaItemReader<String, String> reader = reader(consumer);
+		reader.setPartitionEndOffsets(Map.of(new TopicPartition("topic", 0), 6L, new TopicPartition("topic", 1), 3L));
+		ExecutionContext executionContext = new ExecutionContext();
+		reader.open(executionContext);
+
+		// when
+		List<String> items = readAll(reader);
+		reader.update(executionContext);
+
+		// then
+		assertEquals(List.of("0-0", "0-1", "0-2", "0-3", "0-4", "0-5", "1-0", "1-1", "1-2"), items);
+		assertTrue(
+				consumer.paused().containsAll(List.of(new TopicPartition("topic", 0), new TopicPartition("topic", 1))));
+		assertEquals(Map.of("0", 5L, "1", 2L), executionContext.get("topic.partition.offsets"));
+	}
+
+	@Test
+	void testRestartWithEndOffsets() throws Exception {
+		// given
+		Map<TopicPartition, Long> endOffsets = Map.of(new TopicPartition("topic", 0), 6L,
+				new TopicPartition("topic", 1), 3L);
+		KafkaItemReader<String, String> reader = reader(consumer(10, 5));
+		reader.setPartitionEndOffsets(endOffsets);
+		ExecutionContext executionContext = new ExecutionContext();
+		reader.open(executionContext);
+		for (int i = 0; i < 4; i++) {
+			reader.read();
+		}
+		reader.update(executionContext);
+		reader.close();
+
+		// when
+		KafkaItemReader<String, String> restartedReader = reader(consumer(10, 5));
+		restartedReader.setPartitionEndOffsets(endOffsets);
+		restartedReader.open(executionContext);
+		List<String> items = readAll(restartedReader);
+
+		// then
+		assertEquals(List.of("0-4", "0-5", "1-0", "1-1", "1-2"), items);
+	}
+
+	@Test
+	void testReadUpToEndOffsetsAfterEmptyPoll() throws Exception {
+		// given
+		MockConsumer<String, String> consumer = new MockConsumer<>("earliest");
+		consumer.schedulePollTask(() -> {
+		});
+		consumer.schedulePollTask(() -> consumer.addRecord(new ConsumerRecord<>("topic", 0, 0, null, "0-0")));
+		consumer.schedulePollTask(() -> {
+		});
+		consumer.schedulePollTask(() -> {
+			consumer.addRecord(new ConsumerRecord<>("topic", 0, 1, null, "0-1"));
+			consumer.addRecord(new ConsumerRecord<>("topic", 1, 0, null, "1-0"));
+		});
+		KafkaItemReader<String, String> reader = reader(consumer);
+		reader.setPartitionEndOffsets(Map.of(new TopicPartition("topic", 0), 2L, new TopicPartition("topic", 1), 1L));
+		reader.open(new ExecutionContext());
+
+		// when
+		List<String> items = readAll(reader);
+
+		// then
+		assertEquals(List.of("0-0", "0-1", "1-0"), items);
+	}
+
+	@Test
+	void testEndOffsetTimeout() throws Exception {
+		// given
+		KafkaItemReader<String, String> reader = reader(consumer(2, 1));
+		reader.setPartitionEndOffsets(Map.of(new TopicPartition("topic", 0), 2L, new TopicPartition("topic", 1), 3L));
+		reader.setEndOffsetTimeout(Duration.ofMillis(50));
+		reader.open(new ExecutionContext());
+		for (int i = 0; i < 3; i++) {
+			reader.read();
+		}
+
+		// when
+		Exception exception = assertThrows(IllegalStateException.class, reader::read);
+
+		// then
+		assertTrue(exception.getMessage().startsWith("Partitions did not reach their end offset"));
+	}
+
+	@Test
+	void testEmptyRange() throws Exception {
+		// given
+		KafkaItemReader<String, String> reader = reader(consumer(10, 5));
+		reader.setPartitionOffsets(Map.of(new TopicPartition("topic", 0), 10L, new TopicPartition("topic", 1), 5L));
+		reader.setPartitionEndOffsets(Map.of(new TopicPartition("topic", 0), 10L, new TopicPartition("topic", 1), 5L));
+		reader.open(new ExecutionContext());
+
+		// when
+		List<String> items = readAll(reader);
+
+		// then
+		assertTrue(items.isEmpty());
+	}
+
+	private static MockConsumer<String, String> consumer(int... recordCounts) {
+		MockConsumer<String, String> consumer = new MockConsumer<>("earliest");
+		consumer.schedulePollTask(() -> {
+			for (int partition = 0; partition < recordCounts.length; partition++) {
+				for (int offset = 0; offset < recordCounts[partition]; offset++) {
+					consumer
+						.addRecord(new ConsumerRecord<>("topic", partition, offset, null, partition + "-" + offset));
+				}
+			}
+		});
+		return consumer;
+	}
+
+	private static KafkaItemReader<String, String> reader(Consumer<String, String> consumer) {
+		Properties consumerProperties = new Properties();
+		consumerProperties.put("bootstrap.servers", "mockServer");
+		consumerProperties.put("group.id", "1");
+		consumerProperties.put("key.deserializer", StringDeserializer.class.getName());
+		consumerProperties.put("value.deserializer", StringDeserializer.class.getName());
+		KafkaItemReader<String, String> reader = new KafkaItemReader<>(consumerProperties, "topic", 0, 1) {
+			@Override
+			protected Consumer<String, String> createConsumer(Properties consumerProperties) {
+				return consumer;
+			}
+		};
+		reader.setPollTimeout(Duration.ofMillis(10));
+		return reader;
+	}
+
+	private static List<String> readAll(KafkaItemReader<String, String> reader) throws Exception {
+		List<String> items = new ArrayList<>();
+		String item;
+		while ((item = reader.read()) != null) {
+			items.add(item);
+		}
+		return items;
+	}
+
 }
@@ -229,4 +229,24 @@ class KafkaItemReaderBuilderTests {
 		assertEquals(Long.valueOf(15L), partitionOffsetsMap.get(new TopicPartition(topic, partitions.get(1))));
 	}
 
+	@Test
+	void testKafkaItemReaderCreationWithOffsetRange() {
+		// when
+		KafkaItemReader<String, String> reader = new KafkaItemReaderBuilder<String, String>().name("kafkaItemReader")
+			.consumerProperties(this.consumerProperties)
+			.topic("test")
+			.offsetRange(Map.of("3", 10L, "1", 15L), Map.of("3", 20L, "1", 25L))
+			.endOffsetTimeout(Duration.ofMinutes(1))
+			.build();
+
+		// then
+		assertEquals(List.of(new TopicPartition("test", 1), new TopicPartition("test", 3)),
+				ReflectionTestUtils.getField(reader, "topicPartitions"));
+		assertEquals(Map.of(new TopicPartition("test", 1), 15L, new TopicPartition("test", 3), 10L),
+				ReflectionTestUtils.getField(reader, "partitionOffsets"));
+		assertEquals(Map.of(new TopicPartition("test", 1), 25L, new TopicPartition("test", 3), 20L),
+				ReflectionTestUtils.getField(reader, "partitionEndOffsets"));
+		assertEquals(Duration.ofMinutes(1), ReflectionTestUtils.getField(reader, "endOffsetTimeout"));
+	}
+
 }
@@ -15,6 +15,10 @@
  */
 package org.springframework.batch.infrastructure.item.redis;
 
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -63,4 +67,30 @@ public class RedisItemReaderTests {
 		Assertions.assertNull(item3);
 	}
 
+	@Test
+	void testReadWithBatchSize() throws Exception {
+		// given
+		Mockito.when(this.redisTemplate.scan(this.scanOptions)).thenReturn(this.cursor);
+		Iterator<String> keys = List.of("person:1", "person:2", "person:3").iterator();
+		Mockito.when(this.cursor.hasNext()).thenAnswer(invocation -> keys.hasNext());
+		Mockito.when(this.cursor.next()).thenAnswer(invocation -> keys.next());
+		Mockito.when(this.redisTemplate.opsForValue().multiGet(List.of("person:1", "person:2")))
+			.thenReturn(Arrays.asList("foo", null));
+		Mockito.when(this.redisTemplate.opsForValue().multiGet(List.of("person:3"))).thenReturn(List.of("bar"));
+		RedisItemReader<String, String> redisItemReader = new RedisItemReader<>(this.redisTemplate, this.scanOptions);
+		redisItemReader.setBatchSize(2);
+		redisItemReader.open(new ExecutionContext());
+
+		// when
+		String item1 = redisItemReader.read();
+		String item2 = redisItemReader.read();
+		String item3 = redisItemReader.read();
+
+		// then
+		Assertions.assertEquals("foo", item1);
+		Assertions.assertEquals("bar", item2);
+		Assertions.assertNull(item3);
+		Mockito.verify(this.redisTemplate.opsForValue(), Mockito.never()).get(Mockito.any());
+	}
+
 }
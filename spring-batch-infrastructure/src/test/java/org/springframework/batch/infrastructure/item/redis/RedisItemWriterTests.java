@@ -16,6 +16,9 @@
 
 package org.springframework.batch.infrastructure.item.redis;
 
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -28,6 +31,8 @@ import org.springframework.batch.infrastructure.item.redis.RedisItemWriter;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.redis.core.RedisTemplate;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -57,6 +62,22 @@ public class RedisItemWriterTests {
 		verify(this.redisTemplate.opsForValue()).set(items.getItems().get(1), items.getItems().get(1));
 	}
 
+	@Test
+	void shouldWriteChunkWithSingleCommand() throws Exception {
+		this.redisItemWriter.setBatchWrites(true);
+		this.redisItemWriter.write(new Chunk<>("val1", "val2"));
+		verify(this.redisTemplate.opsForValue()).multiSet(Map.of("val1", "val1", "val2", "val2"));
+		verify(this.redisTemplate.opsForValue(), never()).set(any(), any());
+	}
+
+	@Test
+	void shouldDeleteChunkWithSingleCommand() throws Exception {
+		this.redisItemWriter.setBatchWrites(true);
+		this.redisItemWriter.setDelete(true);
+		this.redisItemWriter.write(new Chunk<>("val1", "val2"));
+		verify(this.redisTemplate).delete(List.of("val1", "val2"));
+	}
+
 	static class RedisItemKeyMapper implements Converter<String, String> {
 
 		@Override
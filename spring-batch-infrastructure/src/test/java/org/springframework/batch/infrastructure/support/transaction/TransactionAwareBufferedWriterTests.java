@@ -18,10 +18,15 @@ package org.springframework.batch.infrastructure.support.transaction;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 
 import org.springframework.batch.infrastructure.support.transaction.FlushFailedException;
@@ -304,7 +309,7 @@ class TransactionAwareBufferedWriterTests {
 			FileChannel fileChannel = mock();
 			when(fileChannel.write(any(ByteBuffer.class))).thenAnswer(invocation -> {
 				ByteBuffer buffer = (ByteBuffer) invocation.getArguments()[0];
-				String val = new String(buffer.array(), StandardCharsets.UTF_8);
+				String val = getStringFromByteBuffer(buffer.duplicate());
 				if (results[index] == null) {
 					results[index] = val;
 				}
@@ -355,6 +360,87 @@ class TransactionAwareBufferedWriterTests {
 		assertEquals("urg", s);
 	}
 
+	@Test
+	void testWriteLargeBufferWithCommit(@TempDir Path tempDir) throws Exception {
+		// given
+		Path file = tempDir.resolve("output.txt");
+		StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < 10000; i++) {
+			expected.append("line ").append(i).append(" \u00e9\u00e8\n");
+		}
+
+		// when
+		String result = writeInTransaction(file, "UTF-8", expected.toString().split("(?<=\n)"));
+
+		// then
+		assertEquals(expected.toString(), result);
+		assertEquals(expected.toString().getBytes(StandardCharsets.UTF_8).length, Files.size(file));
+	}
+
+	@Test
+	void testWriteSurrogatePairSplitAcrossWrites(@TempDir Path tempDir) throws Exception {
+		// given
+		Path file = tempDir.resolve("output.txt");
+		String emoji = "\uD83D\uDE00";
+
+		// when
+		String result = writeInTransaction(file, "UTF-8", "a" + emoji.charAt(0), emoji.charAt(1) + "b");
+
+		// then
+		assertEquals("a" + emoji + "b", result);
+	}
+
+	@Test
+	void testBufferSizeInTransactionWithPendingHighSurrogate() {
+		String emoji = "\uD83D\uDE00";
+
+		new TransactionTemplate(transactionManager).execute((TransactionCallback<Void>) status -> {
+			try {
+				writer.write("a" + emoji.charAt(0));
+				assertEquals(2, writer.getBufferSize());
+				writer.write(emoji.charAt(1) + "b");
+				assertEquals(6, writer.getBufferSize());
+			}
+			catch (IOException e) {
+				throw new IllegalStateException("Unexpected IOException", e);
+			}
+			status.setRollbackOnly();
+			return null;
+		});
+	}
+
+	@Test
+	void testWriteUnpairedSurrogate(@TempDir Path tempDir) throws Exception {
+		// given
+		Path file = tempDir.resolve("output.txt");
+
+		// when
+		String result = writeInTransaction(file, "UTF-8", "a\uD83D", "\uD83Db", "\uD83D");
+
+		// then
+		assertEquals("a?" + "?b" + "?", result);
+	}
+
+	private String writeInTransaction(Path file, String encoding, String... strings) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+			TransactionAwareBufferedWriter writer = new TransactionAwareBufferedWriter(channel, () -> {
+			});
+			writer.setEncoding(encoding);
+			new TransactionTemplate(transactionManager).execute((TransactionCallback<Void>) status -> {
+				try {
+					for (String string : strings) {
+						writer.write(string);
+					}
+				}
+				catch (IOException e) {
+					throw new IllegalStateException("Unexpected IOException", e);
+				}
+				return null;
+			});
+		}
+		return Files.readString(file, Charset.forName(encoding));
+	}
+
 	private String getStringFromByteBuffer(ByteBuffer bb) {
 		byte[] bytearr = new byte[bb.remaining()];
 		bb.get(bytearr);
@@ -15,19 +15,40 @@
  */
 package org.springframework.batch.integration.async;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
-import java.util.concurrent.FutureTask;
-
-import org.springframework.batch.core.step.StepExecution;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
 import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.listener.ItemProcessListener;
+import org.springframework.batch.core.listener.StepExecutionListener;
+import org.springframework.batch.core.observability.BatchMetrics;
+import org.springframework.batch.core.observability.micrometer.MicrometerMetrics;
 import org.springframework.batch.core.scope.context.StepContext;
 import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.core.step.StepExecution;
 import org.springframework.batch.infrastructure.item.ItemProcessor;
 import org.springframework.batch.infrastructure.item.ItemWriter;
 import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.util.Assert;
 
 /**
@@ -40,6 +61,22 @@ import org.springframework.util.Assert;
  * the processor is). While not an exhaustive list, things like
  * {@link StepExecution#getFilterCount()} will not reflect the number of filtered items
  * and {@link ItemProcessListener#onProcessError(Object, Exception)} will not be called.
+ * <p>
+ * By default, each item is processed by its own task. For cheap processors, the overhead
+ * of scheduling a task per item can be reduced by processing items in
+ * {@link #setBatchSize(int) batches}: items are then accumulated until a batch is full,
+ * or until the result of one of them is requested, and each batch is processed by a
+ * single task, item after item. The number of tasks submitted to the task executor and
+ * not yet completed can be {@link #setMaxInFlight(int) bounded}, in which case
+ * {@code process} blocks until a task completes. This makes it safe to use an unbounded
+ * executor such as a {@link VirtualThreadTaskExecutor}.
+ * <p>
+ * When registered as a {@link StepExecutionListener} (which step builders do
+ * automatically for item processors), this processor records the number of items waiting
+ * to be processed and the latency of each item, from its submission to the end of its
+ * processing, in the configured {@link MeterRegistry}. These metrics are recorded per
+ * step execution. Items are processed in the context of the step execution they were
+ * submitted in, even when items of different step executions share a batch.
  *
  * @author Dave Syer
  * @author Mahmoud Ben Hassine
@@ -47,10 +84,22 @@ import org.springframework.util.Assert;
  * @param <O> the output object type (will be wrapped in a Future)
  * @see AsyncItemWriter
  */
-public class AsyncItemProcessor<I, O> implements ItemProcessor<I, Future<O>> {
+public class AsyncItemProcessor<I, O> implements ItemProcessor<I, Future<O>>, StepExecutionListener {
 
 	private ItemProcessor<I, O> delegate;
 
+	private int batchSize = 1;
+
+	private Semaphore inFlightTasks = new Semaphore(Integer.MAX_VALUE);
+
+	private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+	private final Lock lock = new ReentrantLock();
+
+	private List<ItemFuture> batch = new ArrayList<>();
+
+	private final Map<StepExecution, StepMeters> stepMeters = new ConcurrentHashMap<>();
+
 	/**
 	 * Create a new {@link AsyncItemProcessor} with the delegate {@link ItemProcessor}.
 	 * @param delegate the {@link ItemProcessor} to use as a delegate
@@ -81,31 +130,155 @@ public class AsyncItemProcessor<I, O> implements ItemProcessor<I, Future<O>> {
 		this.taskExecutor = taskExecutor;
 	}
 
+	/**
+	 * The number of items processed by each task submitted to the task executor. Items
+	 * are accumulated until a batch is full, or until the result of one of them is
+	 * requested. Defaults to 1 (one task per item).
+	 * @param batchSize the number of items per task, must be greater than zero
+	 * @since 6.1
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "batchSize must be greater than zero");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * The maximum number of tasks submitted to the task executor and not yet completed.
+	 * When this number is reached, submitting a new task blocks until a task completes.
+	 * Defaults to {@link Integer#MAX_VALUE} (no limit).
+	 * @param maxInFlight the maximum number of tasks in flight, must be greater than zero
+	 * @since 6.1
+	 */
+	public void setMaxInFlight(int maxInFlight) {
+		Assert.isTrue(maxInFlight > 0, "maxInFlight must be greater than zero");
+		this.inFlightTasks = new Semaphore(maxInFlight);
+	}
+
+	/**
+	 * Set the meter registry to record the metrics of this processor in. Defaults to
+	 * {@link Metrics#globalRegistry}.
+	 * @param meterRegistry the meter registry to use
+	 * @since 6.1
+	 */
+	public void setMeterRegistry(MeterRegistry meterRegistry) {
+		Assert.notNull(meterRegistry, "MeterRegistry must not be null");
+		this.meterRegistry = meterRegistry;
+	}
+
 	/**
 	 * Transform the input by delegating to the provided item processor. The return value
 	 * is wrapped in a {@link Future} so that clients can unpack it later.
 	 *
 	 * @see ItemProcessor#process(Object)
 	 */
-	@SuppressWarnings("DataFlowIssue")
 	@Override
 	public @Nullable Future<O> process(I item) throws Exception {
-		final StepExecution stepExecution = getStepExecution();
-		FutureTask<O> task = new FutureTask<>(() -> {
-			if (stepExecution != null) {
-				StepSynchronizationManager.register(stepExecution);
+		ItemFuture future = new ItemFuture(item, getStepExecution());
+		List<ItemFuture> fullBatch = null;
+		this.lock.lock();
+		try {
+			this.batch.add(future);
+			if (this.batch.size() >= this.batchSize) {
+				fullBatch = takeBatch();
 			}
-			try {
-				return delegate.process(item);
+		}
+		finally {
+			this.lock.unlock();
+		}
+		if (fullBatch != null) {
+			submit(fullBatch);
+		}
+		return future;
+	}
+
+	@Override
+	public void beforeStep(StepExecution stepExecution) {
+		String jobName = stepExecution.getJobExecution().getJobInstance().getJobName();
+		String stepName = stepExecution.getStepName();
+		Timer latencyTimer = MicrometerMetrics.createTimer(this.meterRegistry, "item.process.async",
+				"Asynchronous item processing latency",
+				Tag.of(BatchMetrics.METRICS_PREFIX + "item.process.async.job.name", jobName),
+				Tag.of(BatchMetrics.METRICS_PREFIX + "item.process.async.step.name", stepName));
+		AtomicInteger pendingItems = new AtomicInteger();
+		Gauge pendingItemsGauge = MicrometerMetrics.createGauge(this.meterRegistry, "item.process.async.pending",
+				"Number of items waiting to be processed asynchronously", pendingItems, AtomicInteger::get,
+				Tag.of(BatchMetrics.METRICS_PREFIX + "item.process.async.pending.job.name", jobName),
+				Tag.of(BatchMetrics.METRICS_PREFIX + "item.process.async.pending.step.name", stepName));
+		this.stepMeters.put(stepExecution, new StepMeters(latencyTimer, pendingItems, pendingItemsGauge));
+	}
+
+	@Override
+	public @Nullable ExitStatus afterStep(StepExecution stepExecution) {
+		StepMeters meters = this.stepMeters.remove(stepExecution);
+		if (meters != null) {
+			this.meterRegistry.remove(meters.pendingItemsGauge());
+		}
+		return null;
+	}
+
+	/**
+	 * Submit the items accumulated so far, if any.
+	 */
+	private void flush() {
+		List<ItemFuture> pendingBatch;
+		this.lock.lock();
+		try {
+			if (this.batch.isEmpty()) {
+				return;
 			}
-			finally {
-				if (stepExecution != null) {
-					StepSynchronizationManager.close();
+			pendingBatch = takeBatch();
+		}
+		finally {
+			this.lock.unlock();
+		}
+		submit(pendingBatch);
+	}
+
+	private List<ItemFuture> takeBatch() {
+		List<ItemFuture> items = this.batch;
+		for (ItemFuture item : items) {
+			item.submitted = true;
+		}
+		this.batch = new ArrayList<>(this.batchSize);
+		return items;
+	}
+
+	private void submit(List<ItemFuture> items) {
+		Semaphore permits = this.inFlightTasks;
+		permits.acquireUninterruptibly();
+		try {
+			this.taskExecutor.execute(() -> {
+				// items of a batch may come from different step executions
+				StepExecution registered = null;
+				try {
+					for (ItemFuture item : items) {
+						if (item.stepExecution != registered) {
+							if (registered != null) {
+								StepSynchronizationManager.close();
+							}
+							registered = item.stepExecution;
+							if (registered != null) {
+								StepSynchronizationManager.register(registered);
+							}
+						}
+						item.complete();
+					}
+				}
+				finally {
+					if (registered != null) {
+						StepSynchronizationManager.close();
+					}
+					permits.release();
 				}
+			});
+		}
+		catch (RuntimeException e) {
+			permits.release();
+			for (ItemFuture item : items) {
+				item.fail(e);
 			}
-		});
-		taskExecutor.execute(task);
-		return task;
+			throw e;
+		}
 	}
 
 	/**
@@ -119,4 +292,93 @@ public class AsyncItemProcessor<I, O> implements ItemProcessor<I, Future<O>> {
 		return context.getStepExecution();
 	}
 
+	/**
+	 * The meters of a step execution this processor is registered with as a listener.
+	 */
+	private record StepMeters(Timer latencyTimer, AtomicInteger pendingItems, Gauge pendingItemsGauge) {
+
+	}
+
+	/**
+	 * The result of the processing of an item. Requesting the result of an item that is
+	 * not submitted yet submits the current batch.
+	 */
+	private final class ItemFuture implements Future<O> {
+
+		private final I item;
+
+		private final @Nullable StepExecution stepExecution;
+
+		private final @Nullable StepMeters meters;
+
+		private final long submissionTime = System.nanoTime();
+
+		private final CompletableFuture<O> result = new CompletableFuture<>();
+
+		private volatile boolean submitted;
+
+		private ItemFuture(I item, @Nullable StepExecution stepExecution) {
+			this.item = item;
+			this.stepExecution = stepExecution;
+			this.meters = stepExecution != null ? stepMeters.get(stepExecution) : null;
+			if (this.meters != null) {
+				this.meters.pendingItems().incrementAndGet();
+			}
+		}
+
+		private void complete() {
+			try {
+				this.result.complete(delegate.process(this.item));
+			}
+			catch (Throwable e) {
+				this.result.completeExceptionally(e);
+			}
+			finally {
+				if (this.meters != null) {
+					this.meters.pendingItems().decrementAndGet();
+					this.meters.latencyTimer().record(System.nanoTime() - this.submissionTime, TimeUnit.NANOSECONDS);
+				}
+			}
+		}
+
+		private void fail(Throwable failure) {
+			this.result.completeExceptionally(failure);
+			if (this.meters != null) {
+				this.meters.pendingItems().decrementAndGet();
+			}
+		}
+
+		@Override
+		public O get() throws InterruptedException, ExecutionException {
+			if (!this.submitted) {
+				flush();
+			}
+			return this.result.get();
+		}
+
+		@Override
+		public O get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+			if (!this.submitted) {
+				flush();
+			}
+			return this.result.get(timeout, unit);
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			return this.result.cancel(mayInterruptIfRunning);
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return this.result.isCancelled();
+		}
+
+		@Override
+		public boolean isDone() {
+			return this.result.isDone();
+		}
+
+	}
+
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.integration.chunk;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Additive increase / multiplicative decrease (AIMD) controller of the number of chunks a
+ * manager can send to remote workers without waiting for their replies.
+ * <p>
+ * The round trip latency of each chunk is measured from the time it is sent to the time
+ * its reply is received. While the smoothed latency stays close to the lowest latency
+ * observed, workers are keeping up and the limit grows: by one per reply until the first
+ * congestion is detected (slow start), then by one per round trip. When the smoothed
+ * latency exceeds the lowest latency by the configured tolerance, when a chunk fails or
+ * when no reply is received in time, the limit is halved, at most once per round trip.
+ * The lowest latency slowly drifts towards the current one, so that the baseline follows
+ * changes in the number of workers.
+ * <p>
+ * Not thread safe, except for the getters which can be called from any thread.
+ *
+ * @since 6.1
+ */
+final class AdaptiveThrottle {
+
+	private static final double LATENCY_SMOOTHING = 0.125;
+
+	private static final double BASELINE_DRIFT = 0.01;
+
+	private final long minLimit;
+
+	private final long maxLimit;
+
+	private final double latencyTolerance;
+
+	private final LongSupplier clock;
+
+	private final Map<Integer, Long> dispatchTimes = new ConcurrentHashMap<>();
+
+	private volatile double limit;
+
+	private double slowStartThreshold;
+
+	private volatile double smoothedLatency;
+
+	private double baselineLatency;
+
+	private int lastSequence = -1;
+
+	private int recoverySequence = -1;
+
+	/**
+	 * Create a new throttle.
+	 * @param minLimit the minimum limit
+	 * @param maxLimit the maximum limit
+	 * @param latencyTolerance the ratio between the smoothed latency and the lowest
+	 * latency above which workers are considered saturated
+	 * @param clock the source of time in nanoseconds
+	 */
+	AdaptiveThrottle(long minLimit, long maxLimit, double latencyTolerance, LongSupplier clock) {
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.latencyTolerance = latencyTolerance;
+		this.clock = clock;
+		this.limit = (double) minLimit;
+		this.slowStartThreshold = (double) maxLimit;
+	}
+
+	/**
+	 * Return the current number of chunks that can be sent without waiting for replies.
+	 * @return the current limit
+	 */
+	long getLimit() {
+		return (long) this.limit;
+	}
+
+	/**
+	 * Return the smoothed round trip latency of chunks.
+	 * @return the smoothed round trip latency in nanoseconds, or zero if no reply was
+	 * received yet
+	 */
+	double getLatency() {
+		return this.smoothedLatency;
+	}
+
+	/**
+	 * Record that a chunk was sent.
+	 * @param sequence the sequence of the chunk request
+	 */
+	void dispatched(int sequence) {
+		this.dispatchTimes.put(sequence, this.clock.getAsLong());
+		this.lastSequence = sequence;
+	}
+
+	/**
+	 * Record the reply to a chunk and adjust the limit.
+	 * @param sequence the sequence of the chunk response
+	 * @param successful whether the chunk was successfully processed
+	 */
+	void received(int sequence, boolean successful) {
+		Long dispatchTime = this.dispatchTimes.remove(sequence);
+		if (dispatchTime == null) {
+			// reply to a chunk sent before a restart
+			return;
+		}
+		double latency = (double) (this.clock.getAsLong() - dispatchTime);
+		double smoothedLatency = this.smoothedLatency;
+		if (smoothedLatency == 0) {
+			smoothedLatency = latency;
+			this.baselineLatency = latency;
+		}
+		else {
+			smoothedLatency = smoothedLatency + LATENCY_SMOOTHING * (latency - smoothedLatency);
+			this.baselineLatency = Math.min(latency,
+					this.baselineLatency + BASELINE_DRIFT * (smoothedLatency - this.baselineLatency));
+		}
+		this.smoothedLatency = smoothedLatency;
+		if (!successful || smoothedLatency > this.latencyTolerance * this.baselineLatency) {
+			decrease(sequence);
+		}
+		else if (this.limit < this.slowStartThreshold) {
+			this.limit = Math.min(this.limit + 1, (double) this.maxLimit);
+		}
+		else {
+			this.limit = Math.min(this.limit + 1 / this.limit, (double) this.maxLimit);
+		}
+	}
+
+	/**
+	 * Record that no reply was received within the receive timeout.
+	 */
+	void timedOut() {
+		decrease(this.lastSequence);
+	}
+
+	/**
+	 * Clear the chunks in flight.
+	 */
+	void reset() {
+		this.dispatchTimes.clear();
+		this.lastSequence = -1;
+		this.recoverySequence = -1;
+	}
+
+	/*
+	 * Replies to chunks sent before the last decrease reflect the previous limit, so they
+	 * do not trigger another decrease.
+	 */
+	private void decrease(int sequence) {
+		if (sequence <= this.recoverySequence) {
+			return;
+		}
+		this.limit = Math.max(this.limit / 2, (double) this.minLimit);
+		this.slowStartThreshold = this.limit;
+		this.recoverySequence = this.lastSequence;
+	}
+
+}
@@ -21,8 +21,13 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tag;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.NullUnmarked;
@@ -32,6 +37,8 @@ import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.step.StepContribution;
 import org.springframework.batch.core.step.StepExecution;
 import org.springframework.batch.core.listener.StepExecutionListener;
+import org.springframework.batch.core.observability.BatchMetrics;
+import org.springframework.batch.core.observability.micrometer.MicrometerMetrics;
 import org.springframework.batch.infrastructure.item.Chunk;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.batch.infrastructure.item.ItemStream;
@@ -67,6 +74,20 @@ public class ChunkMessageChannelItemWriter<T>
 
 	protected PollableChannel replyChannel;
 
+	protected ChunkMessageCodec<T> messageCodec;
+
+	protected boolean adaptiveThrottling;
+
+	protected long minThrottleLimit = 1;
+
+	protected double latencyTolerance = 2.0;
+
+	protected MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+	private AdaptiveThrottle throttle;
+
+	private final List<Gauge> gauges = new ArrayList<>();
+
 	/**
 	 * The maximum number of times to wait at the end of a step for a non-null result from
 	 * the remote workers. This is a multiplier on the receive timeout set separately on
@@ -87,6 +108,55 @@ public class ChunkMessageChannelItemWriter<T>
 		this.throttleLimit = throttleLimit;
 	}
 
+	/**
+	 * Whether the throttle limit should be adjusted automatically to the round trip
+	 * latency of chunks. When enabled, the limit starts at the
+	 * {@link #setMinThrottleLimit(long) minimum throttle limit} and grows while the
+	 * latency of replies stays stable, up to the {@link #setThrottleLimit(long) throttle
+	 * limit}. It is halved when the latency increases beyond the
+	 * {@link #setLatencyTolerance(double) latency tolerance}, when a chunk fails or when
+	 * no reply is received within the receive timeout of the gateway. Defaults to
+	 * {@code false}.
+	 * @param adaptiveThrottling true to adjust the throttle limit automatically
+	 * @since 6.1
+	 */
+	public void setAdaptiveThrottling(boolean adaptiveThrottling) {
+		this.adaptiveThrottling = adaptiveThrottling;
+	}
+
+	/**
+	 * The lowest throttle limit when adaptive throttling is enabled. Defaults to 1.
+	 * @param minThrottleLimit the minimum throttle limit, must be greater than zero
+	 * @since 6.1
+	 */
+	public void setMinThrottleLimit(long minThrottleLimit) {
+		Assert.isTrue(minThrottleLimit > 0, "minThrottleLimit must be greater than zero");
+		this.minThrottleLimit = minThrottleLimit;
+	}
+
+	/**
+	 * The ratio between the smoothed round trip latency and the lowest observed latency
+	 * above which workers are considered saturated when adaptive throttling is enabled.
+	 * Defaults to 2.
+	 * @param latencyTolerance the latency tolerance, must be greater than 1
+	 * @since 6.1
+	 */
+	public void setLatencyTolerance(double latencyTolerance) {
+		Assert.isTrue(latencyTolerance > 1, "latencyTolerance must be greater than 1");
+		this.latencyTolerance = latencyTolerance;
+	}
+
+	/**
+	 * Set the meter registry in which the throttle limit, the number of outstanding
+	 * chunks and the round trip latency are registered as gauges for the duration of the
+	 * step. Defaults to {@link Metrics#globalRegistry}.
+	 * @param meterRegistry the meter registry to use
+	 * @since 6.1
+	 */
+	public void setMeterRegistry(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
 	public void setMessagingOperations(MessagingTemplate messagingGateway) {
 		this.messagingGateway = messagingGateway;
 	}
@@ -95,11 +165,24 @@ public class ChunkMessageChannelItemWriter<T>
 		this.replyChannel = replyChannel;
 	}
 
+	/**
+	 * Set the codec used to encode requests sent to workers and decode their replies.
+	 * When set, requests are sent as byte arrays, and replies are expected as byte arrays
+	 * encoded with the same codec (replies sent as {@link ChunkResponse} instances are
+	 * still accepted). Defaults to {@code null}, in which case {@link ChunkRequest}
+	 * instances are sent as is.
+	 * @param messageCodec the codec to use
+	 * @since 6.1
+	 */
+	public void setMessageCodec(ChunkMessageCodec<T> messageCodec) {
+		this.messageCodec = messageCodec;
+	}
+
 	@Override
 	public void write(Chunk<? extends T> items) throws Exception {
 
 		// Block until expecting <= throttle limit
-		while (localState.getExpecting() > throttleLimit) {
+		while (localState.getExpecting() > getCurrentThrottleLimit()) {
 			getNextResult();
 		}
 
@@ -109,7 +192,15 @@ public class ChunkMessageChannelItemWriter<T>
 			if (logger.isDebugEnabled()) {
 				logger.debug("Dispatching chunk: " + request);
 			}
-			messagingGateway.send(new GenericMessage<>(request));
+			if (messageCodec != null) {
+				messagingGateway.send(new GenericMessage<>(messageCodec.encodeRequest(request)));
+			}
+			else {
+				messagingGateway.send(new GenericMessage<>(request));
+			}
+			if (throttle != null) {
+				throttle.dispatched(request.getSequence());
+			}
 			localState.incrementExpected();
 
 		}
@@ -119,10 +210,50 @@ public class ChunkMessageChannelItemWriter<T>
 	@Override
 	public void beforeStep(StepExecution stepExecution) {
 		localState.setStepExecution(stepExecution);
+		throttle = new AdaptiveThrottle(Math.min(minThrottleLimit, throttleLimit), throttleLimit, latencyTolerance,
+				System::nanoTime);
+		registerGauges(stepExecution);
+	}
+
+	/**
+	 * Return the current throttle limit, which is the configured throttle limit unless
+	 * adaptive throttling is enabled.
+	 * @return the current throttle limit
+	 * @since 6.1
+	 */
+	public long getCurrentThrottleLimit() {
+		return adaptiveThrottling && throttle != null ? throttle.getLimit() : throttleLimit;
+	}
+
+	private void registerGauges(StepExecution stepExecution) {
+		String jobName = stepExecution.getJobExecution().getJobInstance().getJobName();
+		String stepName = stepExecution.getStepName();
+		gauges.add(MicrometerMetrics.createGauge(meterRegistry, "chunk.remote.window",
+				"Number of chunks that can be sent to workers without waiting for replies", this,
+				writer -> writer.getCurrentThrottleLimit(),
+				Tag.of(BatchMetrics.METRICS_PREFIX + "chunk.remote.window.job.name", jobName),
+				Tag.of(BatchMetrics.METRICS_PREFIX + "chunk.remote.window.step.name", stepName)));
+		gauges.add(MicrometerMetrics.createGauge(meterRegistry, "chunk.remote.outstanding",
+				"Number of chunks sent to workers and waiting for replies", localState, LocalState::getExpecting,
+				Tag.of(BatchMetrics.METRICS_PREFIX + "chunk.remote.outstanding.job.name", jobName),
+				Tag.of(BatchMetrics.METRICS_PREFIX + "chunk.remote.outstanding.step.name", stepName)));
+		gauges.add(MicrometerMetrics.createGauge(meterRegistry, "chunk.remote.latency",
+				"Smoothed round trip latency of chunks in seconds", throttle,
+				t -> t.getLatency() / TimeUnit.SECONDS.toNanos(1),
+				Tag.of(BatchMetrics.METRICS_PREFIX + "chunk.remote.latency.job.name", jobName),
+				Tag.of(BatchMetrics.METRICS_PREFIX + "chunk.remote.latency.step.name", stepName)));
+	}
+
+	private void removeGauges() {
+		for (Gauge gauge : gauges) {
+			meterRegistry.remove(gauge);
+		}
+		gauges.clear();
 	}
 
 	@Override
 	public ExitStatus afterStep(StepExecution stepExecution) {
+		removeGauges();
 		if (!(stepExecution.getStatus() == BatchStatus.COMPLETED)) {
 			return ExitStatus.EXECUTING;
 		}
@@ -160,6 +291,9 @@ public class ChunkMessageChannelItemWriter<T>
 	@Override
 	public void close() throws ItemStreamException {
 		localState.reset();
+		if (throttle != null) {
+			throttle.reset();
+		}
 	}
 
 	@Override
@@ -226,11 +360,14 @@ public class ChunkMessageChannelItemWriter<T>
 	 * @throws IllegalStateException if the result contains the wrong job instance id
 	 * (maybe we are sharing a channel and we shouldn't be)
 	 */
-	@SuppressWarnings("unchecked")
 	protected void getNextResult() throws AsynchronousFailureException {
-		Message<ChunkResponse> message = (Message<ChunkResponse>) messagingGateway.receive(replyChannel);
+		Message<?> message = messagingGateway.receive(replyChannel);
+		if (message == null && throttle != null) {
+			throttle.timedOut();
+		}
 		if (message != null) {
-			ChunkResponse payload = message.getPayload();
+			ChunkResponse payload = message.getPayload() instanceof byte[] bytes && messageCodec != null
+					? messageCodec.decodeResponse(bytes) : (ChunkResponse) message.getPayload();
 			if (logger.isDebugEnabled()) {
 				logger.debug("Found result: " + payload);
 			}
@@ -250,6 +387,9 @@ public class ChunkMessageChannelItemWriter<T>
 			}
 			localState.pushResponse(payload);
 			localState.incrementActual();
+			if (throttle != null) {
+				throttle.received(payload.getSequence(), payload.isSuccessful());
+			}
 			if (!payload.isSuccessful()) {
 				throw new AsynchronousFailureException(
 						"Failure or interrupt detected in handler: " + payload.getMessage());
@@ -0,0 +1,318 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.integration.chunk;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.step.StepContribution;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.core.serializer.DefaultDeserializer;
+import org.springframework.core.serializer.DefaultSerializer;
+import org.springframework.core.serializer.Deserializer;
+import org.springframework.core.serializer.Serializer;
+import org.springframework.util.Assert;
+
+/**
+ * Compact binary codec for {@link ChunkRequest} and {@link ChunkResponse} messages
+ * exchanged between the manager and the workers of a remote chunking step.
+ * <p>
+ * Instead of serializing the {@link StepContribution} of a request along with the whole
+ * {@link StepExecution} / {@link JobExecution} object graph it refers to, requests only
+ * carry the sequence number, the ids and names of the step execution, its job execution
+ * and job instance, the skip counts of the step execution (used by workers to enforce
+ * skip limits) and the items. Responses only carry the counters of the contribution. The
+ * step execution of a decoded contribution is a detached instance holding these values.
+ * <p>
+ * Items are encoded with a pluggable {@link Serializer} and {@link Deserializer}, for
+ * example based on Jackson or Avro, and default to Java serialization. Only the items of
+ * a chunk are encoded, skipped items recorded in the chunk are not sent to workers.
+ *
+ * @since 6.1
+ * @param <T> the type of the items
+ */
+public class ChunkMessageCodec<T> {
+
+	private static final int FORMAT_VERSION = 1;
+
+	private static final byte REQUEST = 1;
+
+	private static final byte RESPONSE = 2;
+
+	private static final int SUCCESSFUL = 1;
+
+	private static final int REDELIVERED = 2;
+
+	private static final int HAS_MESSAGE = 4;
+
+	private final Serializer<T> itemSerializer;
+
+	private final Deserializer<T> itemDeserializer;
+
+	/**
+	 * Create a new codec encoding items with Java serialization.
+	 */
+	@SuppressWarnings("unchecked")
+	public ChunkMessageCodec() {
+		this((Serializer<T>) new DefaultSerializer(), (Deserializer<T>) new DefaultDeserializer());
+	}
+
+	/**
+	 * Create a new codec encoding items with the given serializer and deserializer.
+	 * @param itemSerializer the serializer of the items, must not be null
+	 * @param itemDeserializer the deserializer of the items, must not be null
+	 */
+	public ChunkMessageCodec(Serializer<T> itemSerializer, Deserializer<T> itemDeserializer) {
+		Assert.notNull(itemSerializer, "itemSerializer must not be null");
+		Assert.notNull(itemDeserializer, "itemDeserializer must not be null");
+		this.itemSerializer = itemSerializer;
+		this.itemDeserializer = itemDeserializer;
+	}
+
+	/**
+	 * Encode a chunk request.
+	 * @param request the request to encode
+	 * @return the encoded request
+	 */
+	public byte[] encodeRequest(ChunkRequest<T> request) {
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+			DataOutputStream out = new DataOutputStream(bytes);
+			writeHeader(out, REQUEST);
+			writeVarLong(out, request.getSequence());
+			writeVarLong(out, request.getJobInstanceId());
+			StepExecution stepExecution = request.getStepContribution().getStepExecution();
+			writeStepExecution(out, stepExecution);
+			writeVarLong(out, stepExecution.getReadSkipCount());
+			writeVarLong(out, stepExecution.getProcessSkipCount());
+			writeVarLong(out, stepExecution.getWriteSkipCount());
+			List<? extends T> items = request.getItems().getItems();
+			writeVarLong(out, items.size());
+			ByteArrayOutputStream item = new ByteArrayOutputStream(64);
+			for (T value : items) {
+				item.reset();
+				this.itemSerializer.serialize(value, item);
+				writeVarLong(out, item.size());
+				item.writeTo(out);
+			}
+			out.flush();
+			return bytes.toByteArray();
+		}
+		catch (IOException e) {
+			throw new IllegalArgumentException("Could not encode chunk request: " + request, e);
+		}
+	}
+
+	/**
+	 * Decode a chunk request encoded with {@link #encodeRequest(ChunkRequest)}.
+	 * @param bytes the encoded request
+	 * @return the decoded request
+	 */
+	public ChunkRequest<T> decodeRequest(byte[] bytes) {
+		try {
+			DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+			readHeader(in, REQUEST);
+			int sequence = (int) readVarLong(in);
+			long jobId = readVarLong(in);
+			StepExecution stepExecution = readStepExecution(in);
+			stepExecution.setReadSkipCount(readVarLong(in));
+			stepExecution.setProcessSkipCount(readVarLong(in));
+			stepExecution.setWriteSkipCount(readVarLong(in));
+			int size = readLength(in);
+			List<T> items = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				byte[] item = new byte[readLength(in)];
+				in.readFully(item);
+				items.add(this.itemDeserializer.deserialize(new ByteArrayInputStream(item)));
+			}
+			return new ChunkRequest<>(sequence, new Chunk<>(items), jobId, new StepContribution(stepExecution));
+		}
+		catch (IOException e) {
+			throw new IllegalArgumentException("Could not decode chunk request", e);
+		}
+	}
+
+	/**
+	 * Encode a chunk response.
+	 * @param response the response to encode
+	 * @return the encoded response
+	 */
+	public byte[] encodeResponse(ChunkResponse response) {
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+			DataOutputStream out = new DataOutputStream(bytes);
+			writeHeader(out, RESPONSE);
+			String message = response.getMessage();
+			int flags = (response.isSuccessful() ? SUCCESSFUL : 0) | (response.isRedelivered() ? REDELIVERED : 0)
+					| (message != null ? HAS_MESSAGE : 0);
+			out.writeByte(flags);
+			writeVarLong(out, response.getSequence());
+			writeVarLong(out, response.getJobInstanceId());
+			StepContribution contribution = response.getStepContribution();
+			writeStepExecution(out, contribution.getStepExecution());
+			writeVarLong(out, contribution.getReadCount());
+			writeVarLong(out, contribution.getWriteCount());
+			writeVarLong(out, contribution.getFilterCount());
+			writeVarLong(out, contribution.getReadSkipCount());
+			writeVarLong(out, contribution.getProcessSkipCount());
+			writeVarLong(out, contribution.getWriteSkipCount());
+			writeString(out, contribution.getExitStatus().getExitCode());
+			writeString(out, contribution.getExitStatus().getExitDescription());
+			if (message != null) {
+				writeString(out, message);
+			}
+			out.flush();
+			return bytes.toByteArray();
+		}
+		catch (IOException e) {
+			throw new IllegalArgumentException("Could not encode chunk response: " + response, e);
+		}
+	}
+
+	/**
+	 * Decode a chunk response encoded with {@link #encodeResponse(ChunkResponse)}.
+	 * @param bytes the encoded response
+	 * @return the decoded response
+	 */
+	public ChunkResponse decodeResponse(byte[] bytes) {
+		try {
+			DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+			readHeader(in, RESPONSE);
+			int flags = in.readUnsignedByte();
+			int sequence = (int) readVarLong(in);
+			long jobId = readVarLong(in);
+			StepContribution contribution = new StepContribution(readStepExecution(in));
+			contribution.incrementReadCount(readVarLong(in));
+			contribution.incrementWriteCount(readVarLong(in));
+			contribution.incrementFilterCount(readVarLong(in));
+			contribution.incrementReadSkipCount(readVarLong(in));
+			contribution.incrementProcessSkipCount(readVarLong(in));
+			contribution.incrementWriteSkipCount(readVarLong(in));
+			contribution.setExitStatus(new ExitStatus(readString(in), readString(in)));
+			@Nullable String message = (flags & HAS_MESSAGE) != 0 ? readString(in) : null;
+			return new ChunkResponse((flags & SUCCESSFUL) != 0, sequence, jobId, contribution, message,
+					(flags & REDELIVERED) != 0);
+		}
+		catch (IOException e) {
+			throw new IllegalArgumentException("Could not decode chunk response", e);
+		}
+	}
+
+	private static void writeHeader(DataOutputStream out, byte type) throws IOException {
+		out.writeByte(FORMAT_VERSION);
+		out.writeByte(type);
+	}
+
+	private static void readHeader(DataInputStream in, byte type) throws IOException {
+		int version = in.readUnsignedByte();
+		if (version != FORMAT_VERSION) {
+			throw new IOException("Unsupported chunk message format version: " + version);
+		}
+		byte actualType = in.readByte();
+		if (actualType != type) {
+			throw new IOException("Unexpected chunk message type: " + actualType);
+		}
+	}
+
+	private static void writeStepExecution(DataOutputStream out, StepExecution stepExecution) throws IOException {
+		JobExecution jobExecution = stepExecution.getJobExecution();
+		JobInstance jobInstance = jobExecution.getJobInstance();
+		writeVarLong(out, stepExecution.getId());
+		writeString(out, stepExecution.getStepName());
+		writeVarLong(out, jobExecution.getId());
+		writeVarLong(out, jobInstance.getInstanceId());
+		writeString(out, jobInstance.getJobName());
+	}
+
+	/*
+	 * The step execution is detached: it is not associated with the job parameters nor
+	 * the execution contexts of the original one.
+	 */
+	private static StepExecution readStepExecution(DataInputStream in) throws IOException {
+		long stepExecutionId = readVarLong(in);
+		String stepName = readString(in);
+		long jobExecutionId = readVarLong(in);
+		long jobInstanceId = readVarLong(in);
+		String jobName = readString(in);
+		JobExecution jobExecution = new JobExecution(jobExecutionId, new JobInstance(jobInstanceId, jobName),
+				new JobParameters());
+		return new StepExecution(stepExecutionId, stepName, jobExecution);
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarLong(out, bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[readLength(in)];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/*
+	 * Lengths (and item counts, each item taking at least one byte) are checked against
+	 * the remaining content, so that a corrupted message does not allocate arbitrarily
+	 * large arrays.
+	 */
+	private static int readLength(DataInputStream in) throws IOException {
+		long length = readVarLong(in);
+		if (length < 0 || length > in.available()) {
+			throw new IllegalArgumentException("Invalid length in chunk message: " + length);
+		}
+		return (int) length;
+	}
+
+	/*
+	 * Numbers are zig-zag encoded variable length integers, so that small values (which
+	 * is the case of most counters) take a single byte.
+	 */
+	private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+		long zigZag = (value << 1) ^ (value >> 63);
+		while ((zigZag & ~0x7FL) != 0) {
+			out.writeByte((int) ((zigZag & 0x7F) | 0x80));
+			zigZag >>>= 7;
+		}
+		out.writeByte((int) zigZag);
+	}
+
+	private static long readVarLong(DataInputStream in) throws IOException {
+		long zigZag = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int b = in.readUnsignedByte();
+			zigZag |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return (zigZag >>> 1) ^ -(zigZag & 1);
+			}
+		}
+		throw new IOException("Malformed variable length number");
+	}
+
+}
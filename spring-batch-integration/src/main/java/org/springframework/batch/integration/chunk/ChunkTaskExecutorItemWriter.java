@@ -25,18 +25,18 @@ import org.springframework.batch.core.step.item.ChunkProcessor;
 import org.springframework.batch.infrastructure.item.Chunk;
 import org.springframework.batch.infrastructure.item.ItemWriter;
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.util.Assert;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Similar to {@code ChunkMessageChannelItemWriter}, this item writer submits chunk
@@ -44,14 +44,23 @@ import org.apache.commons.logging.LogFactory;
  * message channel to remote workers.
  *
  * <p>
- * The aggregation of worker contributions is done in the {@code afterStep} method, which
- * waits for all worker responses and updates the step execution accordingly. If any
+ * The number of chunks submitted to the task executor and not yet completed can be
+ * bounded with {@link #setMaxInFlight(int)}, in which case {@code write} blocks until a
+ * worker completes a chunk. Worker responses are collected as they complete, each time a
+ * chunk is written, and {@code write} fails with an {@link AsynchronousFailureException}
+ * as soon as a failed chunk is detected.
+ *
+ * <p>
+ * The write and write skip counts of worker contributions are added to the step execution
+ * as responses are collected, and its commit count (resp. rollback count) is incremented
+ * for each successful (resp. failed) worker contribution, so that the progress of workers
+ * is visible while the step is running. Since the driving step also counts the chunks it
+ * hands off to this writer, the {@code afterStep} method waits for all remaining worker
+ * responses and then sets these counts to the totals of worker contributions. If any
  * worker response indicates a failure, the step execution is marked as failed and the
- * exception is added to the step execution's failure exceptions. Otherwise, the step
- * execution is marked as completed and the write counts and skip counts from all worker
- * contributions are aggregated into the step execution's write count and write skip
- * count. The commit count is also incremented for each successful worker contribution,
- * while the rollback count is incremented for each failed worker contribution.
+ * exception is added to the step execution's failure exceptions. Once a failure is
+ * detected, chunks that have not started yet are not processed, and {@code afterStep}
+ * still waits for the chunks in flight before returning.
  *
  * <p>
  * It should be noted that transaction management of the chunk as well as fault tolerance
@@ -79,7 +88,27 @@ public class ChunkTaskExecutorItemWriter<T> implements ItemWriter<T>, StepExecut
 
 	private final ChunkProcessorChunkRequestHandler<T> chunkProcessorChunkHandler = new ChunkProcessorChunkRequestHandler<>();
 
-	private final Set<Future<ChunkResponse>> responses = new HashSet<>();
+	private final BlockingQueue<Future<ChunkResponse>> completedResponses = new LinkedBlockingQueue<>();
+
+	private @Nullable ExecutionException failure;
+
+	private @Nullable ExitStatus failedExitStatus;
+
+	private volatile boolean aborted;
+
+	private long writeCount;
+
+	private long writeSkipCount;
+
+	private long commitCount;
+
+	private long rollbackCount;
+
+	private int maxInFlight = Integer.MAX_VALUE;
+
+	private int submitted;
+
+	private int harvested;
 
 	/**
 	 * Create a new {@link ChunkTaskExecutorItemWriter}.
@@ -91,62 +120,116 @@ public class ChunkTaskExecutorItemWriter<T> implements ItemWriter<T>, StepExecut
 		this.chunkProcessorChunkHandler.setChunkProcessor(chunkRequestProcessor);
 	}
 
+	/**
+	 * Set the maximum number of chunks submitted to the task executor and not yet
+	 * completed. When this number is reached, {@code write} blocks until a worker
+	 * completes a chunk. Defaults to {@link Integer#MAX_VALUE} (no limit).
+	 * @param maxInFlight the maximum number of chunks in flight, must be greater than
+	 * zero
+	 * @since 6.1
+	 */
+	public void setMaxInFlight(int maxInFlight) {
+		Assert.isTrue(maxInFlight > 0, "maxInFlight must be greater than zero");
+		this.maxInFlight = maxInFlight;
+	}
+
 	@Override
-	public void write(Chunk<? extends T> chunk) {
+	public void write(Chunk<? extends T> chunk) throws Exception {
+		harvest(false);
+		while (this.submitted - this.harvested >= this.maxInFlight) {
+			harvest(true);
+		}
 		ChunkRequest<T> request = new ChunkRequest<>(++sequence, chunk, this.stepExecution.getJobExecutionId(),
 				this.stepExecution.createStepContribution());
-		FutureTask<ChunkResponse> chunkResponseFutureTask = new FutureTask<>(() -> {
+		Callable<ChunkResponse> chunkHandler = () -> {
+			if (this.aborted) {
+				throw new ChunkNotProcessedException(
+						"Chunk " + request.getSequence() + " not processed as a previous chunk failed");
+			}
 			try {
 				StepSynchronizationManager.register(this.stepExecution);
-				return this.chunkProcessorChunkHandler.handle(request);
+				ChunkResponse response = this.chunkProcessorChunkHandler.handle(request);
+				if (isFailed(response)) {
+					this.aborted = true;
+				}
+				return response;
+			}
+			catch (Exception e) {
+				this.aborted = true;
+				throw e;
 			}
 			finally {
 				StepSynchronizationManager.close();
 			}
-		});
-		this.responses.add(chunkResponseFutureTask);
+		};
+		FutureTask<ChunkResponse> chunkResponseFutureTask = new FutureTask<>(chunkHandler) {
+			@Override
+			protected void done() {
+				completedResponses.add(this);
+			}
+		};
 		this.taskExecutor.execute(chunkResponseFutureTask);
+		this.submitted++;
 	}
 
 	@Override
 	public void beforeStep(StepExecution stepExecution) {
 		this.stepExecution = stepExecution;
+		this.completedResponses.clear();
+		this.failure = null;
+		this.failedExitStatus = null;
+		this.aborted = false;
+		this.submitted = 0;
+		this.harvested = 0;
+		this.writeCount = 0;
+		this.writeSkipCount = 0;
+		this.commitCount = 0;
+		this.rollbackCount = 0;
 	}
 
 	@Override
 	public ExitStatus afterStep(StepExecution stepExecution) {
+		InterruptedException interruption = null;
 		try {
-			ExitStatus result = ExitStatus.COMPLETED
-				.addExitDescription("Waited for " + this.responses.size() + " results.");
-			resetCounter(stepExecution);
-			for (StepContribution contribution : getStepContributions()) {
-				// only write counts and skip counts are aggregated here
-				// read counts and process/filter counts are managed by the driving step
-				stepExecution.setWriteCount(stepExecution.getWriteCount() + contribution.getWriteCount());
-				stepExecution.setWriteSkipCount(stepExecution.getWriteSkipCount() + contribution.getWriteSkipCount());
-				ExitStatus exitStatus = contribution.getExitStatus();
-				if (ExitStatus.FAILED.getExitCode().equals(exitStatus.getExitCode())) {
-					logger.error("Chunk processing failed for contribution: " + contribution
-							+ ", marking step execution as failed.");
-					result = exitStatus;
-					Throwable exitException = exitStatus.getExitException();
-					if (exitException != null) {
-						stepExecution.addFailureException(exitException);
-					}
-					stepExecution.setStatus(BatchStatus.FAILED);
-					stepExecution.incrementRollbackCount();
+			// wait for chunks in flight, even after a failure, so that no worker is still
+			// writing once the step execution is marked as failed
+			while (this.harvested < this.submitted) {
+				try {
+					collect(this.completedResponses.take());
 				}
-				else {
-					stepExecution.incrementCommitCount();
+				catch (ExecutionException e) {
+					// recorded as the failure of the step, keep waiting for the others
 				}
 			}
-			return result;
 		}
-		catch (ExecutionException | InterruptedException e) {
+		catch (InterruptedException e) {
+			this.aborted = true;
+			interruption = e;
+		}
+		resetCounter(stepExecution);
+		// only write counts and skip counts are aggregated here
+		// read counts and process/filter counts are managed by the driving step
+		stepExecution.setWriteCount(this.writeCount);
+		stepExecution.setWriteSkipCount(this.writeSkipCount);
+		stepExecution.setCommitCount(this.commitCount);
+		stepExecution.setRollbackCount(this.rollbackCount);
+		if (interruption != null) {
+			stepExecution.setStatus(BatchStatus.FAILED);
+			stepExecution.addFailureException(interruption);
+			return ExitStatus.FAILED.addExitDescription(interruption);
+		}
+		ExitStatus failedExitStatus = this.failedExitStatus;
+		if (failedExitStatus != null) {
+			stepExecution.setStatus(BatchStatus.FAILED);
+			return failedExitStatus;
+		}
+		ExecutionException failure = this.failure;
+		if (failure != null) {
 			stepExecution.setStatus(BatchStatus.FAILED);
-			stepExecution.addFailureException(e);
-			return ExitStatus.FAILED.addExitDescription(e);
+			stepExecution.addFailureException(failure);
+			return ExitStatus.FAILED.addExitDescription(failure);
 		}
+		return ExitStatus.COMPLETED.addExitDescription("Waited for " + this.submitted + " results.");
 	}
 
 	/**
@@ -163,12 +246,94 @@ public class ChunkTaskExecutorItemWriter<T> implements ItemWriter<T>, StepExecut
 		stepExecution.setRollbackCount(0);
 	}
 
-	private Collection<StepContribution> getStepContributions() throws ExecutionException, InterruptedException {
-		List<StepContribution> contributions = new ArrayList<>();
-		for (Future<ChunkResponse> task : this.responses) {
-			contributions.add(task.get().getStepContribution());
+	/**
+	 * Collect the responses of completed chunks.
+	 * @param wait whether to wait for a chunk to complete if none is completed yet
+	 * @throws AsynchronousFailureException if a completed chunk failed
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	private void harvest(boolean wait) throws InterruptedException {
+		Future<ChunkResponse> task = wait ? this.completedResponses.take() : this.completedResponses.poll();
+		while (task != null) {
+			ChunkResponse response;
+			try {
+				response = collect(task);
+			}
+			catch (ExecutionException e) {
+				throw new AsynchronousFailureException("Exception in chunk processing", e);
+			}
+			if (isFailed(response)) {
+				this.aborted = true;
+				throw new AsynchronousFailureException("Failure detected in chunk processing: " + response);
+			}
+			task = this.completedResponses.poll();
+		}
+	}
+
+	/**
+	 * Add the contribution of a completed chunk to the step execution and to the running
+	 * totals. Once a chunk failed, chunks that have not started yet are not processed
+	 * anymore.
+	 * @param task the completed chunk processing task
+	 * @return the response of the chunk
+	 * @throws ExecutionException if the chunk processing task failed
+	 */
+	private ChunkResponse collect(Future<ChunkResponse> task) throws ExecutionException, InterruptedException {
+		this.harvested++;
+		ChunkResponse response;
+		try {
+			response = task.get();
+		}
+		catch (ExecutionException e) {
+			this.aborted = true;
+			// chunks not processed because of a previous failure are not the cause of
+			// the failure of the step
+			if (this.failure == null && !(e.getCause() instanceof ChunkNotProcessedException)) {
+				this.failure = e;
+			}
+			throw e;
+		}
+		StepContribution contribution = response.getStepContribution();
+		this.writeCount += contribution.getWriteCount();
+		this.writeSkipCount += contribution.getWriteSkipCount();
+		this.stepExecution.setWriteCount(this.stepExecution.getWriteCount() + contribution.getWriteCount());
+		this.stepExecution.setWriteSkipCount(this.stepExecution.getWriteSkipCount() + contribution.getWriteSkipCount());
+		ExitStatus exitStatus = contribution.getExitStatus();
+		boolean failedExit = ExitStatus.FAILED.getExitCode().equals(exitStatus.getExitCode());
+		if (failedExit || !response.isSuccessful()) {
+			logger.error("Chunk processing failed for contribution: " + contribution
+					+ ", marking step execution as failed.");
+			this.aborted = true;
+			this.failedExitStatus = failedExit ? exitStatus
+					: ExitStatus.FAILED.addExitDescription(String.valueOf(response.getMessage()));
+			Throwable exitException = exitStatus.getExitException();
+			if (exitException != null) {
+				this.stepExecution.addFailureException(exitException);
+			}
+			this.rollbackCount++;
+			this.stepExecution.incrementRollbackCount();
+		}
+		else {
+			this.commitCount++;
+			this.stepExecution.incrementCommitCount();
 		}
-		return contributions;
+		return response;
+	}
+
+	private static boolean isFailed(ChunkResponse response) {
+		return !response.isSuccessful()
+				|| ExitStatus.FAILED.getExitCode().equals(response.getStepContribution().getExitStatus().getExitCode());
+	}
+
+	/**
+	 * Thrown by chunks that are not processed because a previous chunk failed.
+	 */
+	private static final class ChunkNotProcessedException extends IllegalStateException {
+
+		ChunkNotProcessedException(String message) {
+			super(message);
+		}
+
 	}
 
 }
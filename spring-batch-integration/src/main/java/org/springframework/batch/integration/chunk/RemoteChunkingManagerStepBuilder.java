@@ -15,6 +15,7 @@
  */
 package org.springframework.batch.integration.chunk;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.jspecify.annotations.NullUnmarked;
 
 import org.springframework.batch.core.listener.ChunkListener;
@@ -85,6 +86,14 @@ public class RemoteChunkingManagerStepBuilder<I, O> extends FaultTolerantStepBui
 
 	private long throttleLimit = DEFAULT_THROTTLE_LIMIT;
 
+	private ChunkMessageCodec<O> messageCodec;
+
+	private boolean adaptiveThrottling;
+
+	private long minThrottleLimit = 1;
+
+	private MeterRegistry meterRegistry;
+
 	/**
 	 * Create a new {@link RemoteChunkingManagerStepBuilder}.
 	 * @param stepName name of the manager step
@@ -177,6 +186,49 @@ public class RemoteChunkingManagerStepBuilder<I, O> extends FaultTolerantStepBui
 		return this;
 	}
 
+	/**
+	 * Set the codec used to encode the requests sent to workers and to decode their
+	 * replies. Workers must be configured with a compatible codec.
+	 * @param messageCodec the codec to use
+	 * @return this builder instance for fluent chaining
+	 * @since 6.1
+	 * @see ChunkMessageChannelItemWriter#setMessageCodec(ChunkMessageCodec)
+	 */
+	public RemoteChunkingManagerStepBuilder<I, O> messageCodec(ChunkMessageCodec<O> messageCodec) {
+		Assert.notNull(messageCodec, "messageCodec must not be null");
+		this.messageCodec = messageCodec;
+		return this;
+	}
+
+	/**
+	 * Adjust the throttle limit automatically to the round trip latency of chunks,
+	 * between the given minimum and the {@link #throttleLimit(long) throttle limit}.
+	 * @param minThrottleLimit the minimum throttle limit
+	 * @return this builder instance for fluent chaining
+	 * @since 6.1
+	 * @see ChunkMessageChannelItemWriter#setAdaptiveThrottling(boolean)
+	 */
+	public RemoteChunkingManagerStepBuilder<I, O> adaptiveThrottling(long minThrottleLimit) {
+		Assert.isTrue(minThrottleLimit > 0, "minThrottleLimit must be greater than zero");
+		this.adaptiveThrottling = true;
+		this.minThrottleLimit = minThrottleLimit;
+		return this;
+	}
+
+	/**
+	 * Set the meter registry in which the throttling gauges of the manager are
+	 * registered.
+	 * @param meterRegistry the meter registry to use
+	 * @return this builder instance for fluent chaining
+	 * @since 6.1
+	 * @see ChunkMessageChannelItemWriter#setMeterRegistry(MeterRegistry)
+	 */
+	public RemoteChunkingManagerStepBuilder<I, O> meterRegistry(MeterRegistry meterRegistry) {
+		Assert.notNull(meterRegistry, "meterRegistry must not be null");
+		this.meterRegistry = meterRegistry;
+		return this;
+	}
+
 	/**
 	 * Build a manager {@link TaskletStep}.
 	 * @return the configured manager step
@@ -203,6 +255,14 @@ public class RemoteChunkingManagerStepBuilder<I, O> extends FaultTolerantStepBui
 		chunkMessageChannelItemWriter.setMaxWaitTimeouts(this.maxWaitTimeouts);
 		chunkMessageChannelItemWriter.setThrottleLimit(this.throttleLimit);
 		chunkMessageChannelItemWriter.setReplyChannel(this.inputChannel);
+		if (this.messageCodec != null) {
+			chunkMessageChannelItemWriter.setMessageCodec(this.messageCodec);
+		}
+		chunkMessageChannelItemWriter.setAdaptiveThrottling(this.adaptiveThrottling);
+		chunkMessageChannelItemWriter.setMinThrottleLimit(this.minThrottleLimit);
+		if (this.meterRegistry != null) {
+			chunkMessageChannelItemWriter.setMeterRegistry(this.meterRegistry);
+		}
 		super.writer(chunkMessageChannelItemWriter);
 
 		return super.build();
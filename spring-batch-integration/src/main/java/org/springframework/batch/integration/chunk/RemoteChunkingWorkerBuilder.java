@@ -56,6 +56,8 @@ public class RemoteChunkingWorkerBuilder<I, O> {
 
 	private MessageChannel outputChannel;
 
+	private ChunkMessageCodec<I> messageCodec;
+
 	/**
 	 * Set the {@link ItemProcessor} to use to process items sent by the manager step.
 	 * @param itemProcessor to use
@@ -100,6 +102,20 @@ public class RemoteChunkingWorkerBuilder<I, O> {
 		return this;
 	}
 
+	/**
+	 * Set the codec used to decode the requests received from the manager and to encode
+	 * the replies. It must be compatible with the one configured on the manager step.
+	 * @param messageCodec the codec to use
+	 * @return this builder instance for fluent chaining
+	 * @since 6.1
+	 * @see ChunkMessageChannelItemWriter#setMessageCodec(ChunkMessageCodec)
+	 */
+	public RemoteChunkingWorkerBuilder<I, O> messageCodec(ChunkMessageCodec<I> messageCodec) {
+		Assert.notNull(messageCodec, "messageCodec must not be null");
+		this.messageCodec = messageCodec;
+		return this;
+	}
+
 	/**
 	 * Create an {@link IntegrationFlow} with a {@link ChunkProcessorChunkRequestHandler}
 	 * configured as a service activator listening to the input channel and replying on
@@ -120,6 +136,15 @@ public class RemoteChunkingWorkerBuilder<I, O> {
 		ChunkProcessorChunkRequestHandler<I> chunkProcessorChunkRequestHandler = new ChunkProcessorChunkRequestHandler<>();
 		chunkProcessorChunkRequestHandler.setChunkProcessor(chunkProcessor);
 
+		if (this.messageCodec != null) {
+			return IntegrationFlow.from(this.inputChannel)
+				.transform(byte[].class, this.messageCodec::decodeRequest)
+				.handle(chunkProcessorChunkRequestHandler, SERVICE_ACTIVATOR_METHOD_NAME)
+				.transform(ChunkResponse.class, this.messageCodec::encodeResponse)
+				.channel(this.outputChannel)
+				.get();
+		}
+
 		return IntegrationFlow.from(this.inputChannel)
 			.handle(chunkProcessorChunkRequestHandler, SERVICE_ACTIVATOR_METHOD_NAME)
 			.channel(this.outputChannel)
@@ -18,15 +18,15 @@ package org.springframework.batch.integration.partition;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.Callable;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.step.Step;
 import org.springframework.batch.core.step.StepExecution;
@@ -34,8 +34,6 @@ import org.springframework.batch.core.partition.PartitionHandler;
 import org.springframework.batch.core.partition.StepExecutionSplitter;
 import org.springframework.batch.core.partition.support.AbstractPartitionHandler;
 import org.springframework.batch.core.repository.JobRepository;
-import org.springframework.batch.infrastructure.poller.DirectPoller;
-import org.springframework.batch.infrastructure.poller.Poller;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.integration.MessageTimeoutException;
 import org.springframework.integration.annotation.Aggregator;
@@ -71,6 +69,14 @@ import org.springframework.util.CollectionUtils;
  * independently within the job repository, we can poll the store to determine the state
  * without the need of the workers to formally respond.</li>
  * </ul>
+ * When polling the job repository, only the statuses of the partitions that are still
+ * running are queried. The poll interval starts at the
+ * {@link #setInitialPollInterval(long) initial poll interval} and doubles up to the
+ * {@link #setPollInterval(long) poll interval} while no partition finishes. If workers
+ * send their replies to a {@link #setCompletionNotificationChannel(PollableChannel)
+ * completion notification channel}, the repository is polled as soon as a reply is
+ * received instead of waiting for the end of the interval.
+ * <p>
  *
  * Note: The reply channel for this is instance based. Sharing this component across
  * multiple step instances may result in the crossing of messages. It's recommended that
@@ -94,6 +100,10 @@ public class MessageChannelPartitionHandler extends AbstractPartitionHandler imp
 
 	private long pollInterval = 10000;
 
+	private long initialPollInterval = 100;
+
+	private PollableChannel completionNotificationChannel;
+
 	private JobRepository jobRepository;
 
 	private boolean pollRepositoryForResults;
@@ -143,13 +153,42 @@ public class MessageChannelPartitionHandler extends AbstractPartitionHandler imp
 	}
 
 	/**
-	 * How often to poll the job repository for the status of the workers.
+	 * How often to poll the job repository for the status of the workers. This is the
+	 * maximum interval between two polls, see {@link #setInitialPollInterval(long)}.
 	 * @param pollInterval milliseconds between polls, defaults to 10000 (10 seconds).
 	 */
 	public void setPollInterval(long pollInterval) {
 		this.pollInterval = pollInterval;
 	}
 
+	/**
+	 * The interval between the first polls of the job repository for the status of the
+	 * workers. The interval doubles after each poll that does not find any newly finished
+	 * partition, up to the {@link #setPollInterval(long) poll interval}, and goes back to
+	 * this value as soon as a partition finishes. Set it to the same value as the poll
+	 * interval to poll at a fixed rate.
+	 * @param initialPollInterval milliseconds between the first polls, defaults to 100.
+	 * @since 6.1
+	 */
+	public void setInitialPollInterval(long initialPollInterval) {
+		Assert.isTrue(initialPollInterval > 0, "The initial poll interval must be greater than zero");
+		this.initialPollInterval = initialPollInterval;
+	}
+
+	/**
+	 * A channel on which workers send a message when they finish a partition, typically
+	 * their {@link StepExecution} replies. When using job repository polling, messages
+	 * received on this channel trigger an immediate poll of the job repository, so that
+	 * the end of the partitions is detected without waiting for the end of the poll
+	 * interval. The content of the messages is ignored, the job repository remains the
+	 * source of truth for the status of the partitions.
+	 * @param completionNotificationChannel the channel to receive notifications from
+	 * @since 6.1
+	 */
+	public void setCompletionNotificationChannel(PollableChannel completionNotificationChannel) {
+		this.completionNotificationChannel = completionNotificationChannel;
+	}
+
 	/**
 	 * A pre-configured gateway for sending and receiving messages to the remote workers.
 	 * Using this property allows a large degree of control over the timeouts and other
@@ -233,35 +272,58 @@ public class MessageChannelPartitionHandler extends AbstractPartitionHandler imp
 	private Set<StepExecution> pollReplies(StepExecution managerStepExecution, final Set<StepExecution> split)
 			throws Exception {
 		Set<Long> partitionStepExecutionIds = split.stream().map(StepExecution::getId).collect(Collectors.toSet());
-
-		Callable<Set<StepExecution>> callback = () -> {
-			JobExecution jobExecution = jobRepository.getJobExecution(managerStepExecution.getJobExecutionId());
-			Set<StepExecution> finishedStepExecutions = jobExecution.getStepExecutions()
-				.stream()
-				.filter(stepExecution -> partitionStepExecutionIds.contains(stepExecution.getId()))
-				.filter(stepExecution -> !stepExecution.getStatus().isRunning())
-				.collect(Collectors.toSet());
+		Set<Long> runningStepExecutionIds = new HashSet<>(partitionStepExecutionIds);
+
+		long startTime = System.currentTimeMillis();
+		long interval = Math.min(initialPollInterval, pollInterval);
+		while (true) {
+			// only the statuses of the partitions that are still running are queried
+			Map<Long, BatchStatus> statuses = jobRepository.getStepExecutionStatuses(runningStepExecutionIds);
+			boolean progress = runningStepExecutionIds.removeIf(id -> {
+				BatchStatus status = statuses.get(id);
+				return status != null && !status.isRunning();
+			});
+			if (runningStepExecutionIds.isEmpty()) {
+				break;
+			}
 
 			if (logger.isDebugEnabled()) {
-				logger.debug(String.format("Currently waiting on %s partitions to finish", split.size()));
+				logger.debug(
+						String.format("Currently waiting on %s partitions to finish", runningStepExecutionIds.size()));
 			}
 
-			if (finishedStepExecutions.size() == split.size()) {
-				return finishedStepExecutions;
+			interval = progress ? Math.min(initialPollInterval, pollInterval) : Math.min(interval * 2, pollInterval);
+			long waitTime = interval;
+			if (timeout >= 0) {
+				long remainingTime = startTime + timeout - System.currentTimeMillis();
+				if (remainingTime <= 0) {
+					throw new TimeoutException(
+							"Timed out waiting for " + runningStepExecutionIds.size() + " partitions to finish");
+				}
+				waitTime = Math.min(waitTime, remainingTime);
 			}
-			else {
-				return null;
-			}
-		};
+			awaitCompletionNotification(waitTime);
+		}
 
-		Poller<Set<StepExecution>> poller = new DirectPoller<>(pollInterval);
-		Future<Set<StepExecution>> resultsFuture = poller.poll(callback);
+		// all partitions are finished, load them once with their execution contexts
+		JobExecution jobExecution = jobRepository.getJobExecution(managerStepExecution.getJobExecutionId());
+		Assert.state(jobExecution != null,
+				"Job execution with id " + managerStepExecution.getJobExecutionId() + " not found");
+		return jobExecution.getStepExecutions()
+			.stream()
+			.filter(stepExecution -> partitionStepExecutionIds.contains(stepExecution.getId()))
+			.collect(Collectors.toSet());
+	}
 
-		if (timeout >= 0) {
-			return resultsFuture.get(timeout, TimeUnit.MILLISECONDS);
+	private void awaitCompletionNotification(long waitTime) throws InterruptedException {
+		if (completionNotificationChannel == null) {
+			Thread.sleep(waitTime);
+			return;
 		}
-		else {
-			return resultsFuture.get();
+		// drain pending notifications, a single poll covers all of them
+		Message<?> notification = completionNotificationChannel.receive(waitTime);
+		while (notification != null) {
+			notification = completionNotificationChannel.receive(0);
 		}
 	}
 
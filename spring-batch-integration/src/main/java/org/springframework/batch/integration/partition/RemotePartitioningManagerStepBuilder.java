@@ -61,6 +61,8 @@ public class RemotePartitioningManagerStepBuilder extends PartitionStepBuilder {
 
 	private static final long DEFAULT_POLL_INTERVAL = 10000L;
 
+	private static final long DEFAULT_INITIAL_POLL_INTERVAL = 100L;
+
 	private static final long DEFAULT_TIMEOUT = -1L;
 
 	private MessagingTemplate messagingTemplate;
@@ -73,6 +75,10 @@ public class RemotePartitioningManagerStepBuilder extends PartitionStepBuilder {
 
 	private long pollInterval = DEFAULT_POLL_INTERVAL;
 
+	private long initialPollInterval = DEFAULT_INITIAL_POLL_INTERVAL;
+
+	private PollableChannel completionNotificationChannel;
+
 	private long timeout = DEFAULT_TIMEOUT;
 
 	/**
@@ -146,6 +152,35 @@ public class RemotePartitioningManagerStepBuilder extends PartitionStepBuilder {
 		return this;
 	}
 
+	/**
+	 * The interval between the first polls of the job repository for the status of the
+	 * workers. The interval doubles while no worker finishes, up to the
+	 * {@link #pollInterval(long) poll interval}. Defaults to 100 milliseconds.
+	 * @param initialPollInterval the initial poll interval value in milliseconds
+	 * @return this builder instance for fluent chaining
+	 * @since 6.1
+	 * @see MessageChannelPartitionHandler#setInitialPollInterval(long)
+	 */
+	public RemotePartitioningManagerStepBuilder initialPollInterval(long initialPollInterval) {
+		Assert.isTrue(initialPollInterval > 0, "The initial poll interval must be greater than zero");
+		this.initialPollInterval = initialPollInterval;
+		return this;
+	}
+
+	/**
+	 * When using job repository polling, a channel on which workers notify the manager
+	 * that they finished a partition, so that the job repository is polled right away.
+	 * @param completionNotificationChannel the completion notification channel
+	 * @return this builder instance for fluent chaining
+	 * @since 6.1
+	 * @see MessageChannelPartitionHandler#setCompletionNotificationChannel(PollableChannel)
+	 */
+	public RemotePartitioningManagerStepBuilder completionNotificationChannel(
+			PollableChannel completionNotificationChannel) {
+		this.completionNotificationChannel = completionNotificationChannel;
+		return this;
+	}
+
 	/**
 	 * When using job repository polling, the time limit to wait. Defaults to -1 (no
 	 * timeout).
@@ -190,6 +225,10 @@ public class RemotePartitioningManagerStepBuilder extends PartitionStepBuilder {
 		if (isPolling()) {
 			partitionHandler.setJobRepository(getJobRepository());
 			partitionHandler.setPollInterval(this.pollInterval);
+			partitionHandler.setInitialPollInterval(this.initialPollInterval);
+			if (this.completionNotificationChannel != null) {
+				partitionHandler.setCompletionNotificationChannel(this.completionNotificationChannel);
+			}
 			partitionHandler.setTimeout(this.timeout);
 		}
 		else {
@@ -16,14 +16,21 @@
 package org.springframework.batch.integration.async;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.step.StepExecution;
 import org.springframework.batch.core.scope.context.StepContext;
 import org.springframework.batch.core.scope.context.StepSynchronizationManager;
 import org.springframework.batch.infrastructure.item.ItemProcessor;
@@ -70,4 +77,173 @@ class AsyncItemProcessorTests {
 		}
 	}
 
+	@Test
+	void testBatchExecution() throws Exception {
+		// given
+		AtomicInteger tasks = new AtomicInteger();
+		processor = new AsyncItemProcessor<>(delegate);
+		processor.setTaskExecutor(task -> {
+			tasks.incrementAndGet();
+			task.run();
+		});
+		processor.setBatchSize(3);
+
+		// when
+		List<Future<String>> list = new ArrayList<>();
+		for (int count = 0; count < 7; count++) {
+			list.add(processor.process("foo" + count));
+		}
+
+		// then
+		assertEquals(2, tasks.get());
+		assertTrue(list.get(5).isDone());
+		assertFalse(list.get(6).isDone());
+		for (int count = 0; count < 7; count++) {
+			assertEquals("foo" + count + "foo" + count, list.get(count).get());
+		}
+		assertEquals(3, tasks.get());
+	}
+
+	@Test
+	void testFailureInBatch() throws Exception {
+		// given
+		processor = new AsyncItemProcessor<>(item -> {
+			if (item.equals("bad")) {
+				throw new IllegalStateException("bad item");
+			}
+			return item.equals("filtered") ? null : item + item;
+		});
+		processor.setBatchSize(3);
+
+		// when
+		Future<String> good = processor.process("foo");
+		Future<String> bad = processor.process("bad");
+		Future<String> filtered = processor.process("filtered");
+
+		// then
+		assertEquals("foofoo", good.get());
+		ExecutionException exception = assertThrows(ExecutionException.class, bad::get);
+		assertEquals("bad item", exception.getCause().getMessage());
+		assertNull(filtered.get());
+	}
+
+	@Test
+	void testMaxInFlight() throws Exception {
+		// given
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		processor = new AsyncItemProcessor<>(item -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			Thread.sleep(10);
+			running.decrementAndGet();
+			return item;
+		});
+		processor.setTaskExecutor(new SimpleAsyncTaskExecutor());
+		processor.setBatchSize(2);
+		processor.setMaxInFlight(2);
+
+		// when
+		List<Future<String>> list = new ArrayList<>();
+		for (int count = 0; count < 20; count++) {
+			list.add(processor.process("foo" + count));
+		}
+		for (int count = 0; count < 20; count++) {
+			assertEquals("foo" + count, list.get(count).get());
+		}
+
+		// then
+		assertTrue(maxRunning.get() <= 2);
+	}
+
+	@Test
+	void testMetrics() throws Exception {
+		// given
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+		processor = new AsyncItemProcessor<>(delegate);
+		processor.setBatchSize(2);
+		processor.setMeterRegistry(meterRegistry);
+		processor.beforeStep(stepExecution);
+
+		// when
+		StepSynchronizationManager.register(stepExecution);
+		Future<String> first;
+		try {
+			first = processor.process("foo");
+		}
+		finally {
+			StepSynchronizationManager.close();
+		}
+		double pendingBeforeFlush = meterRegistry.get("spring.batch.item.process.async.pending").gauge().value();
+		first.get();
+
+		// then
+		assertEquals(1, pendingBeforeFlush);
+		assertEquals(0, meterRegistry.get("spring.batch.item.process.async.pending").gauge().value());
+		Timer timer = meterRegistry.get("spring.batch.item.process.async")
+			.tag("spring.batch.item.process.async.step.name", stepExecution.getStepName())
+			.timer();
+		assertEquals(1, timer.count());
+		processor.afterStep(stepExecution);
+		assertTrue(meterRegistry.find("spring.batch.item.process.async.pending").gauges().isEmpty());
+	}
+
+	@Test
+	void testStepExecutionPerItemInBatch() throws Exception {
+		// given
+		StepExecution first = MetaDataInstanceFactory.createStepExecution("step1", 11L);
+		StepExecution second = MetaDataInstanceFactory.createStepExecution("step2", 12L);
+		processor = new AsyncItemProcessor<>(item -> item + StepSynchronizationManager.getContext().getStepName());
+		processor.setBatchSize(2);
+
+		// when
+		Future<String> firstResult = processInStep("foo", first);
+		Future<String> secondResult = processInStep("bar", second);
+
+		// then
+		assertEquals("foostep1", firstResult.get());
+		assertEquals("barstep2", secondResult.get());
+	}
+
+	@Test
+	void testMetricsPerStepExecution() throws Exception {
+		// given
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		StepExecution first = MetaDataInstanceFactory.createStepExecution("step1", 11L);
+		StepExecution second = MetaDataInstanceFactory.createStepExecution("step2", 12L);
+		processor = new AsyncItemProcessor<>(delegate);
+		processor.setBatchSize(2);
+		processor.setMeterRegistry(meterRegistry);
+		processor.beforeStep(first);
+		processor.beforeStep(second);
+
+		// when
+		Future<String> result = processInStep("foo", second);
+		processor.afterStep(first);
+
+		// then
+		assertEquals(1,
+				meterRegistry.get("spring.batch.item.process.async.pending")
+					.tag("spring.batch.item.process.async.pending.step.name", "step2")
+					.gauge()
+					.value());
+		assertTrue(meterRegistry.find("spring.batch.item.process.async.pending")
+			.tag("spring.batch.item.process.async.pending.step.name", "step1")
+			.gauges()
+			.isEmpty());
+		assertEquals("foofoo", result.get());
+		processor.afterStep(second);
+		assertTrue(meterRegistry.find("spring.batch.item.process.async.pending").gauges().isEmpty());
+	}
+
+	private Future<String> processInStep(String item, StepExecution stepExecution) throws Exception {
+		StepSynchronizationManager.register(stepExecution);
+		try {
+			return processor.process(item);
+		}
+		finally {
+			StepSynchronizationManager.close();
+		}
+	}
+
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.integration.chunk;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AdaptiveThrottleTests {
+
+	private final AtomicLong clock = new AtomicLong();
+
+	private final AdaptiveThrottle throttle = new AdaptiveThrottle(1, 10, 2.0, this.clock::get);
+
+	private int sequence;
+
+	@Test
+	void testLimitGrowsWhileLatencyIsStable() {
+		assertEquals(1, this.throttle.getLimit());
+
+		roundTrip(100, true);
+		roundTrip(100, true);
+		roundTrip(100, true);
+
+		assertEquals(4, this.throttle.getLimit());
+		assertEquals(100, this.throttle.getLatency());
+	}
+
+	@Test
+	void testLimitIsBoundedByMaximum() {
+		for (int i = 0; i < 50; i++) {
+			roundTrip(100, true);
+		}
+
+		assertEquals(10, this.throttle.getLimit());
+	}
+
+	@Test
+	void testLimitIsHalvedOnceWhenLatencyIncreases() {
+		for (int i = 0; i < 7; i++) {
+			roundTrip(100, true);
+		}
+		assertEquals(8, this.throttle.getLimit());
+
+		// chunks sent before the congestion is detected only decrease the limit once
+		this.throttle.dispatched(this.sequence++);
+		this.throttle.dispatched(this.sequence++);
+		this.clock.addAndGet(5000);
+		this.throttle.received(this.sequence - 2, true);
+		this.throttle.received(this.sequence - 1, true);
+
+		assertEquals(4, this.throttle.getLimit());
+	}
+
+	@Test
+	void testLimitIsHalvedOnFailure() {
+		for (int i = 0; i < 3; i++) {
+			roundTrip(100, true);
+		}
+
+		roundTrip(100, false);
+
+		assertEquals(2, this.throttle.getLimit());
+	}
+
+	@Test
+	void testLimitIsHalvedOnTimeout() {
+		for (int i = 0; i < 3; i++) {
+			roundTrip(100, true);
+		}
+		this.throttle.dispatched(this.sequence++);
+
+		this.throttle.timedOut();
+		this.throttle.timedOut();
+
+		assertEquals(2, this.throttle.getLimit());
+	}
+
+	@Test
+	void testLimitGrowsLinearlyAfterCongestion() {
+		for (int i = 0; i < 7; i++) {
+			roundTrip(100, true);
+		}
+		roundTrip(100, false);
+		assertEquals(4, this.throttle.getLimit());
+
+		for (int i = 0; i < 4; i++) {
+			roundTrip(100, true);
+		}
+
+		assertEquals(4, this.throttle.getLimit());
+		roundTrip(100, true);
+		assertEquals(5, this.throttle.getLimit());
+	}
+
+	private void roundTrip(long latency, boolean successful) {
+		int current = this.sequence++;
+		this.throttle.dispatched(current);
+		this.clock.addAndGet(latency);
+		this.throttle.received(current, successful);
+	}
+
+}
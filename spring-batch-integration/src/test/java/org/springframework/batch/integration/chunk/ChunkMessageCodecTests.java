@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.integration.chunk;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.step.StepContribution;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.util.SerializationUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChunkMessageCodecTests {
+
+	private final ChunkMessageCodec<String> codec = new ChunkMessageCodec<>();
+
+	@Test
+	void testRequestRoundTrip() {
+		// given
+		StepExecution stepExecution = MetaDataInstanceFactory
+			.createStepExecution(MetaDataInstanceFactory.createJobExecution("job", 7L, 8L), "step", 12L);
+		stepExecution.getExecutionContext().putString("foo", "bar");
+		stepExecution.setProcessSkipCount(2);
+		ChunkRequest<String> request = new ChunkRequest<>(3, Chunk.of("foo", "bar"), 111L,
+				stepExecution.createStepContribution());
+
+		// when
+		ChunkRequest<String> result = codec.decodeRequest(codec.encodeRequest(request));
+
+		// then
+		assertEquals(3, result.getSequence());
+		assertEquals(111L, result.getJobInstanceId());
+		assertEquals(Chunk.of("foo", "bar").getItems(), result.getItems().getItems());
+		StepContribution contribution = result.getStepContribution();
+		assertEquals(2, contribution.getStepSkipCount());
+		StepExecution decodedStepExecution = contribution.getStepExecution();
+		assertEquals(12L, decodedStepExecution.getId());
+		assertEquals("step", decodedStepExecution.getStepName());
+		assertEquals(8L, decodedStepExecution.getJobExecutionId());
+		assertEquals(7L, decodedStepExecution.getJobExecution().getJobInstance().getInstanceId());
+		assertEquals("job", decodedStepExecution.getJobExecution().getJobInstance().getJobName());
+		assertTrue(decodedStepExecution.getExecutionContext().isEmpty());
+	}
+
+	@Test
+	void testResponseRoundTrip() {
+		// given
+		StepContribution contribution = MetaDataInstanceFactory.createStepExecution().createStepContribution();
+		contribution.incrementWriteCount(5);
+		contribution.incrementFilterCount(2);
+		contribution.incrementWriteSkipCount();
+		contribution.setExitStatus(ExitStatus.COMPLETED);
+		ChunkResponse response = new ChunkResponse(true, 3, 111L, contribution);
+
+		// when
+		ChunkResponse result = codec.decodeResponse(codec.encodeResponse(response));
+
+		// then
+		assertTrue(result.isSuccessful());
+		assertFalse(result.isRedelivered());
+		assertNull(result.getMessage());
+		assertEquals(3, result.getSequence());
+		assertEquals(111L, result.getJobInstanceId());
+		StepContribution decodedContribution = result.getStepContribution();
+		assertEquals(5, decodedContribution.getWriteCount());
+		assertEquals(2, decodedContribution.getFilterCount());
+		assertEquals(1, decodedContribution.getWriteSkipCount());
+		assertEquals(ExitStatus.COMPLETED, decodedContribution.getExitStatus());
+		assertEquals(contribution.getStepExecution().getId(), decodedContribution.getStepExecution().getId());
+	}
+
+	@Test
+	void testFailedResponseRoundTrip() {
+		// given
+		StepContribution contribution = MetaDataInstanceFactory.createStepExecution().createStepContribution();
+		ChunkResponse response = new ChunkResponse(new ChunkResponse(false, 3, 111L, contribution, "failed"), true);
+
+		// when
+		ChunkResponse result = codec.decodeResponse(codec.encodeResponse(response));
+
+		// then
+		assertFalse(result.isSuccessful());
+		assertTrue(result.isRedelivered());
+		assertEquals("failed", result.getMessage());
+	}
+
+	@Test
+	void testCustomItemEncoding() {
+		// given
+		ChunkMessageCodec<String> utf8Codec = new ChunkMessageCodec<>(
+				(item, outputStream) -> outputStream.write(item.getBytes(StandardCharsets.UTF_8)),
+				inputStream -> new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+		ChunkRequest<String> request = new ChunkRequest<>(0, Chunk.of("foo", "bär"), 111L,
+				MetaDataInstanceFactory.createStepExecution().createStepContribution());
+
+		// when
+		byte[] encoded = utf8Codec.encodeRequest(request);
+		ChunkRequest<String> result = utf8Codec.decodeRequest(encoded);
+
+		// then
+		assertEquals(Chunk.of("foo", "bär").getItems(), result.getItems().getItems());
+		assertTrue(encoded.length < codec.encodeRequest(request).length);
+	}
+
+	@Test
+	void testEncodedRequestIsSmallerThanSerializedRequest() {
+		StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+		stepExecution.getExecutionContext().putString("foo", "bar");
+		ChunkRequest<String> request = new ChunkRequest<>(0, Chunk.of("foo", "bar"), 111L,
+				stepExecution.createStepContribution());
+
+		assertTrue(codec.encodeRequest(request).length < SerializationUtils.serialize(request).length);
+	}
+
+	@Test
+	void testDecodeResponseAsRequest() {
+		ChunkResponse response = new ChunkResponse(0, 111L,
+				MetaDataInstanceFactory.createStepExecution().createStepContribution());
+
+		assertThrows(IllegalArgumentException.class, () -> codec.decodeRequest(codec.encodeResponse(response)));
+	}
+
+	@Test
+	void testDecodeTruncatedRequest() {
+		ChunkRequest<String> request = new ChunkRequest<>(0, Chunk.of("foo", "bar"), 111L,
+				MetaDataInstanceFactory.createStepExecution().createStepContribution());
+		byte[] bytes = codec.encodeRequest(request);
+
+		Exception exception = assertThrows(IllegalArgumentException.class,
+				() -> codec.decodeRequest(Arrays.copyOf(bytes, bytes.length - 1)));
+		assertTrue(exception.getMessage().startsWith("Invalid length in chunk message"));
+	}
+
+	@Test
+	void testDecodeCorruptedLength() {
+		// version, type, sequence, job id, step execution id and a step name length of
+		// Integer.MAX_VALUE
+		byte[] bytes = { 1, 1, 0, 0, 0, (byte) 0xFE, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F };
+
+		Exception exception = assertThrows(IllegalArgumentException.class, () -> codec.decodeRequest(bytes));
+		assertEquals("Invalid length in chunk message: 2147483647", exception.getMessage());
+	}
+
+	@Test
+	void testDecodeNegativeLength() {
+		// version, type, sequence, job id, step execution id and a step name length of -1
+		byte[] bytes = { 1, 1, 0, 0, 0, 1, 0 };
+
+		Exception exception = assertThrows(IllegalArgumentException.class, () -> codec.decodeRequest(bytes));
+		assertEquals("Invalid length in chunk message: -1", exception.getMessage());
+	}
+
+}
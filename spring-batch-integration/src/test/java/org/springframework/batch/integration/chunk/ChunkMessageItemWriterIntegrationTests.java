@@ -17,6 +17,7 @@ package org.springframework.batch.integration.chunk;
 
 import java.util.Arrays;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -54,6 +55,7 @@ import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 import org.springframework.util.StringUtils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringJUnitConfig
@@ -148,6 +150,49 @@ class ChunkMessageItemWriterIntegrationTests {
 
 	}
 
+	@Test
+	void testVanillaIterationWithAdaptiveThrottling() throws Exception {
+
+		factory.setItemReader(
+				new ListItemReader<>(Arrays.asList(StringUtils.commaDelimitedListToStringArray("1,2,3,4,5,6,7,8,9"))));
+		factory.setCommitInterval(1);
+		writer.setAdaptiveThrottling(true);
+		writer.setThrottleLimit(3);
+
+		Step step = factory.getObject();
+
+		StepExecution stepExecution = getStepExecution(step);
+		step.execute(stepExecution);
+
+		waitForResults(9, 10);
+
+		assertEquals(9, TestItemWriter.count);
+		assertEquals(9, stepExecution.getReadCount());
+		assertEquals(BatchStatus.COMPLETED, stepExecution.getStatus());
+		assertTrue(writer.getCurrentThrottleLimit() >= 1 && writer.getCurrentThrottleLimit() <= 3);
+
+	}
+
+	@Test
+	void testThrottlingGauges() {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		writer.setMeterRegistry(meterRegistry);
+		writer.setThrottleLimit(5);
+		StepExecution stepExecution = new StepExecution(1L, "step",
+				new JobExecution(1L, new JobInstance(1L, "job"), new JobParameters()));
+
+		writer.beforeStep(stepExecution);
+
+		assertEquals(5, meterRegistry.get("spring.batch.chunk.remote.window").gauge().value());
+		assertEquals(0, meterRegistry.get("spring.batch.chunk.remote.outstanding").gauge().value());
+		assertEquals(0, meterRegistry.get("spring.batch.chunk.remote.latency").gauge().value());
+
+		writer.afterStep(stepExecution);
+
+		assertNull(meterRegistry.find("spring.batch.chunk.remote.window").gauge());
+
+	}
+
 	@Test
 	void testSimulatedRestart() throws Exception {
 
@@ -15,10 +15,16 @@
  */
 package org.springframework.batch.integration.chunk;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.scope.context.StepContext;
 import org.springframework.batch.core.scope.context.StepSynchronizationManager;
@@ -26,10 +32,14 @@ import org.springframework.batch.core.step.StepExecution;
 import org.springframework.batch.core.step.item.ChunkProcessor;
 import org.springframework.batch.infrastructure.item.Chunk;
 import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ChunkTaskExecutorItemWriterTests {
 
@@ -67,4 +77,218 @@ class ChunkTaskExecutorItemWriterTests {
 		}
 	}
 
+	@Test
+	void maxInFlightChunksAreBounded() throws Exception {
+		// given
+		StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+		ChunkProcessor<String> chunkProcessor = (chunk, contribution) -> {
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			Thread.sleep(10);
+			inFlight.decrementAndGet();
+			contribution.incrementWriteCount(chunk.size());
+			contribution.setExitStatus(ExitStatus.COMPLETED);
+		};
+		ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+		taskExecutor.setCorePoolSize(4);
+		taskExecutor.afterPropertiesSet();
+		try {
+			ChunkTaskExecutorItemWriter<String> itemWriter = new ChunkTaskExecutorItemWriter<>(chunkProcessor,
+					taskExecutor);
+			itemWriter.setMaxInFlight(2);
+			itemWriter.beforeStep(stepExecution);
+
+			// when
+			for (int i = 0; i < 10; i++) {
+				itemWriter.write(Chunk.of("foo", "bar"));
+			}
+			ExitStatus exitStatus = itemWriter.afterStep(stepExecution);
+
+			// then
+			assertEquals(ExitStatus.COMPLETED.getExitCode(), exitStatus.getExitCode());
+			assertTrue(exitStatus.getExitDescription().contains("Waited for 10 results."));
+			assertTrue(maxInFlight.get() <= 2);
+			assertEquals(20, stepExecution.getWriteCount());
+			assertEquals(10, stepExecution.getCommitCount());
+		}
+		finally {
+			taskExecutor.shutdown();
+		}
+	}
+
+	@Test
+	void stepExecutionCountersAreUpdatedAsResponsesAreCollected() throws Exception {
+		// given
+		StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+		ChunkProcessor<String> chunkProcessor = (chunk, contribution) -> {
+			contribution.incrementWriteCount(chunk.size());
+			contribution.setExitStatus(ExitStatus.COMPLETED);
+		};
+		ChunkTaskExecutorItemWriter<String> itemWriter = new ChunkTaskExecutorItemWriter<>(chunkProcessor,
+				new SyncTaskExecutor());
+		itemWriter.beforeStep(stepExecution);
+
+		// when
+		itemWriter.write(Chunk.of("foo", "bar"));
+		itemWriter.write(Chunk.of("baz"));
+
+		// then
+		assertEquals(2, stepExecution.getWriteCount());
+		assertEquals(1, stepExecution.getCommitCount());
+	}
+
+	@Test
+	void finalCountsAreTheTotalsOfWorkerWrites() throws Exception {
+		// given
+		StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+		ChunkProcessor<String> chunkProcessor = (chunk, contribution) -> {
+			contribution.incrementWriteCount(chunk.size());
+			contribution.incrementFilterCount(1);
+			contribution.incrementProcessSkipCount();
+			contribution.setExitStatus(ExitStatus.COMPLETED);
+		};
+		ChunkTaskExecutorItemWriter<String> itemWriter = new ChunkTaskExecutorItemWriter<>(chunkProcessor,
+				new SyncTaskExecutor());
+		itemWriter.beforeStep(stepExecution);
+		// counts of the driving step
+		stepExecution.setWriteCount(3);
+		stepExecution.setCommitCount(2);
+		stepExecution.setFilterCount(5);
+		stepExecution.setProcessSkipCount(7);
+
+		// when
+		itemWriter.write(Chunk.of("foo", "bar"));
+		itemWriter.write(Chunk.of("baz"));
+		ExitStatus exitStatus = itemWriter.afterStep(stepExecution);
+
+		// then
+		assertEquals(ExitStatus.COMPLETED.getExitCode(), exitStatus.getExitCode());
+		assertEquals(3, stepExecution.getWriteCount());
+		assertEquals(2, stepExecution.getCommitCount());
+		assertEquals(0, stepExecution.getRollbackCount());
+		assertEquals(5, stepExecution.getFilterCount());
+		assertEquals(7, stepExecution.getProcessSkipCount());
+	}
+
+	@Test
+	void failedChunkIsDetectedOnNextWrite() throws Exception {
+		// given
+		StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+		ChunkProcessor<String> chunkProcessor = (chunk, contribution) -> {
+			contribution.incrementWriteSkipCount(chunk.size());
+			contribution.setExitStatus(ExitStatus.FAILED.addExitDescription(new IllegalStateException("expected")));
+		};
+		ChunkTaskExecutorItemWriter<String> itemWriter = new ChunkTaskExecutorItemWriter<>(chunkProcessor,
+				new SyncTaskExecutor());
+		itemWriter.beforeStep(stepExecution);
+		itemWriter.write(Chunk.of("foo", "bar"));
+
+		// when
+		assertThrows(AsynchronousFailureException.class, () -> itemWriter.write(Chunk.of("baz")));
+		ExitStatus exitStatus = itemWriter.afterStep(stepExecution);
+
+		// then
+		assertEquals(ExitStatus.FAILED.getExitCode(), exitStatus.getExitCode());
+		assertEquals(BatchStatus.FAILED, stepExecution.getStatus());
+		assertEquals(2, stepExecution.getWriteSkipCount());
+		assertEquals(1, stepExecution.getRollbackCount());
+	}
+
+	@Test
+	void failedChunkResponseIsReportedWhenQueuedChunksAreNotProcessed() throws Exception {
+		// given
+		StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger processed = new AtomicInteger();
+		ChunkProcessor<String> chunkProcessor = (chunk, contribution) -> {
+			processed.incrementAndGet();
+			if (chunk.getItems().contains("fail")) {
+				release.await();
+				throw new IllegalStateException("expected");
+			}
+			contribution.incrementWriteCount(chunk.size());
+			contribution.setExitStatus(ExitStatus.COMPLETED);
+		};
+		ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+		taskExecutor.setCorePoolSize(1);
+		taskExecutor.afterPropertiesSet();
+		try {
+			ChunkTaskExecutorItemWriter<String> itemWriter = new ChunkTaskExecutorItemWriter<>(chunkProcessor,
+					taskExecutor);
+			itemWriter.setMaxInFlight(3);
+			itemWriter.beforeStep(stepExecution);
+			itemWriter.write(Chunk.of("fail"));
+			itemWriter.write(Chunk.of("foo", "bar"));
+			itemWriter.write(Chunk.of("baz"));
+			// counts of the driving step
+			stepExecution.setWriteCount(4);
+			stepExecution.setCommitCount(3);
+
+			// when
+			release.countDown();
+			ExitStatus exitStatus = itemWriter.afterStep(stepExecution);
+
+			// then
+			assertEquals(1, processed.get());
+			assertEquals(ExitStatus.FAILED.getExitCode(), exitStatus.getExitCode());
+			assertTrue(exitStatus.getExitDescription().contains("expected"));
+			assertFalse(exitStatus.getExitDescription().contains("not processed"));
+			assertTrue(stepExecution.getFailureExceptions().isEmpty());
+			assertEquals(BatchStatus.FAILED, stepExecution.getStatus());
+			assertEquals(0, stepExecution.getWriteCount());
+			assertEquals(0, stepExecution.getCommitCount());
+			assertEquals(1, stepExecution.getRollbackCount());
+		}
+		finally {
+			taskExecutor.shutdown();
+		}
+	}
+
+	@Test
+	void chunksInFlightAreAwaitedAfterFailure() throws Exception {
+		// given
+		StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch failed = new CountDownLatch(1);
+		AtomicBoolean slowChunkWritten = new AtomicBoolean();
+		ChunkProcessor<String> chunkProcessor = (chunk, contribution) -> {
+			if (chunk.getItems().contains("fail")) {
+				failed.countDown();
+				throw new IllegalStateException("expected");
+			}
+			release.await();
+			slowChunkWritten.set(true);
+			contribution.incrementWriteCount(chunk.size());
+			contribution.setExitStatus(ExitStatus.COMPLETED);
+		};
+		ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+		taskExecutor.setCorePoolSize(2);
+		taskExecutor.afterPropertiesSet();
+		try {
+			ChunkTaskExecutorItemWriter<String> itemWriter = new ChunkTaskExecutorItemWriter<>(chunkProcessor,
+					taskExecutor);
+			itemWriter.beforeStep(stepExecution);
+			itemWriter.write(Chunk.of("slow"));
+			itemWriter.write(Chunk.of("fail"));
+			assertTrue(failed.await(5, TimeUnit.SECONDS));
+
+			// when
+			CompletableFuture<ExitStatus> afterStep = CompletableFuture
+				.supplyAsync(() -> itemWriter.afterStep(stepExecution));
+			Thread.sleep(100);
+			assertFalse(afterStep.isDone());
+			release.countDown();
+			ExitStatus exitStatus = afterStep.get(5, TimeUnit.SECONDS);
+
+			// then
+			assertTrue(slowChunkWritten.get());
+			assertEquals(ExitStatus.FAILED.getExitCode(), exitStatus.getExitCode());
+			assertEquals(BatchStatus.FAILED, stepExecution.getStatus());
+		}
+		finally {
+			taskExecutor.shutdown();
+		}
+	}
+
 }
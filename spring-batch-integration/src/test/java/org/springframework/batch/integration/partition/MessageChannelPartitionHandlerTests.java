@@ -16,10 +16,14 @@
 
 package org.springframework.batch.integration.partition;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeoutException;
 
 import org.junit.jupiter.api.Test;
@@ -32,13 +36,16 @@ import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.StepExecution;
 import org.springframework.batch.core.partition.StepExecutionSplitter;
 import org.springframework.integration.MessageTimeoutException;
+import org.springframework.integration.channel.QueueChannel;
 import org.springframework.integration.core.MessagingTemplate;
+import org.springframework.integration.support.MessageBuilder;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.PollableChannel;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -185,12 +192,12 @@ class MessageChannelPartitionHandlerTests {
 		stepExecutions.add(partition2);
 		stepExecutions.add(partition3);
 		when(stepExecutionSplitter.split(any(StepExecution.class), eq(1))).thenReturn(stepExecutions);
-		JobExecution runningJobExecution = new JobExecution(5L, new JobInstance(1L, "job"), new JobParameters());
-		runningJobExecution.addStepExecutions(Arrays.asList(partition2, partition1, partition3));
 		JobExecution completedJobExecution = new JobExecution(5L, new JobInstance(1L, "job"), new JobParameters());
 		completedJobExecution.addStepExecutions(Arrays.asList(partition2, partition1, partition4));
-		when(jobRepository.getJobExecution(5L)).thenReturn(runningJobExecution, runningJobExecution,
-				runningJobExecution, completedJobExecution);
+		when(jobRepository.getStepExecutionStatuses(any())).thenReturn(
+				Map.of(2L, BatchStatus.COMPLETED, 3L, BatchStatus.COMPLETED, 4L, BatchStatus.STARTED),
+				Map.of(4L, BatchStatus.STARTED), Map.of(4L, BatchStatus.STARTED), Map.of(4L, BatchStatus.COMPLETED));
+		when(jobRepository.getJobExecution(5L)).thenReturn(completedJobExecution);
 
 		// set
 		messageChannelPartitionHandler.setMessagingOperations(operations);
@@ -211,6 +218,44 @@ class MessageChannelPartitionHandlerTests {
 
 		// verify
 		verify(operations, times(3)).send(any(Message.class));
+		verify(jobRepository, times(4)).getStepExecutionStatuses(any());
+		verify(jobRepository).getJobExecution(5L);
+	}
+
+	@Test
+	void testHandleWithJobRepositoryPollingAndCompletionNotification() throws Exception {
+		// given
+		messageChannelPartitionHandler = new MessageChannelPartitionHandler();
+		JobExecution jobExecution = new JobExecution(5L, new JobInstance(1L, "job"), new JobParameters());
+		StepExecution managerStepExecution = new StepExecution(1L, "step1", jobExecution);
+		StepExecutionSplitter stepExecutionSplitter = mock();
+		MessagingTemplate operations = mock();
+		JobRepository jobRepository = mock();
+		StepExecution partition1 = new StepExecution(2L, "step1:partition1", jobExecution);
+		partition1.setStatus(BatchStatus.COMPLETED);
+		when(stepExecutionSplitter.split(any(StepExecution.class), eq(1))).thenReturn(Set.of(partition1));
+		JobExecution completedJobExecution = new JobExecution(5L, new JobInstance(1L, "job"), new JobParameters());
+		completedJobExecution.addStepExecutions(List.of(partition1));
+		when(jobRepository.getStepExecutionStatuses(any())).thenReturn(Map.of(2L, BatchStatus.STARTED),
+				Map.of(2L, BatchStatus.COMPLETED));
+		when(jobRepository.getJobExecution(5L)).thenReturn(completedJobExecution);
+		QueueChannel completionNotificationChannel = new QueueChannel();
+		completionNotificationChannel.send(MessageBuilder.withPayload(partition1).build());
+
+		messageChannelPartitionHandler.setMessagingOperations(operations);
+		messageChannelPartitionHandler.setJobRepository(jobRepository);
+		messageChannelPartitionHandler.setStepName("step1");
+		messageChannelPartitionHandler.setInitialPollInterval(60000L);
+		messageChannelPartitionHandler.setPollInterval(60000L);
+		messageChannelPartitionHandler.setCompletionNotificationChannel(completionNotificationChannel);
+		messageChannelPartitionHandler.afterPropertiesSet();
+
+		// when
+		Collection<StepExecution> executions = assertTimeoutPreemptively(Duration.ofSeconds(10),
+				() -> messageChannelPartitionHandler.handle(stepExecutionSplitter, managerStepExecution));
+
+		// then
+		assertEquals(Set.of(partition1), executions);
 	}
 
 	@Test
@@ -235,9 +280,8 @@ class MessageChannelPartitionHandlerTests {
 		stepExecutions.add(partition2);
 		stepExecutions.add(partition3);
 		when(stepExecutionSplitter.split(any(StepExecution.class), eq(1))).thenReturn(stepExecutions);
-		JobExecution runningJobExecution = new JobExecution(5L, new JobInstance(1L, "job"), new JobParameters());
-		runningJobExecution.addStepExecutions(Arrays.asList(partition2, partition1, partition3));
-		when(jobRepository.getJobExecution(5L)).thenReturn(runningJobExecution);
+		when(jobRepository.getStepExecutionStatuses(any()))
+			.thenReturn(Map.of(2L, BatchStatus.COMPLETED, 3L, BatchStatus.COMPLETED, 4L, BatchStatus.STARTED));
 
 		// set
 		messageChannelPartitionHandler.setMessagingOperations(operations);